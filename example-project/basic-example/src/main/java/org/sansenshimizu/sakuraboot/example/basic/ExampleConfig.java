@@ -22,7 +22,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @Configuration
 @EnableJpaRepositories(basePackages = {
     "org.sansenshimizu.sakuraboot.example.basic.persistence",
-    "org.sansenshimizu.sakuraboot.basic.api.relationship.impl"
+    "org.sansenshimizu.sakuraboot.basic.api.relationship.impl",
+    "org.sansenshimizu.sakuraboot.basic.api.projection.impl"
 })
 // EnableJpaRepositories is only necessary in this example.
 public class ExampleConfig {}
@@ -17,8 +17,10 @@
 package org.sansenshimizu.sakuraboot.example.basic.persistence;
 
 import org.sansenshimizu.sakuraboot.basic.api.persistence.BasicRepository;
+import org.sansenshimizu.sakuraboot.basic.api.projection.ProjectionRepository;
 import org.sansenshimizu.sakuraboot.basic.api.relationship.FetchRelationshipRepository;
 
 public interface DepartmentRepository
     extends BasicRepository<Department, Long>,
-    FetchRelationshipRepository<Department, Long> {}
+    FetchRelationshipRepository<Department, Long>,
+    ProjectionRepository<Department, Long> {}
@@ -17,15 +17,30 @@
 package org.sansenshimizu.sakuraboot.basic.api.business.services;
 
 import java.io.Serializable;
+import java.util.Map;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.springframework.lang.Nullable;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.SuperService;
 import org.sansenshimizu.sakuraboot.basic.api.persistence.BasicRepository;
+import org.sansenshimizu.sakuraboot.basic.api.projection.ProjectionRepository;
+import org.sansenshimizu.sakuraboot.basic.api.projection.annotations.FindAllWithProjection;
 import org.sansenshimizu.sakuraboot.basic.api.relationship.annotations.FindAllWithRelationship;
 import org.sansenshimizu.sakuraboot.cache.api.annotations.Caching;
+import org.sansenshimizu.sakuraboot.count.CountMode;
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+import org.sansenshimizu.sakuraboot.fieldset.FieldSet;
+import org.sansenshimizu.sakuraboot.include.Includes;
+import org.sansenshimizu.sakuraboot.keyset.KeysetSlice;
+import org.sansenshimizu.sakuraboot.keyset.KeysetToken;
 import org.sansenshimizu.sakuraboot.log.api.annotations.Logging;
 import org.sansenshimizu.sakuraboot.mapper.api.annotations.Mapping;
 
@@ -85,9 +100,12 @@ import org.sansenshimizu.sakuraboot.mapper.api.annotations.Mapping;
  * @author     Malcolm Rozé
  * @see        SuperService
  * @see        FindAllService#findAll(Pageable)
+ * @see        FindAllService#findAllWithIncludes(Pageable, Includes)
+ * @see        FindAllService#findAllWithFields(Pageable, FieldSet)
+ * @see        FindAllService#findAllWithCountMode(Pageable, CountMode)
+ * @see        FindAllService#findAllWithKeyset(Pageable, String)
  * @since      0.1.0
  */
-@SuppressWarnings("InterfaceMayBeAnnotatedFunctional")
 public interface FindAllService<E extends DataPresentation<I>,
     I extends Comparable<? super I> & Serializable> extends SuperService<E, I> {
 
@@ -104,6 +122,7 @@ public interface FindAllService<E extends DataPresentation<I>,
      */
     @Caching(concatToCacheName = "All")
     @Mapping(mapFirstArgument = false)
+    @FindAllWithProjection
     @FindAllWithRelationship
     @Logging
     default Page<DataPresentation<I>> findAll(final Pageable pageable) {
@@ -114,4 +133,132 @@ public interface FindAllService<E extends DataPresentation<I>,
                 .map(DataPresentation.class::cast);
         return result;
     }
+
+    /**
+     * Retrieves a page of {@link DataPresentation} from the underlying data
+     * storage, with only the included relationships.
+     *
+     * @param  pageable The pageable object containing pagination and sorting
+     *                  information.
+     * @param  includes The relationships to include.
+     * @return          A page of {@link DataPresentation}.
+     */
+    @Caching(
+        key = "'include' + #includes + #pageable",
+        concatToCacheName = "All")
+    @Mapping(mapFirstArgument = false)
+    @FindAllWithRelationship
+    @Logging
+    default Page<DataPresentation<I>> findAllWithIncludes(
+        final Pageable pageable, final Includes includes) {
+
+        @SuppressWarnings("unchecked")
+        final Page<DataPresentation<I>> result
+            = getRepository().findAll(pageable)
+                .map(DataPresentation.class::cast);
+        return result;
+    }
+
+    /**
+     * Retrieves a page of the selected fields of the
+     * {@link DataPresentation} from the underlying data storage. The fields
+     * are retrieved with a projection query, without hydrating and mapping the
+     * entities.
+     *
+     * @param  pageable            The pageable object containing pagination
+     *                             and sorting information.
+     * @param  fields              The fields to select.
+     * @return                     A page of the selected fields by name.
+     * @throws BadRequestException If a field isn't a basic attribute of the
+     *                             entity or if the repository isn't a
+     *                             {@link ProjectionRepository}.
+     */
+    @Caching(
+        key = "'fields' + #fields + #pageable",
+        concatToCacheName = "All")
+    @Logging
+    default Page<Map<String, Object>> findAllWithFields(
+        final Pageable pageable, final FieldSet fields) {
+
+        return ProjectionRepository.of(getRepository(), getEntityClass())
+            .findAllProjection(null, pageable, getEntityClass(), fields);
+    }
+
+    /**
+     * Retrieves a page or a slice of {@link DataPresentation} from the
+     * underlying data storage, counting the elements depending on the
+     * {@link CountMode}.
+     *
+     * @param  pageable  The pageable object containing pagination and sorting
+     *                   information.
+     * @param  countMode The way to count the elements.
+     * @return           A slice of {@link DataPresentation} for
+     *                   {@link CountMode#NONE}, a page otherwise.
+     */
+    @Caching(
+        key = "'count' + #countMode + #pageable",
+        concatToCacheName = "All")
+    @Mapping(mapFirstArgument = false)
+    @FindAllWithRelationship
+    @Logging
+    default Slice<DataPresentation<I>> findAllWithCountMode(
+        final Pageable pageable, final CountMode countMode) {
+
+        final Slice<E> slice;
+
+        if (countMode == CountMode.EXACT || pageable.isUnpaged()) {
+
+            slice = getRepository().findAll(pageable);
+        } else {
+
+            slice = countMode.withCount(
+                getRepository().findBy(Specification.where(null),
+                    (final FetchableFluentQuery<E> query) -> CountMode
+                        .findSlice(query, pageable)),
+                getCountCache(), getEntityClass(), null,
+                getRepository()::count);
+        }
+
+        @SuppressWarnings("unchecked")
+        final Slice<DataPresentation<I>> result
+            = slice.map(DataPresentation.class::cast);
+        return result;
+    }
+
+    /**
+     * Retrieves a slice of {@link DataPresentation} from the underlying data
+     * storage using a keyset pagination. The slice starts right after the
+     * element encoded in the cursor instead of skipping an offset, so the
+     * cost doesn't grow with the depth of the slice.
+     *
+     * @param  pageable The pageable object containing the size and the
+     *                  sorting information, the page number is ignored.
+     * @param  cursor   The cursor returned by
+     *                  {@link KeysetSlice#getNextCursor()}, {@code null} or
+     *                  empty for the first slice.
+     * @return          A slice of {@link DataPresentation} with the cursor of
+     *                  the next slice.
+     */
+    @Caching(
+        key = "'keyset' + #pageable + #cursor",
+        concatToCacheName = "All")
+    @Mapping(mapFirstArgument = false)
+    @FindAllWithRelationship
+    @Logging
+    default KeysetSlice<DataPresentation<I>> findAllWithKeyset(
+        final Pageable pageable, @Nullable final String cursor) {
+
+        final KeysetScrollPosition position = KeysetToken
+            .decode(cursor, getEntityClass(), pageable.getSort());
+        final Window<E> window = getRepository().findBy(
+            Specification.where(null),
+            (final FetchableFluentQuery<E> query) -> KeysetSlice
+                .scroll(query, pageable, position));
+
+        @SuppressWarnings("unchecked")
+        final KeysetSlice<DataPresentation<I>> result
+            = KeysetSlice.of(window, pageable)
+                .map(DataPresentation.class::cast);
+        return result;
+    }
 }
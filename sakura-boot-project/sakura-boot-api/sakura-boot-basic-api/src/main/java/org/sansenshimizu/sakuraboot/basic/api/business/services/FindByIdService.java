@@ -17,13 +17,19 @@
 package org.sansenshimizu.sakuraboot.basic.api.business.services;
 
 import java.io.Serializable;
+import java.util.Map;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.SuperService;
 import org.sansenshimizu.sakuraboot.basic.api.persistence.BasicRepository;
+import org.sansenshimizu.sakuraboot.basic.api.projection.ProjectionRepository;
+import org.sansenshimizu.sakuraboot.basic.api.projection.annotations.FindByIdWithProjection;
 import org.sansenshimizu.sakuraboot.basic.api.relationship.annotations.FindByIdWithRelationship;
 import org.sansenshimizu.sakuraboot.cache.api.annotations.Caching;
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
 import org.sansenshimizu.sakuraboot.exceptions.NotFoundException;
+import org.sansenshimizu.sakuraboot.fieldset.FieldSet;
+import org.sansenshimizu.sakuraboot.include.Includes;
 import org.sansenshimizu.sakuraboot.log.api.annotations.Logging;
 import org.sansenshimizu.sakuraboot.mapper.api.annotations.Mapping;
 
@@ -83,9 +89,10 @@ import org.sansenshimizu.sakuraboot.mapper.api.annotations.Mapping;
  * @author     Malcolm Rozé
  * @see        SuperService
  * @see        FindByIdService#findById(Comparable)
+ * @see        FindByIdService#findByIdWithIncludes(Comparable, Includes)
+ * @see        FindByIdService#findByIdWithFields(Comparable, FieldSet)
  * @since      0.1.0
  */
-@SuppressWarnings("InterfaceMayBeAnnotatedFunctional")
 public interface FindByIdService<E extends DataPresentation<I>,
     I extends Comparable<? super I> & Serializable> extends SuperService<E, I> {
 
@@ -105,6 +112,7 @@ public interface FindByIdService<E extends DataPresentation<I>,
      */
     @Caching("#id")
     @Mapping(mapFirstArgument = false)
+    @FindByIdWithProjection
     @FindByIdWithRelationship
     @Logging
     default DataPresentation<I> findById(final I id) {
@@ -112,4 +120,53 @@ public interface FindByIdService<E extends DataPresentation<I>,
         return getRepository().findById(id)
             .orElseThrow(() -> new NotFoundException(getEntityClass(), id));
     }
+
+    /**
+     * Retrieves a {@link DataPresentation} with the specified ID from the
+     * underlying data storage, with only the included relationships. The
+     * result isn't cached, so it never replace the complete
+     * {@link DataPresentation} in the cache.
+     *
+     * @param  id                The ID of the {@link DataPresentation} to
+     *                           retrieve.
+     * @param  includes          The relationships to include.
+     * @return                   The retrieved {@link DataPresentation}.
+     * @throws NotFoundException If no {@link DataPresentation} with the
+     *                           specified ID exists in the data
+     *                           storage.
+     */
+    @Mapping(mapFirstArgument = false)
+    @FindByIdWithRelationship
+    @Logging
+    default DataPresentation<I> findByIdWithIncludes(
+        final I id, final Includes includes) {
+
+        return getRepository().findById(id)
+            .orElseThrow(() -> new NotFoundException(getEntityClass(), id));
+    }
+
+    /**
+     * Retrieves the selected fields of the {@link DataPresentation} with the
+     * specified ID from the underlying data storage. The fields are retrieved
+     * with a projection query, without hydrating and mapping the entity.
+     *
+     * @param  id                  The ID of the {@link DataPresentation} to
+     *                             retrieve.
+     * @param  fields              The fields to select.
+     * @return                     The selected fields by name.
+     * @throws NotFoundException   If no {@link DataPresentation} with the
+     *                             specified ID exists in the data
+     *                             storage.
+     * @throws BadRequestException If a field isn't a basic attribute of the
+     *                             entity or if the repository isn't a
+     *                             {@link ProjectionRepository}.
+     */
+    @Logging
+    default Map<String, Object> findByIdWithFields(
+        final I id, final FieldSet fields) {
+
+        return ProjectionRepository.of(getRepository(), getEntityClass())
+            .findByIdProjection(id, getEntityClass(), fields)
+            .orElseThrow(() -> new NotFoundException(getEntityClass(), id));
+    }
 }
@@ -21,6 +21,8 @@ import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.Param;
@@ -45,6 +47,10 @@ import org.sansenshimizu.sakuraboot.SuperRepository;
  * </pre>
  *
  * </blockquote>
+ * <p>
+ * The repository is also a {@link JpaSpecificationExecutor}, use for the
+ * keyset pagination of the findAll operation.
+ * </p>
  *
  * @param  <E> The entity type extending {@link DataPresentation}.
  * @param  <I> The ID of type Comparable and Serializable.
@@ -55,7 +61,7 @@ import org.sansenshimizu.sakuraboot.SuperRepository;
 @NoRepositoryBean
 public interface BasicRepository<E extends DataPresentation<I>,
     I extends Comparable<? super I> & Serializable>
-    extends SuperRepository<E, I> {
+    extends SuperRepository<E, I>, JpaSpecificationExecutor<E> {
 
     /**
      * Returns whether all entities with the given ids exist.
@@ -80,4 +86,15 @@ public interface BasicRepository<E extends DataPresentation<I>,
         value = "SELECT e.id FROM #{#entityName} e",
         countQuery = "SELECT count(e) FROM #{#entityName} e")
     Page<I> findAllIds(Pageable pageable);
+
+    /**
+     * Returns a slice of entities ID meeting the paging restriction provided
+     * in the {@link Pageable} object, without counting the entities.
+     *
+     * @param  pageable the pageable to request a paged result, mustn't be
+     *                  null.
+     * @return          a slice of entity ID.
+     */
+    @Query("SELECT e.id FROM #{#entityName} e")
+    Slice<I> findAllIdsWithoutCount(Pageable pageable);
 }
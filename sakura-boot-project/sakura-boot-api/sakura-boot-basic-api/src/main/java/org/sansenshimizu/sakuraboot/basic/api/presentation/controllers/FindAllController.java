@@ -17,20 +17,28 @@
 package org.sansenshimizu.sakuraboot.basic.api.presentation.controllers;
 
 import java.io.Serializable;
+import java.util.Map;
 
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.SuperController;
 import org.sansenshimizu.sakuraboot.basic.api.business.services.FindAllService;
+import org.sansenshimizu.sakuraboot.count.CountMode;
+import org.sansenshimizu.sakuraboot.fieldset.FieldSet;
 import org.sansenshimizu.sakuraboot.hypermedia.api.annotations.ApplyHypermediaOnPage;
+import org.sansenshimizu.sakuraboot.include.Includes;
+import org.sansenshimizu.sakuraboot.keyset.KeysetSlice;
 import org.sansenshimizu.sakuraboot.log.api.annotations.Logging;
 import org.sansenshimizu.sakuraboot.openapi.api.annotations.SwaggerBasicApiResponse;
 import org.sansenshimizu.sakuraboot.openapi.api.annotations.SwaggerOkApiResponse;
@@ -95,9 +103,15 @@ import org.sansenshimizu.sakuraboot.openapi.api.annotations.SwaggerUpdateOperati
  * @author     Malcolm Rozé
  * @see        FindAllController#getService()
  * @see        FindAllController#findAll(Pageable)
+ * @see        FindAllController#findAllWithIncludes(Pageable, String,
+ *                 String)
+ * @see        FindAllController#findAllWithFields(Pageable, String)
+ * @see        FindAllController#findAllWithCountMode(Pageable, String,
+ *                 String, String)
+ * @see        FindAllController#findAllWithKeyset(Pageable, String,
+ *                 String, String)
  * @since      0.1.0
  */
-@SuppressWarnings("InterfaceMayBeAnnotatedFunctional")
 public interface FindAllController<E extends DataPresentation<I>,
     I extends Comparable<? super I> & Serializable>
     extends SuperController<E, I> {
@@ -128,4 +142,172 @@ public interface FindAllController<E extends DataPresentation<I>,
 
         return ResponseEntity.ok(getService().findAll(pageable));
     }
+
+    /**
+     * Retrieve all {@link DataPresentation} with a paginated list, with only
+     * the included relationships. This endpoint is used when the include
+     * parameter is present without a count parameter or a cursor.
+     *
+     * @param  pageable The pagination information for retrieving a paginated
+     *                  list of {@link DataPresentation} (optional).
+     * @param  include  The comma separated paths of the relationships to
+     *                  include.
+     * @param  fields   The fields parameter, rejected with a bad request when
+     *                  present since the fields can't be combined with the
+     *                  includes.
+     * @return          A ResponseEntity containing a page of
+     *                  {@link DataPresentation} and the HTTP status code 200
+     *                  (OK) on success.
+     */
+    @SwaggerOkApiResponse("Get all entities with includes")
+    @SwaggerBasicApiResponse
+    @SwaggerUpdateOperation
+    @GetMapping(
+        produces = MediaType.APPLICATION_JSON_VALUE,
+        params = {
+            Includes.PARAMETER, "!" + CountMode.PARAMETER,
+            "!" + KeysetSlice.CURSOR_PARAMETER
+        })
+    @ApplyHypermediaOnPage
+    @Logging
+    @SuppressWarnings("java:S1452")
+    default ResponseEntity<Page<?>> findAllWithIncludes(
+        @Parameter(in = ParameterIn.QUERY, name = "page")
+        @ParameterObject final Pageable pageable,
+        @Parameter(in = ParameterIn.QUERY, name = Includes.PARAMETER)
+        @RequestParam(Includes.PARAMETER) final String include,
+        @Parameter(hidden = true)
+        @RequestParam(name = FieldSet.PARAMETER, required = false)
+        @Nullable final String fields) {
+
+        FieldSet.rejectWith(fields, Includes.PARAMETER);
+        return ResponseEntity.ok(getService()
+            .findAllWithIncludes(pageable, Includes.of(include)));
+    }
+
+    /**
+     * Retrieve the selected fields of all {@link DataPresentation} with a
+     * paginated list. Only the selected fields are written in the response,
+     * without hypermedia. This endpoint is used when the fields parameter is
+     * present without a count, an include parameter or a cursor.
+     *
+     * @param  pageable The pagination information for retrieving a paginated
+     *                  list of {@link DataPresentation} (optional).
+     * @param  fields   The comma separated names of the fields to select.
+     * @return          A ResponseEntity containing a page of the selected
+     *                  fields and the HTTP status code 200 (OK) on success.
+     */
+    @SwaggerOkApiResponse("Get the selected fields of all entities")
+    @SwaggerBasicApiResponse
+    @SwaggerUpdateOperation
+    @GetMapping(
+        produces = MediaType.APPLICATION_JSON_VALUE,
+        params = {
+            FieldSet.PARAMETER, "!" + Includes.PARAMETER,
+            "!" + CountMode.PARAMETER, "!" + KeysetSlice.CURSOR_PARAMETER
+        })
+    @Logging
+    default ResponseEntity<Page<Map<String, Object>>> findAllWithFields(
+        @Parameter(in = ParameterIn.QUERY, name = "page")
+        @ParameterObject final Pageable pageable,
+        @Parameter(in = ParameterIn.QUERY, name = FieldSet.PARAMETER)
+        @RequestParam(FieldSet.PARAMETER) final String fields) {
+
+        return ResponseEntity.ok(
+            getService().findAllWithFields(pageable, FieldSet.of(fields)));
+    }
+
+    /**
+     * Retrieve all {@link DataPresentation} with a paginated list, counting
+     * the elements depending on the count parameter. This endpoint is used
+     * when the count parameter is present without a cursor.
+     *
+     * @param  pageable  The pagination information for retrieving a paginated
+     *                   list of {@link DataPresentation} (optional).
+     * @param  countMode The way to count the elements: exact, none or cached.
+     * @param  include   The include parameter, rejected with a bad request
+     *                   when present since the includes can't be combined
+     *                   with a count mode.
+     * @param  fields    The fields parameter, rejected with a bad request
+     *                   when present since the fields can't be combined with
+     *                   a count mode.
+     * @return           A ResponseEntity containing a slice of
+     *                   {@link DataPresentation} without total for none, a
+     *                   page otherwise, and the HTTP status code 200 (OK) on
+     *                   success.
+     */
+    @SwaggerOkApiResponse("Get all entities with a count mode")
+    @SwaggerBasicApiResponse
+    @SwaggerUpdateOperation
+    @GetMapping(
+        produces = MediaType.APPLICATION_JSON_VALUE,
+        params = {
+            CountMode.PARAMETER, "!" + KeysetSlice.CURSOR_PARAMETER
+        })
+    @ApplyHypermediaOnPage
+    @Logging
+    @SuppressWarnings("java:S1452")
+    default ResponseEntity<Slice<?>> findAllWithCountMode(
+        @Parameter(in = ParameterIn.QUERY, name = "page")
+        @ParameterObject final Pageable pageable,
+        @Parameter(in = ParameterIn.QUERY, name = CountMode.PARAMETER)
+        @RequestParam(CountMode.PARAMETER) final String countMode,
+        @Parameter(hidden = true)
+        @RequestParam(name = Includes.PARAMETER, required = false)
+        @Nullable final String include,
+        @Parameter(hidden = true)
+        @RequestParam(name = FieldSet.PARAMETER, required = false)
+        @Nullable final String fields) {
+
+        Includes.rejectWith(include, CountMode.PARAMETER);
+        FieldSet.rejectWith(fields, CountMode.PARAMETER);
+        return ResponseEntity.ok(getService()
+            .findAllWithCountMode(pageable, CountMode.of(countMode)));
+    }
+
+    /**
+     * Retrieve all {@link DataPresentation} with a keyset pagination. This
+     * endpoint is used when the cursor parameter is present, with an empty
+     * value for the first slice and then the cursor of the previous slice.
+     *
+     * @param  pageable The size and sorting information for retrieving a
+     *                  slice of {@link DataPresentation} (optional), the page
+     *                  number is ignored.
+     * @param  cursor   The cursor of the slice to retrieve.
+     * @param  include  The include parameter, rejected with a bad request
+     *                  when present since the includes can't be combined
+     *                  with a cursor.
+     * @param  fields   The fields parameter, rejected with a bad request when
+     *                  present since the fields can't be combined with a
+     *                  cursor.
+     * @return          A ResponseEntity containing a slice of
+     *                  {@link DataPresentation} with the cursor of the next
+     *                  slice and the HTTP status code 200 (OK) on success.
+     */
+    @SwaggerOkApiResponse("Get all entities with a keyset pagination")
+    @SwaggerBasicApiResponse
+    @SwaggerUpdateOperation
+    @GetMapping(
+        produces = MediaType.APPLICATION_JSON_VALUE,
+        params = KeysetSlice.CURSOR_PARAMETER)
+    @ApplyHypermediaOnPage
+    @Logging
+    @SuppressWarnings("java:S1452")
+    default ResponseEntity<KeysetSlice<?>> findAllWithKeyset(
+        @Parameter(in = ParameterIn.QUERY, name = "page")
+        @ParameterObject final Pageable pageable,
+        @Parameter(in = ParameterIn.QUERY, name = KeysetSlice.CURSOR_PARAMETER)
+        @RequestParam(KeysetSlice.CURSOR_PARAMETER) final String cursor,
+        @Parameter(hidden = true)
+        @RequestParam(name = Includes.PARAMETER, required = false)
+        @Nullable final String include,
+        @Parameter(hidden = true)
+        @RequestParam(name = FieldSet.PARAMETER, required = false)
+        @Nullable final String fields) {
+
+        Includes.rejectWith(include, KeysetSlice.CURSOR_PARAMETER);
+        FieldSet.rejectWith(fields, KeysetSlice.CURSOR_PARAMETER);
+        return ResponseEntity
+            .ok(getService().findAllWithKeyset(pageable, cursor));
+    }
 }
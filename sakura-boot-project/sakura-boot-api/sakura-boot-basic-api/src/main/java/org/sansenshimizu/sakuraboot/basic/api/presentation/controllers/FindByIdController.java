@@ -17,16 +17,22 @@
 package org.sansenshimizu.sakuraboot.basic.api.presentation.controllers;
 
 import java.io.Serializable;
+import java.util.Map;
 
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.SuperController;
 import org.sansenshimizu.sakuraboot.basic.api.business.services.FindByIdService;
+import org.sansenshimizu.sakuraboot.fieldset.FieldSet;
 import org.sansenshimizu.sakuraboot.hypermedia.api.annotations.ApplyHypermedia;
+import org.sansenshimizu.sakuraboot.include.Includes;
 import org.sansenshimizu.sakuraboot.log.api.annotations.Logging;
 import org.sansenshimizu.sakuraboot.openapi.api.annotations.SwaggerBasicApiResponse;
 import org.sansenshimizu.sakuraboot.openapi.api.annotations.SwaggerNotFoundApiResponse;
@@ -92,9 +98,10 @@ import org.sansenshimizu.sakuraboot.openapi.api.annotations.SwaggerUpdateOperati
  * @author     Malcolm Rozé
  * @see        FindByIdController#getService()
  * @see        FindByIdController#findById(Comparable)
+ * @see        FindByIdController#findByIdWithIncludes(Comparable, String)
+ * @see        FindByIdController#findByIdWithFields(Comparable, String)
  * @since      0.1.0
  */
-@SuppressWarnings("InterfaceMayBeAnnotatedFunctional")
 public interface FindByIdController<E extends DataPresentation<I>,
     I extends Comparable<? super I> & Serializable>
     extends SuperController<E, I> {
@@ -125,4 +132,74 @@ public interface FindByIdController<E extends DataPresentation<I>,
 
         return ResponseEntity.ok(getService().findById(id));
     }
+
+    /**
+     * Retrieve a {@link DataPresentation} by it's unique identifier (ID), with
+     * only the included relationships. This endpoint is used when the include
+     * parameter is present.
+     *
+     * @param  id      The unique identifier of the {@link DataPresentation} to
+     *                 be retrieved.
+     * @param  include The comma separated paths of the relationships to
+     *                 include.
+     * @return         A ResponseEntity containing the retrieved
+     *                 {@link DataPresentation} and the HTTP status code 200
+     *                 (OK) on success. If no {@link DataPresentation} is found
+     *                 with the provided ID, the response will have the HTTP
+     *                 status code 404 (Not Found).
+     */
+    @SwaggerOkApiResponse("Get entity with includes")
+    @SwaggerBasicApiResponse
+    @SwaggerNotFoundApiResponse
+    @SwaggerUpdateOperation
+    @GetMapping(
+        value = "/{id}",
+        produces = MediaType.APPLICATION_JSON_VALUE,
+        params = Includes.PARAMETER)
+    @ApplyHypermedia
+    @Logging
+    @SuppressWarnings("java:S1452")
+    default ResponseEntity<?> findByIdWithIncludes(
+        @PathVariable("id") final I id,
+        @Parameter(in = ParameterIn.QUERY, name = Includes.PARAMETER)
+        @RequestParam(Includes.PARAMETER) final String include) {
+
+        return ResponseEntity
+            .ok(getService().findByIdWithIncludes(id, Includes.of(include)));
+    }
+
+    /**
+     * Retrieve the selected fields of a {@link DataPresentation} by it's
+     * unique identifier (ID). Only the selected fields are written in the
+     * response, without hypermedia. This endpoint is used when the fields
+     * parameter is present without an include parameter.
+     *
+     * @param  id     The unique identifier of the {@link DataPresentation} to
+     *                be retrieved.
+     * @param  fields The comma separated names of the fields to select.
+     * @return        A ResponseEntity containing the selected fields and the
+     *                HTTP status code 200 (OK) on success. If no
+     *                {@link DataPresentation} is found with the provided ID,
+     *                the response will have the HTTP status code 404 (Not
+     *                Found).
+     */
+    @SwaggerOkApiResponse("Get the selected fields of an entity")
+    @SwaggerBasicApiResponse
+    @SwaggerNotFoundApiResponse
+    @SwaggerUpdateOperation
+    @GetMapping(
+        value = "/{id}",
+        produces = MediaType.APPLICATION_JSON_VALUE,
+        params = {
+            FieldSet.PARAMETER, "!" + Includes.PARAMETER
+        })
+    @Logging
+    default ResponseEntity<Map<String, Object>> findByIdWithFields(
+        @PathVariable("id") final I id,
+        @Parameter(in = ParameterIn.QUERY, name = FieldSet.PARAMETER)
+        @RequestParam(FieldSet.PARAMETER) final String fields) {
+
+        return ResponseEntity
+            .ok(getService().findByIdWithFields(id, FieldSet.of(fields)));
+    }
 }
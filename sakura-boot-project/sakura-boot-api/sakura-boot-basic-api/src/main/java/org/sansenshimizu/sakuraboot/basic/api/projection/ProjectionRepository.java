@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.basic.api.projection;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.basic.api.persistence.BasicRepository;
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+import org.sansenshimizu.sakuraboot.fieldset.FieldSet;
+
+/**
+ * The base interface for all Spring Data repositories with projection of
+ * the selected fields.
+ * The fields are retrieved with a tuple query, so the entities aren't
+ * hydrated, tracked by the persistence context or mapped.
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * <p>
+ * To create a repository for your {@link DataPresentation} that inherits from
+ * {@link ProjectionRepository}, follow these steps:
+ * </p>
+ * <blockquote>
+ *
+ * <pre>
+ * public interface YourEntityRepository
+ *     extends BasicRepository&lt;YourEntity, YourIdType&gt;,
+ *     ProjectionRepository&lt;YourEntity, YourIdType&gt; {}
+ *
+ * </pre>
+ *
+ * </blockquote>
+ *
+ * @param  <E> The entity type extending {@link DataPresentation}.
+ * @param  <I> The ID of type Comparable and Serializable.
+ * @author     Malcolm Rozé
+ * @see        BasicRepository
+ * @since      0.2.0
+ */
+public interface ProjectionRepository<E extends DataPresentation<I>,
+    I extends Comparable<? super I> & Serializable> {
+
+    /**
+     * Returns a page of the selected fields of the entities meeting the
+     * specification and the paging restriction.
+     * Only the basic attributes of the entity can be selected.
+     *
+     * @param  specification The specification to filter the entities, can be
+     *                       {@code null}.
+     * @param  pageable      The pageable to request a paged result, can be
+     *                       {@link Pageable#unpaged()}.
+     * @param  entityType    The type of the entity.
+     * @param  fields        The fields to select.
+     * @return               A page of the selected fields by name.
+     */
+    Page<Map<String, Object>> findAllProjection(
+        @Nullable Specification<E> specification, Pageable pageable,
+        Class<E> entityType, FieldSet fields);
+
+    /**
+     * Returns the selected fields of the entity with the given ID.
+     * Only the basic attributes of the entity can be selected.
+     *
+     * @param  id         The ID of the entity.
+     * @param  entityType The type of the entity.
+     * @param  fields     The fields to select.
+     * @return            The selected fields by name, or an empty optional if
+     *                    there is no entity with this ID.
+     */
+    Optional<Map<String, Object>> findByIdProjection(
+        I id, Class<E> entityType, FieldSet fields);
+
+    /**
+     * Returns a page of all the basic attributes of the entities meeting the
+     * specification and the paging restriction, with the IDs of their
+     * relationships.
+     * The IDs of each relationship are retrieved for the whole page in one
+     * side query. They are under the name of the relationship followed by
+     * {@code Id}, a single ID for an any to one relationship and a set of IDs
+     * for an any to many relationship.
+     *
+     * @param  specification The specification to filter the entities, can be
+     *                       {@code null}.
+     * @param  pageable      The pageable to request a paged result, can be
+     *                       {@link Pageable#unpaged()}.
+     * @param  entityType    The type of the entity.
+     * @return               A page of the attributes by name.
+     */
+    Page<Map<String, Object>> findAllWithRelationshipIds(
+        @Nullable Specification<E> specification, Pageable pageable,
+        Class<E> entityType);
+
+    /**
+     * Returns all the basic attributes of the entity with the given ID, with
+     * the IDs of its relationships.
+     *
+     * @param  id         The ID of the entity.
+     * @param  entityType The type of the entity.
+     * @return            The attributes by name, or an empty optional if
+     *                    there is no entity with this ID.
+     * @see               #findAllWithRelationshipIds(Specification, Pageable,
+     *                    Class)
+     */
+    Optional<Map<String, Object>> findByIdWithRelationshipIds(
+        I id, Class<E> entityType);
+
+    /**
+     * Get the projection repository of a repository.
+     *
+     * @param  repository          The repository.
+     * @param  entityType          The type of the entity.
+     * @param  <E>                 The entity type extending
+     *                             {@link DataPresentation}.
+     * @param  <I>                 The ID of type Comparable and Serializable.
+     * @return                     The repository as a
+     *                             {@link ProjectionRepository}.
+     * @throws BadRequestException If the repository doesn't support the
+     *                             projection.
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends DataPresentation<I>,
+        I extends Comparable<? super I> & Serializable> ProjectionRepository<E,
+            I> of(
+                final BasicRepository<E, I> repository,
+                final Class<E> entityType) {
+
+        if (repository instanceof final ProjectionRepository<?,
+            ?> projectionRepository) {
+
+            return (ProjectionRepository<E, I>) projectionRepository;
+        }
+        throw new BadRequestException("The " + FieldSet.PARAMETER
+            + " parameter isn't supported for " + entityType.getSimpleName());
+    }
+}
@@ -20,8 +20,16 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.basic.api.persistence.BasicRepository;
+import org.sansenshimizu.sakuraboot.include.Includes;
+import org.sansenshimizu.sakuraboot.keyset.KeysetSlice;
 
 /**
  * The base interface for all Spring Data repositories with relationship.
@@ -64,6 +72,66 @@ public interface FetchRelationshipRepository<E extends DataPresentation<I>,
      */
     List<E> findAllEagerRelationship(List<I> parentIds, Class<E> entityType);
 
+    /**
+     * Returns a list of entities with the same ID provided in the list
+     * parameter.
+     * Perform a LEFT JOIN FETCH on the included relationship only.
+     *
+     * @param  parentIds  the list of entity's ID that will be used to find all
+     *                    the entities.
+     * @param  entityType The type of the entity.
+     * @param  includes   The relationships to fetch.
+     * @return            a list of entities.
+     */
+    List<E> findAllEagerRelationship(
+        List<I> parentIds, Class<E> entityType, Includes includes);
+
+    /**
+     * Returns a slice of entity IDs after a keyset position. Only the IDs and
+     * the sort properties are selected, the entities are then retrieved with
+     * {@link #findAllEagerRelationship(List, Class)}.
+     *
+     * @param  specification The specification to filter the entities,
+     *                       {@code null} for all the entities.
+     * @param  pageable      The size and the sort, the page number is
+     *                       ignored.
+     * @param  position      The position to start after, its values mustn't
+     *                       be null.
+     * @param  entityType    The type of the entity.
+     * @return               a slice of IDs with the cursor of the next slice.
+     */
+    KeysetSlice<I> findKeysetIds(
+        @Nullable Specification<E> specification, Pageable pageable,
+        KeysetScrollPosition position, Class<E> entityType);
+
+    /**
+     * Returns a slice of entities in a single query.
+     * The entities are paged in a subquery and the query perform a LEFT JOIN
+     * FETCH on the relationship, so there is no need to retrieve the page of
+     * IDs first. It must only be used when
+     * {@link #isSingleQueryHydration(Pageable, Class)} is true.
+     *
+     * @param  pageable   The pagination information, must be paged.
+     * @param  entityType The type of the entity.
+     * @return            a slice of entities, without the total count.
+     */
+    Slice<E> findPageEagerRelationship(Pageable pageable, Class<E> entityType);
+
+    /**
+     * Check if the page of entities should be retrieved with
+     * {@link #findPageEagerRelationship(Pageable, Class)} instead of
+     * retrieving the page of IDs first and then the entities. The single
+     * query is only used for the configured entities, when the sort is on the
+     * basic attributes of the entity and when the database supports a LIMIT
+     * in an IN subquery.
+     *
+     * @param  pageable   The pagination information.
+     * @param  entityType The type of the entity.
+     * @return            True if the entities should be retrieved in a single
+     *                    query, false otherwise.
+     */
+    boolean isSingleQueryHydration(Pageable pageable, Class<E> entityType);
+
     /**
      * Retrieves an entity by its id.
      * Perform a LEFT JOIN FETCH on the relationship.
@@ -74,4 +142,17 @@ public interface FetchRelationshipRepository<E extends DataPresentation<I>,
      *                    none found.
      */
     Optional<E> findByIdEagerRelationship(I id, Class<E> entityType);
+
+    /**
+     * Retrieves an entity by its id.
+     * Perform a LEFT JOIN FETCH on the included relationship only.
+     *
+     * @param  id         The ID of the entity to retrieve.
+     * @param  entityType The type of the entity.
+     * @param  includes   The relationships to fetch.
+     * @return            the entity with the given id or Optional#empty() if
+     *                    none found.
+     */
+    Optional<E> findByIdEagerRelationship(
+        I id, Class<E> entityType, Includes includes);
 }
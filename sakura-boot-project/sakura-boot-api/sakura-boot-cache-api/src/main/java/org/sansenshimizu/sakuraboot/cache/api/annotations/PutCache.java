@@ -41,15 +41,32 @@ public @interface PutCache {
 
     /**
      * If refreshEntityCache is {@code true} then the cache related to all
-     * the entity will be deleted.
+     * the entity will be invalidated. The generation of the cache is
+     * incremented, so the previous entries are no longer read and expire.
      * Otherwise, if it's {@code false}, no other action will be performed.
      * {@code false} by default.
      *
      * @return A boolean to choose if the cache related to all the entity
-     *         needs to be deleted.
+     *         needs to be invalidated.
      */
     boolean refreshEntityCache() default false;
 
+    /**
+     * If evictPagesById is {@code true} and {@link #refreshEntityCache()} is
+     * {@code true}, only the cached pages of the entity that contain the ID of
+     * the modified entity are evicted, instead of invalidating all the pages.
+     * The pages that don't contain the entity are kept until they expire.
+     * Only use it for an update that can't change the filters that match the
+     * entity or its position in the sort order (e.g., an update of a
+     * description). Never use it for an insert or a delete, they shift the
+     * content and the total count of the other pages.
+     * {@code false} by default.
+     *
+     * @return A boolean to choose if only the pages that contain the entity
+     *         need to be evicted.
+     */
+    boolean evictPagesById() default false;
+
     /**
      * Use this String as the key for this method using SpEL expression.
      *
@@ -43,12 +43,13 @@ public @interface RemoveCache {
 
     /**
      * If refreshEntityCache is {@code true} then the cache related to all
-     * the entity will be deleted.
+     * the entity will be invalidated. The generation of the cache is
+     * incremented, so the previous entries are no longer read and expire.
      * Otherwise, if it's {@code false}, no other action will be performed.
      * {@code false} by default.
      *
      * @return A boolean to choose if the cache related to all the entity
-     *         needs to be deleted.
+     *         needs to be invalidated.
      */
     boolean refreshEntityCache() default false;
 
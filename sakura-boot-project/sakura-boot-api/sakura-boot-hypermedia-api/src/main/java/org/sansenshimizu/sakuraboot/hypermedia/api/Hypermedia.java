@@ -22,7 +22,7 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
-import org.sansenshimizu.sakuraboot.util.ReflectionUtils;
+import org.sansenshimizu.sakuraboot.configuration.SakuraBootMetadataRegistry;
 
 /**
  * Interface for all controller class that add hypermedia support needs to
@@ -79,8 +79,8 @@ public interface Hypermedia<D extends DataPresentation<?>,
      */
     default Class<D> getDataClass() {
 
-        return ReflectionUtils.findGenericTypeFromInterface(getClass(),
-            Hypermedia.class.getTypeName());
+        return SakuraBootMetadataRegistry.getGenericType(getClass(),
+            Hypermedia.class, 0);
     }
 
     /**
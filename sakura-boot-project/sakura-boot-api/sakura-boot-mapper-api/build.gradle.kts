@@ -16,6 +16,7 @@ dependencies {
     api(libs.spring.core)
     api(libs.spring.data.commons)
     implementation(libs.hibernate.core)
+    implementation(libs.jakarta.persistence.api)
     compileOnly(libs.mapstruct)
     compileOnly(libs.spring.data.jpa)
 }
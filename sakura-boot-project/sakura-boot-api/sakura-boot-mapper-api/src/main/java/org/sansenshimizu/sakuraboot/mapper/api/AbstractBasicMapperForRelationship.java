@@ -16,29 +16,47 @@
 
 package org.sansenshimizu.sakuraboot.mapper.api;
 
-import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+
 import org.hibernate.Hibernate;
 import org.hibernate.proxy.HibernateProxy;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.MappingTarget;
 import org.springframework.beans.factory.BeanNotOfRequiredTypeException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.lang.Nullable;
-import org.springframework.util.ReflectionUtils;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.SuperRepository;
 import org.sansenshimizu.sakuraboot.configuration.GlobalSpecification;
+import org.sansenshimizu.sakuraboot.include.IncludeContext;
+import org.sansenshimizu.sakuraboot.util.FieldAccessor;
+import org.sansenshimizu.sakuraboot.util.InClauseUtils;
 import org.sansenshimizu.sakuraboot.util.RelationshipUtils;
 
 /**
@@ -95,7 +113,7 @@ import org.sansenshimizu.sakuraboot.util.RelationshipUtils;
  */
 public abstract class AbstractBasicMapperForRelationship<
     E extends DataPresentation<?>, D extends DataPresentation<?>>
-    implements BasicMapper<E, D> {
+    implements BasicMapper<E, D>, SmartInitializingSingleton {
 
     /**
      * The application context.
@@ -107,6 +125,48 @@ public abstract class AbstractBasicMapperForRelationship<
      */
     private GlobalSpecification globalSpecification;
 
+    /**
+     * The {@link EntityManager} used to load the relationship IDs of a list of
+     * entities. Null if JPA is not available.
+     */
+    @Nullable
+    private EntityManager entityManager;
+
+    /**
+     * The maximum number of IDs bound in one {@code IN} clause when loading
+     * the relationship IDs. Bigger lists are split in several queries.
+     */
+    @Value("${sakuraboot.relationship.in-clause-size: "
+        + InClauseUtils.DEFAULT_IN_CLAUSE_SIZE + "}")
+    private int inClauseSize = InClauseUtils.DEFAULT_IN_CLAUSE_SIZE;
+
+    /**
+     * The relationship IDs loaded by {@link #toDtoList(List)} for the current
+     * thread, by relationship name and by owner ID.
+     */
+    private final ThreadLocal<Map<String,
+        Map<Object, Set<Object>>>> loadedIds = new ThreadLocal<>();
+
+    /**
+     * The Spring repositories, resolved once.
+     */
+    @Nullable
+    private Repositories repositories;
+
+    /**
+     * The relational mappers by relational type. An empty value means that no
+     * mapper exists for the type.
+     */
+    private final Map<Class<?>, Optional<BasicMapper<DataPresentation<?>,
+        DataPresentation<?>>>> relationalMappers = new ConcurrentHashMap<>();
+
+    /**
+     * The relationship IDs already checked by {@link #toEntityList(List)} for
+     * the current thread, with their existence, by related entity type.
+     */
+    private final ThreadLocal<Map<Class<?>,
+        Map<Object, Boolean>>> checkedIds = new ThreadLocal<>();
+
     /**
      * Inject the application context.
      *
@@ -130,6 +190,304 @@ public abstract class AbstractBasicMapperForRelationship<
         this.globalSpecification = globalSpecification;
     }
 
+    /**
+     * Inject the {@link EntityManager} if JPA is available.
+     *
+     * @param entityManager The {@link EntityManager}.
+     */
+    @Autowired(required = false)
+    public void setEntityManager(final EntityManager entityManager) {
+
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Resolve the Spring repositories and the mappers of the relationships of
+     * the entity and the DTO once all the beans are created, so the mapping
+     * doesn't look up the beans.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+
+        repositories = new Repositories(context);
+        final Class<?>[] types = GenericTypeResolver.resolveTypeArguments(
+            getClass(), AbstractBasicMapperForRelationship.class);
+
+        if (types == null) {
+
+            return;
+        }
+
+        for (final Class<?> type: types) {
+
+            RelationshipUtils.getRelationFields(type, globalSpecification)
+                .forEach(this::getRelationalMapper);
+        }
+    }
+
+    /**
+     * Converts a list of entity objects to their corresponding DTO objects.
+     * When the relationships are represented by their IDs, the IDs of the
+     * to-many relationships of all the entities are loaded with one query per
+     * relationship and per chunk of IDs, instead of loading the collection of
+     * each entity. The collections already initialized aren't queried.
+     *
+     * @param  entities The entities to convert.
+     * @return          The DTOs in the order of the entities.
+     */
+    public List<D> toDtoList(final List<E> entities) {
+
+        if (useRelationObjectToMapToDto()
+            || entityManager == null
+            || entities.isEmpty()
+            || IncludeContext.isLoadedOnly()) {
+
+            return entities.stream().map(this::toDto).toList();
+        }
+        final Map<String, Map<Object, Set<Object>>> previous = loadedIds.get();
+        loadedIds.set(loadRelationshipIds(entityManager, entities));
+
+        try {
+
+            return entities.stream().map(this::toDto).toList();
+        } finally {
+
+            if (previous == null) {
+
+                loadedIds.remove();
+            } else {
+
+                loadedIds.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Converts a list of DTO objects to their corresponding entity objects.
+     * The existence of the relationship IDs of all the DTOs is checked with
+     * one query per related entity type, instead of one query per ID and per
+     * DTO.
+     *
+     * @param  dtos The DTOs to convert.
+     * @return      The entities in the order of the DTOs.
+     */
+    public List<E> toEntityList(final List<D> dtos) {
+
+        final Map<Class<?>, Map<Object, Boolean>> previous = checkedIds.get();
+
+        if (previous == null) {
+
+            checkedIds.set(new HashMap<>());
+        }
+
+        try {
+
+            checkExistingIds(dtos);
+            return dtos.stream().map(this::toEntity).toList();
+        } finally {
+
+            if (previous == null) {
+
+                checkedIds.remove();
+            }
+        }
+    }
+
+    private void checkExistingIds(final List<D> dtos) {
+
+        final Map<Class<?>, Set<Object>> idsByType = new HashMap<>();
+
+        for (final D dto: dtos) {
+
+            if (dto == null) {
+
+                continue;
+            }
+
+            for (final Field field: RelationshipUtils
+                .getRelationFields(dto.getClass(), globalSpecification)) {
+
+                final FieldAccessor idField = FieldAccessor
+                    .ofDeclaredField(dto.getClass(), field.getName() + "Id");
+
+                if (idField == null) {
+
+                    continue;
+                }
+                final Set<Object> ids = idsByType.computeIfAbsent(
+                    RelationshipUtils.getRelationalType(field,
+                        globalSpecification),
+                    key -> new HashSet<>());
+
+                switch (idField.get(dto)) {
+
+                    case final Collection<?> collection -> ids
+                        .addAll(collection);
+                    case null -> {
+
+                        // Nothing to check
+                    }
+                    case final Object id -> ids.add(id);
+                }
+            }
+        }
+        idsByType.forEach((type, ids) -> getRepositories()
+            .getRepositoryFor(type)
+            .filter(SuperRepository.class::isInstance)
+            .map(SuperRepository.class::cast)
+            .ifPresent(repository -> findExistingIds(type, repository, ids)));
+    }
+
+    private Map<String, Map<Object, Set<Object>>> loadRelationshipIds(
+        final EntityManager manager, final List<E> entities) {
+
+        final Map<String, Map<Object, Set<Object>>> result = new HashMap<>();
+        final Class<?> entityClass = Hibernate.getClass(entities.get(0));
+
+        if (entities.stream()
+            .anyMatch(entity -> Hibernate.getClass(entity) != entityClass)) {
+
+            return result;
+        }
+
+        for (final Field field: RelationshipUtils
+            .getRelationFields(entityClass, globalSpecification)) {
+
+            if (Collection.class.isAssignableFrom(field.getType())) {
+
+                final Map<Object, Set<Object>> idsByOwner
+                    = loadRelationshipIds(manager, entityClass, field,
+                        entities);
+
+                if (idsByOwner != null) {
+
+                    result.put(field.getName(), idsByOwner);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Load the IDs of a to-many relationship of the entities. The collections
+     * already initialized, e.g., join fetched, give their IDs directly and
+     * only the IDs of the other collections are queried.
+     *
+     * @param  manager     The {@link EntityManager}.
+     * @param  entityClass The class of the entities.
+     * @param  field       The field of the relationship.
+     * @param  entities    The entities.
+     * @return             The relationship IDs by owner ID, or {@code null} if
+     *                     all the collections are initialized and can be
+     *                     mapped as is.
+     */
+    @Nullable
+    private Map<Object, Set<Object>> loadRelationshipIds(
+        final EntityManager manager, final Class<?> entityClass,
+        final Field field, final List<E> entities) {
+
+        final FieldAccessor accessor = FieldAccessor.of(field);
+        final Map<Object, Set<Object>> result = new HashMap<>();
+        final List<Object> uninitializedIds = new ArrayList<>();
+
+        for (final E entity: entities) {
+
+            final Object id = entity.getId();
+
+            if (id == null) {
+
+                continue;
+            }
+
+            if (!Hibernate.isInitialized(entity)) {
+
+                uninitializedIds.add(id);
+            } else if (accessor.get(Hibernate.unproxy(entity))
+                instanceof final Collection<?> collection) {
+
+                if (Hibernate.isInitialized(collection)) {
+
+                    result.put(id, collection.stream()
+                        .filter(DataPresentation.class::isInstance)
+                        .<Object>map(relationship -> ((DataPresentation<
+                            ?>) relationship).getId())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toCollection(HashSet::new)));
+                } else {
+
+                    uninitializedIds.add(id);
+                }
+            }
+        }
+
+        if (uninitializedIds.isEmpty()) {
+
+            return null;
+        }
+        result.putAll(findRelationshipIds(manager, entityClass, field,
+            uninitializedIds));
+        return result;
+    }
+
+    private Map<Object, Set<Object>> findRelationshipIds(
+        final EntityManager manager, final Class<?> entityClass,
+        final Field field, final List<Object> ids) {
+
+        final Class<?> relationalType
+            = RelationshipUtils.getRelationalType(field, globalSpecification);
+        final CriteriaBuilder builder = manager.getCriteriaBuilder();
+        final Map<Object, Set<Object>> result = new HashMap<>();
+
+        for (final List<Object> chunk: InClauseUtils.toPaddedChunks(ids,
+            inClauseSize)) {
+
+            final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+            final Root<?> root = query.from(entityClass);
+            final Join<?, ?> join = root.join(field.getName());
+            query.multiselect(root.get(getIdName(manager, entityClass)),
+                join.get(getIdName(manager, relationalType)));
+            query.where(root.get(getIdName(manager, entityClass)).in(chunk));
+
+            for (final Tuple tuple: manager.createQuery(query)
+                .getResultList()) {
+
+                result.computeIfAbsent(tuple.get(0), key -> new HashSet<>())
+                    .add(tuple.get(1));
+            }
+        }
+        return result;
+    }
+
+    private static String getIdName(
+        final EntityManager manager, final Class<?> entityClass) {
+
+        final EntityType<?> entityType
+            = manager.getMetamodel().entity(entityClass);
+        return entityType.getId(entityType.getIdType().getJavaType())
+            .getName();
+    }
+
+    @Nullable
+    private Set<Object> getLoadedIds(
+        final String relationshipName, @Nullable final Object ownerId) {
+
+        final Map<String, Map<Object, Set<Object>>> relationships
+            = loadedIds.get();
+
+        if (relationships == null || ownerId == null) {
+
+            return null;
+        }
+        final Map<Object, Set<Object>> idsByOwner
+            = relationships.get(relationshipName);
+
+        if (idsByOwner == null) {
+
+            return null;
+        }
+        return Set.copyOf(idsByOwner.getOrDefault(ownerId, Set.of()));
+    }
+
     /**
      * This method is executed after the mapping from an entity to a DTO. And
      * map all the relationships from the entity to the DTO.
@@ -141,56 +499,45 @@ public abstract class AbstractBasicMapperForRelationship<
     protected void afterMappingEntityToDto(
         final E entity, @MappingTarget final D dto) {
 
-        final String entityPackage = globalSpecification.entityPackage();
-        final String dtoPackage = globalSpecification.dtoPackage();
-
-        ReflectionUtils.doWithFields(dto.getClass(),
-            field -> afterMappingEntityToDto(entity, dto, field),
-            (final Field field) -> {
-
-                final AnnotatedElement entityField
-                    = RelationshipUtils.getEntityFieldFromDto(field,
-                        dto.getClass(), entityPackage, dtoPackage);
+        for (final Field field: RelationshipUtils
+            .getRelationFields(dto.getClass(), globalSpecification)) {
 
-                if (entityField == null) {
-
-                    return false;
-                }
-                return RelationshipUtils.isRelationship(entityField);
-            });
+            afterMappingEntityToDto(entity, dto, field);
+        }
     }
 
     /**
      * This method is executed after the mapping from an entity to a DTO. And
      * map the relationship from the entity to the DTO.
+     * The relationships that aren't loaded are skipped if
+     * {@link IncludeContext#isLoadedOnly()}.
+     * The IDs of the to-many relationships loaded by {@link #toDtoList(List)}
+     * are used instead of the collection of the entity.
      *
      * @param entity The entity to map.
      * @param dto    The mapped DTO.
      * @param field  The field of the relationship to map.
      */
     protected void afterMappingEntityToDto(
-        final E entity, final D dto, final Field field)
-        throws IllegalAccessException {
+        final E entity, final D dto, final Field field) {
 
         final Object unProxyEntity = Hibernate.unproxy(entity);
-        final Field idField;
-        final Field sourceField;
+        final FieldAccessor idField = FieldAccessor
+            .ofDeclaredField(dto.getClass(), field.getName() + "Id");
+        final FieldAccessor sourceField = FieldAccessor
+            .ofDeclaredField(unProxyEntity.getClass(), field.getName());
 
-        try {
-
-            idField = dto.getClass().getDeclaredField(field.getName() + "Id");
-            sourceField
-                = unProxyEntity.getClass().getDeclaredField(field.getName());
-        } catch (final NoSuchFieldException e) {
+        if (idField == null || sourceField == null) {
 
             return;
         }
-        field.setAccessible(true);
-        idField.setAccessible(true);
-        sourceField.setAccessible(true);
+        final FieldAccessor fieldAccessor = FieldAccessor.of(field);
         final Object sourceFieldObject = sourceField.get(unProxyEntity);
 
-        if (useRelationObjectToMapToDto()) {
+        final boolean notLoaded = IncludeContext.isLoadedOnly()
+            && !Hibernate.isInitialized(sourceFieldObject);
+
+        if (useRelationObjectToMapToDto() && !notLoaded) {
 
             Hibernate.initialize(sourceFieldObject);
 
@@ -200,24 +547,35 @@ public abstract class AbstractBasicMapperForRelationship<
 
             if (relationalMapper == null) {
 
-                field.set(dto, sourceFieldObject);
+                fieldAccessor.set(dto, sourceFieldObject);
                 mapEntityToId(dto, sourceFieldObject, idField);
                 return;
             }
 
-            mapEntityToDtoAndId(dto, field, sourceField, sourceFieldObject,
-                relationalMapper, idField);
+            mapEntityToDtoAndId(dto, fieldAccessor, sourceField.getField(),
+                sourceFieldObject, relationalMapper, idField);
             return;
         }
 
-        mapEntityToId(dto, sourceFieldObject, idField);
-        field.set(dto, null);
+        final Set<Object> relationshipIds
+            = getLoadedIds(field.getName(), entity.getId());
+
+        if (relationshipIds != null) {
+
+            idField.set(dto, relationshipIds);
+        } else if (!notLoaded || sourceFieldObject instanceof HibernateProxy) {
+
+            // Only the ID of a proxy is available without loading a
+            // relationship that wasn't included.
+
+            mapEntityToId(dto, sourceFieldObject, idField);
+        }
+        fieldAccessor.set(dto, null);
     }
 
     private static <D extends DataPresentation<?>> void mapEntityToId(
         final D dto, @Nullable final Object sourceFieldObject,
-        final Field idField)
-        throws IllegalAccessException {
+        final FieldAccessor idField) {
 
         switch (sourceFieldObject) {
 
@@ -241,12 +599,11 @@ public abstract class AbstractBasicMapperForRelationship<
     }
 
     private static <D extends DataPresentation<?>> void mapEntityToDtoAndId(
-        final D dto, final Field field, final Field sourceField,
+        final D dto, final FieldAccessor field, final Field sourceField,
         final Object sourceFieldObject,
         final BasicMapper<DataPresentation<?>,
             DataPresentation<?>> relationalMapper,
-        final Field idField)
-        throws IllegalAccessException {
+        final FieldAccessor idField) {
 
         if (sourceFieldObject instanceof final Collection<?> collection) {
 
@@ -271,8 +628,13 @@ public abstract class AbstractBasicMapperForRelationship<
                         .isNotRelationWithMappedBy(sourceField)) {
 
                         final DataPresentation<?> relationalDto
-                            = relationalMapper.toDto(relationship);
-                        relationshipSet.add(relationalDto);
+                            = MappingContext.toDto(relationalMapper,
+                                relationship);
+
+                        if (relationalDto != null) {
+
+                            relationshipSet.add(relationalDto);
+                        }
                     }
                     final Object id = relationship.getId();
 
@@ -292,7 +654,7 @@ public abstract class AbstractBasicMapperForRelationship<
             if (RelationshipUtils.isNotRelationWithMappedBy(sourceField)) {
 
                 final DataPresentation<?> relationalDto
-                    = relationalMapper.toDto(relationship);
+                    = MappingContext.toDto(relationalMapper, relationship);
                 field.set(dto, relationalDto);
             }
             idField.set(dto, relationship.getId());
@@ -310,11 +672,11 @@ public abstract class AbstractBasicMapperForRelationship<
     protected void afterMappingDtoToEntity(
         final D dto, @MappingTarget final E entity) {
 
-        final Repositories repositories = new Repositories(context);
+        for (final Field field: RelationshipUtils
+            .getRelationFields(entity.getClass(), globalSpecification)) {
 
-        ReflectionUtils.doWithFields(entity.getClass(),
-            field -> afterMappingDtoToEntity(dto, entity, field, repositories),
-            RelationshipUtils::isRelationship);
+            afterMappingDtoToEntity(dto, entity, field, getRepositories());
+        }
     }
 
     /**
@@ -328,23 +690,18 @@ public abstract class AbstractBasicMapperForRelationship<
      */
     protected void afterMappingDtoToEntity(
         final D dto, final E entity, final Field field,
-        final Repositories repositories)
-        throws IllegalAccessException {
-
-        final Field idField;
-        final Field sourceField;
+        final Repositories repositories) {
 
-        try {
+        final FieldAccessor idField = FieldAccessor
+            .ofDeclaredField(dto.getClass(), field.getName() + "Id");
+        final FieldAccessor sourceField
+            = FieldAccessor.ofDeclaredField(dto.getClass(), field.getName());
 
-            idField = dto.getClass().getDeclaredField(field.getName() + "Id");
-            sourceField = dto.getClass().getDeclaredField(field.getName());
-        } catch (final NoSuchFieldException e) {
+        if (idField == null || sourceField == null) {
 
             return;
         }
-        field.setAccessible(true);
-        idField.setAccessible(true);
-        sourceField.setAccessible(true);
+        final FieldAccessor fieldAccessor = FieldAccessor.of(field);
         final Object sourceFieldObject = sourceField.get(dto);
         final Object idFieldObject = idField.get(dto);
 
@@ -352,12 +709,12 @@ public abstract class AbstractBasicMapperForRelationship<
             || !RelationshipUtils.isNotRelationWithMappedBy(field)) {
 
             final Class<?> relationalType = RelationshipUtils
-                .getRelationalType(sourceField, globalSpecification);
+                .getRelationalType(sourceField.getField(), globalSpecification);
             repositories.getRepositoryFor(relationalType)
                 .filter(SuperRepository.class::isInstance)
                 .map(SuperRepository.class::cast)
-                .ifPresent(repository -> mapEntityFromId(entity, field,
-                    repository, idFieldObject));
+                .ifPresent(repository -> mapEntityFromId(entity, fieldAccessor,
+                    repository, relationalType, idFieldObject));
             return;
         }
 
@@ -366,27 +723,27 @@ public abstract class AbstractBasicMapperForRelationship<
 
         if (relationalMapper == null) {
 
-            field.set(entity, sourceFieldObject);
+            fieldAccessor.set(entity, sourceFieldObject);
             return;
         }
-        mapDtoToEntity(entity, field, sourceFieldObject, relationalMapper);
+        mapDtoToEntity(entity, fieldAccessor, sourceFieldObject,
+            relationalMapper);
     }
 
-    private static <E extends DataPresentation<?>> void mapEntityFromId(
-        final E entity, final Field field,
+    private void mapEntityFromId(
+        final E entity, final FieldAccessor field,
         @SuppressWarnings("rawtypes") final SuperRepository repository,
-        @Nullable final Object idFieldObject) {
+        final Class<?> relationalType, @Nullable final Object idFieldObject) {
 
         if (idFieldObject instanceof final Collection<?> collection) {
 
+            final Set<Object> existingIds
+                = findExistingIds(relationalType, repository, collection);
             final Set<Object> entitySet = new HashSet<>();
 
             for (final Object id: collection) {
 
-                @SuppressWarnings("unchecked")
-                final boolean exists = repository.existsById(id);
-
-                if (exists) {
+                if (existingIds.contains(id)) {
 
                     @SuppressWarnings("unchecked")
                     final Object reference = repository.getReferenceById(id);
@@ -394,43 +751,102 @@ public abstract class AbstractBasicMapperForRelationship<
                 }
             }
 
-            try {
-
-                field.set(entity, entitySet);
-            } catch (final IllegalAccessException e) {
-
-                throw new RuntimeException(e);
-            }
+            field.set(entity, entitySet);
             return;
         }
 
-        if (idFieldObject != null) {
+        if (idFieldObject != null && findExistingIds(relationalType,
+            repository, List.of(idFieldObject)).contains(idFieldObject)) {
 
             @SuppressWarnings("unchecked")
-            final boolean exists = repository.existsById(idFieldObject);
+            final Object reference = repository.getReferenceById(idFieldObject);
 
-            if (exists) {
+            field.set(entity, reference);
+        }
+    }
 
-                @SuppressWarnings("unchecked")
-                final Object reference
-                    = repository.getReferenceById(idFieldObject);
+    /**
+     * Find the IDs that exist in the database among the given IDs. The IDs
+     * are checked with one query per chunk of {@link #inClauseSize} IDs and
+     * the results are kept for the current {@link #toEntityList(List)} call,
+     * if any.
+     *
+     * @param  relationalType The type of the related entity.
+     * @param  repository     The repository of the related entity.
+     * @param  ids            The IDs to check.
+     * @return                The existing IDs.
+     */
+    private Set<Object> findExistingIds(
+        final Class<?> relationalType,
+        @SuppressWarnings("rawtypes") final SuperRepository repository,
+        final Collection<?> ids) {
+
+        final Map<Class<?>, Map<Object, Boolean>> checked
+            = Objects.requireNonNullElseGet(checkedIds.get(), HashMap::new);
+        final Map<Object, Boolean> checkedForType
+            = checked.computeIfAbsent(relationalType, key -> new HashMap<>());
+        final List<Object> uncheckedIds = ids.stream()
+            .<Object>map(Object.class::cast)
+            .filter(Objects::nonNull)
+            .filter(id -> !checkedForType.containsKey(id))
+            .distinct()
+            .toList();
+
+        if (!uncheckedIds.isEmpty()) {
+
+            final Set<Object> existingIds
+                = queryExistingIds(relationalType, repository, uncheckedIds);
+            uncheckedIds.forEach(id -> checkedForType.put(id,
+                existingIds.contains(id)));
+        }
+        return ids.stream()
+            .filter(id -> id != null
+                && Boolean.TRUE.equals(checkedForType.get(id)))
+            .collect(Collectors.toSet());
+    }
+
+    private Set<Object> queryExistingIds(
+        final Class<?> relationalType,
+        @SuppressWarnings("rawtypes") final SuperRepository repository,
+        final List<Object> ids) {
+
+        if (entityManager == null) {
 
-                try {
+            final Set<Object> existingIds = new HashSet<>();
 
-                    field.set(entity, reference);
-                } catch (final IllegalAccessException e) {
+            for (final Object id: ids) {
 
-                    throw new RuntimeException(e);
+                @SuppressWarnings("unchecked")
+                final boolean exists = repository.existsById(id);
+
+                if (exists) {
+
+                    existingIds.add(id);
                 }
             }
+            return existingIds;
+        }
+        final String idName = getIdName(entityManager, relationalType);
+        final Set<Object> existingIds = new HashSet<>();
+
+        for (final List<Object> chunk: InClauseUtils.toPaddedChunks(ids,
+            inClauseSize)) {
+
+            final CriteriaQuery<Object> query
+                = entityManager.getCriteriaBuilder().createQuery(Object.class);
+            final Root<?> root = query.from(relationalType);
+            query.select(root.get(idName)).where(root.get(idName).in(chunk));
+            existingIds.addAll(entityManager.createQuery(query)
+                .getResultList());
         }
+        return existingIds;
     }
 
     private static <E extends DataPresentation<?>> void mapDtoToEntity(
-        final E entity, final Field field, final Object sourceFieldObject,
+        final E entity, final FieldAccessor field,
+        final Object sourceFieldObject,
         final BasicMapper<DataPresentation<?>,
-            DataPresentation<?>> relationalMapper)
-        throws IllegalAccessException {
+            DataPresentation<?>> relationalMapper) {
 
         if (sourceFieldObject instanceof final Collection<?> collection) {
 
@@ -467,12 +883,31 @@ public abstract class AbstractBasicMapperForRelationship<
         }
     }
 
+    private Repositories getRepositories() {
+
+        Repositories result = repositories;
+
+        if (result == null) {
+
+            result = new Repositories(context);
+            repositories = result;
+        }
+        return result;
+    }
+
     private @Nullable
         BasicMapper<DataPresentation<?>, DataPresentation<?>>
         getRelationalMapper(final Field field) {
 
-        final Class<?> relationalType
-            = RelationshipUtils.getRelationalType(field, globalSpecification);
+        return relationalMappers
+            .computeIfAbsent(RelationshipUtils.getRelationalType(field,
+                globalSpecification), this::findRelationalMapper)
+            .orElse(null);
+    }
+
+    private Optional<BasicMapper<DataPresentation<?>, DataPresentation<?>>>
+        findRelationalMapper(final Class<?> relationalType) {
+
         final String mapperName = relationalType.getName()
             .replace(globalSpecification.entityPackage(),
                 globalSpecification.mapperPackage())
@@ -508,6 +943,6 @@ public abstract class AbstractBasicMapperForRelationship<
                 mapper = null;
             }
         }
-        return mapper;
+        return Optional.ofNullable(mapper);
     }
 }
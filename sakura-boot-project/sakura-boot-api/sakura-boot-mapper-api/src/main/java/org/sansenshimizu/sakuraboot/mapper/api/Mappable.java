@@ -17,7 +17,7 @@
 package org.sansenshimizu.sakuraboot.mapper.api;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
-import org.sansenshimizu.sakuraboot.util.ReflectionUtils;
+import org.sansenshimizu.sakuraboot.configuration.SakuraBootMetadataRegistry;
 
 /**
  * Interface for all class that add mapping support needs to implement.
@@ -71,8 +71,8 @@ public interface Mappable<E extends DataPresentation<?>,
      */
     default Class<E> getEntityClassToMap() {
 
-        return ReflectionUtils.findGenericTypeFromInterface(getClass(),
-            Mappable.class.getTypeName());
+        return SakuraBootMetadataRegistry.getGenericType(getClass(),
+            Mappable.class, 0);
     }
 
     /**
@@ -82,7 +82,20 @@ public interface Mappable<E extends DataPresentation<?>,
      */
     default Class<D> getDtoClass() {
 
-        return ReflectionUtils.findGenericTypeFromInterface(getClass(),
-            Mappable.class.getTypeName(), 1);
+        return SakuraBootMetadataRegistry.getGenericType(getClass(),
+            Mappable.class, 1);
+    }
+
+    /**
+     * Check if the read methods build the DTO straight from a projection
+     * query, without creating managed entities and without the
+     * {@link BasicMapper}. The relationships are only mapped to their IDs.
+     * {@code false} by default, override this method to opt in.
+     *
+     * @return True to use the projection read mode, false otherwise.
+     */
+    default boolean isProjectionRead() {
+
+        return false;
     }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.mapper.api;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+
+/**
+ * Utility class to memoize the mapping of the entities to DTOs during one
+ * mapping. An entity related to many mapped entities is mapped only once,
+ * and an entity already being mapped is not mapped again, so the cyclic
+ * relationships don't recurse infinitely.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+@UtilityClass
+public class MappingContext {
+
+    /**
+     * The value of an entity that is being mapped.
+     */
+    private final Object IN_PROGRESS = new Object();
+
+    /**
+     * The mapped DTOs of the current thread by mapper and by entity identity.
+     */
+    private final ThreadLocal<Map<BasicMapper<?, ?>,
+        Map<Object, Object>>> DTOS = new ThreadLocal<>();
+
+    /**
+     * Run a mapping where the entities are mapped only once. If a mapping is
+     * already running, its mapped DTOs are reused.
+     *
+     * @param  <T>     The type of the result.
+     * @param  mapping The mapping.
+     * @return         The result of the mapping.
+     */
+    public <T> T map(final Supplier<T> mapping) {
+
+        if (DTOS.get() != null) {
+
+            return mapping.get();
+        }
+        DTOS.set(new HashMap<>());
+
+        try {
+
+            return mapping.get();
+        } finally {
+
+            DTOS.remove();
+        }
+    }
+
+    /**
+     * Map an entity to a DTO with the mapper, or return the DTO already
+     * mapped for the same entity instance in the current mapping.
+     *
+     * @param  <E>    The entity type.
+     * @param  <D>    The DTO type.
+     * @param  mapper The mapper to use.
+     * @param  entity The entity to map.
+     * @return        The mapped DTO, or {@code null} if the entity is already
+     *                being mapped.
+     */
+    @Nullable
+    public <E extends DataPresentation<?>,
+        D extends DataPresentation<?>> D toDto(
+            final BasicMapper<E, D> mapper, final E entity) {
+
+        final Map<BasicMapper<?, ?>, Map<Object, Object>> mappers = DTOS.get();
+
+        if (mappers == null) {
+
+            return mapper.toDto(entity);
+        }
+        final Map<Object, Object> dtos
+            = mappers.computeIfAbsent(mapper, key -> new IdentityHashMap<>());
+        final Object mapped = dtos.get(entity);
+
+        if (mapped != null) {
+
+            @SuppressWarnings("unchecked")
+            final D dto = mapped == IN_PROGRESS ? null : (D) mapped;
+            return dto;
+        }
+        dtos.put(entity, IN_PROGRESS);
+        final D dto = mapper.toDto(entity);
+
+        if (dto == null) {
+
+            dtos.remove(entity);
+        } else {
+
+            dtos.put(entity, dto);
+        }
+        return dto;
+    }
+}
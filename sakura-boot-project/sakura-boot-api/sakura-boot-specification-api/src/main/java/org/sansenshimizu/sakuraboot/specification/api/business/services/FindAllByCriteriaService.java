@@ -17,15 +17,27 @@
 package org.sansenshimizu.sakuraboot.specification.api.business.services;
 
 import java.io.Serializable;
+import java.util.Map;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.lang.Nullable;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.SuperService;
+import org.sansenshimizu.sakuraboot.basic.api.projection.ProjectionRepository;
 import org.sansenshimizu.sakuraboot.cache.api.annotations.Caching;
+import org.sansenshimizu.sakuraboot.count.CountMode;
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+import org.sansenshimizu.sakuraboot.fieldset.FieldSet;
+import org.sansenshimizu.sakuraboot.include.Includes;
+import org.sansenshimizu.sakuraboot.keyset.KeysetSlice;
+import org.sansenshimizu.sakuraboot.keyset.KeysetToken;
 import org.sansenshimizu.sakuraboot.log.api.annotations.Logging;
 import org.sansenshimizu.sakuraboot.mapper.api.annotations.Mapping;
 import org.sansenshimizu.sakuraboot.specification.api.business.SuperCriteriaService;
@@ -106,6 +118,14 @@ import org.sansenshimizu.sakuraboot.specification.api.relationship.annotations.F
  * @author     Malcolm Rozé
  * @see        FindAllByCriteriaService#findAllByCriteria(FilterPresentation,
  *             Pageable)
+ * @see        FindAllByCriteriaService#findAllByCriteriaWithIncludes(
+ *             FilterPresentation, Pageable, Includes)
+ * @see        FindAllByCriteriaService#findAllByCriteriaWithFields(
+ *             FilterPresentation, Pageable, FieldSet)
+ * @see        FindAllByCriteriaService#findAllByCriteriaWithCountMode(
+ *             FilterPresentation, Pageable, CountMode)
+ * @see        FindAllByCriteriaService#findAllByCriteriaWithKeyset(
+ *             FilterPresentation, Pageable, String)
  * @see        SuperService
  * @since      0.1.0
  */
@@ -139,4 +159,155 @@ public interface FindAllByCriteriaService<E extends DataPresentation<I>,
                 .map(DataPresentation.class::cast);
         return result;
     }
+
+    /**
+     * Retrieves a page of {@link DataPresentation} from the underlying data
+     * storage based on the provided {@link FilterPresentation} and pageable
+     * criteria, with only the included relationships.
+     *
+     * @param  filter   The {@link FilterPresentation} object to apply
+     *                  criteria-based filtering.
+     * @param  pageable The {@link Pageable} object for pagination and sorting.
+     * @param  includes The relationships to include.
+     * @return          A Page object containing the filtered and paginated
+     *                  results.
+     */
+    @Caching(
+        key = "'include' + #includes + #filter + #pageable",
+        concatToCacheName = "All")
+    @Mapping(mapFirstArgument = false)
+    @FindAllByCriteriaWithRelationship
+    @Logging
+    default Page<DataPresentation<I>> findAllByCriteriaWithIncludes(
+        @Nullable final F filter, final Pageable pageable,
+        final Includes includes) {
+
+        final Specification<E> specification = getSpecification(filter);
+
+        @SuppressWarnings("unchecked")
+        final Page<DataPresentation<I>> result
+            = getRepository().findAll(specification, pageable)
+                .map(DataPresentation.class::cast);
+        return result;
+    }
+
+    /**
+     * Retrieves a page of the selected fields of the
+     * {@link DataPresentation} from the underlying data storage based on the
+     * provided {@link FilterPresentation} and pageable criteria. The fields
+     * are retrieved with a projection query, without hydrating and mapping the
+     * entities.
+     *
+     * @param  filter              The {@link FilterPresentation} object to
+     *                             apply criteria-based filtering.
+     * @param  pageable            The {@link Pageable} object for pagination
+     *                             and sorting.
+     * @param  fields              The fields to select.
+     * @return                     A Page object containing the selected fields
+     *                             by name of the filtered and paginated
+     *                             results.
+     * @throws BadRequestException If a field isn't a basic attribute of the
+     *                             entity or if the repository isn't a
+     *                             {@link ProjectionRepository}.
+     */
+    @Caching(
+        key = "'fields' + #fields + #filter + #pageable",
+        concatToCacheName = "All")
+    @Logging
+    default Page<Map<String, Object>> findAllByCriteriaWithFields(
+        @Nullable final F filter, final Pageable pageable,
+        final FieldSet fields) {
+
+        return ProjectionRepository.of(getRepository(), getEntityClass())
+            .findAllProjection(getSpecification(filter), pageable,
+                getEntityClass(), fields);
+    }
+
+    /**
+     * Retrieves a page or a slice of {@link DataPresentation} from the
+     * underlying data storage based on the provided {@link FilterPresentation}
+     * and pageable criteria, counting the elements depending on the
+     * {@link CountMode}. The cached count is shared by the requests with an
+     * equal filter.
+     *
+     * @param  filter    The {@link FilterPresentation} object to apply
+     *                   criteria-based filtering.
+     * @param  pageable  The {@link Pageable} object for pagination and
+     *                   sorting.
+     * @param  countMode The way to count the elements.
+     * @return           A slice containing the filtered results for
+     *                   {@link CountMode#NONE}, a page otherwise.
+     */
+    @Caching(
+        key = "'count' + #countMode + #filter + #pageable",
+        concatToCacheName = "All")
+    @Mapping(mapFirstArgument = false)
+    @FindAllByCriteriaWithRelationship
+    @Logging
+    default Slice<DataPresentation<I>> findAllByCriteriaWithCountMode(
+        @Nullable final F filter, final Pageable pageable,
+        final CountMode countMode) {
+
+        final Specification<E> specification = getSpecification(filter);
+        final Slice<E> slice;
+
+        if (countMode == CountMode.EXACT || pageable.isUnpaged()) {
+
+            slice = getRepository().findAll(specification, pageable);
+        } else {
+
+            slice = countMode.withCount(
+                getRepository().findBy(specification,
+                    (final FetchableFluentQuery<E> query) -> CountMode
+                        .findSlice(query, pageable)),
+                getCountCache(), getEntityClass(), filter,
+                () -> getRepository().count(specification));
+        }
+
+        @SuppressWarnings("unchecked")
+        final Slice<DataPresentation<I>> result
+            = slice.map(DataPresentation.class::cast);
+        return result;
+    }
+
+    /**
+     * Retrieves a slice of {@link DataPresentation} from the underlying data
+     * storage based on the provided {@link FilterPresentation}, using a keyset
+     * pagination. The slice starts right after the element encoded in the
+     * cursor instead of skipping an offset, so the cost doesn't grow with the
+     * depth of the slice.
+     *
+     * @param  filter   The {@link FilterPresentation} object to apply
+     *                  criteria-based filtering.
+     * @param  pageable The {@link Pageable} object for the size and the
+     *                  sorting, the page number is ignored.
+     * @param  cursor   The cursor returned by
+     *                  {@link KeysetSlice#getNextCursor()}, {@code null} or
+     *                  empty for the first slice.
+     * @return          A slice containing the filtered results with the cursor
+     *                  of the next slice.
+     */
+    @Caching(
+        key = "'keyset' + #filter + #pageable + #cursor",
+        concatToCacheName = "All")
+    @Mapping(mapFirstArgument = false)
+    @FindAllByCriteriaWithRelationship
+    @Logging
+    default KeysetSlice<DataPresentation<I>> findAllByCriteriaWithKeyset(
+        @Nullable final F filter, final Pageable pageable,
+        @Nullable final String cursor) {
+
+        final KeysetScrollPosition position = KeysetToken
+            .decode(cursor, getEntityClass(), pageable.getSort());
+        final Window<E> window = getRepository().findBy(
+            getSpecification(filter),
+            (final FetchableFluentQuery<E> query) -> KeysetSlice
+                .scroll(query, pageable, position));
+
+        @SuppressWarnings("unchecked")
+        final KeysetSlice<DataPresentation<I>> result
+            = KeysetSlice.of(window, pageable)
+                .map(DataPresentation.class::cast);
+        return result;
+    }
 }
@@ -47,6 +47,21 @@ public interface FilterPresentation<F extends Filter> extends Serializable {
     @Nullable
     Boolean getInclusive();
 
+    /**
+     * Getter for the join collections option. By default, the filters on a
+     * collection relationship are applied with an EXISTS subquery, so each
+     * entity is returned only once and the count stays on the entity table.
+     * With {@code true}, the collection is joined instead and the entity is
+     * returned once for each matching element.
+     *
+     * @return The join collections option.
+     */
+    @Nullable
+    default Boolean getJoinCollections() {
+
+        return null;
+    }
+
     /**
      * Getter for the id filter.
      *
@@ -20,6 +20,7 @@ import java.io.Serializable;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
@@ -72,4 +73,18 @@ public interface FetchRelationshipSpecificationRepository<
      */
     Page<I> findAllIds(
         Pageable pageable, Specification<E> specification, Class<E> entityType);
+
+    /**
+     * Retrieves a slice of entity IDs based on the provided pageable and
+     * specification, without counting the entities.
+     *
+     * @param  pageable      the pageable object specifying the page size and
+     *                       page number, mustn't be unpaged
+     * @param  specification the specification object used to filter the
+     *                       entities
+     * @param  entityType    The type of the entity.
+     * @return               a slice of entity IDs
+     */
+    Slice<I> findAllIdsWithoutCount(
+        Pageable pageable, Specification<E> specification, Class<E> entityType);
 }
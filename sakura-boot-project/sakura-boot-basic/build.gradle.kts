@@ -2,6 +2,7 @@ plugins {
     alias(libs.plugins.component.framework)
     alias(libs.plugins.dependency.lombok)
     alias(libs.plugins.dependency.lombok.test)
+    alias(libs.plugins.test.test.fixtures)
 }
 
 description =
@@ -42,6 +43,30 @@ dependencies {
     testRuntimeOnly(libs.logback.classic)
     testRuntimeOnly(libs.spring.data.jpa)
     testAnnotationProcessor(libs.hibernate.jpamodelgen)
+
+    testFixturesApi(libs.hibernate.core)
+    testFixturesImplementation(libs.spring.core)
+
+    integrationTestImplementation(testFixtures(projects.sakuraBootBasic))
+    integrationTestImplementation(projects.sakuraBootCore)
+    integrationTestImplementation(projects.sakuraBootMapperApi)
+    integrationTestImplementation(libs.assertj.core)
+    integrationTestImplementation(libs.hibernate.core)
+    integrationTestImplementation(libs.jakarta.persistence.api)
+    integrationTestImplementation(libs.junit.jupiter.api)
+    integrationTestImplementation(libs.slf4j.api)
+    integrationTestImplementation(libs.spring.beans)
+    integrationTestImplementation(libs.spring.boot)
+    integrationTestImplementation(libs.spring.boot.autoconfigure)
+    integrationTestImplementation(libs.spring.boot.test.autoconfigure)
+    integrationTestImplementation(libs.spring.data.commons)
+    integrationTestImplementation(libs.spring.data.jpa)
+    integrationTestImplementation(libs.spring.test)
+    integrationTestCompileOnly(libs.lombok)
+    integrationTestCompileOnly(libs.mapstruct)
+    integrationTestAnnotationProcessor(libs.lombok)
+    integrationTestRuntimeOnly(libs.spring.boot.starter.data.jpa)
+    integrationTestRuntimeOnly(libs.h2)
 }
 
 dependencyAnalysis {
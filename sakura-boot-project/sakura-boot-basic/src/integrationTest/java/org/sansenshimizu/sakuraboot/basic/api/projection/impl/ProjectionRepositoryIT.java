@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.basic.api.projection.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ContextConfiguration;
+
+import org.sansenshimizu.sakuraboot.basic.api.relationship.impl.AuthorForIT;
+import org.sansenshimizu.sakuraboot.basic.api.relationship.impl.BookForIT;
+import org.sansenshimizu.sakuraboot.basic.api.relationship.impl.RelationshipITConfig;
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+import org.sansenshimizu.sakuraboot.fieldset.FieldSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The integration test class for {@link ProjectionRepositoryImpl} on H2.
+ *
+ * @author Malcolm Rozé
+ * @see    ProjectionRepositoryImpl
+ * @since  0.2.0
+ */
+@DataJpaTest
+@ContextConfiguration(classes = RelationshipITConfig.class)
+class ProjectionRepositoryIT {
+
+    /**
+     * The number of authors.
+     */
+    private static final int AUTHOR_COUNT = 5;
+
+    /**
+     * The {@link EntityManager} use for testing.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * The {@link ProjectionRepositoryImpl} to test.
+     */
+    private final ProjectionRepositoryImpl<AuthorForIT,
+        Long> repository = new ProjectionRepositoryImpl<>();
+
+    @Autowired
+    ProjectionRepositoryIT(final EntityManager entityManager) {
+
+        this.entityManager = entityManager;
+        repository.entityManager = entityManager;
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+
+            entityManager.persist(new AuthorForIT(null, "Author " + i, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("GIVEN a specification and a sorted page,"
+        + " WHEN calling findAllProjection,"
+        + " THEN only the selected fields should be returned"
+        + " AND no entity should be loaded")
+    final void testFindAllProjection() {
+
+        // GIVEN
+        final Specification<AuthorForIT> specification
+            = (root, query, builder) -> builder
+                .notEqual(root.get("name"), "Author 0");
+
+        // WHEN
+        final Page<Map<String, Object>> result = repository.findAllProjection(
+            specification, PageRequest.of(0, 2, Sort.by("name").descending()),
+            AuthorForIT.class, FieldSet.of("name"));
+
+        // THEN
+        assertThat(result.getTotalElements()).isEqualTo(AUTHOR_COUNT - 1);
+        assertThat(result.getContent()).allSatisfy(
+            fields -> assertThat(fields).containsOnlyKeys("id", "name"));
+        assertThat(result.getContent()).extracting(fields -> fields.get("name"))
+            .isEqualTo(List.of("Author 4", "Author 3"));
+        assertThat(entityManager.unwrap(Session.class)
+            .getStatistics()
+            .getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("GIVEN an existing ID,"
+        + " WHEN calling findByIdProjection,"
+        + " THEN only the selected fields should be returned")
+    final void testFindByIdProjection() {
+
+        // GIVEN
+        final Long id = entityManager
+            .createQuery("SELECT e.id FROM AuthorForIT e WHERE e.name = :name",
+                Long.class)
+            .setParameter("name", "Author 2")
+            .getSingleResult();
+
+        // WHEN
+        final Optional<Map<String, Object>> result = repository
+            .findByIdProjection(id, AuthorForIT.class, FieldSet.of("name"));
+
+        // THEN
+        assertThat(result)
+            .contains(Map.of(FieldSet.ID_FIELD, id, "name", "Author 2"));
+    }
+
+    @Test
+    @DisplayName("GIVEN a relationship or an unknown field,"
+        + " WHEN calling findByIdProjection,"
+        + " THEN a bad request exception should be thrown")
+    final void testFindByIdProjectionWithInvalidField() {
+
+        // GIVEN
+        final FieldSet relationship = FieldSet.of("books");
+        final FieldSet unknown = FieldSet.of("unknown");
+
+        // THEN
+        assertThatThrownBy(() -> repository.findByIdProjection(1L,
+            AuthorForIT.class, relationship))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> repository.findByIdProjection(1L,
+            AuthorForIT.class, unknown))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN an author with books,"
+        + " WHEN calling findAllWithRelationshipIds,"
+        + " THEN the basic fields and the book IDs should be returned"
+        + " AND no entity should be loaded")
+    final void testFindAllWithRelationshipIds() {
+
+        // GIVEN
+        final AuthorForIT author = entityManager
+            .createQuery("SELECT e FROM AuthorForIT e WHERE e.name = :name",
+                AuthorForIT.class)
+            .setParameter("name", "Author 0")
+            .getSingleResult();
+        final BookForIT book1 = new BookForIT(null, "Book 1", author);
+        final BookForIT book2 = new BookForIT(null, "Book 2", author);
+        entityManager.persist(book1);
+        entityManager.persist(book2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // WHEN
+        final Page<Map<String, Object>> result
+            = repository.findAllWithRelationshipIds(null,
+                PageRequest.of(0, AUTHOR_COUNT, Sort.by("name")),
+                AuthorForIT.class);
+
+        // THEN
+        assertThat(result.getTotalElements()).isEqualTo(AUTHOR_COUNT);
+        assertThat(result.getContent().get(0))
+            .containsEntry(FieldSet.ID_FIELD, author.getId())
+            .containsEntry("name", "Author 0")
+            .containsEntry("booksId", Set.of(book1.getId(), book2.getId()));
+        assertThat(result.getContent().get(1))
+            .containsEntry("booksId", Set.of());
+        assertThat(entityManager.unwrap(Session.class)
+            .getStatistics()
+            .getEntityCount()).isZero();
+    }
+}
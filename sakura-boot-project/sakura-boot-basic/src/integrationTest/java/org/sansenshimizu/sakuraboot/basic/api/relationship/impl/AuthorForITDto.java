@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import java.io.Serial;
+import java.util.Comparator;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+
+/**
+ * The DTO of {@link AuthorForIT} use for the integration tests, with the
+ * books represented by their IDs.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AuthorForITDto implements DataPresentation<Long> {
+
+    @Serial
+    private static final long serialVersionUID = -2846209417753153781L;
+
+    /**
+     * The ID of the author.
+     */
+    @Nullable
+    private Long id;
+
+    /**
+     * The name of the author.
+     */
+    @Nullable
+    private String name;
+
+    /**
+     * The books of the author, not mapped.
+     */
+    @Nullable
+    private Set<Object> books;
+
+    /**
+     * The IDs of the books of the author.
+     */
+    @Nullable
+    private Set<Long> booksId;
+
+    @Override
+    public int compareTo(final DataPresentation<Long> other) {
+
+        return Comparator.nullsFirst(Comparator.<Long>naturalOrder())
+            .compare(id, other.getId());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.mapper.api.AbstractBasicMapperForRelationship;
+
+/**
+ * The mapper of {@link AuthorForIT} use for the integration tests, mapping
+ * the books by their IDs.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+public class AuthorMapperForIT
+    extends AbstractBasicMapperForRelationship<AuthorForIT, AuthorForITDto> {
+
+    @Override
+    @Nullable
+    public AuthorForIT toEntity(@Nullable final AuthorForITDto dto) {
+
+        throw new UnsupportedOperationException("Not used in the tests");
+    }
+
+    @Override
+    @Nullable
+    public AuthorForITDto toDto(@Nullable final AuthorForIT entity) {
+
+        if (entity == null) {
+
+            return null;
+        }
+        final AuthorForITDto dto
+            = new AuthorForITDto(entity.getId(), entity.getName(), null, null);
+        afterMappingEntityToDto(entity, dto);
+        return dto;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import org.sansenshimizu.sakuraboot.basic.test.SqlRecorder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The integration test class for the hydration strategies of
+ * {@link FetchRelationshipRepositoryImpl} on H2. The page of IDs followed by
+ * the fetch of the entities is compared with the single query hydration, for
+ * the result, the number of round trips and the time.
+ *
+ * @author Malcolm Rozé
+ * @see    FetchRelationshipRepositoryImpl
+ * @since  0.2.0
+ */
+@DataJpaTest
+@Slf4j
+class FetchRelationshipHydrationIT {
+
+    /**
+     * The number of authors.
+     */
+    private static final int AUTHOR_COUNT = 200;
+
+    /**
+     * The number of different author names.
+     */
+    private static final int NAME_COUNT = 10;
+
+    /**
+     * The number of books of each author.
+     */
+    private static final int BOOK_COUNT = 3;
+
+    /**
+     * The size of the pages.
+     */
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * The number of iterations of the benchmark.
+     */
+    private static final int ITERATIONS = 200;
+
+    /**
+     * The number of nanoseconds in a microsecond.
+     */
+    private static final long NANOS_PER_MICRO = 1000L;
+
+    /**
+     * The {@link EntityManager} use for testing.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * The {@link SqlRecorder} use to count the round trips.
+     */
+    private final SqlRecorder sqlRecorder;
+
+    /**
+     * The {@link FetchRelationshipRepositoryImpl} to test.
+     */
+    private final FetchRelationshipRepositoryImpl<AuthorForIT,
+        Long> repository = new FetchRelationshipRepositoryImpl<>();
+
+    @Autowired
+    FetchRelationshipHydrationIT(
+        final EntityManager entityManager, final SqlRecorder sqlRecorder) {
+
+        this.entityManager = entityManager;
+        this.sqlRecorder = sqlRecorder;
+        repository.entityManager = entityManager;
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+
+            final AuthorForIT author
+                = new AuthorForIT(null, "Author " + i % NAME_COUNT, null);
+            entityManager.persist(author);
+
+            for (int j = 0; j < BOOK_COUNT; j++) {
+
+                entityManager.persist(new BookForIT(null, "Book " + j, author));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("GIVEN a sorted page,"
+        + " WHEN retrieving the page with each hydration strategy,"
+        + " THEN the entities should be the same and in the same order"
+        + " AND the single query hydration should use one round trip")
+    final void testSameResultWithFewerRoundTrips() {
+
+        // GIVEN
+        final Pageable pageable = PageRequest.of(2, PAGE_SIZE,
+            Sort.by(Sort.Order.desc("name")));
+
+        // WHEN
+        sqlRecorder.clear();
+        final List<AuthorForIT> idList = findPageWithIdList(pageable);
+        final int idListRoundTrips = sqlRecorder.getSelects().size();
+        entityManager.clear();
+        sqlRecorder.clear();
+        final List<AuthorForIT> singleQuery = repository
+            .findPageEagerRelationship(pageable, AuthorForIT.class)
+            .getContent();
+        final int singleQueryRoundTrips = sqlRecorder.getSelects().size();
+
+        // THEN
+        assertThat(singleQuery).extracting(AuthorForIT::getId)
+            .containsExactlyElementsOf(
+                idList.stream().map(AuthorForIT::getId).toList());
+        assertThat(singleQuery).allSatisfy(author -> assertThat(
+            entityManager.getEntityManagerFactory()
+                .getPersistenceUnitUtil()
+                .isLoaded(author, "books"))
+            .isTrue());
+        assertThat(idListRoundTrips).isEqualTo(2);
+        assertThat(singleQueryRoundTrips).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN an entity configured for the single query hydration,"
+        + " WHEN calling isSingleQueryHydration with each sort,"
+        + " THEN only a sort on basic attributes should use the single query")
+    final void testSingleQueryHydrationWithNestedSort() {
+
+        // GIVEN
+        final FetchRelationshipRepositoryImpl<BookForIT,
+            Long> bookRepository = new FetchRelationshipRepositoryImpl<>();
+        bookRepository.entityManager = entityManager;
+        ReflectionTestUtils.setField(bookRepository, "singleQueryEntities",
+            Set.of("BookForIT"));
+
+        // WHEN
+        final boolean basicSort = bookRepository.isSingleQueryHydration(
+            PageRequest.of(0, PAGE_SIZE, Sort.by("title")), BookForIT.class);
+        final boolean nestedSort = bookRepository.isSingleQueryHydration(
+            PageRequest.of(0, PAGE_SIZE, Sort.by("author.name")),
+            BookForIT.class);
+        final boolean relationshipSort = bookRepository.isSingleQueryHydration(
+            PageRequest.of(0, PAGE_SIZE, Sort.by("author")), BookForIT.class);
+
+        // THEN
+        assertThat(basicSort).isTrue();
+        assertThat(nestedSort).isFalse();
+        assertThat(relationshipSort).isFalse();
+    }
+
+    @Test
+    @DisplayName("GIVEN the two hydration strategies,"
+        + " WHEN retrieving all the pages several times,"
+        + " THEN the average time of each strategy should be measured")
+    final void testBenchmark() {
+
+        // GIVEN
+        final Set<Long> idListIds = new HashSet<>();
+        final Set<Long> singleQueryIds = new HashSet<>();
+        measure(() -> findAllPages(this::findPageWithIdList, idListIds));
+        measure(() -> findAllPages(pageable -> repository
+            .findPageEagerRelationship(pageable, AuthorForIT.class)
+            .getContent(), singleQueryIds));
+
+        // WHEN
+        final long idListTime = measure(
+            () -> findAllPages(this::findPageWithIdList, idListIds));
+        final long singleQueryTime = measure(() -> findAllPages(
+            pageable -> repository
+                .findPageEagerRelationship(pageable, AuthorForIT.class)
+                .getContent(),
+            singleQueryIds));
+        log.atInfo()
+            .log("Hydration of {} pages: ID list {} µs, single query {} µs.",
+                AUTHOR_COUNT / PAGE_SIZE, idListTime / NANOS_PER_MICRO,
+                singleQueryTime / NANOS_PER_MICRO);
+
+        // THEN
+        assertThat(idListIds).hasSize(AUTHOR_COUNT);
+        assertThat(singleQueryIds).isEqualTo(idListIds);
+        assertThat(idListTime).isPositive();
+        assertThat(singleQueryTime).isPositive();
+    }
+
+    private List<AuthorForIT> findPageWithIdList(final Pageable pageable) {
+
+        final List<Long> ids = entityManager
+            .createQuery("SELECT e.id FROM AuthorForIT e"
+                + " ORDER BY e.name DESC, e.id ASC", Long.class)
+            .setFirstResult(Math.toIntExact(pageable.getOffset()))
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+        return repository.findAllEagerRelationship(ids, AuthorForIT.class);
+    }
+
+    private void findAllPages(
+        final Function<Pageable, List<AuthorForIT>> findPage,
+        final Set<Long> ids) {
+
+        for (int page = 0; page < AUTHOR_COUNT / PAGE_SIZE; page++) {
+
+            findPage.apply(PageRequest.of(page, PAGE_SIZE,
+                Sort.by(Sort.Order.desc("name"))))
+                .forEach(author -> ids.add(author.getId()));
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Run the action {@link #ITERATIONS} times and get the average time.
+     *
+     * @param  action The action to measure.
+     * @return        The average time of the action in nanoseconds.
+     */
+    private static long measure(final Runnable action) {
+
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+
+            action.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+import org.sansenshimizu.sakuraboot.include.Includes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The integration test class for the includes of
+ * {@link FetchRelationshipRepositoryImpl} on H2.
+ *
+ * @author Malcolm Rozé
+ * @see    FetchRelationshipRepositoryImpl
+ * @since  0.2.0
+ */
+@DataJpaTest
+@ContextConfiguration(classes = RelationshipITConfig.class)
+class FetchRelationshipIncludesIT {
+
+    /**
+     * The {@link EntityManager} use for testing.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * The {@link FetchRelationshipRepositoryImpl} to test.
+     */
+    private final FetchRelationshipRepositoryImpl<AuthorForIT,
+        Long> repository = new FetchRelationshipRepositoryImpl<>();
+
+    /**
+     * The ID of the author use in test.
+     */
+    private Long authorId;
+
+    @Autowired
+    FetchRelationshipIncludesIT(final EntityManager entityManager) {
+
+        this.entityManager = entityManager;
+        repository.entityManager = entityManager;
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        final AuthorForIT author = new AuthorForIT(null, "Author", null);
+        entityManager.persist(author);
+        entityManager.persist(new BookForIT(null, "Book", author));
+        entityManager.flush();
+        entityManager.clear();
+        authorId = author.getId();
+    }
+
+    @Test
+    @DisplayName("GIVEN an include of a relationship,"
+        + " WHEN calling findAllEagerRelationship,"
+        + " THEN the relationship should be fetched")
+    final void testFindAllWithIncludes() {
+
+        // WHEN
+        final List<AuthorForIT> result = repository.findAllEagerRelationship(
+            List.of(authorId), AuthorForIT.class, Includes.of("books"));
+
+        // THEN
+        assertThat(result).hasSize(1);
+        assertThat(Hibernate.isInitialized(result.get(0).getBooks())).isTrue();
+    }
+
+    @Test
+    @DisplayName("GIVEN an include that isn't a relationship of the entity,"
+        + " WHEN calling findByIdEagerRelationship,"
+        + " THEN a bad request exception should be thrown")
+    final void testFindByIdWithUnknownIncludes() {
+
+        // GIVEN
+        final List<Includes> unknownIncludes = List.of(Includes.of("unknown"),
+            Includes.of("name"), Includes.of("books.unknown"),
+            Includes.of("books.author"));
+
+        // THEN
+        for (final Includes includes: unknownIncludes) {
+
+            assertThatThrownBy(() -> repository
+                .findByIdEagerRelationship(authorId, AuthorForIT.class,
+                    includes))
+                .isInstanceOf(BadRequestException.class);
+        }
+    }
+}
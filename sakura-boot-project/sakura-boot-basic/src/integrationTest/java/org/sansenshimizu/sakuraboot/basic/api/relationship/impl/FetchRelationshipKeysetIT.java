@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ContextConfiguration;
+
+import org.sansenshimizu.sakuraboot.keyset.KeysetSlice;
+import org.sansenshimizu.sakuraboot.keyset.KeysetToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The integration test class for the keyset pagination of
+ * {@link FetchRelationshipRepositoryImpl} on H2.
+ *
+ * @author Malcolm Rozé
+ * @see    FetchRelationshipRepositoryImpl
+ * @since  0.2.0
+ */
+@DataJpaTest
+@ContextConfiguration(classes = RelationshipITConfig.class)
+class FetchRelationshipKeysetIT {
+
+    /**
+     * The number of authors.
+     */
+    private static final int AUTHOR_COUNT = 7;
+
+    /**
+     * The number of different author names.
+     */
+    private static final int NAME_COUNT = 3;
+
+    /**
+     * The size of the slices.
+     */
+    private static final int SLICE_SIZE = 2;
+
+    /**
+     * The {@link EntityManager} use for testing.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * The {@link FetchRelationshipRepositoryImpl} to test.
+     */
+    private final FetchRelationshipRepositoryImpl<AuthorForIT,
+        Long> repository = new FetchRelationshipRepositoryImpl<>();
+
+    @Autowired
+    FetchRelationshipKeysetIT(final EntityManager entityManager) {
+
+        this.entityManager = entityManager;
+        repository.entityManager = entityManager;
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+
+            entityManager.persist(
+                new AuthorForIT(null, "Author " + i % NAME_COUNT, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("GIVEN a sort on a property with duplicate values,"
+        + " WHEN calling findKeysetIds with each next cursor,"
+        + " THEN every ID should be returned once in the order of the sort"
+        + " AND no entity should be loaded")
+    final void testFindKeysetIdsAllSlices() {
+
+        // GIVEN
+        final Sort sort = Sort.by(Sort.Order.desc("name"));
+        final Pageable pageable = PageRequest.of(0, SLICE_SIZE, sort);
+        final Specification<AuthorForIT> specification
+            = (root, query, builder) -> builder.like(root.get("name"), "A%");
+        final List<Long> expectedIds = entityManager
+            .createQuery("SELECT e.id FROM AuthorForIT e"
+                + " ORDER BY e.name DESC, e.id ASC", Long.class)
+            .getResultList();
+        final List<Long> ids = new ArrayList<>();
+        int slices = 0;
+
+        // WHEN
+        KeysetSlice<Long> slice = repository.findKeysetIds(specification,
+            pageable, KeysetToken.decode(null, AuthorForIT.class, sort),
+            AuthorForIT.class);
+        ids.addAll(slice.getContent());
+        slices++;
+
+        while (slice.getNextCursor() != null) {
+
+            slice = repository.findKeysetIds(specification, pageable,
+                KeysetToken.decode(slice.getNextCursor(), AuthorForIT.class,
+                    sort),
+                AuthorForIT.class);
+            ids.addAll(slice.getContent());
+            slices++;
+        }
+
+        // THEN
+        assertThat(ids).containsExactlyElementsOf(expectedIds);
+        assertThat(slices).isEqualTo((AUTHOR_COUNT + 1) / SLICE_SIZE);
+        assertThat(entityManager.unwrap(Session.class)
+            .getStatistics()
+            .getEntityCount()).isZero();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.test.context.ContextConfiguration;
+
+import org.sansenshimizu.sakuraboot.count.CountMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The integration test class for {@link CountMode#findSlice} on H2.
+ *
+ * @author Malcolm Rozé
+ * @see    CountMode
+ * @since  0.2.0
+ */
+@DataJpaTest
+@ContextConfiguration(classes = RelationshipITConfig.class)
+class FindSliceIT {
+
+    /**
+     * The number of authors.
+     */
+    private static final int AUTHOR_COUNT = 5;
+
+    /**
+     * The {@link EntityManager} use for testing.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * The repository used to run the fluent query.
+     */
+    private final SimpleJpaRepository<AuthorForIT, Long> repository;
+
+    @Autowired
+    FindSliceIT(final EntityManager entityManager) {
+
+        this.entityManager = entityManager;
+        repository
+            = new SimpleJpaRepository<>(AuthorForIT.class, entityManager);
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+
+            entityManager.persist(new AuthorForIT(null, "Author " + i, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("GIVEN sorted pages of size 2,"
+        + " WHEN calling findSlice for each page,"
+        + " THEN every element should be returned once in order"
+        + " AND only the last slice shouldn't have a next slice")
+    final void testFindSliceAllPages() {
+
+        // GIVEN
+        final Specification<AuthorForIT> specification
+            = (root, query, builder) -> builder.conjunction();
+        final Pageable page0 = PageRequest.of(0, 2, Sort.by("name"));
+        final Pageable page1 = page0.next();
+        final Pageable page2 = page1.next();
+
+        // WHEN
+        final Slice<AuthorForIT> result0 = repository.findBy(specification,
+            query -> CountMode.findSlice(query, page0));
+        final Slice<AuthorForIT> result1 = repository.findBy(specification,
+            query -> CountMode.findSlice(query, page1));
+        final Slice<AuthorForIT> result2 = repository.findBy(specification,
+            query -> CountMode.findSlice(query, page2));
+
+        // THEN
+        assertThat(result0.getContent()).extracting(AuthorForIT::getName)
+            .containsExactly("Author 0", "Author 1");
+        assertThat(result0.hasNext()).isTrue();
+        assertThat(result1.getContent()).extracting(AuthorForIT::getName)
+            .containsExactly("Author 2", "Author 3");
+        assertThat(result1.hasNext()).isTrue();
+        assertThat(result2.getContent()).extracting(AuthorForIT::getName)
+            .containsExactly("Author 4");
+        assertThat(result2.hasNext()).isFalse();
+    }
+}
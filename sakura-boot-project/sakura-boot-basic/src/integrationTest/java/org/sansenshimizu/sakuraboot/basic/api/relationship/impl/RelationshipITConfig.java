@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+import org.sansenshimizu.sakuraboot.basic.test.SqlRecorder;
+
+/**
+ * The configuration of the relationship repository integration tests.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class RelationshipITConfig {
+
+    /**
+     * The recorder of the SQL statements.
+     *
+     * @return The {@link SqlRecorder}.
+     */
+    @Bean
+    public SqlRecorder sqlRecorder() {
+
+        return new SqlRecorder();
+    }
+
+    /**
+     * Register the {@link SqlRecorder} as the statement inspector of
+     * Hibernate.
+     *
+     * @param  sqlRecorder The {@link SqlRecorder}.
+     * @return             The {@link HibernatePropertiesCustomizer}.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlRecorderCustomizer(
+        final SqlRecorder sqlRecorder) {
+
+        return properties -> properties
+            .put(AvailableSettings.STATEMENT_INSPECTOR, sqlRecorder);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import org.sansenshimizu.sakuraboot.basic.test.SqlRecorder;
+import org.sansenshimizu.sakuraboot.configuration.GlobalSpecification;
+import org.sansenshimizu.sakuraboot.mapper.api.AbstractBasicMapperForRelationship;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The integration test class for the mapping of a list of entities by
+ * {@link AbstractBasicMapperForRelationship} on H2. The statements sent to
+ * load the IDs of the to-many relationships are counted.
+ *
+ * @author Malcolm Rozé
+ * @see    AbstractBasicMapperForRelationship
+ * @since  0.2.0
+ */
+@DataJpaTest
+class RelationshipMapperIT {
+
+    /**
+     * The number of authors.
+     */
+    private static final int AUTHOR_COUNT = 3;
+
+    /**
+     * The number of books of each author.
+     */
+    private static final int BOOK_COUNT = 2;
+
+    /**
+     * The package of the entities and the DTOs.
+     */
+    private static final String PACKAGE = "impl";
+
+    /**
+     * The {@link EntityManager} use for testing.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * The {@link SqlRecorder} use to count the statements.
+     */
+    private final SqlRecorder sqlRecorder;
+
+    /**
+     * The {@link AuthorMapperForIT} to test.
+     */
+    private final AuthorMapperForIT mapper = new AuthorMapperForIT();
+
+    @Autowired
+    RelationshipMapperIT(
+        final EntityManager entityManager, final SqlRecorder sqlRecorder) {
+
+        this.entityManager = entityManager;
+        this.sqlRecorder = sqlRecorder;
+        mapper.setEntityManager(entityManager);
+        mapper.setGlobalSpecification(new GlobalSpecification(PACKAGE,
+            PACKAGE, PACKAGE, PACKAGE, PACKAGE));
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+
+            final AuthorForIT author
+                = new AuthorForIT(null, "Author " + i, null);
+            entityManager.persist(author);
+
+            for (int j = 0; j < BOOK_COUNT; j++) {
+
+                entityManager.persist(new BookForIT(null, "Book " + j, author));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("GIVEN authors with their books fetched,"
+        + " WHEN mapping the list to DTOs,"
+        + " THEN no statement should be sent")
+    final void testToDtoListWithFetchedCollections() {
+
+        // GIVEN
+        final List<AuthorForIT> authors = entityManager.createQuery(
+            "select distinct a from AuthorForIT a left join fetch a.books",
+            AuthorForIT.class).getResultList();
+        sqlRecorder.clear();
+
+        // WHEN
+        final List<AuthorForITDto> result = mapper.toDtoList(authors);
+
+        // THEN
+        assertThat(sqlRecorder.getSelects()).isEmpty();
+        assertThat(result).hasSize(AUTHOR_COUNT)
+            .allSatisfy(dto -> assertThat(dto.getBooksId())
+                .hasSize(BOOK_COUNT));
+    }
+
+    @Test
+    @DisplayName("GIVEN authors with their books not fetched,"
+        + " WHEN mapping the list to DTOs,"
+        + " THEN the IDs of the books should be loaded with one statement")
+    final void testToDtoListWithLazyCollections() {
+
+        // GIVEN
+        final List<AuthorForIT> authors = entityManager
+            .createQuery("select a from AuthorForIT a", AuthorForIT.class)
+            .getResultList();
+        sqlRecorder.clear();
+
+        // WHEN
+        final List<AuthorForITDto> result = mapper.toDtoList(authors);
+
+        // THEN
+        assertThat(sqlRecorder.getSelects()).hasSize(1);
+        assertThat(result).hasSize(AUTHOR_COUNT)
+            .allSatisfy(dto -> assertThat(dto.getBooksId())
+                .hasSize(BOOK_COUNT));
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.basic.aop;
+
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.aop.AspectUtil;
+import org.sansenshimizu.sakuraboot.basic.api.business.services.FindAllService;
+import org.sansenshimizu.sakuraboot.basic.api.business.services.FindByIdService;
+import org.sansenshimizu.sakuraboot.basic.api.projection.ProjectionRepository;
+import org.sansenshimizu.sakuraboot.basic.api.projection.annotations.FindAllWithProjection;
+import org.sansenshimizu.sakuraboot.basic.api.projection.annotations.FindByIdWithProjection;
+import org.sansenshimizu.sakuraboot.exceptions.NotFoundException;
+import org.sansenshimizu.sakuraboot.mapper.api.Mappable;
+
+/**
+ * The aspect class for the projection read mode in service class.
+ * Build the DTO straight from a projection query in find calls, when the
+ * service is a {@link Mappable} with {@link Mappable#isProjectionRead()} and
+ * the repository is a {@link ProjectionRepository}. No managed entity is
+ * created and the relationships are only mapped to their IDs.
+ * The DTO returned is left as is by the mapping aspect.
+ * <p>
+ * The DTO is created from the attributes by a dedicated {@link ObjectMapper},
+ * so the configuration of the web {@link ObjectMapper} (e.g., the naming
+ * strategy) doesn't apply. The attributes are matched by the names of the
+ * fields of the DTO: a DTO that renames its properties (e.g., with
+ * {@code @JsonProperty}) isn't supported by the projection read mode.
+ * </p>
+ *
+ * @param  <D> The {@link DataPresentation} type.
+ * @param  <I> The ID of type Comparable and Serializable.
+ * @author     Malcolm Rozé
+ * @since      0.2.0
+ */
+@Order(AspectUtil.PROJECTION_READ_ORDER)
+@Aspect
+@Component
+@Slf4j
+public final class ProjectionReadAspect<D extends DataPresentation<I>,
+    I extends Comparable<? super I> & Serializable> implements AspectUtil {
+
+    /**
+     * The {@link ObjectMapper} use to create the DTO from the attributes,
+     * independent of the web one.
+     */
+    private final ObjectMapper objectMapper
+        = JsonMapper.builder().findAndAddModules().build();
+
+    /**
+     * The names of the fields of the DTO, by DTO class.
+     */
+    private final ClassValue<Set<String>> dtoFieldNames = new ClassValue<>() {
+
+        @Override
+        protected Set<String> computeValue(final Class<?> dtoClass) {
+
+            final Set<String> names = new HashSet<>();
+            ReflectionUtils.doWithFields(dtoClass,
+                field -> names.add(field.getName()),
+                field -> !Modifier.isStatic(field.getModifiers()));
+            return Set.copyOf(names);
+        }
+    };
+
+    /**
+     * Aspect method that handles the projection read mode in a findAll call.
+     * This aspect method is call for method annotated with
+     * {@link FindAllWithProjection}.
+     *
+     * @param  joinPoint  The method that will be handled.
+     * @param  arg        The argument of type {@link Pageable}
+     * @param  target     The target of type {@link FindAllService}.
+     * @param  annotation The annotation of type {@link FindAllWithProjection}.
+     * @return            The result of the join point.
+     * @throws Throwable  If an error occurs during the join point.
+     */
+    @Around(ALL_EXECUTION_POINTCUT
+        + FIRST_ARG_POINTCUT
+        + TARGET_POINTCUT
+        + ANNOTATION_POINTCUT)
+    public Object findAllWithProjection(
+        final ProceedingJoinPoint joinPoint, final Pageable arg,
+        final FindAllService<D, I> target,
+        final FindAllWithProjection annotation)
+        throws Throwable {
+
+        methodCallLog(log, joinPoint, target, annotation);
+        final Object result;
+
+        if (target instanceof final Mappable<?, ?> mappable
+            && mappable.isProjectionRead()
+            && target.getRepository() instanceof ProjectionRepository) {
+
+            final Class<?> dtoClass = mappable.getDtoClass();
+            result = ProjectionRepository
+                .of(target.getRepository(), target.getEntityClass())
+                .findAllWithRelationshipIds(null, arg, target.getEntityClass())
+                .map(row -> toDto(row, dtoClass));
+            log.atInfo().log("find all using the projection read mode.");
+        } else {
+
+            result = joinPoint.proceed();
+        }
+
+        methodEndLog(log, joinPoint, target, annotation);
+        return result;
+    }
+
+    /**
+     * Aspect method that handles the projection read mode in a findById call.
+     * This aspect method is call for method annotated with
+     * {@link FindByIdWithProjection}.
+     *
+     * @param  joinPoint  The method that will be handled.
+     * @param  arg        The id.
+     * @param  target     The target of type {@link FindByIdService}.
+     * @param  annotation The annotation of type {@link FindByIdWithProjection}.
+     * @return            The result of the join point.
+     * @throws Throwable  If an error occurs during the join point.
+     */
+    @Around(ALL_EXECUTION_POINTCUT
+        + FIRST_ARG_POINTCUT
+        + TARGET_POINTCUT
+        + ANNOTATION_POINTCUT)
+    public Object findByIdWithProjection(
+        final ProceedingJoinPoint joinPoint, final I arg,
+        final FindByIdService<D, I> target,
+        final FindByIdWithProjection annotation)
+        throws Throwable {
+
+        methodCallLog(log, joinPoint, target, annotation);
+        final Object result;
+
+        if (target instanceof final Mappable<?, ?> mappable
+            && mappable.isProjectionRead()
+            && target.getRepository() instanceof ProjectionRepository) {
+
+            final Class<?> dtoClass = mappable.getDtoClass();
+            final Class<D> entityClass = target.getEntityClass();
+            result = ProjectionRepository
+                .of(target.getRepository(), entityClass)
+                .findByIdWithRelationshipIds(arg, entityClass)
+                .map(row -> toDto(row, dtoClass))
+                .orElseThrow(() -> new NotFoundException(entityClass, arg));
+            log.atInfo().log("find by ID using the projection read mode.");
+        } else {
+
+            result = joinPoint.proceed();
+        }
+
+        methodEndLog(log, joinPoint, target, annotation);
+        return result;
+    }
+
+    /**
+     * Create the DTO from the attributes of the entity, the attributes
+     * without a field in the DTO are ignored.
+     *
+     * @param  row      The attributes by name.
+     * @param  dtoClass The class of the DTO.
+     * @return          The DTO.
+     */
+    private Object toDto(
+        final Map<String, Object> row, final Class<?> dtoClass) {
+
+        final Set<String> fieldNames = dtoFieldNames.get(dtoClass);
+        final Map<String, Object> properties = HashMap.newHashMap(row.size());
+        row.forEach((final String name, final Object value) -> {
+
+            if (value != null && fieldNames.contains(name)) {
+
+                properties.put(name, value);
+            }
+        });
+        return objectMapper.convertValue(properties, dtoClass);
+    }
+}
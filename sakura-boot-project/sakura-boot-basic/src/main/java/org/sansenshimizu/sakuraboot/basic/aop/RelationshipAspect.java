@@ -20,6 +20,8 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
@@ -28,9 +30,12 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
@@ -44,7 +49,12 @@ import org.sansenshimizu.sakuraboot.basic.api.relationship.FetchRelationshipRepo
 import org.sansenshimizu.sakuraboot.basic.api.relationship.annotations.FindAllWithRelationship;
 import org.sansenshimizu.sakuraboot.basic.api.relationship.annotations.FindByIdWithRelationship;
 import org.sansenshimizu.sakuraboot.basic.api.relationship.annotations.Relationshipable;
+import org.sansenshimizu.sakuraboot.count.CountCache;
+import org.sansenshimizu.sakuraboot.count.CountMode;
 import org.sansenshimizu.sakuraboot.exceptions.NotFoundException;
+import org.sansenshimizu.sakuraboot.include.Includes;
+import org.sansenshimizu.sakuraboot.keyset.KeysetSlice;
+import org.sansenshimizu.sakuraboot.keyset.KeysetToken;
 import org.sansenshimizu.sakuraboot.log.aop.LogAspect;
 import org.sansenshimizu.sakuraboot.log.api.Loggable;
 import org.sansenshimizu.sakuraboot.log.api.annotations.AfterLogging;
@@ -74,9 +84,31 @@ public final class RelationshipAspect<D extends DataPresentation<I>,
         = " && @target(org.sansenshimizu.sakuraboot.basic.api.relationship"
             + ".annotations.Relationshipable)";
 
+    /**
+     * The cache of the counts for {@link CountMode#CACHED}.
+     */
+    private final CountCache countCache;
+
+    /**
+     * Create the aspect.
+     *
+     * @param countCache The cache of the counts for {@link CountMode#CACHED}.
+     */
+    public RelationshipAspect(final CountCache countCache) {
+
+        this.countCache = countCache;
+    }
+
     /**
      * Aspect method that handles the relationships in a findAll call.
      * Perform a join fetch if needed.
+     * For a keyset pagination, the slice is retrieved first and then the
+     * relationships of the entities of the slice are fetched.
+     * The IDs are counted depending on the {@link CountMode} argument if
+     * any, and the relationships are restricted to the {@link Includes}
+     * argument if any.
+     * When the repository retrieve the entity in a single query, the page is
+     * retrieved with the relationships without the page of IDs.
      * This aspect method is call for method annotated with
      * {@link FindAllWithRelationship}.
      *
@@ -116,14 +148,43 @@ public final class RelationshipAspect<D extends DataPresentation<I>,
                 LogAspect.beforeLogging(joinPoint, beforeLogging);
             }
 
-            final Page<I> ids = repository.findAllIds(arg);
             @SuppressWarnings("unchecked")
-            final List<D> listResult
-                = ((FetchRelationshipRepository<D, I>) fetchRepository)
-                    .findAllEagerRelationship(ids.getContent(),
-                        target.getEntityClass());
-
-            result = new PageImpl<>(listResult, arg, ids.getTotalElements());
+            final FetchRelationshipRepository<D, I> eagerRepository
+                = (FetchRelationshipRepository<D, I>) fetchRepository;
+            final Class<D> entityClass = target.getEntityClass();
+
+            if (isKeyset(joinPoint)) {
+
+                final KeysetScrollPosition position = KeysetToken
+                    .decode(getCursor(joinPoint), entityClass, arg.getSort());
+                result = toEagerKeysetSlice(eagerRepository.findKeysetIds(null,
+                    arg, position, entityClass), eagerRepository, entityClass);
+            } else if (arg.isPaged() && getIncludes(joinPoint).isAll()
+                && eagerRepository.isSingleQueryHydration(arg,
+                    entityClass)) {
+
+                result = getCountMode(joinPoint).withCount(
+                    eagerRepository.findPageEagerRelationship(arg, entityClass),
+                    countCache, entityClass, null, repository::count);
+            } else {
+
+                final CountMode countMode = getCountMode(joinPoint);
+                final Slice<I> ids;
+
+                if (countMode == CountMode.EXACT || arg.isUnpaged()) {
+
+                    ids = repository.findAllIds(arg);
+                } else {
+
+                    ids = countMode.withCount(
+                        repository.findAllIdsWithoutCount(arg), countCache,
+                        entityClass, null, repository::count);
+                }
+                final List<D> listResult = findAllEagerRelationship(
+                    eagerRepository, ids.getContent(), entityClass,
+                    getIncludes(joinPoint));
+                result = withContent(ids, listResult);
+            }
             log.atInfo().log("find all using eager fetching for relationship.");
 
             if (isLoggable(target, loggingAnnotation)) {
@@ -144,6 +205,8 @@ public final class RelationshipAspect<D extends DataPresentation<I>,
     /**
      * Aspect method that handles the relationships in a findById call.
      * Perform a join fetch if needed.
+     * The relationships are restricted to the {@link Includes} argument if
+     * any.
      * This aspect method is call for method annotated with
      * {@link FindByIdWithRelationship}.
      *
@@ -185,10 +248,21 @@ public final class RelationshipAspect<D extends DataPresentation<I>,
             @SuppressWarnings("unchecked")
             final FetchRelationshipRepository<D, I> fetchRepository
                 = (FetchRelationshipRepository<D, I>) repository;
-            result = fetchRepository
-                .findByIdEagerRelationship(arg, target.getEntityClass())
-                .orElseThrow(
-                    () -> new NotFoundException(target.getEntityClass(), arg));
+            final Class<D> entityClass = target.getEntityClass();
+            final Includes includes = getIncludes(joinPoint);
+            final Optional<D> entity;
+
+            if (includes.isAll()) {
+
+                entity = fetchRepository.findByIdEagerRelationship(arg,
+                    entityClass);
+            } else {
+
+                entity = fetchRepository.findByIdEagerRelationship(arg,
+                    entityClass, includes);
+            }
+            result = entity
+                .orElseThrow(() -> new NotFoundException(entityClass, arg));
 
             log.atInfo()
                 .log("find by ID using eager fetching for relationship.");
@@ -229,6 +303,161 @@ public final class RelationshipAspect<D extends DataPresentation<I>,
                 || loggingAnnotation.activateLogging());
     }
 
+    /**
+     * Check if the join point is a keyset pagination call, meaning that the
+     * method return a {@link KeysetSlice}.
+     *
+     * @param  joinPoint The join point.
+     * @return           {@code true} if the method use a keyset pagination,
+     *                   {@code false} otherwise.
+     */
+    public static boolean isKeyset(final JoinPoint joinPoint) {
+
+        final MethodSignature signature
+            = (MethodSignature) joinPoint.getSignature();
+        return KeysetSlice.class
+            .isAssignableFrom(signature.getMethod().getReturnType());
+    }
+
+    /**
+     * Get the count mode of a paginated call, the count mode is the last
+     * argument of the method if it is of type {@link CountMode}.
+     *
+     * @param  joinPoint The join point.
+     * @return           The count mode, {@link CountMode#EXACT} if there is
+     *                   none.
+     */
+    public static CountMode getCountMode(final JoinPoint joinPoint) {
+
+        final MethodSignature signature
+            = (MethodSignature) joinPoint.getSignature();
+        final Class<?>[] parameterTypes
+            = signature.getMethod().getParameterTypes();
+        final int last = parameterTypes.length - 1;
+
+        if (last >= 0 && parameterTypes[last] == CountMode.class) {
+
+            return Objects.requireNonNullElse(
+                (CountMode) joinPoint.getArgs()[last], CountMode.EXACT);
+        }
+        return CountMode.EXACT;
+    }
+
+    /**
+     * Get the relationships to include of a find call, the includes are the
+     * last argument of the method.
+     *
+     * @param  joinPoint The join point.
+     * @return           The includes, {@link Includes#ALL} if there is none.
+     */
+    public static Includes getIncludes(final JoinPoint joinPoint) {
+
+        final MethodSignature signature
+            = (MethodSignature) joinPoint.getSignature();
+        final Class<?>[] parameterTypes
+            = signature.getMethod().getParameterTypes();
+        final int last = parameterTypes.length - 1;
+
+        if (last >= 0 && parameterTypes[last] == Includes.class) {
+
+            return Objects.requireNonNullElse(
+                (Includes) joinPoint.getArgs()[last], Includes.ALL);
+        }
+        return Includes.ALL;
+    }
+
+    /**
+     * Find the entities with their relationships, restricted to the included
+     * relationships if the includes aren't {@link Includes#ALL}.
+     *
+     * @param  repository  The repository use to fetch the relationships.
+     * @param  ids         The IDs of the entities.
+     * @param  entityClass The type of the entity.
+     * @param  includes    The relationships to fetch.
+     * @param  <D>         The {@link DataPresentation} type.
+     * @param  <I>         The ID of type Comparable and Serializable.
+     * @return             The entities with the relationships fetched.
+     */
+    public static <
+        D extends DataPresentation<I>,
+        I extends Comparable<? super I> & Serializable> List<
+            D> findAllEagerRelationship(
+                final FetchRelationshipRepository<D, I> repository,
+                final List<I> ids, final Class<D> entityClass,
+                final Includes includes) {
+
+        if (includes.isAll()) {
+
+            return repository.findAllEagerRelationship(ids, entityClass);
+        }
+        return repository.findAllEagerRelationship(ids, entityClass, includes);
+    }
+
+    /**
+     * Create a slice of the same kind as the given slice with a new content.
+     * The result is a page with the same total if the slice is a page.
+     *
+     * @param  <T>     The type of the new content.
+     * @param  slice   The slice to copy.
+     * @param  content The new content.
+     * @return         The new slice.
+     */
+    public static <T> Slice<T> withContent(
+        final Slice<?> slice, final List<T> content) {
+
+        if (slice instanceof final Page<?> page) {
+
+            return new PageImpl<>(content, page.getPageable(),
+                page.getTotalElements());
+        }
+        return new SliceImpl<>(content, slice.getPageable(), slice.hasNext());
+    }
+
+    /**
+     * Get the cursor of a keyset pagination call, the cursor is the last
+     * argument of the method.
+     *
+     * @param  joinPoint The join point.
+     * @return           The cursor or {@code null} if there is none.
+     */
+    @Nullable
+    public static String getCursor(final JoinPoint joinPoint) {
+
+        final Object[] args = joinPoint.getArgs();
+
+        if (args.length > 0
+            && args[args.length - 1] instanceof final String cursor) {
+
+            return cursor;
+        }
+        return null;
+    }
+
+    /**
+     * Create a {@link KeysetSlice} of entities from a slice of IDs retrieved
+     * with a keyset position, with the relationships of the entities fetched.
+     * The order of the IDs and the cursor of the next slice are kept.
+     *
+     * @param  ids         The slice of IDs.
+     * @param  repository  The repository use to fetch the relationships.
+     * @param  entityClass The type of the entity.
+     * @param  <D>         The {@link DataPresentation} type.
+     * @param  <I>         The ID of type Comparable and Serializable.
+     * @return             The slice with the relationships fetched.
+     */
+    public static <
+        D extends DataPresentation<I>,
+        I extends Comparable<? super I> & Serializable> KeysetSlice<
+            D> toEagerKeysetSlice(
+                final KeysetSlice<I> ids,
+                final FetchRelationshipRepository<D, I> repository,
+                final Class<D> entityClass) {
+
+        return new KeysetSlice<>(
+            repository.findAllEagerRelationship(ids.getContent(), entityClass),
+            ids.getPageable(), ids.getNextCursor());
+    }
+
     /**
      * Get the logging annotation from the join point.
      *
@@ -0,0 +1,333 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.basic.api.projection.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.basic.api.projection.ProjectionRepository;
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+import org.sansenshimizu.sakuraboot.fieldset.FieldSet;
+import org.sansenshimizu.sakuraboot.util.InClauseUtils;
+
+/**
+ * The implementation of {@link ProjectionRepository}.
+ *
+ * @param  <E> The entity type extending {@link DataPresentation}.
+ * @param  <I> The ID of type Comparable and Serializable.
+ * @author     Malcolm Rozé
+ * @see        ProjectionRepository
+ * @since      0.2.0
+ */
+@Transactional(readOnly = true)
+public class ProjectionRepositoryImpl<E extends DataPresentation<I>,
+    I extends Comparable<? super I> & Serializable>
+    implements ProjectionRepository<E, I> {
+
+    /**
+     * The suffix of the name of the relationship IDs.
+     */
+    private static final String ID_SUFFIX = "Id";
+
+    /**
+     * The entity manager.
+     */
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    /**
+     * The maximum number of IDs bound in one {@code IN} clause when loading
+     * the relationship IDs. Bigger lists are split in several queries.
+     */
+    @Value("${sakuraboot.relationship.in-clause-size: "
+        + InClauseUtils.DEFAULT_IN_CLAUSE_SIZE + "}")
+    private int inClauseSize = InClauseUtils.DEFAULT_IN_CLAUSE_SIZE;
+
+    @Override
+    public Page<Map<String, Object>> findAllProjection(
+        @Nullable final Specification<E> specification,
+        final Pageable pageable, final Class<E> entityType,
+        final FieldSet fields) {
+
+        return findAll(specification, pageable, entityType, fields.getNames());
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findByIdProjection(
+        final I id, final Class<E> entityType, final FieldSet fields) {
+
+        return findById(id, entityType, fields.getNames());
+    }
+
+    @Override
+    public Page<Map<String, Object>> findAllWithRelationshipIds(
+        @Nullable final Specification<E> specification,
+        final Pageable pageable, final Class<E> entityType) {
+
+        final EntityType<E> entity
+            = entityManager.getMetamodel().entity(entityType);
+        final Page<Map<String, Object>> result = findAll(specification,
+            pageable, entityType, getBasicAttributeNames(entity));
+        addRelationshipIds(result.getContent(), entityType, entity);
+        return result;
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findByIdWithRelationshipIds(
+        final I id, final Class<E> entityType) {
+
+        final EntityType<E> entity
+            = entityManager.getMetamodel().entity(entityType);
+        final Optional<Map<String, Object>> result
+            = findById(id, entityType, getBasicAttributeNames(entity));
+        result.ifPresent(
+            row -> addRelationshipIds(List.of(row), entityType, entity));
+        return result;
+    }
+
+    private Page<Map<String, Object>> findAll(
+        @Nullable final Specification<E> specification,
+        final Pageable pageable, final Class<E> entityType,
+        final Collection<String> names) {
+
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        final Root<E> root = query.from(entityType);
+        select(query, root, entityType, names);
+        where(query, root, builder, specification);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        final TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+
+        if (pageable.isPaged()) {
+
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize());
+        }
+        final List<Map<String, Object>> content = typedQuery.getResultList()
+            .stream()
+            .map(ProjectionRepositoryImpl::toMap)
+            .toList();
+        return PageableExecutionUtils.getPage(content, pageable,
+            () -> count(specification, entityType));
+    }
+
+    private Optional<Map<String, Object>> findById(
+        final I id, final Class<E> entityType, final Collection<String> names) {
+
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        final Root<E> root = query.from(entityType);
+        select(query, root, entityType, names);
+        query.where(builder.equal(root.get(FieldSet.ID_FIELD), id));
+        return entityManager.createQuery(query)
+            .getResultList()
+            .stream()
+            .findFirst()
+            .map(ProjectionRepositoryImpl::toMap);
+    }
+
+    private void select(
+        final CriteriaQuery<Tuple> query, final Root<E> root,
+        final Class<E> entityType, final Collection<String> names) {
+
+        final EntityType<E> entity
+            = entityManager.getMetamodel().entity(entityType);
+        query.multiselect(names.stream()
+            .<Selection<?>>map(name -> root
+                .get(getAttribute(entity, name).getName())
+                .alias(name))
+            .toList());
+    }
+
+    private static List<String> getBasicAttributeNames(
+        final EntityType<?> entity) {
+
+        final List<String> names = new ArrayList<>();
+        names.add(FieldSet.ID_FIELD);
+        entity.getAttributes()
+            .stream()
+            .filter(attribute -> !attribute.isAssociation()
+                && !attribute.isCollection())
+            .map(Attribute::getName)
+            .filter(name -> !FieldSet.ID_FIELD.equals(name))
+            .forEach(names::add);
+        return names;
+    }
+
+    private void addRelationshipIds(
+        final List<Map<String, Object>> rows, final Class<E> entityType,
+        final EntityType<E> entity) {
+
+        if (rows.isEmpty()) {
+
+            return;
+        }
+        final List<Object> ids = rows.stream()
+            .map(row -> row.get(FieldSet.ID_FIELD))
+            .toList();
+
+        for (final Attribute<? super E, ?> attribute: entity.getAttributes()) {
+
+            if (!attribute.isAssociation()) {
+
+                continue;
+            }
+            final Map<Object, Set<Object>> relationshipIds
+                = findRelationshipIds(entityType, attribute.getName(), ids);
+            final String key = attribute.getName() + ID_SUFFIX;
+
+            for (final Map<String, Object> row: rows) {
+
+                final Set<Object> rowIds = relationshipIds
+                    .getOrDefault(row.get(FieldSet.ID_FIELD), Set.of());
+
+                if (attribute.isCollection()) {
+
+                    row.put(key, rowIds);
+                } else {
+
+                    row.put(key, rowIds.stream().findFirst().orElse(null));
+                }
+            }
+        }
+    }
+
+    private Map<Object, Set<Object>> findRelationshipIds(
+        final Class<E> entityType, final String name, final List<Object> ids) {
+
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final Map<Object, Set<Object>> result = new HashMap<>();
+
+        for (final List<Object> chunk: InClauseUtils.toPaddedChunks(ids,
+            inClauseSize)) {
+
+            final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+            final Root<E> root = query.from(entityType);
+            final Join<E, ?> join = root.join(name);
+            query.multiselect(root.get(FieldSet.ID_FIELD),
+                join.get(FieldSet.ID_FIELD));
+            query.where(root.get(FieldSet.ID_FIELD).in(chunk));
+
+            for (final Tuple tuple: entityManager.createQuery(query)
+                .getResultList()) {
+
+                result.computeIfAbsent(tuple.get(0), key -> new HashSet<>())
+                    .add(tuple.get(1));
+            }
+        }
+        return result;
+    }
+
+    private static <E> Attribute<? super E, ?> getAttribute(
+        final EntityType<E> entity, final String name) {
+
+        final Attribute<? super E, ?> attribute;
+
+        try {
+
+            attribute = entity.getAttribute(name);
+        } catch (final IllegalArgumentException e) {
+
+            throw new BadRequestException("Invalid field: " + name, e);
+        }
+
+        if (attribute.isAssociation() || attribute.isCollection()) {
+
+            throw new BadRequestException("Invalid field: " + name);
+        }
+        return attribute;
+    }
+
+    private static <E, T> void where(
+        final CriteriaQuery<T> query, final Root<E> root,
+        final CriteriaBuilder builder,
+        @Nullable final Specification<E> specification) {
+
+        if (specification != null) {
+
+            final Predicate predicate
+                = specification.toPredicate(root, query, builder);
+
+            if (predicate != null) {
+
+                query.where(predicate);
+            }
+        }
+    }
+
+    private long count(
+        @Nullable final Specification<E> specification,
+        final Class<E> entityType) {
+
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        final Root<E> root = query.from(entityType);
+        where(query, root, builder, specification);
+
+        if (query.isDistinct()) {
+
+            query.select(builder.countDistinct(root));
+        } else {
+
+            query.select(builder.count(root));
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Map<String, Object> toMap(final Tuple tuple) {
+
+        final Map<String, Object> result = new LinkedHashMap<>();
+
+        for (final TupleElement<?> element: tuple.getElements()) {
+
+            result.put(element.getAlias(), tuple.get(element));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import org.sansenshimizu.sakuraboot.include.Includes;
+
+/**
+ * The compiled plan of an eager fetch for an entity type.
+ * The plan contains the JPQL queries with the LEFT JOIN FETCH clauses and
+ * the follow-up fetches for the many relationships that can't be fetched in
+ * the same query. It is computed once by
+ * {@link FetchRelationshipRepositoryImpl} and then reused, so the JPQL strings
+ * are always the same and hit the query plan cache of the JPA provider.
+ *
+ * @param  entityName        The name of the entity in the JPQL queries.
+ * @param  selectJpql        The JPQL select with the LEFT JOIN FETCH
+ *                           clauses and without the where clause.
+ * @param  findAllJpql       The JPQL query to fetch the entities by IDs,
+ *                           with the {@code ids} parameter.
+ * @param  findByIdJpql      The JPQL query to fetch an entity by ID, with
+ *                           the {@code id} parameter.
+ * @param  manyRelationships The follow-up fetches in order, with the class
+ *                           of the many relationship and the path of fields
+ *                           from the fetched entity.
+ * @param  visitedEntity     The entities already fetched after this plan,
+ *                           use to compute the plans of the follow-up
+ *                           fetches.
+ * @param  includes          The relationships fetched by the plan.
+ * @author                   Malcolm Rozé
+ * @since                    0.2.0
+ */
+record FetchPlan(
+    String entityName, String selectJpql, String findAllJpql,
+    String findByIdJpql,
+    List<Pair<Class<?>, List<Field>>> manyRelationships,
+    List<Class<?>> visitedEntity, Includes includes) {
+
+    /**
+     * Constructor that copies the lists.
+     *
+     * @param entityName        The name of the entity.
+     * @param selectJpql        The JPQL select without the where clause.
+     * @param findAllJpql       The JPQL query to fetch the entities by IDs.
+     * @param findByIdJpql      The JPQL query to fetch an entity by ID.
+     * @param manyRelationships The follow-up fetches.
+     * @param visitedEntity     The entities already fetched.
+     * @param includes          The relationships fetched.
+     */
+    FetchPlan {
+
+        manyRelationships = manyRelationships.stream()
+            .map(many -> Pair.<Class<?>, List<Field>>of(many.getKey(),
+                List.copyOf(many.getValue())))
+            .toList();
+        visitedEntity = List.copyOf(visitedEntity);
+    }
+}
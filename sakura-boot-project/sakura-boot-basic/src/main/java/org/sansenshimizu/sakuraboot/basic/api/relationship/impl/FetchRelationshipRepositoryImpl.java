@@ -20,25 +20,60 @@ import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyPath;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.basic.api.relationship.FetchRelationshipRepository;
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+import org.sansenshimizu.sakuraboot.include.Includes;
+import org.sansenshimizu.sakuraboot.keyset.KeysetSlice;
+import org.sansenshimizu.sakuraboot.keyset.KeysetToken;
+import org.sansenshimizu.sakuraboot.util.InClauseUtils;
 import org.sansenshimizu.sakuraboot.util.RelationshipUtils;
 
 /**
@@ -55,95 +90,540 @@ public class FetchRelationshipRepositoryImpl<E extends DataPresentation<I>,
     I extends Comparable<? super I> & Serializable>
     implements FetchRelationshipRepository<E, I> {
 
+    /**
+     * The fetch plans by entity type, already fetched entities and
+     * normalized includes. The includes are resolved against the
+     * relationships of the entity before, so the number of plans is bounded
+     * by the entity model.
+     */
+    private static final Map<FetchPlanKey, FetchPlan> FETCH_PLANS
+        = new ConcurrentHashMap<>();
+
     /**
      * The entity manager.
      */
     @PersistenceContext
     protected EntityManager entityManager;
 
+    /**
+     * The maximum number of IDs bound in one {@code IN} clause. Bigger lists
+     * are split in several queries.
+     */
+    @Value("${sakuraboot.relationship.in-clause-size: "
+        + InClauseUtils.DEFAULT_IN_CLAUSE_SIZE + "}")
+    private int inClauseSize = InClauseUtils.DEFAULT_IN_CLAUSE_SIZE;
+
+    /**
+     * The names of the entities paged and fetched in a single query. The other
+     * entities retrieve the page of IDs first.
+     */
+    @Value("${sakuraboot.relationship.single-query-hydration: }")
+    private Set<String> singleQueryEntities = Set.of();
+
+    /**
+     * True if the database supports a LIMIT in an IN subquery, {@code null}
+     * until the dialect is checked.
+     */
+    @Nullable
+    private volatile Boolean limitInSubquerySupported;
+
     @Override
     public List<E> findAllEagerRelationship(
         final List<I> parentIds, final Class<E> entityType) {
 
+        return findAllEagerRelationship(parentIds, entityType, Includes.ALL);
+    }
+
+    @Override
+    public List<E> findAllEagerRelationship(
+        final List<I> parentIds, final Class<E> entityType,
+        final Includes includes) {
+
         if (parentIds.isEmpty()) {
 
             return List.of();
         }
-        final StringBuilder jpql = new StringBuilder();
-        final List<Class<?>> visitedEntity = new ArrayList<>();
-        final List<Pair<Class<?>, List<Field>>> manyRelationshipClass
-            = appendJoinFetchClauses(jpql, entityType, visitedEntity);
+        final FetchPlan fetchPlan = getFetchPlan(entityType, List.of(),
+            resolveIncludes(entityType, includes));
+        final Map<I, E> entitiesById = new HashMap<>();
+
+        for (final Object entity: findAllByIds(fetchPlan, parentIds)) {
+
+            final E castEntity = entityType.cast(entity);
+            entitiesById.put(castEntity.getId(), castEntity);
+        }
+        final List<E> result = parentIds.stream()
+            .distinct()
+            .map(entitiesById::get)
+            .filter(Objects::nonNull)
+            .toList();
+        fetchManyRelationships(result, fetchPlan);
+        return result;
+    }
+
+    @Override
+    public KeysetSlice<I> findKeysetIds(
+        @Nullable final Specification<E> specification,
+        final Pageable pageable, final KeysetScrollPosition position,
+        final Class<E> entityType) {
+
+        final Sort sort = KeysetToken.getKeysetSort(pageable.getSort());
+        final CriteriaBuilder criteriaBuilder
+            = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> criteriaQuery
+            = criteriaBuilder.createTupleQuery();
+        final Root<E> root = criteriaQuery.from(entityType);
+        final List<Expression<?>> keys = sort.stream()
+            .<Expression<?>>map(order -> QueryUtils.toExpressionRecursively(
+                root, PropertyPath.from(order.getProperty(), entityType)))
+            .toList();
+        final List<Predicate> predicates = new ArrayList<>();
+
+        if (specification != null) {
+
+            final Predicate predicate = specification.toPredicate(root,
+                criteriaQuery, criteriaBuilder);
+
+            if (predicate != null) {
+
+                predicates.add(predicate);
+            }
+        }
+
+        if (!position.isInitial()) {
 
+            predicates.add(
+                getKeysetPredicate(criteriaBuilder, sort, keys, position));
+        }
+        criteriaQuery
+            .select(criteriaBuilder.tuple(keys.toArray(new Selection<?>[0])))
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        final TypedQuery<Tuple> query
+            = entityManager.createQuery(criteriaQuery);
+
+        if (pageable.isPaged()) {
+
+            query.setMaxResults(pageable.getPageSize() + 1);
+        }
+        final List<Tuple> tuples = new ArrayList<>(query.getResultList());
+        @Nullable
+        String nextCursor = null;
+
+        if (pageable.isPaged() && tuples.size() > pageable.getPageSize()) {
+
+            tuples.subList(pageable.getPageSize(), tuples.size()).clear();
+            nextCursor = KeysetToken.encode(
+                ScrollPosition.forward(getKeys(sort, tuples.getLast())));
+        }
+        final int idIndex = sort.stream()
+            .map(Sort.Order::getProperty)
+            .toList()
+            .indexOf("id");
         @SuppressWarnings("unchecked")
-        final List<E> result = (List<E>) Objects.requireNonNull(
-            buildAndExecuteQuery(jpql.toString(), parentIds, entityType));
+        final List<I> ids
+            = tuples.stream().map(tuple -> (I) tuple.get(idIndex)).toList();
+        return new KeysetSlice<>(ids, pageable, nextCursor);
+    }
 
-        for (final Map.Entry<Class<?>,
-            List<Field>> classEntry: manyRelationshipClass) {
+    @Override
+    public Slice<E> findPageEagerRelationship(
+        final Pageable pageable, final Class<E> entityType) {
+
+        final FetchPlan fetchPlan
+            = getFetchPlan(entityType, List.of(), Includes.ALL);
+        final String jpql = fetchPlan.selectJpql()
+            + " WHERE e.id IN (SELECT p.id FROM "
+            + fetchPlan.entityName()
+            + " p"
+            + getOrderBy(pageable.getSort(), entityType, "p")
+            + " LIMIT :limit OFFSET :offset)"
+            + getOrderBy(pageable.getSort(), entityType, "e");
+        final List<E> result = new ArrayList<>(entityManager
+            .createQuery(jpql, entityType)
+            .setParameter("limit", pageable.getPageSize() + 1)
+            .setParameter("offset", Math.toIntExact(pageable.getOffset()))
+            .getResultList());
+        final boolean hasNext = result.size() > pageable.getPageSize();
+
+        if (hasNext) {
+
+            result.subList(pageable.getPageSize(), result.size()).clear();
+        }
+        fetchManyRelationships(result, fetchPlan);
+        return new SliceImpl<>(result, pageable, hasNext);
+    }
 
-            final List<?> ids = result.stream()
-                .flatMap(entity -> getNestedIds(entity, classEntry.getValue())
-                    .stream())
-                .toList();
-            findAllEagerRelationshipForMany(ids, classEntry.getKey(),
-                visitedEntity);
+    @Override
+    public boolean isSingleQueryHydration(
+        final Pageable pageable, final Class<E> entityType) {
+
+        return !singleQueryEntities.isEmpty()
+            && singleQueryEntities
+                .contains(getFetchPlan(entityType, List.of(), Includes.ALL)
+                    .entityName())
+            && isSortedByBasicAttributes(pageable.getSort(), entityType)
+            && isLimitInSubquerySupported();
+    }
+
+    /**
+     * Check if all the properties of a sort are basic attributes of the
+     * entity. A nested property like {@code owner.name} needs a join that
+     * the single query doesn't have.
+     *
+     * @param  sort       The sort.
+     * @param  entityType The type of the entity.
+     * @return            True if the sort can be used in the single query,
+     *                    false otherwise.
+     */
+    private boolean isSortedByBasicAttributes(
+        final Sort sort, final Class<E> entityType) {
+
+        final Set<String> basicAttributes = entityManager.getMetamodel()
+            .entity(entityType)
+            .getSingularAttributes()
+            .stream()
+            .filter(attribute -> attribute.getPersistentAttributeType()
+                == Attribute.PersistentAttributeType.BASIC)
+            .map(Attribute::getName)
+            .collect(Collectors.toSet());
+        return sort.stream()
+            .allMatch(order -> basicAttributes.contains(order.getProperty()));
+    }
+
+    /**
+     * Check if the database supports a LIMIT in an IN subquery. MySQL and
+     * its variants, like MariaDB, reject it.
+     *
+     * @return True if the single query can be used, false otherwise.
+     */
+    private boolean isLimitInSubquerySupported() {
+
+        Boolean supported = limitInSubquerySupported;
+
+        if (supported == null) {
+
+            final Dialect dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+            supported = !(dialect instanceof MySQLDialect);
+            limitInSubquerySupported = supported;
         }
-        return result;
+        return supported;
     }
 
     @Override
     public Optional<E> findByIdEagerRelationship(
         final I id, final Class<E> entityType) {
 
-        final StringBuilder jpql = new StringBuilder();
-        final List<Class<?>> visitedEntity = new ArrayList<>();
-        final List<Pair<Class<?>, List<Field>>> manyRelationshipClass
-            = appendJoinFetchClauses(jpql, entityType, visitedEntity);
-
-        @SuppressWarnings("unchecked")
-        final E result
-            = (E) buildAndExecuteQuery(jpql.toString(), id, entityType);
+        return findByIdEagerRelationship(id, entityType, Includes.ALL);
+    }
 
-        for (final Map.Entry<Class<?>,
-            List<Field>> classEntry: manyRelationshipClass) {
+    @Override
+    public Optional<E> findByIdEagerRelationship(
+        final I id, final Class<E> entityType, final Includes includes) {
+
+        final FetchPlan fetchPlan = getFetchPlan(entityType, List.of(),
+            resolveIncludes(entityType, includes));
+        final Query query = entityManager
+            .createQuery(fetchPlan.findByIdJpql())
+            .setParameter("id", id);
+        @Nullable
+        E result;
+
+        // result = query.getSingleResultOrNull(); TODO Change to this when
+        // next version of JPA is available
+        try {
+
+            @SuppressWarnings("unchecked")
+            final E singleResult = (E) query.getSingleResult();
+            result = singleResult;
+        } catch (final NoResultException e) {
+
+            result = null;
+        }
 
-            if (result != null) {
+        if (result != null) {
 
-                final List<?> ids = getNestedIds(result, classEntry.getValue());
-                findAllEagerRelationshipForMany(ids, classEntry.getKey(),
-                    visitedEntity);
-            }
+            fetchManyRelationships(List.of(result), fetchPlan);
         }
         return Optional.ofNullable(result);
     }
 
-    private void findAllEagerRelationshipForMany(
-        final List<?> parentIds, final Class<?> entityType,
-        final List<Class<?>> visitedEntity) {
+    /**
+     * Get the fetch plan of an entity type, computed the first time and then
+     * retrieved from the cache.
+     *
+     * @param  entityType    The type of the entity to fetch.
+     * @param  visitedEntity The entities already fetched before.
+     * @param  includes      The relationships to fetch.
+     * @return               The fetch plan.
+     */
+    private FetchPlan getFetchPlan(
+        final Class<?> entityType, final List<Class<?>> visitedEntity,
+        final Includes includes) {
 
-        if (parentIds.isEmpty()) {
+        return FETCH_PLANS.computeIfAbsent(
+            new FetchPlanKey(entityType, List.copyOf(visitedEntity), includes),
+            this::createFetchPlan);
+    }
+
+    /**
+     * Resolve the includes of a request against the relationships of the
+     * entity. Each path must follow relationship fields without coming back
+     * to an entity of the path, and only the deepest paths are kept since
+     * they include their parents.
+     *
+     * @param  entityType          The type of the root entity.
+     * @param  includes            The includes of the request.
+     * @return                     The normalized includes.
+     * @throws BadRequestException If a path isn't a relationship of the
+     *                             entity.
+     */
+    private static Includes resolveIncludes(
+        final Class<?> entityType, final Includes includes) {
+
+        if (includes.isAll()) {
+
+            return includes;
+        }
+        final Set<String> paths = includes.getPaths();
+
+        for (final String path: paths) {
+
+            resolveIncludePath(entityType, path);
+        }
+        return Includes.of(paths.stream()
+            .filter(path -> paths.stream()
+                .noneMatch(other -> other.startsWith(path + ".")))
+            .collect(Collectors.joining(",")));
+    }
+
+    private static void resolveIncludePath(
+        final Class<?> entityType, final String path) {
+
+        final List<Class<?>> pathEntities = new ArrayList<>();
+        Class<?> currentClass = entityType;
+
+        for (final String fieldName: path.split("\\.")) {
+
+            pathEntities.add(currentClass);
+            final Class<?> fieldClass = Arrays
+                .stream(currentClass.getDeclaredFields())
+                .filter(field -> field.getName().equals(fieldName)
+                    && RelationshipUtils.isRelationship(field))
+                .findFirst()
+                .map(FetchRelationshipRepositoryImpl::getRelationshipClass)
+                .orElse(null);
+
+            if (fieldClass == null || pathEntities.contains(fieldClass)) {
 
-            return;
+                throw new BadRequestException("Unknown include: " + path);
+            }
+            currentClass = fieldClass;
         }
-        final StringBuilder jpql = new StringBuilder();
+    }
+
+    private FetchPlan createFetchPlan(final FetchPlanKey key) {
+
+        final StringBuilder joinFetchClauses = new StringBuilder();
+        final List<Class<?>> visitedEntity
+            = new ArrayList<>(key.visitedEntity());
         final List<Pair<Class<?>, List<Field>>> manyRelationshipClass
-            = appendJoinFetchClauses(jpql, entityType, visitedEntity);
+            = appendJoinFetchClauses(joinFetchClauses, key.entityType(),
+                visitedEntity, key.includes());
+        final String entityName
+            = entityManager.getMetamodel().entity(key.entityType()).getName();
+        final String jpql
+            = "SELECT e FROM " + entityName + " e" + joinFetchClauses;
+
+        return new FetchPlan(entityName, jpql, jpql + " WHERE e.id IN :ids",
+            jpql + " WHERE e.id = :id", manyRelationshipClass, visitedEntity,
+            key.includes());
+    }
 
-        @SuppressWarnings("unchecked")
-        final List<DataPresentation<?>> result
-            = (List<DataPresentation<?>>) Objects.requireNonNull(
-                buildAndExecuteQuery(jpql.toString(), parentIds, entityType));
+    /**
+     * Fetch the many relationships of the entities with the follow-up
+     * fetches of the plan.
+     *
+     * @param  entities  The entities fetched with the plan.
+     * @param  fetchPlan The fetch plan.
+     * @return           The entities already fetched after all the follow-up
+     *                   fetches.
+     */
+    private List<Class<?>> fetchManyRelationships(
+        final List<?> entities, final FetchPlan fetchPlan) {
+
+        List<Class<?>> visitedEntity = fetchPlan.visitedEntity();
 
         for (final Map.Entry<Class<?>,
-            List<Field>> classEntry: manyRelationshipClass) {
+            List<Field>> classEntry: fetchPlan.manyRelationships()) {
 
-            final List<?> ids = result.stream()
+            final List<?> ids = entities.stream()
                 .flatMap(entity -> getNestedIds(entity, classEntry.getValue())
                     .stream())
                 .toList();
-            findAllEagerRelationshipForMany(ids, classEntry.getKey(),
-                visitedEntity);
+            visitedEntity = findAllEagerRelationshipForMany(ids,
+                classEntry.getKey(), visitedEntity, fetchPlan.includes()
+                    .relativeTo(getPath(classEntry.getValue())));
+        }
+        return visitedEntity;
+    }
+
+    private List<Class<?>> findAllEagerRelationshipForMany(
+        final List<?> parentIds, final Class<?> entityType,
+        final List<Class<?>> visitedEntity, final Includes includes) {
+
+        if (parentIds.isEmpty()) {
+
+            return visitedEntity;
+        }
+        final FetchPlan fetchPlan
+            = getFetchPlan(entityType, visitedEntity, includes);
+        final List<?> result = findAllByIds(fetchPlan, parentIds);
+        return fetchManyRelationships(result, fetchPlan);
+    }
+
+    /**
+     * Execute the find all query of the plan. The IDs are split in padded
+     * chunks of {@link #inClauseSize}, see {@link InClauseUtils}.
+     *
+     * @param  fetchPlan The fetch plan.
+     * @param  ids       The IDs of the entities to find.
+     * @return           The entities found by all the chunks.
+     */
+    private List<?> findAllByIds(
+        final FetchPlan fetchPlan, final List<?> ids) {
+
+        final List<Object> result = new ArrayList<>();
+
+        for (final List<?> chunk: InClauseUtils.toPaddedChunks(ids,
+            inClauseSize)) {
+
+            result.addAll(entityManager.createQuery(fetchPlan.findAllJpql())
+                .setParameter("ids", chunk)
+                .getResultList());
+        }
+        return result;
+    }
+
+    /**
+     * Create the ORDER BY clause of a sort. The properties must be basic
+     * attributes of the entity, see {@link #isSortedByBasicAttributes}, and
+     * the ID is added last so the order is always the same between the
+     * pages.
+     *
+     * @param  sort       The sort.
+     * @param  entityType The type of the entity.
+     * @param  alias      The alias of the entity in the query.
+     * @return            The ORDER BY clause.
+     */
+    private String getOrderBy(
+        final Sort sort, final Class<E> entityType, final String alias) {
+
+        final EntityType<E> entity
+            = entityManager.getMetamodel().entity(entityType);
+        final List<String> orders = new ArrayList<>();
+        boolean sortedById = false;
+
+        for (final Sort.Order order: sort) {
+
+            final String attribute
+                = entity.getSingularAttribute(order.getProperty()).getName();
+            sortedById |= "id".equals(attribute);
+            String path = alias + "." + attribute;
+
+            if (order.isIgnoreCase()) {
+
+                path = "UPPER(" + path + ")";
+            }
+            orders.add(path + " " + order.getDirection().name()
+                + getNullHandling(order.getNullHandling()));
+        }
+
+        if (!sortedById) {
+
+            orders.add(alias + ".id ASC");
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    /**
+     * Create the predicate of the elements after a keyset position: for each
+     * property, the previous properties are equal to the position and this
+     * one is after it in the order of the sort.
+     *
+     * @param  criteriaBuilder The criteria builder.
+     * @param  sort            The keyset sort.
+     * @param  keys            The expressions of the sort properties.
+     * @param  position        The position to start after.
+     * @return                 The predicate.
+     */
+    private static Predicate getKeysetPredicate(
+        final CriteriaBuilder criteriaBuilder, final Sort sort,
+        final List<Expression<?>> keys, final KeysetScrollPosition position) {
+
+        final List<Predicate> afterPredicates = new ArrayList<>();
+        final List<Predicate> equalPredicates = new ArrayList<>();
+        int i = 0;
+
+        for (final Sort.Order order: sort) {
+
+            final Expression<?> key = keys.get(i);
+            final Object value = position.getKeys().get(order.getProperty());
+            final List<Predicate> afterPredicate
+                = new ArrayList<>(equalPredicates);
+            afterPredicate.add(isAfter(criteriaBuilder, order, key, value));
+            afterPredicates.add(criteriaBuilder
+                .and(afterPredicate.toArray(new Predicate[0])));
+            equalPredicates.add(criteriaBuilder.equal(key, value));
+            i++;
+        }
+        return criteriaBuilder.or(afterPredicates.toArray(new Predicate[0]));
+    }
+
+    @SuppressWarnings({
+        "unchecked", "rawtypes"
+    })
+    private static Predicate isAfter(
+        final CriteriaBuilder criteriaBuilder, final Sort.Order order,
+        final Expression<?> key, final Object value) {
+
+        final Expression<Comparable> comparableKey
+            = (Expression<Comparable>) key;
+        final Comparable comparableValue = (Comparable) value;
+
+        if (order.isAscending()) {
+
+            return criteriaBuilder.greaterThan(comparableKey, comparableValue);
+        }
+        return criteriaBuilder.lessThan(comparableKey, comparableValue);
+    }
+
+    private static Map<String, Object> getKeys(
+        final Sort sort, final Tuple tuple) {
+
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        int i = 0;
+
+        for (final Sort.Order order: sort) {
+
+            keys.put(order.getProperty(), tuple.get(i));
+            i++;
         }
+        return keys;
+    }
+
+    private static String getNullHandling(
+        final Sort.NullHandling nullHandling) {
+
+        return switch (nullHandling) {
+
+            case NULLS_FIRST -> " NULLS FIRST";
+            case NULLS_LAST -> " NULLS LAST";
+            case NATIVE -> "";
+        };
     }
 
     private static List<?> getNestedIds(
@@ -182,48 +662,14 @@ public class FetchRelationshipRepositoryImpl<E extends DataPresentation<I>,
         }
     }
 
-    @Nullable
-    private Object buildAndExecuteQuery(
-        final String joinFetchClauses, final Object idParameter,
-        final Class<?> entityType) {
-
-        final StringBuilder jpql = new StringBuilder("SELECT e FROM "
-            + entityManager.getMetamodel().entity(entityType).getName()
-            + " e");
-        jpql.append(joinFetchClauses);
-
-        if (idParameter instanceof Collection<?>) {
-
-            jpql.append(" WHERE e.id IN :ids");
-            final Query query = entityManager.createQuery(jpql.toString());
-            query.setParameter("ids", idParameter);
-            return query.getResultList();
-        } else {
-
-            jpql.append(" WHERE e.id = :id");
-            final Query query = entityManager.createQuery(jpql.toString());
-            query.setParameter("id", idParameter);
-
-            // return query.getSingleResultOrNull(); TODO Change to this when
-            // next version of JPA is available
-            try {
-
-                return query.getSingleResult();
-            } catch (final NoResultException e) {
-
-                return null;
-            }
-        }
-    }
-
     private static List<Pair<Class<?>, List<Field>>> appendJoinFetchClauses(
         final StringBuilder jpql, final Class<?> entityClass,
-        final List<Class<?>> visitedEntity) {
+        final List<Class<?>> visitedEntity, final Includes includes) {
 
         visitedEntity.add(entityClass);
 
         return appendJoinFetchClausesAux(jpql, "", "e", 0, entityClass, false,
-            new ArrayList<>(), new ArrayList<>(), visitedEntity);
+            new ArrayList<>(), new ArrayList<>(), visitedEntity, includes);
     }
 
     private static List<Pair<Class<?>, List<Field>>> appendJoinFetchClausesAux(
@@ -232,7 +678,7 @@ public class FetchRelationshipRepositoryImpl<E extends DataPresentation<I>,
         final Class<?> entityClass, final boolean multipleManyRelationships,
         final List<Pair<Class<?>, List<Field>>> manyRelationships,
         final List<Field> actualVisitedFields,
-        final List<Class<?>> visitedEntity) {
+        final List<Class<?>> visitedEntity, final Includes includes) {
 
         boolean currentMultipleManyRelationships = multipleManyRelationships;
 
@@ -243,6 +689,11 @@ public class FetchRelationshipRepositoryImpl<E extends DataPresentation<I>,
 
             final Field field = entityClass.getDeclaredFields()[i];
 
+            if (!includes.includes(getPath(actualVisitedFields, field))) {
+
+                continue;
+            }
+
             if (isNotRelationship(field, visitedEntity)
                 || isMultipleManyRelationship(field,
                     currentMultipleManyRelationships)
@@ -279,13 +730,29 @@ public class FetchRelationshipRepositoryImpl<E extends DataPresentation<I>,
                     currentRelationshipJpql + relationshipJpql,
                     relationshipAlias.toString(), relationshipLevel + 1,
                     fieldClass, currentMultipleManyRelationships,
-                    manyRelationships, actualVisitedFields, visitedEntity);
+                    manyRelationships, actualVisitedFields, visitedEntity,
+                    includes);
             }
             actualVisitedFields.remove(field);
         }
         return manyRelationships;
     }
 
+    private static String getPath(final List<Field> fields) {
+
+        return fields.stream()
+            .map(Field::getName)
+            .collect(Collectors.joining("."));
+    }
+
+    private static String getPath(
+        final List<Field> parentFields, final Field field) {
+
+        return Stream.concat(parentFields.stream(), Stream.of(field))
+            .map(Field::getName)
+            .collect(Collectors.joining("."));
+    }
+
     private static boolean isNotRelationship(
         final Field field, final List<Class<?>> visitedEntity) {
 
@@ -352,6 +819,16 @@ public class FetchRelationshipRepositoryImpl<E extends DataPresentation<I>,
         return fieldClass;
     }
 
+    @Nullable
+    private static Class<?> getRelationshipClass(final Field field) {
+
+        if (RelationshipUtils.isAnyToManyRelationship(field)) {
+
+            return getManyRelationshipClass(field);
+        }
+        return field.getType();
+    }
+
     @Nullable
     private static Class<?> getManyRelationshipClass(final Field field) {
 
@@ -365,4 +842,17 @@ public class FetchRelationshipRepositoryImpl<E extends DataPresentation<I>,
             return null;
         }
     }
+
+    /**
+     * The key of a fetch plan. The same entity type can have different plans
+     * depending on the entities already fetched before and the included
+     * relationships.
+     *
+     * @param entityType    The type of the entity to fetch.
+     * @param visitedEntity The entities already fetched before.
+     * @param includes      The relationships to fetch.
+     */
+    private record FetchPlanKey(
+        Class<?> entityType, List<Class<?>> visitedEntity,
+        Includes includes) {}
 }
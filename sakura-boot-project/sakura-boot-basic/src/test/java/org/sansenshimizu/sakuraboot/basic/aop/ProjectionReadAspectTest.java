@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.basic.aop;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.Getter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.basic.api.business.services.FindAllService;
+import org.sansenshimizu.sakuraboot.basic.api.business.services.FindByIdService;
+import org.sansenshimizu.sakuraboot.basic.api.persistence.BasicRepository;
+import org.sansenshimizu.sakuraboot.basic.api.projection.ProjectionRepository;
+import org.sansenshimizu.sakuraboot.basic.api.projection.annotations.FindAllWithProjection;
+import org.sansenshimizu.sakuraboot.basic.api.projection.annotations.FindByIdWithProjection;
+import org.sansenshimizu.sakuraboot.exceptions.NotFoundException;
+import org.sansenshimizu.sakuraboot.mapper.api.Mappable;
+import org.sansenshimizu.sakuraboot.test.aop.AspectUtilTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * The aspect test class for the projection read mode in service class.
+ *
+ * @author Malcolm Rozé
+ * @see    AspectUtilTest
+ * @since  0.2.0
+ */
+class ProjectionReadAspectTest implements AspectUtilTest {
+
+    /**
+     * The ID use in test.
+     */
+    private static final long ID = 1L;
+
+    /**
+     * The name use in test.
+     */
+    private static final String NAME = "name";
+
+    /**
+     * The mock {@link ProceedingJoinPoint}.
+     */
+    @Mock
+    @Getter
+    private ProceedingJoinPoint joinPoint;
+
+    /**
+     * The mock {@link FindAllWithProjection} annotation.
+     */
+    @Mock
+    private FindAllWithProjection findAllAnnotation;
+
+    /**
+     * The mock {@link FindByIdWithProjection} annotation.
+     */
+    @Mock
+    private FindByIdWithProjection findByIdAnnotation;
+
+    /**
+     * The {@link ProjectionReadAspect} to test.
+     */
+    @Getter
+    private final ProjectionReadAspect<DataPresentation<Long>, Long> aspect
+        = new ProjectionReadAspect<>();
+
+    @Test
+    @DisplayName("GIVEN a service without the projection read mode,"
+        + " WHEN find all with projection,"
+        + " THEN the join point should proceed")
+    final void testFindAllWithoutProjectionRead() throws Throwable {
+
+        // GIVEN
+        final FindAllService<DataPresentation<Long>, Long> target = mock();
+        final Page<Object> expectedResult = new PageImpl<>(List.of());
+        mockJoinPoint(expectedResult);
+
+        mockForLog(() -> {
+
+            // WHEN
+            final Object result = aspect.findAllWithProjection(joinPoint,
+                Pageable.unpaged(), target, findAllAnnotation);
+
+            // THEN
+            assertThat(result).isEqualTo(expectedResult);
+        });
+    }
+
+    @Test
+    @DisplayName("GIVEN a service with the projection read mode,"
+        + " WHEN find all with projection,"
+        + " THEN the DTO should be built from the projection")
+    final void testFindAllWithProjectionRead() throws Throwable {
+
+        // GIVEN
+        final FindAllService<DataPresentation<Long>, Long> target
+            = mock(withSettings().extraInterfaces(Mappable.class));
+        final ProjectionRepository<DataPresentation<Long>,
+            Long> repository = mockProjectionRead(target);
+        given(target.getRepository())
+            .willReturn((BasicRepository<DataPresentation<Long>,
+                Long>) repository);
+        given(repository.findAllWithRelationshipIds(isNull(), any(), any()))
+            .willReturn(new PageImpl<>(List.of(getRow())));
+
+        mockForLog(() -> {
+
+            // WHEN
+            final Object result = aspect.findAllWithProjection(joinPoint,
+                Pageable.unpaged(), target, findAllAnnotation);
+
+            // THEN
+            assertThat(result).isInstanceOf(Page.class);
+            assertThat(((Page<?>) result).getContent())
+                .containsExactly(new TestDto(ID, NAME));
+        });
+    }
+
+    @Test
+    @DisplayName("GIVEN a service with the projection read mode,"
+        + " WHEN find by id with projection,"
+        + " THEN the DTO should be built from the projection"
+        + " OR a not found exception should be thrown")
+    final void testFindByIdWithProjectionRead() throws Throwable {
+
+        // GIVEN
+        final FindByIdService<DataPresentation<Long>, Long> target
+            = mock(withSettings().extraInterfaces(Mappable.class));
+        final ProjectionRepository<DataPresentation<Long>,
+            Long> repository = mockProjectionRead(target);
+        given(target.getRepository())
+            .willReturn((BasicRepository<DataPresentation<Long>,
+                Long>) repository);
+        given(target.getEntityClass())
+            .willAnswer(invocation -> DataPresentation.class);
+        given(repository.findByIdWithRelationshipIds(anyLong(), any()))
+            .willAnswer(invocation -> ID == (Long) invocation.getArgument(0)
+                ? Optional.of(getRow())
+                : Optional.empty());
+
+        mockForLog(() -> {
+
+            // WHEN
+            final Object result = aspect.findByIdWithProjection(joinPoint, ID,
+                target, findByIdAnnotation);
+
+            // THEN
+            assertThat(result).isEqualTo(new TestDto(ID, NAME));
+            assertThatThrownBy(() -> aspect.findByIdWithProjection(joinPoint,
+                ID + 1, target, findByIdAnnotation))
+                .isInstanceOf(NotFoundException.class);
+        });
+    }
+
+    private static ProjectionRepository<DataPresentation<Long>,
+        Long> mockProjectionRead(final Object target) {
+
+        final Mappable<?, ?> mappable = (Mappable<?, ?>) target;
+        given(mappable.isProjectionRead()).willReturn(true);
+        given(mappable.getDtoClass()).willAnswer(invocation -> TestDto.class);
+        return mock(withSettings().extraInterfaces(BasicRepository.class));
+    }
+
+    private static Map<String, Object> getRow() {
+
+        return Map.of("id", ID, NAME, NAME, "unknownId", ID);
+    }
+
+    /**
+     * The DTO use in test.
+     *
+     * @param id   The ID.
+     * @param name The name.
+     */
+    record TestDto(@Nullable Long id, @Nullable String name)
+        implements DataPresentation<Long> {
+
+        @Override
+        @Nullable
+        public Long getId() {
+
+            return id;
+        }
+
+        @Override
+        public int compareTo(final DataPresentation<Long> other) {
+
+            return 0;
+        }
+    }
+}
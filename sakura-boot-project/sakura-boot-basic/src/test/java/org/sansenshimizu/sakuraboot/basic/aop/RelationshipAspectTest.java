@@ -16,6 +16,7 @@
 
 package org.sansenshimizu.sakuraboot.basic.aop;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -39,6 +40,7 @@ import org.sansenshimizu.sakuraboot.basic.api.persistence.BasicRepository;
 import org.sansenshimizu.sakuraboot.basic.api.relationship.FetchRelationshipRepository;
 import org.sansenshimizu.sakuraboot.basic.api.relationship.annotations.FindAllWithRelationship;
 import org.sansenshimizu.sakuraboot.basic.api.relationship.annotations.FindByIdWithRelationship;
+import org.sansenshimizu.sakuraboot.count.CountCache;
 import org.sansenshimizu.sakuraboot.exceptions.NotFoundException;
 import org.sansenshimizu.sakuraboot.log.api.Loggable;
 import org.sansenshimizu.sakuraboot.test.aop.AspectUtilTest;
@@ -65,6 +67,11 @@ class RelationshipAspectTest implements AspectUtilTest {
      */
     private static final long ID = 1L;
 
+    /**
+     * The maximum number of cached counts.
+     */
+    private static final int COUNT_CACHE_SIZE = 100;
+
     /**
      * The mock {@link ProceedingJoinPoint}.
      */
@@ -89,7 +96,8 @@ class RelationshipAspectTest implements AspectUtilTest {
      */
     @Getter
     private final RelationshipAspect<DataPresentation<Long>, Long> aspect
-        = new RelationshipAspect<>();
+        = new RelationshipAspect<>(
+            new CountCache(Duration.ofMinutes(1), COUNT_CACHE_SIZE));
 
     @ParameterizedTest
     @MethodSource("getFindAllTarget")
@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.basic.api.relationship.impl;
+
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The test class for {@link FetchRelationshipRepositoryImpl}.
+ *
+ * @author Malcolm Rozé
+ * @see    FetchRelationshipRepositoryImpl
+ * @since  0.2.0
+ */
+class FetchRelationshipRepositoryImplTest {
+
+    /**
+     * The mock {@link EntityManager}.
+     */
+    private final EntityManager entityManager = mock();
+
+    /**
+     * The mock {@link Metamodel}.
+     */
+    private final Metamodel metamodel = mock();
+
+    /**
+     * The mock {@link Query}.
+     */
+    private final Query query = mock();
+
+    /**
+     * The repository to test.
+     */
+    private final FetchRelationshipRepositoryImpl<FetchPlanEntity,
+        Long> repository = new FetchRelationshipRepositoryImpl<>();
+
+    /**
+     * The repository to test for the entity without relationship.
+     */
+    private final FetchRelationshipRepositoryImpl<OtherEntity,
+        Long> otherRepository = new FetchRelationshipRepositoryImpl<>();
+
+    @BeforeEach
+    final void setUp() {
+
+        repository.entityManager = entityManager;
+        otherRepository.entityManager = entityManager;
+        given(entityManager.getMetamodel()).willReturn(metamodel);
+        given(metamodel.entity(any())).willAnswer(invocation -> {
+
+            final EntityType<?> entityType = mock();
+            given(entityType.getName()).willReturn(
+                invocation.<Class<?>>getArgument(0).getSimpleName());
+            return entityType;
+        });
+        given(entityManager.createQuery(anyString())).willReturn(query);
+        given(query.setParameter(anyString(), any())).willReturn(query);
+        given(query.getResultList()).willReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("GIVEN an entity with a relationship,"
+        + " WHEN calling findAllEagerRelationship and"
+        + " findByIdEagerRelationship several times,"
+        + " THEN the plan should be computed once and the JPQL reused")
+    final void testFetchPlanIsCached() {
+
+        // GIVEN
+        final ArgumentCaptor<String> jpqlCaptor
+            = ArgumentCaptor.forClass(String.class);
+        given(query.getSingleResult()).willReturn(new FetchPlanEntity());
+
+        // WHEN
+        repository.findAllEagerRelationship(List.of(1L), FetchPlanEntity.class);
+        repository.findAllEagerRelationship(List.of(2L), FetchPlanEntity.class);
+        final Optional<FetchPlanEntity> result = repository
+            .findByIdEagerRelationship(1L, FetchPlanEntity.class);
+
+        // THEN
+        assertThat(result).isPresent();
+        verify(metamodel, times(1)).entity(FetchPlanEntity.class);
+        verify(entityManager, times(3)).createQuery(jpqlCaptor.capture());
+        assertThat(jpqlCaptor.getAllValues()).containsExactly(
+            "SELECT e FROM FetchPlanEntity e LEFT JOIN FETCH e.other r_1_0"
+                + " WHERE e.id IN :ids",
+            "SELECT e FROM FetchPlanEntity e LEFT JOIN FETCH e.other r_1_0"
+                + " WHERE e.id IN :ids",
+            "SELECT e FROM FetchPlanEntity e LEFT JOIN FETCH e.other r_1_0"
+                + " WHERE e.id = :id");
+    }
+
+    @Test
+    @DisplayName("GIVEN an empty list of IDs,"
+        + " WHEN calling findAllEagerRelationship,"
+        + " THEN no query should be executed")
+    final void testFindAllWithEmptyIds() {
+
+        // WHEN
+        final List<FetchPlanEntity> result = repository
+            .findAllEagerRelationship(List.of(), FetchPlanEntity.class);
+
+        // THEN
+        assertThat(result).isEmpty();
+        verify(entityManager, times(0)).createQuery(anyString());
+    }
+
+    @Test
+    @DisplayName("GIVEN a list of IDs with a size not a power of two,"
+        + " WHEN calling findAllEagerRelationship,"
+        + " THEN the IDs should be padded and the result ordered as the IDs")
+    final void testFindAllWithPaddedIds() {
+
+        // GIVEN
+        final OtherEntity first = new OtherEntity(1L);
+        final OtherEntity second = new OtherEntity(2L);
+        final OtherEntity third = new OtherEntity(3L);
+        given(query.getResultList()).willReturn(List.of(third, first, second));
+
+        // WHEN
+        final List<OtherEntity> result = otherRepository
+            .findAllEagerRelationship(List.of(2L, 3L, 1L), OtherEntity.class);
+
+        // THEN
+        assertThat(result).containsExactly(second, third, first);
+        verify(query).setParameter("ids", List.of(2L, 3L, 1L, 1L));
+    }
+
+    @Test
+    @DisplayName("GIVEN a pageable,"
+        + " WHEN calling findPageEagerRelationship,"
+        + " THEN the page should be retrieved in a single query"
+        + " AND the slice should have a next slice")
+    final void testFindPageEagerRelationship() {
+
+        // GIVEN
+        final TypedQuery<OtherEntity> typedQuery = mock();
+        given(entityManager.createQuery(anyString(), eq(OtherEntity.class)))
+            .willReturn(typedQuery);
+        given(typedQuery.setParameter(anyString(), any()))
+            .willReturn(typedQuery);
+        final OtherEntity first = new OtherEntity(1L);
+        final OtherEntity second = new OtherEntity(2L);
+        given(typedQuery.getResultList())
+            .willReturn(List.of(first, second, new OtherEntity(3L)));
+
+        // WHEN
+        final Slice<OtherEntity> result = otherRepository
+            .findPageEagerRelationship(PageRequest.of(1, 2), OtherEntity.class);
+
+        // THEN
+        assertThat(result.getContent()).containsExactly(first, second);
+        assertThat(result.hasNext()).isTrue();
+        verify(entityManager).createQuery(
+            "SELECT e FROM OtherEntity e WHERE e.id IN (SELECT p.id FROM"
+                + " OtherEntity p ORDER BY p.id ASC LIMIT :limit OFFSET"
+                + " :offset) ORDER BY e.id ASC",
+            OtherEntity.class);
+        verify(typedQuery).setParameter("limit", 3);
+        verify(typedQuery).setParameter("offset", 2);
+    }
+
+    @SuppressWarnings("unused")
+    static final class FetchPlanEntity implements DataPresentation<Long> {
+
+        /**
+         * The ID.
+         */
+        @Nullable
+        private Long id;
+
+        /**
+         * The relationship.
+         */
+        @ManyToOne
+        @Nullable
+        private OtherEntity other;
+
+        FetchPlanEntity() {
+
+            this(null);
+        }
+
+        FetchPlanEntity(@Nullable final Long id) {
+
+            this.id = id;
+        }
+
+        @Override
+        @Nullable
+        public Long getId() {
+
+            return id;
+        }
+
+        @Override
+        public int compareTo(final DataPresentation<Long> o) {
+
+            return 0;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class OtherEntity implements DataPresentation<Long> {
+
+        /**
+         * The ID.
+         */
+        @Nullable
+        private Long id;
+
+        OtherEntity() {
+
+            this(null);
+        }
+
+        OtherEntity(@Nullable final Long id) {
+
+            this.id = id;
+        }
+
+        @Override
+        @Nullable
+        public Long getId() {
+
+            return id;
+        }
+
+        @Override
+        public int compareTo(final DataPresentation<Long> o) {
+
+            return 0;
+        }
+    }
+}
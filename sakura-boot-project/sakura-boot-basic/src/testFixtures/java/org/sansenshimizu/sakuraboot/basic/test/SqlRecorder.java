@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.basic.test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * A {@link StatementInspector} that records the SQL statements sent by
+ * Hibernate, so the integration tests can inspect the generated queries.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+public class SqlRecorder implements StatementInspector {
+
+    /**
+     * The recorded SQL statements.
+     */
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(final String sql) {
+
+        statements.add(sql);
+        return sql;
+    }
+
+    /**
+     * Remove all the recorded statements.
+     */
+    public void clear() {
+
+        statements.clear();
+    }
+
+    /**
+     * Get the recorded select statements.
+     *
+     * @return The select statements in the order they were sent.
+     */
+    public List<String> getSelects() {
+
+        return statements.stream()
+            .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select",
+                0, "select".length()))
+            .toList();
+    }
+}
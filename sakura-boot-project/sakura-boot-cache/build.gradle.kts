@@ -28,6 +28,7 @@ dependencies {
     implementation(libs.hibernate.core)
     implementation(libs.jakarta.persistence.api)
     implementation(libs.slf4j.api)
+    implementation(libs.spring.tx)
     runtimeOnly(libs.hibernate.jcache)
 
     testImplementation(projects.sakuraBootCoreTest)
@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.cache;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+/**
+ * A cache key composed of several values, used when a cached method doesn't
+ * define a key. The values are canonicalized once: a {@link Pageable} is
+ * reduced to its page, size and sort orders, a record, a known value type or
+ * a value whose class declares its own equality is kept as is, and any other
+ * value is replaced by its string representation. An equality inherited from
+ * a superclass isn't trusted, because it can ignore the fields of the
+ * subclass (e.g., a filter extending a base filter). The hash is computed
+ * once, so the key is cheap to build and to compare.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+public final class SakuraCacheKey implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4820934367204715962L;
+
+    /**
+     * The known value types, compared by value whatever their class.
+     */
+    private static final List<Class<?>> VALUE_TYPES = List.of(Number.class,
+        CharSequence.class, Boolean.class, Character.class, Enum.class,
+        UUID.class, TemporalAccessor.class);
+
+    /**
+     * Whether a class defines an equality covering all its state, by class.
+     */
+    private static final ClassValue<Boolean> STRUCTURAL_EQUALITY
+        = new ClassValue<>() {
+
+            @Override
+            protected Boolean computeValue(final Class<?> type) {
+
+                return type.isRecord()
+                    || VALUE_TYPES.stream()
+                        .anyMatch(valueType -> valueType
+                            .isAssignableFrom(type))
+                    || declaresEquals(type);
+            }
+        };
+
+    /**
+     * The canonicalized values of the key.
+     */
+    private final Object[] values;
+
+    /**
+     * The hash of the values.
+     */
+    private final int hash;
+
+    private SakuraCacheKey(final Object[] values) {
+
+        this.values = values;
+        hash = Arrays.deepHashCode(values);
+    }
+
+    /**
+     * Create a key from the given values.
+     *
+     * @param  values The values of the key, e.g., the arguments of the cached
+     *                method.
+     * @return        The key.
+     */
+    public static SakuraCacheKey of(final Object... values) {
+
+        return new SakuraCacheKey(canonicalizeAll(values));
+    }
+
+    private static Object[] canonicalizeAll(final Object[] values) {
+
+        final Object[] canonicalValues = new Object[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+
+            canonicalValues[i] = canonicalize(values[i]);
+        }
+        return canonicalValues;
+    }
+
+    @Nullable
+    private static Object canonicalize(@Nullable final Object value) {
+
+        final Object canonicalValue;
+
+        if (value == null || isPrimitiveArray(value)) {
+
+            canonicalValue = value;
+        } else if (value instanceof final Object[] array) {
+
+            canonicalValue = canonicalizeAll(array);
+        } else if (value instanceof final Pageable pageable) {
+
+            canonicalValue = toPageKey(pageable);
+        } else if (value instanceof final Sort sort) {
+
+            canonicalValue = toOrders(sort);
+        } else if (value instanceof Serializable
+            && STRUCTURAL_EQUALITY.get(value.getClass())) {
+
+            canonicalValue = value;
+        } else {
+
+            canonicalValue = value.toString();
+        }
+        return canonicalValue;
+    }
+
+    private static boolean declaresEquals(final Class<?> type) {
+
+        try {
+
+            type.getDeclaredMethod("equals", Object.class);
+            return true;
+        } catch (final NoSuchMethodException e) {
+
+            return false;
+        }
+    }
+
+    private static boolean isPrimitiveArray(final Object value) {
+
+        return value.getClass().isArray()
+            && value.getClass().getComponentType().isPrimitive();
+    }
+
+    private static PageKey toPageKey(final Pageable pageable) {
+
+        if (pageable.isUnpaged()) {
+
+            return new PageKey(-1, -1, toOrders(pageable.getSort()));
+        }
+        return new PageKey(pageable.getPageNumber(), pageable.getPageSize(),
+            toOrders(pageable.getSort()));
+    }
+
+    private static List<Sort.Order> toOrders(final Sort sort) {
+
+        return List.copyOf(sort.toList());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+
+        if (this == obj) {
+
+            return true;
+        }
+        return obj instanceof final SakuraCacheKey other
+            && hash == other.hash
+            && Arrays.deepEquals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+
+        return "SakuraCacheKey" + Arrays.deepToString(values);
+    }
+
+    /**
+     * Recompute the hash after deserialization, because the hash of some
+     * values (e.g., enums) differs between JVMs.
+     *
+     * @return A key with the same values.
+     */
+    @Serial
+    private Object readResolve() {
+
+        return new SakuraCacheKey(values);
+    }
+
+    /**
+     * The canonical form of a {@link Pageable}.
+     *
+     * @param page The page number, -1 if unpaged.
+     * @param size The page size, -1 if unpaged.
+     * @param sort The sort orders.
+     */
+    private record PageKey(int page, int size, List<Sort.Order> sort)
+        implements Serializable {}
+}
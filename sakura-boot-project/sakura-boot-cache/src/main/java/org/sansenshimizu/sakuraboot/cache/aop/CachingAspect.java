@@ -18,29 +18,53 @@ package org.sansenshimizu.sakuraboot.cache.aop;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.SuperService;
 import org.sansenshimizu.sakuraboot.aop.AspectUtil;
+import org.sansenshimizu.sakuraboot.cache.SakuraCacheKey;
 import org.sansenshimizu.sakuraboot.cache.api.Cacheable;
 import org.sansenshimizu.sakuraboot.cache.api.CachingUtil;
 import org.sansenshimizu.sakuraboot.cache.api.annotations.Caching;
 import org.sansenshimizu.sakuraboot.cache.api.annotations.PutCache;
 import org.sansenshimizu.sakuraboot.cache.api.annotations.RemoveCache;
+import org.sansenshimizu.sakuraboot.count.CountCache;
 
 /**
  * The aspect class for caching method inside {@link Cacheable} class using
  * {@link CachingUtil}.
+ * <p>
+ * The generations and the page index of the "all" caches are kept in memory
+ * by each instance of the application. With a cache shared between several
+ * nodes, a write on one node doesn't invalidate the "all" caches of the other
+ * nodes, they are only refreshed when their entries expire.
+ * </p>
+ * <p>
+ * The page index is only maintained if a {@link PutCache} method of a
+ * {@link Cacheable} bean opts in with {@link PutCache#evictPagesById()}.
+ * </p>
  *
  * @author Malcolm Rozé
  * @since  0.1.0
@@ -52,14 +76,97 @@ import org.sansenshimizu.sakuraboot.cache.api.annotations.RemoveCache;
 public final class CachingAspect implements AspectUtil {
 
     /**
-     * The String that represents a null value.
+     * The message for log cache in.
      */
-    private static final String NULL_STRING = "null";
+    private static final String CACHE_IN_LOG = " in : ";
 
     /**
-     * The message for log cache in.
+     * The suffix of the "all" cache names.
      */
-    private static final String CACHE_IN_LOG = " in : ";
+    private static final String ALL_SUFFIX = "All";
+
+    /**
+     * The generation of the "all" caches by cache name. A write increments
+     * the generation instead of clearing the "all" caches, so the keys of the
+     * previous generations are no longer read and expire.
+     */
+    private final Map<String, AtomicLong> generations
+        = new ConcurrentHashMap<>();
+
+    /**
+     * The index of the pages of the "all" caches by entity ID.
+     */
+    private final PageIndex pageIndex;
+
+    /**
+     * Whether a {@link PutCache} method of a {@link Cacheable} bean evicts
+     * the pages by ID, computed at startup. Otherwise, the pages aren't
+     * indexed.
+     */
+    private final boolean pageIndexEnabled;
+
+    /**
+     * The coalescing of the concurrent loads after a cache miss.
+     */
+    private final SingleFlight singleFlight;
+
+    /**
+     * The cache of the counts, evicted with the "all" caches of the entity.
+     */
+    private final CountCache countCache;
+
+    /**
+     * Create the aspect.
+     *
+     * @param pageIndexSize       The maximum number of entity IDs indexed to
+     *                            evict the pages of the "all" caches by ID.
+     * @param singleFlightTimeout The maximum time in milliseconds to wait for
+     *                            the load in progress of the same key after a
+     *                            cache miss, 0 to disable the waiting.
+     * @param beanFactory         The bean factory used to find the
+     *                            {@link Cacheable} beans that evict the pages
+     *                            by ID.
+     * @param countCache          The cache of the counts, evicted with the
+     *                            "all" caches of the entity.
+     */
+    public CachingAspect(
+        @Value("${sakuraboot.cache.page-index-size: 10000}")
+        final int pageIndexSize,
+        @Value("${sakuraboot.cache.single-flight-timeout: 10000}")
+        final long singleFlightTimeout,
+        final ListableBeanFactory beanFactory, final CountCache countCache) {
+
+        pageIndex = new PageIndex(pageIndexSize);
+        pageIndexEnabled = isEvictPagesByIdUsed(beanFactory);
+        singleFlight = new SingleFlight(singleFlightTimeout);
+        this.countCache = countCache;
+    }
+
+    private static boolean isEvictPagesByIdUsed(
+        final ListableBeanFactory beanFactory) {
+
+        for (final String beanName: beanFactory
+            .getBeanNamesForType(Cacheable.class, true, false)) {
+
+            final Class<?> beanType = beanFactory.getType(beanName, false);
+
+            if (beanType != null
+                && isEvictPagesByIdUsed(ClassUtils.getUserClass(beanType))) {
+
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEvictPagesByIdUsed(final Class<?> beanType) {
+
+        return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+            .map(method -> AnnotatedElementUtils.findMergedAnnotation(method,
+                PutCache.class))
+            .anyMatch(annotation -> annotation != null
+                && annotation.evictPagesById());
+    }
 
     private static String[] concatAllToCacheNames(final String[] cacheNames) {
 
@@ -67,11 +174,109 @@ public final class CachingAspect implements AspectUtil {
 
         for (int i = 0; i < concatCacheNames.length; i++) {
 
-            concatCacheNames[i] = concatCacheNames[i] + "All";
+            concatCacheNames[i] = concatCacheNames[i] + ALL_SUFFIX;
         }
         return concatCacheNames;
     }
 
+    private void nextGeneration(final String[] allCacheNames) {
+
+        for (final String cacheName: allCacheNames) {
+
+            generations.computeIfAbsent(cacheName, name -> new AtomicLong())
+                .incrementAndGet();
+        }
+        pageIndex.nextGeneration(allCacheNames);
+    }
+
+    /**
+     * Invalidate the "all" caches and the cached counts of the entity after
+     * the commit of the current transaction, or immediately without
+     * transaction. A read during the transaction would otherwise cache the
+     * rows before the commit under the new generation.
+     *
+     * @param target     The target, its entity class is used to evict the
+     *                   cached counts if it's a {@link SuperService}.
+     * @param cacheNames The names of the entity caches.
+     * @param ids        The IDs of the modified entities, {@code null} to
+     *                   invalidate all the pages.
+     */
+    private void refreshEntityCacheAfterCommit(
+        final Cacheable target, final String[] cacheNames,
+        @Nullable final List<Object> ids) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            TransactionSynchronizationManager
+                .registerSynchronization(new TransactionSynchronization() {
+
+                    @Override
+                    public void afterCommit() {
+
+                        refreshEntityCache(cacheNames, ids);
+                        evictCounts(target);
+                    }
+                });
+        } else {
+
+            refreshEntityCache(cacheNames, ids);
+            evictCounts(target);
+        }
+    }
+
+    private void evictCounts(final Cacheable target) {
+
+        if (target instanceof final SuperService<?, ?> service) {
+
+            countCache.evict(service.getEntityClass());
+        }
+    }
+
+    /**
+     * Invalidate the "all" caches of the entity. Only the pages that contain
+     * the given IDs are evicted if possible, otherwise the generation of the
+     * caches is incremented.
+     *
+     * @param cacheNames The names of the entity caches.
+     * @param ids        The IDs of the modified entities, {@code null} to
+     *                   invalidate all the pages.
+     */
+    private void refreshEntityCache(
+        final String[] cacheNames, @Nullable final List<Object> ids) {
+
+        final String[] allCacheNames = concatAllToCacheNames(cacheNames);
+
+        if (pageIndexEnabled && ids != null && ids.stream()
+            .allMatch(id -> pageIndex.evict(allCacheNames, id))) {
+
+            log.atInfo().log("evict \"all\" cache pages of : " + ids);
+        } else {
+
+            nextGeneration(allCacheNames);
+            log.atInfo().log("new \"all\" cache generation");
+        }
+    }
+
+    private Object withGeneration(
+        final String[] allCacheNames, final Object key) {
+
+        final StringJoiner generationKey = new StringJoiner(".");
+
+        for (final String cacheName: allCacheNames) {
+
+            final AtomicLong generation = generations.get(cacheName);
+            generationKey.add(String.valueOf(generation == null
+                ? 0
+                : generation.get()));
+        }
+
+        if (key instanceof SakuraCacheKey) {
+
+            return SakuraCacheKey.of(generationKey.toString(), key);
+        }
+        return generationKey + ":" + key;
+    }
+
     /**
      * Aspect method that call
      * {@link CachingUtil#caching(String[], CachingUtil.Supplier, Object)} .
@@ -126,16 +331,7 @@ public final class CachingAspect implements AspectUtil {
                 keyAnnotation);
         } else {
 
-            key = Arrays.stream(joinPoint.getArgs()).map((final Object arg) -> {
-
-                if (arg == null) {
-
-                    return NULL_STRING;
-                } else {
-
-                    return arg.toString();
-                }
-            }).collect(Collectors.joining());
+            key = SakuraCacheKey.of(joinPoint.getArgs());
         }
 
         if (key == null) {
@@ -143,8 +339,35 @@ public final class CachingAspect implements AspectUtil {
             key = "";
         }
 
-        final Object result = target.getCachingUtil()
-            .caching(cacheNames, joinPoint::proceed, key);
+        final boolean allCache
+            = ALL_SUFFIX.equals(annotation.concatToCacheName());
+
+        if (allCache) {
+
+            key = withGeneration(cacheNames, key);
+        }
+        final CachingUtil cachingUtil = target.getCachingUtil();
+        final Object cacheKey = key;
+        final boolean indexPage = allCache && pageIndexEnabled;
+        final long evictions
+            = indexPage ? pageIndex.getEvictions(cacheNames) : 0;
+        final Object result = cachingUtil.caching(cacheNames,
+            () -> singleFlight.load(cacheNames, cacheKey, () -> {
+
+                final Object value = joinPoint.proceed();
+
+                if (indexPage) {
+
+                    pageIndex.add(cachingUtil, cacheNames, cacheKey, value);
+                }
+                return value;
+            }), key);
+
+        if (indexPage && pageIndex.getEvictions(cacheNames) != evictions) {
+
+            // A page evicted while this page was read, this page can be stale.
+            cachingUtil.removeCache(cacheNames, key);
+        }
         log.atInfo()
             .log("get from cache or put : " + result + CACHE_IN_LOG + key);
 
@@ -185,9 +408,10 @@ public final class CachingAspect implements AspectUtil {
 
         if (annotation.refreshEntityCache()) {
 
-            target.getCachingUtil()
-                .removeAllCache(concatAllToCacheNames(cacheNames));
-            log.atInfo().log("remove \"all\" cache before");
+            refreshEntityCacheAfterCommit(target, cacheNames,
+                annotation.evictPagesById()
+                    && result instanceof final DataPresentation<?> data
+                    && data.getId() != null ? List.of(data.getId()) : null);
         }
 
         if (result instanceof final Collection<?> collection) {
@@ -249,16 +473,7 @@ public final class CachingAspect implements AspectUtil {
             key = id;
         } else {
 
-            key = Arrays.stream(joinPoint.getArgs()).map((final Object arg) -> {
-
-                if (arg == null) {
-
-                    return NULL_STRING;
-                } else {
-
-                    return arg.toString();
-                }
-            }).collect(Collectors.joining());
+            key = SakuraCacheKey.of(joinPoint.getArgs());
         }
 
         if (key == null && id != null) {
@@ -309,9 +524,7 @@ public final class CachingAspect implements AspectUtil {
 
         if (annotation.refreshEntityCache()) {
 
-            target.getCachingUtil()
-                .removeAllCache(concatAllToCacheNames(cacheNames));
-            log.atInfo().log("remove \"all\" cache");
+            refreshEntityCacheAfterCommit(target, cacheNames, null);
         }
 
         Object key;
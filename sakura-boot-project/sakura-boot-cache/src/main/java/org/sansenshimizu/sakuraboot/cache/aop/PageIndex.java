@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.cache.aop;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.cache.api.CachingUtil;
+
+/**
+ * Reverse index from the ID of an entity to the keys of the cached pages of
+ * the "all" caches that contain it. It lets a modification by ID evict only
+ * the pages that contain the modified entity.
+ * The index is bounded: when an ID is dropped from the index, its pages are
+ * evicted, so a page is never cached without being indexed. A cache that
+ * holds a result that can't be indexed (e.g., without IDs) can't be evicted
+ * by ID until its next generation.
+ *
+ * @author Malcolm Rozé
+ * @see    CachingAspect
+ * @since  0.2.0
+ */
+final class PageIndex {
+
+    /**
+     * The pages by cache name and entity ID, in least recently used order.
+     */
+    private final Map<IdKey, Set<Page>> pagesById;
+
+    /**
+     * The pages of the IDs dropped from the index, to evict outside the lock
+     * of the index.
+     */
+    private final List<Page> droppedPages = new ArrayList<>();
+
+    /**
+     * The names of the caches that hold a result that can't be indexed.
+     */
+    private final Set<String> unindexedCaches = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The number of evictions by cache name.
+     */
+    private final Map<String, AtomicLong> evictions = new ConcurrentHashMap<>();
+
+    /**
+     * Create a page index.
+     *
+     * @param maxSize The maximum number of IDs kept in the index.
+     */
+    PageIndex(final int maxSize) {
+
+        pagesById = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(
+                final Map.Entry<IdKey, Set<Page>> eldest) {
+
+                if (size() <= maxSize) {
+
+                    return false;
+                }
+                droppedPages.addAll(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Get the number of evictions of the caches. It changes if a page of the
+     * caches was evicted.
+     *
+     * @param  cacheNames The names of the caches.
+     * @return            The number of evictions.
+     */
+    long getEvictions(final String[] cacheNames) {
+
+        long count = 0;
+
+        for (final String cacheName: cacheNames) {
+
+            final AtomicLong cacheEvictions = evictions.get(cacheName);
+
+            if (cacheEvictions != null) {
+
+                count += cacheEvictions.get();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Index a cached page with the IDs of its entities.
+     *
+     * @param cachingUtil The {@link CachingUtil} used to evict the page.
+     * @param cacheNames  The names of the caches of the page.
+     * @param key         The key of the page.
+     * @param result      The cached page.
+     */
+    void add(
+        final CachingUtil cachingUtil, final String[] cacheNames,
+        final Object key, final Object result) {
+
+        final List<Object> ids = getIds(result);
+
+        if (ids == null) {
+
+            unindexedCaches.addAll(List.of(cacheNames));
+            return;
+        }
+        final Page page = new Page(cachingUtil, List.of(cacheNames), key);
+        final List<Page> pagesToEvict;
+
+        synchronized (pagesById) {
+
+            for (final String cacheName: cacheNames) {
+
+                for (final Object id: ids) {
+
+                    pagesById
+                        .computeIfAbsent(new IdKey(cacheName, id),
+                            idKey -> new HashSet<>())
+                        .add(page);
+                }
+            }
+            pagesToEvict = List.copyOf(droppedPages);
+            droppedPages.clear();
+        }
+        pagesToEvict.forEach(this::evict);
+    }
+
+    /**
+     * Evict the cached pages that contain the entity.
+     *
+     * @param  cacheNames The names of the caches.
+     * @param  id         The ID of the entity.
+     * @return            False if a cache holds a page that can't be indexed,
+     *                    so the pages can't be evicted by ID, true otherwise.
+     */
+    boolean evict(final String[] cacheNames, final Object id) {
+
+        final List<String> names = List.of(cacheNames);
+
+        if (names.stream().anyMatch(unindexedCaches::contains)) {
+
+            return false;
+        }
+        final Set<Page> pages = new HashSet<>();
+
+        synchronized (pagesById) {
+
+            for (final String cacheName: names) {
+
+                final Set<Page> idPages
+                    = pagesById.remove(new IdKey(cacheName, id));
+
+                if (idPages != null) {
+
+                    pages.addAll(idPages);
+                }
+            }
+        }
+        pages.forEach(this::evict);
+        return true;
+    }
+
+    /**
+     * Forget the caches that hold a result that can't be indexed, because
+     * their generation changed.
+     *
+     * @param cacheNames The names of the caches.
+     */
+    void nextGeneration(final String[] cacheNames) {
+
+        List.of(cacheNames).forEach(unindexedCaches::remove);
+    }
+
+    private void evict(final Page page) {
+
+        page.cacheNames()
+            .forEach(cacheName -> evictions
+                .computeIfAbsent(cacheName, name -> new AtomicLong())
+                .incrementAndGet());
+        page.cachingUtil()
+            .removeCache(page.cacheNames().toArray(String[]::new), page.key());
+    }
+
+    @Nullable
+    private static List<Object> getIds(final Object result) {
+
+        final Collection<?> elements;
+
+        if (result instanceof final Slice<?> slice) {
+
+            elements = slice.getContent();
+        } else if (result instanceof final Collection<?> collection) {
+
+            elements = collection;
+        } else {
+
+            return null;
+        }
+        final List<Object> ids = new ArrayList<>(elements.size());
+
+        for (final Object element: elements) {
+
+            if (!(element instanceof final DataPresentation<?> data)
+                || data.getId() == null) {
+
+                return null;
+            }
+            ids.add(data.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * The ID of an entity in a cache.
+     *
+     * @param cacheName The name of the cache.
+     * @param id        The ID of the entity.
+     */
+    private record IdKey(String cacheName, Object id) {}
+
+    /**
+     * A cached page.
+     *
+     * @param cachingUtil The {@link CachingUtil} used to evict the page.
+     * @param cacheNames  The names of the caches of the page.
+     * @param key         The key of the page.
+     */
+    private record Page(
+        CachingUtil cachingUtil, List<String> cacheNames, Object key) {}
+}
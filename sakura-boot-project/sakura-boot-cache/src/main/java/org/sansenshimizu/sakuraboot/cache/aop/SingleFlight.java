@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.cache.aop;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.cache.api.CachingUtil;
+
+/**
+ * Coalesce the concurrent loads of the same cache key after a cache miss. The
+ * first load is done by the calling thread and the other threads wait for its
+ * result, so an expired entry is loaded once instead of once per request.
+ * The waiting threads fail with the exception of the first load if it fails.
+ * If it doesn't finish before the timeout, a single waiting thread loads the
+ * value again and the other ones wait for it.
+ *
+ * @author Malcolm Rozé
+ * @see    CachingAspect
+ * @since  0.2.0
+ */
+final class SingleFlight {
+
+    /**
+     * The loads in progress by cache key.
+     */
+    private final Map<FlightKey, CompletableFuture<Object>> flights
+        = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum time to wait for a load in progress, in milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * Create a single flight.
+     *
+     * @param timeout The maximum time to wait for a load in progress, in
+     *                milliseconds. A timeout of 0 or less disables the
+     *                coalescing.
+     */
+    SingleFlight(final long timeout) {
+
+        this.timeout = timeout;
+    }
+
+    /**
+     * Load the value of a cache key, or wait for the load in progress of the
+     * same key.
+     *
+     * @param  cacheNames The names of the caches.
+     * @param  key        The cache key.
+     * @param  loader     The function that loads the value.
+     * @return            The loaded value.
+     * @throws Throwable  If the loader of this thread or of the load in
+     *                    progress throws an exception.
+     */
+    @Nullable
+    Object load(
+        final String[] cacheNames, final Object key,
+        final CachingUtil.Supplier<Object> loader)
+        throws Throwable {
+
+        if (timeout <= 0) {
+
+            return loader.get();
+        }
+        final FlightKey flightKey = new FlightKey(List.of(cacheNames), key);
+        CompletableFuture<Object> expiredFlight = null;
+
+        while (true) {
+
+            final CompletableFuture<Object> flight = new CompletableFuture<>();
+            final CompletableFuture<Object> currentFlight
+                = elect(flightKey, expiredFlight, flight);
+
+            if (currentFlight == null) {
+
+                return lead(flightKey, flight, loader);
+            }
+
+            try {
+
+                return currentFlight.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+                throw e;
+            } catch (final ExecutionException e) {
+
+                throw e.getCause();
+            } catch (final TimeoutException e) {
+
+                // A single waiting thread replaces the expired load.
+                expiredFlight = currentFlight;
+            }
+        }
+    }
+
+    /**
+     * Elect the thread that loads the value of a key.
+     *
+     * @param  flightKey     The key of the load.
+     * @param  expiredFlight The load in progress that timed out, if any.
+     * @param  flight        The load of the current thread.
+     * @return               The load in progress to wait for, or {@code null}
+     *                       if the current thread must load the value.
+     */
+    @Nullable
+    private CompletableFuture<Object> elect(
+        final FlightKey flightKey,
+        @Nullable final CompletableFuture<Object> expiredFlight,
+        final CompletableFuture<Object> flight) {
+
+        if (expiredFlight != null
+            && flights.replace(flightKey, expiredFlight, flight)) {
+
+            return null;
+        }
+        return flights.putIfAbsent(flightKey, flight);
+    }
+
+    @Nullable
+    private Object lead(
+        final FlightKey flightKey, final CompletableFuture<Object> flight,
+        final CachingUtil.Supplier<Object> loader)
+        throws Throwable {
+
+        try {
+
+            final Object value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (final Throwable e) {
+
+            // The waiting threads fail with the same exception.
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+
+            flights.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * The key of a load.
+     *
+     * @param cacheNames The names of the caches.
+     * @param key        The cache key.
+     */
+    private record FlightKey(List<String> cacheNames, Object key) {}
+}
@@ -27,6 +27,7 @@ import jakarta.persistence.Entity;
 
 import javax.cache.CacheManager;
 import javax.cache.Caching;
+import javax.cache.configuration.CompleteConfiguration;
 import javax.cache.configuration.MutableConfiguration;
 import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
@@ -34,6 +35,7 @@ import javax.cache.expiry.Duration;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.hibernate.annotations.Cache;
 import org.springframework.beans.BeanInstantiationException;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
@@ -52,6 +54,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 
@@ -186,8 +189,7 @@ public class CacheConfiguration {
                 ?> actualSpringCacheAllConfiguration
                     = Objects.requireNonNullElseGet(
                         cacheSpecification.secondLevelConfiguration(),
-                        () -> cacheConfiguration
-                            .getObject(Pair.of(String.class, Page.class)));
+                        () -> getAllCacheConfiguration(cacheConfiguration));
             final String cacheName
                 = Objects.requireNonNullElseGet(cacheSpecification.name(),
                     cacheSpecification.type()::getSimpleName);
@@ -197,6 +199,46 @@ public class CacheConfiguration {
         }
     }
 
+    /**
+     * Get the configuration of the "All" caches, whose keys are any object
+     * and values a {@link Slice}. A configuration provider that has no
+     * configuration for this pair of types is asked for the previous
+     * {@code (String, Page)} pair, and the types of that configuration are
+     * widened to accept the keys and values of the "All" caches.
+     *
+     * @param  cacheConfiguration the cache configuration provider
+     * @param  <K>                the key type for the cache
+     * @param  <V>                the value type for the cache
+     * @return                    the configuration of the "All" caches
+     */
+    private static <K, V> javax.cache.configuration.Configuration<?,
+        ?> getAllCacheConfiguration(final ObjectProvider<
+            javax.cache.configuration.Configuration<K, V>> cacheConfiguration) {
+
+        try {
+
+            return cacheConfiguration
+                .getObject(Pair.of(Object.class, Slice.class));
+        } catch (final NoSuchBeanDefinitionException e) {
+
+            final javax.cache.configuration.Configuration<K, V> configuration
+                = cacheConfiguration
+                    .getObject(Pair.of(String.class, Page.class));
+
+            if (configuration instanceof final CompleteConfiguration<?,
+                ?> completeConfiguration) {
+
+                @SuppressWarnings("unchecked")
+                final CompleteConfiguration<Object,
+                    Object> objectConfiguration = (CompleteConfiguration<Object,
+                        Object>) completeConfiguration;
+                return new MutableConfiguration<>(objectConfiguration)
+                    .setTypes(Object.class, Object.class);
+            }
+            return configuration;
+        }
+    }
+
     private static <K, V> void createL2Cache(
         final javax.cache.configuration.Configuration<K, V> cacheConfiguration,
         final CachesSpecification.CacheSpecification cacheSpecification,
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.cache;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test class for {@link SakuraCacheKey}.
+ *
+ * @author Malcolm Rozé
+ * @see    SakuraCacheKey
+ * @since  0.2.0
+ */
+class SakuraCacheKeyTest {
+
+    /**
+     * The name of the filtered value.
+     */
+    private static final String NAME = "name";
+
+    @Test
+    @DisplayName("GIVEN two equal filters and pageables,"
+        + " WHEN creating the keys,"
+        + " THEN the keys should be equal")
+    final void testEqualKeys() {
+
+        // WHEN
+        final SakuraCacheKey key = SakuraCacheKey.of(new TestFilter(NAME),
+            PageRequest.of(0, 10, Sort.by(NAME)));
+        final SakuraCacheKey otherKey = SakuraCacheKey.of(new TestFilter(NAME),
+            PageRequest.of(0, 10, Sort.by(NAME)));
+
+        // THEN
+        assertThat(key).isEqualTo(otherKey).hasSameHashCodeAs(otherKey);
+    }
+
+    @Test
+    @DisplayName("GIVEN two pageables with different pages,"
+        + " WHEN creating the keys,"
+        + " THEN the keys should not be equal")
+    final void testKeysWithDifferentPage() {
+
+        // WHEN
+        final SakuraCacheKey key = SakuraCacheKey.of(new TestFilter(NAME),
+            PageRequest.of(0, 10, Sort.by(NAME)));
+        final SakuraCacheKey otherKey = SakuraCacheKey.of(new TestFilter(NAME),
+            PageRequest.of(1, 10, Sort.by(NAME)));
+
+        // THEN
+        assertThat(key).isNotEqualTo(otherKey);
+    }
+
+    @Test
+    @DisplayName("GIVEN values without equality, arrays and unpaged pageables,"
+        + " WHEN creating the keys,"
+        + " THEN the keys should be compared by content")
+    final void testKeysWithCanonicalizedValues() {
+
+        // WHEN
+        final SakuraCacheKey key = SakuraCacheKey.of(new TestValue(),
+            new Object[] {
+                NAME
+            }, new int[] {
+                1
+            }, Pageable.unpaged(), null);
+        final SakuraCacheKey otherKey = SakuraCacheKey.of(new TestValue(),
+            new Object[] {
+                NAME
+            }, new int[] {
+                1
+            }, Pageable.unpaged(), null);
+
+        // THEN
+        assertThat(key).isEqualTo(otherKey).hasSameHashCodeAs(otherKey);
+    }
+
+    @Test
+    @DisplayName("GIVEN two filters equal by an inherited equals only,"
+        + " WHEN creating the keys,"
+        + " THEN the keys should be compared by the string representation")
+    final void testKeysWithInheritedEquals() {
+
+        // WHEN
+        final SakuraCacheKey key = SakuraCacheKey.of(new TestSubFilter(NAME));
+        final SakuraCacheKey otherKey
+            = SakuraCacheKey.of(new TestSubFilter("other"));
+
+        // THEN
+        assertThat(new TestSubFilter(NAME))
+            .isEqualTo(new TestSubFilter("other"));
+        assertThat(key).isNotEqualTo(otherKey);
+    }
+
+    private record TestFilter(String name) implements Serializable {}
+
+    private abstract static class TestBaseFilter implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public boolean equals(final Object obj) {
+
+            return obj != null && getClass() == obj.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+
+            return getClass().hashCode();
+        }
+    }
+
+    private static final class TestSubFilter extends TestBaseFilter {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The filtered name, ignored by the inherited equals.
+         */
+        private final String name;
+
+        private TestSubFilter(final String name) {
+
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+
+            return "TestSubFilter(name=" + name + ")";
+        }
+    }
+
+    private static final class TestValue {
+
+        @Override
+        public String toString() {
+
+            return NAME;
+        }
+    }
+}
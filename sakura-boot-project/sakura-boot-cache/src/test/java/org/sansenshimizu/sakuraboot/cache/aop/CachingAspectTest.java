@@ -18,7 +18,9 @@ package org.sansenshimizu.sakuraboot.cache.aop;
 
 import java.io.Serial;
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import lombok.Getter;
@@ -26,21 +28,30 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
 import org.mockito.Mock;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.SuperService;
+import org.sansenshimizu.sakuraboot.cache.SakuraCacheKey;
 import org.sansenshimizu.sakuraboot.cache.api.Cacheable;
 import org.sansenshimizu.sakuraboot.cache.api.CachingUtil;
 import org.sansenshimizu.sakuraboot.cache.api.annotations.Caching;
 import org.sansenshimizu.sakuraboot.cache.api.annotations.PutCache;
 import org.sansenshimizu.sakuraboot.cache.api.annotations.RemoveCache;
+import org.sansenshimizu.sakuraboot.count.CountCache;
 import org.sansenshimizu.sakuraboot.test.aop.AspectUtilTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -67,6 +78,16 @@ class CachingAspectTest implements AspectUtilTest {
      */
     private static final String CONCAT_STRING = "Concat";
 
+    /**
+     * The maximum number of IDs in the page index.
+     */
+    private static final int PAGE_INDEX_SIZE = 100;
+
+    /**
+     * The maximum time to wait for a load in progress.
+     */
+    private static final long SINGLE_FLIGHT_TIMEOUT = 1000;
+
     /**
      * The mock {@link ProceedingJoinPoint}.
      */
@@ -104,17 +125,39 @@ class CachingAspectTest implements AspectUtilTest {
     @Mock
     private RemoveCache removeCacheAnnotation;
 
+    /**
+     * The mock {@link Cacheable} target that is also a {@link SuperService}.
+     */
+    @Mock
+    private CacheableServiceForTest serviceTarget;
+
     /**
      * The mock {@link CachingUtil}.
      */
     @Mock
     private CachingUtil cachingUtil;
 
+    /**
+     * The {@link CountCache} evicted by the aspect.
+     */
+    private final CountCache countCache
+        = new CountCache(Duration.ofMinutes(1), PAGE_INDEX_SIZE);
+
     /**
      * The {@link CachingAspect} to test.
      */
     @Getter
-    private final CachingAspect aspect = new CachingAspect();
+    private final CachingAspect aspect = new CachingAspect(PAGE_INDEX_SIZE,
+        SINGLE_FLIGHT_TIMEOUT, new StaticListableBeanFactory(), countCache);
+
+    /**
+     * The {@link CachingAspect} to test, with a {@link Cacheable} bean that
+     * evicts the pages by ID.
+     */
+    private final CachingAspect evictingAspect = new CachingAspect(
+        PAGE_INDEX_SIZE, SINGLE_FLIGHT_TIMEOUT, new StaticListableBeanFactory(
+            Map.of("evictingService", new EvictingServiceForTest())),
+        countCache);
 
     @Test
     @DisplayName("GIVEN the caching aspect method call,"
@@ -145,6 +188,8 @@ class CachingAspectTest implements AspectUtilTest {
 
             // THEN
             assertThat(result).isEqualTo(EXPECTED_VALUE);
+            verify(cachingUtil, times(1)).caching(any(), any(),
+                eq(SakuraCacheKey.of(getArgs())));
         });
     }
 
@@ -245,6 +290,205 @@ class CachingAspectTest implements AspectUtilTest {
         }, true);
     }
 
+    @Test
+    @DisplayName("GIVEN the caching aspect method call for the \"all\" cache,"
+        + " WHEN caching before and after a refresh of the entity cache,"
+        + " THEN the key should use the next generation")
+    final void testCachingAllAfterRefreshEntityCache() throws Throwable {
+
+        // GIVEN
+        given(cachingAnnotation.specificsCacheNames()).willReturn(CACHE_NAMES);
+        given(cachingAnnotation.concatToCacheName()).willReturn("All");
+        given(cachingAnnotation.key()).willReturn(SPEL_EXPRESSION);
+        BDDMockito.<Class<? extends Annotation>>given(
+            cachingAnnotation.annotationType()).willReturn(Caching.class);
+        given(removeCacheAnnotation.specificsCacheNames())
+            .willReturn(CACHE_NAMES);
+        given(removeCacheAnnotation.key()).willReturn(SPEL_EXPRESSION);
+        BDDMockito
+            .<Class<? extends Annotation>>given(
+                removeCacheAnnotation.annotationType())
+            .willReturn(RemoveCache.class);
+        given(removeCacheAnnotation.refreshEntityCache()).willReturn(true);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getParameterNames()).willReturn(getParameterName());
+        given(joinPoint.getArgs()).willReturn(getArgs());
+        given(target.getCachingUtil()).willReturn(cachingUtil);
+        mockJoinPoint(EXPECTED_VALUE);
+        given(cachingUtil.caching(any(), any(), any())).willAnswer(
+            invocation -> invocation.getArgument(1, CachingUtil.Supplier.class)
+                .get());
+        final ArgumentCaptor<Object> keys
+            = ArgumentCaptor.forClass(Object.class);
+        mockForLog(() -> {
+
+            // WHEN
+            getAspect().caching(joinPoint, target, cachingAnnotation);
+            getAspect().removeCache(joinPoint, target, removeCacheAnnotation);
+            getAspect().caching(joinPoint, target, cachingAnnotation);
+
+            // THEN
+            verify(cachingUtil, times(2)).caching(any(), any(), keys.capture());
+            assertThat(keys.getAllValues()).containsExactly(
+                "0:" + EXPECTED_VALUE, "1:" + EXPECTED_VALUE);
+            verify(cachingUtil, never()).removeAllCache(any());
+        }, true);
+    }
+
+    @Test
+    @DisplayName("GIVEN the caching aspect method call for the \"all\" cache,"
+        + " WHEN caching during and after the transaction of a refresh,"
+        + " THEN the key should use the next generation after the commit")
+    final void testCachingAllDuringRefreshTransaction() throws Throwable {
+
+        // GIVEN
+        given(cachingAnnotation.specificsCacheNames()).willReturn(CACHE_NAMES);
+        given(cachingAnnotation.concatToCacheName()).willReturn("All");
+        given(cachingAnnotation.key()).willReturn(SPEL_EXPRESSION);
+        BDDMockito.<Class<? extends Annotation>>given(
+            cachingAnnotation.annotationType()).willReturn(Caching.class);
+        given(removeCacheAnnotation.specificsCacheNames())
+            .willReturn(CACHE_NAMES);
+        given(removeCacheAnnotation.key()).willReturn(SPEL_EXPRESSION);
+        BDDMockito
+            .<Class<? extends Annotation>>given(
+                removeCacheAnnotation.annotationType())
+            .willReturn(RemoveCache.class);
+        given(removeCacheAnnotation.refreshEntityCache()).willReturn(true);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getParameterNames()).willReturn(getParameterName());
+        given(joinPoint.getArgs()).willReturn(getArgs());
+        given(target.getCachingUtil()).willReturn(cachingUtil);
+        mockJoinPoint(EXPECTED_VALUE);
+        given(cachingUtil.caching(any(), any(), any())).willAnswer(
+            invocation -> invocation.getArgument(1, CachingUtil.Supplier.class)
+                .get());
+        final ArgumentCaptor<Object> keys
+            = ArgumentCaptor.forClass(Object.class);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+
+            mockForLog(() -> {
+
+                // WHEN
+                getAspect().removeCache(joinPoint, target,
+                    removeCacheAnnotation);
+                getAspect().caching(joinPoint, target, cachingAnnotation);
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+                getAspect().caching(joinPoint, target, cachingAnnotation);
+
+                // THEN
+                verify(cachingUtil, times(2)).caching(any(), any(),
+                    keys.capture());
+                assertThat(keys.getAllValues()).containsExactly(
+                    "0:" + EXPECTED_VALUE, "1:" + EXPECTED_VALUE);
+            }, true);
+        } finally {
+
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN the caching aspect method call for the \"all\" cache,"
+        + " WHEN caching before and after a putCache evicting pages by ID,"
+        + " THEN only the page with the ID should be evicted")
+    final void testCachingAllAfterEvictPagesById() throws Throwable {
+
+        // GIVEN
+        final TestDataPresentation data
+            = new TestDataPresentation(EXPECTED_VALUE);
+        final List<TestDataPresentation> page = List.of(data);
+        given(cachingAnnotation.specificsCacheNames()).willReturn(CACHE_NAMES);
+        given(cachingAnnotation.concatToCacheName()).willReturn("All");
+        given(cachingAnnotation.key()).willReturn(SPEL_EXPRESSION);
+        BDDMockito.<Class<? extends Annotation>>given(
+            cachingAnnotation.annotationType()).willReturn(Caching.class);
+        given(putCacheAnnotation.specificsCacheNames()).willReturn(CACHE_NAMES);
+        given(putCacheAnnotation.key()).willReturn(SPEL_EXPRESSION);
+        BDDMockito.<Class<? extends Annotation>>given(
+            putCacheAnnotation.annotationType()).willReturn(PutCache.class);
+        given(putCacheAnnotation.refreshEntityCache()).willReturn(true);
+        given(putCacheAnnotation.evictPagesById()).willReturn(true);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getParameterNames()).willReturn(getParameterName());
+        given(joinPoint.getArgs()).willReturn(getArgs());
+        given(target.getCachingUtil()).willReturn(cachingUtil);
+        given(joinPoint.proceed()).willReturn(page, data, page);
+        given(cachingUtil.caching(any(), any(), any())).willAnswer(
+            invocation -> invocation.getArgument(1, CachingUtil.Supplier.class)
+                .get());
+        final ArgumentCaptor<Object> keys
+            = ArgumentCaptor.forClass(Object.class);
+        mockForLog(() -> {
+
+            // WHEN
+            evictingAspect.caching(joinPoint, target, cachingAnnotation);
+            evictingAspect.putCache(joinPoint, target, putCacheAnnotation);
+            evictingAspect.caching(joinPoint, target, cachingAnnotation);
+
+            // THEN
+            verify(cachingUtil, times(2)).caching(any(), any(), keys.capture());
+            assertThat(keys.getAllValues()).containsExactly(
+                "0:" + EXPECTED_VALUE, "0:" + EXPECTED_VALUE);
+            verify(cachingUtil, times(1)).removeCache(new String[] {
+                "testAll"
+            }, "0:" + EXPECTED_VALUE);
+            verify(cachingUtil, never()).removeAllCache(any());
+        }, true);
+    }
+
+    @Test
+    @DisplayName("GIVEN no bean evicting the pages by ID,"
+        + " WHEN caching before and after a putCache evicting pages by ID,"
+        + " THEN the key should use the next generation")
+    final void testCachingAllWithoutPageIndex() throws Throwable {
+
+        // GIVEN
+        final TestDataPresentation data
+            = new TestDataPresentation(EXPECTED_VALUE);
+        final List<TestDataPresentation> page = List.of(data);
+        given(cachingAnnotation.specificsCacheNames()).willReturn(CACHE_NAMES);
+        given(cachingAnnotation.concatToCacheName()).willReturn("All");
+        given(cachingAnnotation.key()).willReturn(SPEL_EXPRESSION);
+        BDDMockito.<Class<? extends Annotation>>given(
+            cachingAnnotation.annotationType()).willReturn(Caching.class);
+        given(putCacheAnnotation.specificsCacheNames()).willReturn(CACHE_NAMES);
+        given(putCacheAnnotation.key()).willReturn(SPEL_EXPRESSION);
+        BDDMockito.<Class<? extends Annotation>>given(
+            putCacheAnnotation.annotationType()).willReturn(PutCache.class);
+        given(putCacheAnnotation.refreshEntityCache()).willReturn(true);
+        given(putCacheAnnotation.evictPagesById()).willReturn(true);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getParameterNames()).willReturn(getParameterName());
+        given(joinPoint.getArgs()).willReturn(getArgs());
+        given(target.getCachingUtil()).willReturn(cachingUtil);
+        given(joinPoint.proceed()).willReturn(page, data, page);
+        given(cachingUtil.caching(any(), any(), any())).willAnswer(
+            invocation -> invocation.getArgument(1, CachingUtil.Supplier.class)
+                .get());
+        final ArgumentCaptor<Object> keys
+            = ArgumentCaptor.forClass(Object.class);
+        mockForLog(() -> {
+
+            // WHEN
+            getAspect().caching(joinPoint, target, cachingAnnotation);
+            getAspect().putCache(joinPoint, target, putCacheAnnotation);
+            getAspect().caching(joinPoint, target, cachingAnnotation);
+
+            // THEN
+            verify(cachingUtil, times(2)).caching(any(), any(), keys.capture());
+            assertThat(keys.getAllValues()).containsExactly(
+                "0:" + EXPECTED_VALUE, "1:" + EXPECTED_VALUE);
+            verify(cachingUtil, never()).removeCache(new String[] {
+                "testAll"
+            }, "0:" + EXPECTED_VALUE);
+            verify(cachingUtil, never()).removeAllCache(any());
+        }, true);
+    }
+
     @Test
     @DisplayName("GIVEN the putCache aspect method call,"
         + " WHEN putCache,"
@@ -371,7 +615,7 @@ class CachingAspectTest implements AspectUtilTest {
 
             // THEN
             assertThat(result).isEqualTo(EXPECTED_VALUE);
-            verify(cachingUtil, times(1)).removeAllCache(any());
+            verify(cachingUtil, never()).removeAllCache(any());
         }, true);
     }
 
@@ -403,7 +647,7 @@ class CachingAspectTest implements AspectUtilTest {
 
             // THEN
             assertThat(result).isEqualTo(EXPECTED_VALUE);
-            verify(cachingUtil, times(1)).removeAllCache(any());
+            verify(cachingUtil, never()).removeAllCache(any());
         }, true);
     }
 
@@ -542,6 +786,40 @@ class CachingAspectTest implements AspectUtilTest {
         });
     }
 
+    @Test
+    @DisplayName("GIVEN the removeCache aspect method call of a service,"
+        + " WHEN removeCache with a refresh of the entity cache,"
+        + " THEN the cached counts of the entity should be evicted")
+    final void testRemoveCacheEvictCounts() throws Throwable {
+
+        // GIVEN
+        mockJoinPoint(EXPECTED_VALUE);
+        given(removeCacheAnnotation.specificsCacheNames())
+            .willReturn(new String[] {});
+        given(serviceTarget.getCacheNames()).willReturn(CACHE_NAMES);
+        given(removeCacheAnnotation.key()).willReturn("");
+        given(removeCacheAnnotation.value()).willReturn("");
+        BDDMockito
+            .<Class<? extends Annotation>>given(
+                removeCacheAnnotation.annotationType())
+            .willReturn(RemoveCache.class);
+        given(serviceTarget.getCachingUtil()).willReturn(cachingUtil);
+        given(serviceTarget.getEntityClass())
+            .willReturn(TestDataPresentation.class);
+        given(removeCacheAnnotation.refreshEntityCache()).willReturn(true);
+        countCache.getCount(TestDataPresentation.class, null, () -> 1L);
+        mockForLog(() -> {
+
+            // WHEN
+            getAspect().removeCache(joinPoint, serviceTarget,
+                removeCacheAnnotation);
+
+            // THEN
+            assertThat(countCache.getCount(TestDataPresentation.class, null,
+                () -> 2L)).isEqualTo(2L);
+        });
+    }
+
     @Test
     @DisplayName("GIVEN the removeCache aspect method call with annotation "
         + "value,"
@@ -572,7 +850,7 @@ class CachingAspectTest implements AspectUtilTest {
             // THEN
             assertThat(result).isEqualTo(EXPECTED_VALUE);
             verify(cachingUtil, times(1)).removeCache(any(), any());
-            verify(cachingUtil, times(1)).removeAllCache(any());
+            verify(cachingUtil, never()).removeAllCache(any());
         }, true);
     }
 
@@ -607,10 +885,28 @@ class CachingAspectTest implements AspectUtilTest {
             // THEN
             assertThat(result).isEqualTo(EXPECTED_VALUE);
             verify(cachingUtil, times(1)).removeCache(any(), any());
-            verify(cachingUtil, times(1)).removeAllCache(any());
+            verify(cachingUtil, never()).removeAllCache(any());
         }, true);
     }
 
+    private interface CacheableServiceForTest
+        extends Cacheable, SuperService<TestDataPresentation, Integer> {}
+
+    private static final class EvictingServiceForTest implements Cacheable {
+
+        @Override
+        public CachingUtil getCachingUtil() {
+
+            throw new UnsupportedOperationException();
+        }
+
+        @PutCache(refreshEntityCache = true, evictPagesById = true)
+        public Object update(final Object data) {
+
+            return data;
+        }
+    }
+
     private record TestDataPresentation(@Nullable Integer id)
         implements DataPresentation<Integer> {
 
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.cache.aop;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.sansenshimizu.sakuraboot.cache.api.CachingUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * The test class for {@link SingleFlight}.
+ *
+ * @author Malcolm Rozé
+ * @see    SingleFlight
+ * @since  0.2.0
+ */
+class SingleFlightTest {
+
+    /**
+     * The cache names use in test.
+     */
+    private static final String[] CACHE_NAMES = {
+        "test"
+    };
+
+    /**
+     * The cache key use in test.
+     */
+    private static final String KEY = "key";
+
+    /**
+     * The value loaded by the first thread.
+     */
+    private static final String LOADED_VALUE = "loaded";
+
+    /**
+     * The maximum time to wait in test, in seconds.
+     */
+    private static final long WAIT_TIMEOUT = 5;
+
+    /**
+     * The number of calls to the loader.
+     */
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /**
+     * Count down when the loader is called.
+     */
+    private final CountDownLatch loading = new CountDownLatch(1);
+
+    /**
+     * Count down to let the loader return.
+     */
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * The loader that waits for the release.
+     */
+    private final CachingUtil.Supplier<Object> loader = () -> {
+
+        loads.incrementAndGet();
+        loading.countDown();
+        release.await(WAIT_TIMEOUT, TimeUnit.SECONDS);
+        return LOADED_VALUE;
+    };
+
+    @Test
+    @DisplayName("GIVEN a load in progress,"
+        + " WHEN loading the same key,"
+        + " THEN the result of the load in progress should be returned")
+    final void testLoadCoalesced() throws InterruptedException {
+
+        // GIVEN
+        final SingleFlight singleFlight
+            = new SingleFlight(TimeUnit.SECONDS.toMillis(WAIT_TIMEOUT));
+        final Thread first = startLoad(singleFlight, new AtomicReference<>());
+        assertThat(loading.await(WAIT_TIMEOUT, TimeUnit.SECONDS)).isTrue();
+
+        // WHEN
+        final AtomicReference<Object> result = new AtomicReference<>();
+        final Thread second = startLoad(singleFlight, result);
+
+        while (second.isAlive()
+            && second.getState() != Thread.State.TIMED_WAITING) {
+
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        first.join();
+        second.join();
+
+        // THEN
+        assertThat(result).hasValue(LOADED_VALUE);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN a load in progress,"
+        + " WHEN loading the same key after the timeout,"
+        + " THEN the value should be loaded again")
+    final void testLoadAfterTimeout() throws Throwable {
+
+        // GIVEN
+        final SingleFlight singleFlight = new SingleFlight(1);
+        final Thread first = startLoad(singleFlight, new AtomicReference<>());
+        assertThat(loading.await(WAIT_TIMEOUT, TimeUnit.SECONDS)).isTrue();
+
+        // WHEN
+        final Object result = singleFlight.load(CACHE_NAMES, KEY, () -> KEY);
+        release.countDown();
+        first.join();
+
+        // THEN
+        assertThat(result).isEqualTo(KEY);
+    }
+
+    @Test
+    @DisplayName("GIVEN a load in progress that fails,"
+        + " WHEN loading the same key,"
+        + " THEN the failure should be propagated without loading again")
+    final void testLoadFailurePropagated() throws InterruptedException {
+
+        // GIVEN
+        final SingleFlight singleFlight
+            = new SingleFlight(TimeUnit.SECONDS.toMillis(WAIT_TIMEOUT));
+        final IllegalStateException failure
+            = new IllegalStateException("Load failed");
+        final Thread first = new Thread(() -> catchThrowable(
+            () -> singleFlight.load(CACHE_NAMES, KEY, () -> {
+
+                loader.get();
+                throw failure;
+            })));
+        first.start();
+        assertThat(loading.await(WAIT_TIMEOUT, TimeUnit.SECONDS)).isTrue();
+
+        // WHEN
+        final AtomicReference<Throwable> result = new AtomicReference<>();
+        final Thread second = new Thread(() -> result.set(catchThrowable(
+            () -> singleFlight.load(CACHE_NAMES, KEY, loader))));
+        second.start();
+
+        while (second.isAlive()
+            && second.getState() != Thread.State.TIMED_WAITING) {
+
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        first.join();
+        second.join();
+
+        // THEN
+        assertThat(result).hasValue(failure);
+        assertThat(loads).hasValue(1);
+    }
+
+    private Thread startLoad(
+        final SingleFlight singleFlight,
+        final AtomicReference<Object> result) {
+
+        final Thread thread = new Thread(() -> catchThrowable(
+            () -> result.set(singleFlight.load(CACHE_NAMES, KEY, loader))));
+        thread.start();
+        return thread;
+    }
+}
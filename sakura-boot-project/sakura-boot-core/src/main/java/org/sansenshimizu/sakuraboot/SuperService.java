@@ -18,9 +18,12 @@ package org.sansenshimizu.sakuraboot;
 
 import java.io.Serializable;
 
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Transactional;
 
-import org.sansenshimizu.sakuraboot.util.ReflectionUtils;
+import org.sansenshimizu.sakuraboot.configuration.SakuraBootMetadataRegistry;
+import org.sansenshimizu.sakuraboot.count.CountCache;
+import org.sansenshimizu.sakuraboot.count.CountMode;
 
 /**
  * The base service interface.
@@ -97,7 +100,21 @@ public interface SuperService<E extends DataPresentation<I>,
      */
     default Class<E> getEntityClass() {
 
-        return ReflectionUtils.findGenericTypeFromInterface(getClass(),
-            SuperService.class.getTypeName());
+        return SakuraBootMetadataRegistry.getGenericType(getClass(),
+            SuperService.class, 0);
+    }
+
+    /**
+     * Give the {@link CountCache} use by the service for
+     * {@link CountMode#CACHED}. Override it with the {@link CountCache} bean to
+     * cache the counts when the relationship aspects don't handle the call.
+     *
+     * @return A CountCache, {@code null} by default to count the elements on
+     *         each call.
+     */
+    @Nullable
+    default CountCache getCountCache() {
+
+        return null;
     }
 }
@@ -26,8 +26,6 @@ import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 
@@ -157,6 +155,17 @@ public interface AspectUtil {
      */
     int RELATIONSHIP_ORDER = 300;
 
+    /**
+     * The value of this variable is used to specify the order in which the
+     * projection read aspect should be executed in relation to other aspects.
+     * The {@link Order} annotation can be used to specify the order of
+     * execution for multiple aspects.
+     * In this case, the projection read aspect should be executed after the
+     * mapping aspect and before the relationship aspect, so it is assigned an
+     * order value (250) between them.
+     */
+    int PROJECTION_READ_ORDER = 250;
+
     /**
      * Retrieves the value of the specified annotation attribute.
      *
@@ -228,21 +237,9 @@ public interface AspectUtil {
         final String[] parameterNames, final Object[] args,
         final String expression, final Class<T> returnType) {
 
-        if (parameterNames.length != args.length) {
-
-            throw new IllegalArgumentException(
-                "Exception in aspect method when parsing SpEL expression:"
-                    + " parameterNames and args aren't of the same length.");
-        }
-
-        final ExpressionParser parser = new SpelExpressionParser();
-        final EvaluationContext context = new StandardEvaluationContext();
-
-        for (int i = 0; i < parameterNames.length; i++) {
-
-            context.setVariable(parameterNames[i], args[i]);
-        }
-        return parser.parseExpression(expression).getValue(context, returnType);
+        return SpelExpressions.get(expression)
+            .getValue(createEvaluationContext(parameterNames, args),
+                returnType);
     }
 
     /**
@@ -300,23 +297,29 @@ public interface AspectUtil {
         final String[] parameterNames, final Object[] args,
         final String expression, final int index, final Class<T> returnType) {
 
+        final EvaluationContext context
+            = createEvaluationContext(parameterNames, args);
+        context.setVariable(SpelExpressions.INDEX_VARIABLE, index);
+        return SpelExpressions.getForCollection(expression)
+            .getValue(context, returnType);
+    }
+
+    private static EvaluationContext createEvaluationContext(
+        final String[] parameterNames, final Object[] args) {
+
         if (parameterNames.length != args.length) {
 
             throw new IllegalArgumentException(
                 "Exception in aspect method when parsing SpEL expression:"
                     + " parameterNames and args aren't of the same length.");
         }
-
-        final ExpressionParser parser = new SpelExpressionParser();
         final EvaluationContext context = new StandardEvaluationContext();
 
         for (int i = 0; i < parameterNames.length; i++) {
 
             context.setVariable(parameterNames[i], args[i]);
         }
-        return parser
-            .parseExpression(expression.replace("[i]", "[" + index + "]"))
-            .getValue(context, returnType);
+        return context;
     }
 
     /**
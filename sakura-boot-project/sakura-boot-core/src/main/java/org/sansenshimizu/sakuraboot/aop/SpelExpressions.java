@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.aop;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Utility class that keeps the SpEL expressions used by {@link AspectUtil}.
+ * Each expression is parsed once and compiled after a few evaluations. The
+ * same expression string is shared by the methods of different entities
+ * (e.g., {@code #id}), so the compiled expression falls back to the
+ * interpreter when it is evaluated with other types.
+ *
+ * @author Malcolm Rozé
+ * @see    AspectUtil
+ * @since  0.2.0
+ */
+@UtilityClass
+class SpelExpressions {
+
+    /**
+     * The name of the variable holding the index of the element for the
+     * collection expressions.
+     */
+    final String INDEX_VARIABLE = "sakuraBootIndex";
+
+    /**
+     * The placeholder of the index in the collection expressions.
+     */
+    private final String INDEX_PLACEHOLDER = "[i]";
+
+    /**
+     * The parser compiling the expressions, with a fallback to the
+     * interpreter if the types of the compiled expression change.
+     */
+    private final ExpressionParser PARSER
+        = new SpelExpressionParser(new SpelParserConfiguration(
+            SpelCompilerMode.MIXED, AspectUtil.class.getClassLoader()));
+
+    /**
+     * The parsed expressions by expression string.
+     */
+    private final Map<String, Expression> EXPRESSIONS
+        = new ConcurrentHashMap<>();
+
+    /**
+     * The parsed collection expressions by expression string.
+     */
+    private final Map<String, Expression> COLLECTION_EXPRESSIONS
+        = new ConcurrentHashMap<>();
+
+    /**
+     * Get the parsed expression.
+     *
+     * @param  expression The SpEL expression.
+     * @return            The parsed expression.
+     */
+    Expression get(final String expression) {
+
+        return EXPRESSIONS.computeIfAbsent(expression, PARSER::parseExpression);
+    }
+
+    /**
+     * Get the parsed collection expression. The index placeholder
+     * {@code [i]} is replaced by the {@link #INDEX_VARIABLE} variable, so the
+     * same expression is used for all the elements.
+     *
+     * @param  expression The SpEL expression with the index represented by
+     *                    {@code [i]}.
+     * @return            The parsed expression.
+     */
+    Expression getForCollection(final String expression) {
+
+        return COLLECTION_EXPRESSIONS.computeIfAbsent(expression,
+            key -> PARSER.parseExpression(key.replace(INDEX_PLACEHOLDER,
+                "[#" + INDEX_VARIABLE + "]")));
+    }
+}
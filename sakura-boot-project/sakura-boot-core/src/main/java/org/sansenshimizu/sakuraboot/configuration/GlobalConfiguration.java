@@ -16,9 +16,16 @@
 
 package org.sansenshimizu.sakuraboot.configuration;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import org.sansenshimizu.sakuraboot.count.CountCache;
+import org.sansenshimizu.sakuraboot.count.CountMode;
+
 /**
  * The global configuration class for Sakura Boot.
  *
@@ -27,4 +34,23 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 @EnableConfigurationProperties(GlobalSpecification.class)
-public class GlobalConfiguration {}
+public class GlobalConfiguration {
+
+    /**
+     * Create the {@link CountCache} used by {@link CountMode#CACHED}.
+     *
+     * @param  countCacheTtl     The time to live of a cached count in
+     *                           milliseconds.
+     * @param  countCacheMaxSize The maximum number of cached counts.
+     * @return                   The {@link CountCache}.
+     */
+    @Bean
+    public CountCache countCache(
+        @Value("${sakuraboot.count.cache-ttl: 60000}") final long countCacheTtl,
+        @Value("${sakuraboot.count.cache-max-size: 10000}")
+        final int countCacheMaxSize) {
+
+        return new CountCache(Duration.ofMillis(countCacheTtl),
+            countCacheMaxSize);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import org.sansenshimizu.sakuraboot.exceptions.NotFoundException;
+import org.sansenshimizu.sakuraboot.util.ReflectionUtils;
+
+/**
+ * Registry of the generic types (entity, ID, DTO, filter, mapper, ...)
+ * declared by the beans that implement a Sakura Boot interface.
+ * The types are resolved once per class with
+ * {@link ReflectionUtils#findGenericTypeFromInterface(Class, String, int)}
+ * and attached to the class with a {@link ClassValue}, so the default methods
+ * like {@code SuperService#getEntityClass()} only do a map lookup, and the
+ * types of a class are released with its class loader (e.g., on a devtools
+ * restart).
+ * When the context is refreshed, the generic types of all the beans are
+ * resolved in advance.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+@Slf4j
+@Component
+public class SakuraBootMetadataRegistry
+    implements ApplicationListener<ContextRefreshedEvent> {
+
+    /**
+     * The package of the Sakura Boot interfaces.
+     */
+    private static final String SAKURA_BOOT_PACKAGE
+        = "org.sansenshimizu.sakuraboot.";
+
+    /**
+     * The resolved generic types by class and by generic interface.
+     * A {@code null} element means that the generic type can't be resolved.
+     */
+    private static final ClassValue<Map<Class<?>, Class<?>[]>> GENERIC_TYPES
+        = new ClassValue<>() {
+
+            @Override
+            protected Map<Class<?>, Class<?>[]> computeValue(
+                final Class<?> type) {
+
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    /**
+     * Get the generic type of interface implemented by a class.
+     * The type is resolved the first time and then retrieved from the
+     * registry.
+     *
+     * @param  <T>                the type of the generic type.
+     * @param  clazz              The class that implement the interface.
+     * @param  genericInterface   The generic interface.
+     * @param  typeIndex          Index of the type from the interface.
+     * @return                    The generic type.
+     * @throws NotFoundException If the generic type can't be resolved.
+     */
+    public static <T> Class<T> getGenericType(
+        final Class<?> clazz, final Class<?> genericInterface,
+        final int typeIndex) {
+
+        final Class<?>[] genericTypes = GENERIC_TYPES.get(clazz)
+            .computeIfAbsent(genericInterface,
+                i -> resolveGenericTypes(clazz, i));
+
+        if (typeIndex >= genericTypes.length
+            || genericTypes[typeIndex] == null) {
+
+            return ReflectionUtils.findGenericTypeFromInterface(clazz,
+                genericInterface.getTypeName(), typeIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        final Class<T> result = (Class<T>) genericTypes[typeIndex];
+        return result;
+    }
+
+    /**
+     * Resolve in advance the generic types of the given class for all the
+     * Sakura Boot interfaces it implements.
+     *
+     * @param clazz The class to register.
+     */
+    public static void register(final Class<?> clazz) {
+
+        for (final Class<?> interfaceClass: ClassUtils
+            .getAllInterfacesForClassAsSet(clazz)) {
+
+            if (interfaceClass.getName().startsWith(SAKURA_BOOT_PACKAGE)
+                && interfaceClass.getTypeParameters().length > 0) {
+
+                getGenericType(clazz, interfaceClass, 0);
+            }
+        }
+    }
+
+    private static Class<?>[] resolveGenericTypes(
+        final Class<?> clazz, final Class<?> genericInterface) {
+
+        final Class<?>[] genericTypes
+            = new Class<?>[genericInterface.getTypeParameters().length];
+
+        for (int i = 0; i < genericTypes.length; i++) {
+
+            try {
+
+                genericTypes[i] = ReflectionUtils.findGenericTypeFromInterface(
+                    clazz, genericInterface.getTypeName(), i);
+            } catch (final NotFoundException e) {
+
+                log.atDebug()
+                    .log("Can't resolve generic type " + i + " of "
+                        + genericInterface.getName() + " for "
+                        + clazz.getName());
+            }
+        }
+        return genericTypes;
+    }
+
+    /**
+     * Resolve the generic types of all the beans when the context is
+     * refreshed.
+     *
+     * @param event The context refreshed event.
+     */
+    @Override
+    public void onApplicationEvent(final ContextRefreshedEvent event) {
+
+        final ApplicationContext context = event.getApplicationContext();
+        int beanCount = 0;
+
+        for (final String beanName: context.getBeanDefinitionNames()) {
+
+            final Class<?> beanClass = context.getType(beanName, false);
+
+            if (beanClass != null) {
+
+                register(beanClass);
+                register(ClassUtils.getUserClass(beanClass));
+                beanCount++;
+            }
+        }
+        log.atInfo()
+            .log("Sakura Boot metadata registry initialized with "
+                + beanCount + " beans.");
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.count;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Keeps the total number of elements by entity and filter for a short time.
+ * It is used by {@link CountMode#CACHED} to avoid a count query on each page
+ * of the same filter. The counts of an entity are evicted with
+ * {@link #evict(Class)} after the commit of a write (e.g., by the caching
+ * aspect of the cache module), otherwise they are only refreshed when they
+ * expire.
+ *
+ * <p>The time to live and the maximum number of counts are set with the
+ * {@code sakuraboot.count.cache-ttl} (in milliseconds) and
+ * {@code sakuraboot.count.cache-max-size} properties. The counts are evicted
+ * in expiration order each time a count is computed: the expired ones first,
+ * then the oldest ones while the maximum size is exceeded.
+ *
+ * @author Malcolm Rozé
+ * @see    CountMode
+ * @since  0.2.0
+ */
+public class CountCache {
+
+    /**
+     * The counts by entity and filter.
+     */
+    private final Map<CountKey, CachedCount> counts = new ConcurrentHashMap<>();
+
+    /**
+     * The cached counts in insertion order. As all the counts have the same
+     * time to live, it is also the expiration order.
+     */
+    private final Queue<CountEntry> entries = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of evictions by entity class. A count computed while the
+     * counts of its entity were evicted isn't cached, it can be outdated.
+     */
+    private final Map<Class<?>, AtomicLong> evictions
+        = new ConcurrentHashMap<>();
+
+    /**
+     * The time to live of a count in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * The maximum number of counts kept.
+     */
+    private final int maxSize;
+
+    /**
+     * Create the cache.
+     *
+     * @param ttl     The time to live of a count.
+     * @param maxSize The maximum number of counts kept.
+     */
+    public CountCache(final Duration ttl, final int maxSize) {
+
+        if (ttl.isNegative() || ttl.isZero() || maxSize <= 0) {
+
+            throw new IllegalArgumentException(
+                "The count cache TTL and maximum size must be positive");
+        }
+        ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the count of an entity for a filter. The count is computed with the
+     * counter if it isn't cached or if it is expired.
+     *
+     * @param  entityClass The entity class.
+     * @param  filter      The filter, {@code null} for all the entities. It
+     *                     must implement equals and hashCode.
+     * @param  counter     The function that count the elements.
+     * @return             The count.
+     */
+    public long getCount(
+        final Class<?> entityClass, @Nullable final Object filter,
+        final LongSupplier counter) {
+
+        final CountKey key = new CountKey(entityClass, filter);
+        final long now = System.nanoTime();
+        final CachedCount cached = counts.get(key);
+
+        if (cached != null && cached.expiresAt() - now > 0) {
+
+            return cached.count();
+        }
+        final AtomicLong entityEvictions = evictions
+            .computeIfAbsent(entityClass, clazz -> new AtomicLong());
+        final long evictionCount = entityEvictions.get();
+        final long count = counter.getAsLong();
+
+        if (entityEvictions.get() == evictionCount) {
+
+            final CachedCount value = new CachedCount(count, now + ttlNanos);
+            counts.put(key, value);
+            entries.add(new CountEntry(key, value));
+        }
+        evictOldest(now);
+        return count;
+    }
+
+    /**
+     * Remove the cached counts of an entity, e.g., after the commit of a
+     * write.
+     *
+     * @param entityClass The entity class.
+     */
+    public void evict(final Class<?> entityClass) {
+
+        evictions.computeIfAbsent(entityClass, clazz -> new AtomicLong())
+            .incrementAndGet();
+        counts.keySet().removeIf(key -> key.entityClass() == entityClass);
+        entries.removeIf(entry -> entry.key().entityClass() == entityClass);
+    }
+
+    /**
+     * Remove all the cached counts.
+     */
+    public void clear() {
+
+        entries.clear();
+        counts.clear();
+    }
+
+    /**
+     * Remove the oldest counts while they are expired or while there are more
+     * counts than the maximum size. An entry replaced by a newer count is
+     * skipped, the newer count stays cached.
+     *
+     * @param now The current {@link System#nanoTime()}.
+     */
+    private void evictOldest(final long now) {
+
+        CountEntry oldest = entries.peek();
+
+        while (oldest != null
+            && (oldest.value().expiresAt() - now <= 0
+                || counts.size() > maxSize)) {
+
+            final CountEntry entry = entries.poll();
+
+            if (entry != null) {
+
+                counts.remove(entry.key(), entry.value());
+            }
+            oldest = entries.peek();
+        }
+    }
+
+    /**
+     * The key of a count.
+     *
+     * @param entityClass The entity class.
+     * @param filter      The filter.
+     */
+    private record CountKey(Class<?> entityClass, @Nullable Object filter) {}
+
+    /**
+     * A cached count.
+     *
+     * @param count     The count.
+     * @param expiresAt The {@link System#nanoTime()} when the count expires.
+     */
+    private record CachedCount(long count, long expiresAt) {}
+
+    /**
+     * A count in the eviction queue.
+     *
+     * @param key   The key of the count.
+     * @param value The count cached for this key.
+     */
+    private record CountEntry(CountKey key, CachedCount value) {}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.count;
+
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+
+/**
+ * The way to count the total number of elements of a paginated result.
+ * The mode is chosen by request with the {@value #PARAMETER} parameter, for
+ * example {@code ?count=none}.
+ *
+ * @author Malcolm Rozé
+ * @see    CountCache
+ * @since  0.2.0
+ */
+public enum CountMode {
+
+    /**
+     * Run a count query for each request, the result is a page.
+     */
+    EXACT,
+
+    /**
+     * Don't count, the result is a slice that only knows if there is a next
+     * slice.
+     */
+    NONE,
+
+    /**
+     * Use a count cached for the same entity and filter, the result is a page
+     * with a total that can be outdated.
+     */
+    CACHED;
+
+    /**
+     * The name of the request parameter containing the count mode.
+     */
+    public static final String PARAMETER = "count";
+
+    /**
+     * Get the count mode from the value of the request parameter.
+     *
+     * @param  value               The value of the parameter, case
+     *                             insensitive.
+     * @return                     The count mode, {@link #EXACT} if the value
+     *                             is {@code null} or blank.
+     * @throws BadRequestException If the value isn't a count mode.
+     */
+    public static CountMode of(@Nullable final String value) {
+
+        if (value == null || value.isBlank()) {
+
+            return EXACT;
+        }
+
+        try {
+
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+
+            throw new BadRequestException("Invalid count mode: " + value, e);
+        }
+    }
+
+    /**
+     * Retrieve a slice of the query without count. One more element than
+     * the size of the pageable is read to know if there is a next slice.
+     *
+     * @param  <T>      The type of the result.
+     * @param  query    The query.
+     * @param  pageable The pageable, mustn't be unpaged.
+     * @return          The slice.
+     */
+    public static <T> Slice<T> findSlice(
+        final FetchableFluentQuery<T> query, final Pageable pageable) {
+
+        final ScrollPosition position;
+
+        if (pageable.getOffset() == 0) {
+
+            position = ScrollPosition.offset();
+        } else {
+
+            // An offset position resumes after the element at the offset.
+            position = ScrollPosition.offset(pageable.getOffset() - 1);
+        }
+        final Window<T> window = query.sortBy(pageable.getSort())
+            .limit(pageable.getPageSize())
+            .scroll(position);
+        return new SliceImpl<>(window.getContent(), pageable, window.hasNext());
+    }
+
+    /**
+     * Add the total number of elements to a slice retrieved without count,
+     * depending on this mode.
+     *
+     * @param  <T>         The type of the content.
+     * @param  slice       The slice retrieved without count.
+     * @param  countCache  The cache of the counts, {@code null} to count the
+     *                     elements on each call for {@link #CACHED}.
+     * @param  entityClass The entity class, use for the cached count.
+     * @param  filter      The filter of the query, use for the cached count.
+     * @param  counter     The function that count the elements.
+     * @return             The slice for {@link #NONE}, a page otherwise.
+     */
+    public <T> Slice<T> withCount(
+        final Slice<T> slice, @Nullable final CountCache countCache,
+        final Class<?> entityClass, @Nullable final Object filter,
+        final LongSupplier counter) {
+
+        return switch (this) {
+
+            case EXACT -> new PageImpl<>(slice.getContent(),
+                slice.getPageable(), counter.getAsLong());
+            case NONE -> slice;
+            case CACHED -> {
+
+                final long minimum = slice.getPageable().getOffset()
+                    + slice.getNumberOfElements()
+                    + (slice.hasNext() ? 1 : 0);
+                final long count;
+
+                if (countCache == null) {
+
+                    count = counter.getAsLong();
+                } else {
+
+                    count = countCache.getCount(entityClass, filter, counter);
+                }
+                final long total = Math.max(minimum, count);
+                yield new PageImpl<>(slice.getContent(), slice.getPageable(),
+                    total);
+            }
+        };
+    }
+}
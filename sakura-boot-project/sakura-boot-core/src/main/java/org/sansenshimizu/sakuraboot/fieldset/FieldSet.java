@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.fieldset;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+
+/**
+ * The fields to select in a read request.
+ * The fields are chosen by request with the {@value #PARAMETER} parameter, a
+ * comma separated list of field names, for example
+ * {@code ?fields=id,name}. The data is then retrieved with a projection
+ * query and only the selected fields are written in the response. The ID is
+ * always selected.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+public final class FieldSet {
+
+    /**
+     * The name of the request parameter containing the fields.
+     */
+    public static final String PARAMETER = "fields";
+
+    /**
+     * The name of the ID field, always selected.
+     */
+    public static final String ID_FIELD = "id";
+
+    /**
+     * The pattern of a valid field name.
+     */
+    private static final Pattern NAME_PATTERN
+        = Pattern.compile("[A-Za-z_$][\\w$]*");
+
+    /**
+     * The selected field names, the ID first and then in the requested order.
+     */
+    private final Set<String> names;
+
+    private FieldSet(final Set<String> names) {
+
+        this.names = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Get the fields from the value of the request parameter.
+     *
+     * @param  value               The comma separated field names.
+     * @return                     The fields, only the ID if the value is
+     *                             blank.
+     * @throws BadRequestException If a field name isn't valid.
+     */
+    public static FieldSet of(final String value) {
+
+        final Set<String> names = new LinkedHashSet<>();
+        names.add(ID_FIELD);
+        names.addAll(Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        for (final String name: names) {
+
+            if (!NAME_PATTERN.matcher(name).matches()) {
+
+                throw new BadRequestException("Invalid field: " + name);
+            }
+        }
+        return new FieldSet(names);
+    }
+
+    /**
+     * Reject the fields parameter on a request that can't use it.
+     *
+     * @param  value               The value of the fields parameter,
+     *                             {@code null} if it is absent.
+     * @param  parameter           The parameter of the request that can't be
+     *                             combined with the fields.
+     * @throws BadRequestException If the fields parameter is present.
+     */
+    public static void rejectWith(
+        @Nullable final String value, final String parameter) {
+
+        if (value != null) {
+
+            throw new BadRequestException("The " + PARAMETER
+                + " parameter can't be used with the " + parameter
+                + " parameter");
+        }
+    }
+
+    /**
+     * Get the selected field names.
+     *
+     * @return The field names, the ID first and then in the requested order.
+     */
+    public Set<String> getNames() {
+
+        return names;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+
+        if (this == obj) {
+
+            return true;
+        }
+        return obj instanceof final FieldSet fieldSet
+            && names.equals(fieldSet.names);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return names.hashCode();
+    }
+
+    @Override
+    public String toString() {
+
+        return String.join(",", names);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.include;
+
+import java.util.function.Supplier;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class to know if the current mapping must only map the loaded
+ * relationships. It is used when the relationships are restricted by
+ * {@link Includes}, so the mapping doesn't load the relationships that were
+ * not included.
+ *
+ * @author Malcolm Rozé
+ * @see    Includes
+ * @since  0.2.0
+ */
+@UtilityClass
+public class IncludeContext {
+
+    /**
+     * If the mapping of the current thread must only map the loaded
+     * relationships.
+     */
+    private final ThreadLocal<Boolean> LOADED_ONLY = new ThreadLocal<>();
+
+    /**
+     * Run a mapping that must only map the loaded relationships.
+     *
+     * @param  <T>     The type of the result.
+     * @param  mapping The mapping.
+     * @return         The result of the mapping.
+     */
+    public <T> T mapLoadedOnly(final Supplier<T> mapping) {
+
+        final Boolean previous = LOADED_ONLY.get();
+        LOADED_ONLY.set(Boolean.TRUE);
+
+        try {
+
+            return mapping.get();
+        } finally {
+
+            if (previous == null) {
+
+                LOADED_ONLY.remove();
+            } else {
+
+                LOADED_ONLY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Check if the current mapping must only map the loaded relationships.
+     *
+     * @return True if only the loaded relationships must be mapped, false
+     *         otherwise.
+     */
+    public boolean isLoadedOnly() {
+
+        return Boolean.TRUE.equals(LOADED_ONLY.get());
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.include;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+
+/**
+ * The relationships to include in a read request.
+ * The relationships are chosen by request with the {@value #PARAMETER}
+ * parameter, a comma separated list of paths of relationship fields, for
+ * example {@code ?include=department,department.company}. A nested path
+ * also includes its parents, so {@code department.company} includes
+ * {@code department}.
+ *
+ * @author Malcolm Rozé
+ * @see    IncludeContext
+ * @since  0.2.0
+ */
+public final class Includes {
+
+    /**
+     * The name of the request parameter containing the includes.
+     */
+    public static final String PARAMETER = "include";
+
+    /**
+     * The includes of all the relationships.
+     */
+    public static final Includes ALL = new Includes(null);
+
+    /**
+     * The pattern of a valid path.
+     */
+    private static final Pattern PATH_PATTERN
+        = Pattern.compile("[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)*");
+
+    /**
+     * The included paths, {@code null} for all the relationships.
+     */
+    @Nullable
+    private final SortedSet<String> paths;
+
+    private Includes(@Nullable final Set<String> paths) {
+
+        if (paths == null) {
+
+            this.paths = null;
+        } else {
+
+            this.paths
+                = Collections.unmodifiableSortedSet(new TreeSet<>(paths));
+        }
+    }
+
+    /**
+     * Get the includes from the value of the request parameter.
+     *
+     * @param  value               The comma separated paths.
+     * @return                     The includes, {@link #ALL} if the value is
+     *                             {@code null}, no relationship if the value
+     *                             is blank.
+     * @throws BadRequestException If a path isn't valid.
+     */
+    public static Includes of(@Nullable final String value) {
+
+        if (value == null) {
+
+            return ALL;
+        }
+        final Set<String> paths = Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(path -> !path.isEmpty())
+            .collect(Collectors.toSet());
+
+        for (final String path: paths) {
+
+            if (!PATH_PATTERN.matcher(path).matches()) {
+
+                throw new BadRequestException("Invalid include: " + path);
+            }
+        }
+        return new Includes(paths);
+    }
+
+    /**
+     * Reject the include parameter on a request that can't use it.
+     *
+     * @param  value               The value of the include parameter,
+     *                             {@code null} if it is absent.
+     * @param  parameter           The parameter of the request that can't be
+     *                             combined with the includes.
+     * @throws BadRequestException If the include parameter is present.
+     */
+    public static void rejectWith(
+        @Nullable final String value, final String parameter) {
+
+        if (value != null) {
+
+            throw new BadRequestException("The " + PARAMETER
+                + " parameter can't be used with the " + parameter
+                + " parameter");
+        }
+    }
+
+    /**
+     * Check if all the relationships are included.
+     *
+     * @return True if all the relationships are included, false otherwise.
+     */
+    public boolean isAll() {
+
+        return paths == null;
+    }
+
+    /**
+     * Get the included paths.
+     *
+     * @return The included paths, empty if all the relationships are included.
+     */
+    public Set<String> getPaths() {
+
+        if (paths == null) {
+
+            return Set.of();
+        }
+        return paths;
+    }
+
+    /**
+     * Check if a path of relationship fields is included.
+     *
+     * @param  path The path of relationship fields separated by dots.
+     * @return      True if the path or one of its children is included,
+     *              false otherwise.
+     */
+    public boolean includes(final String path) {
+
+        return paths == null || paths.stream()
+            .anyMatch(included -> included.equals(path)
+                || included.startsWith(path + "."));
+    }
+
+    /**
+     * Get the includes relative to a path, use for the relationships of a
+     * related entity.
+     *
+     * @param  prefix The path of the related entity.
+     * @return        The includes with the paths under the prefix, without
+     *                the prefix.
+     */
+    public Includes relativeTo(final String prefix) {
+
+        if (paths == null) {
+
+            return this;
+        }
+        final String start = prefix + ".";
+        return new Includes(paths.stream()
+            .filter(path -> path.startsWith(start))
+            .map(path -> path.substring(start.length()))
+            .collect(Collectors.toSet()));
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+
+        if (this == obj) {
+
+            return true;
+        }
+        return obj instanceof final Includes includes
+            && Objects.equals(paths, includes.paths);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hashCode(paths);
+    }
+
+    @Override
+    public String toString() {
+
+        if (paths == null) {
+
+            return "*";
+        }
+        return String.join(",", paths);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.keyset;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.springframework.lang.Nullable;
+
+/**
+ * A slice of data retrieved with a keyset pagination. Instead of a page
+ * number, the slice contains the cursor to use to get the next slice, so a
+ * deep slice costs as much as the first one.
+ *
+ * @param  <T> The type of the content.
+ * @author     Malcolm Rozé
+ * @see        KeysetToken
+ * @since      0.2.0
+ */
+public final class KeysetSlice<T> extends SliceImpl<T> {
+
+    /**
+     * The name of the request parameter containing the cursor.
+     */
+    public static final String CURSOR_PARAMETER = "cursor";
+
+    @Serial
+    private static final long serialVersionUID = 3046254087384591512L;
+
+    /**
+     * The cursor of the next slice, {@code null} if this slice is the last
+     * one.
+     */
+    @Nullable
+    private final String nextCursor;
+
+    /**
+     * Constructor of the slice.
+     *
+     * @param content    The content of the slice.
+     * @param pageable   The pageable use to get the slice.
+     * @param nextCursor The cursor of the next slice, {@code null} if this
+     *                   slice is the last one.
+     */
+    public KeysetSlice(
+        final List<T> content, final Pageable pageable,
+        @Nullable final String nextCursor) {
+
+        super(content, pageable, nextCursor != null);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Create a slice from a {@link Window} retrieved with a keyset position.
+     *
+     * @param  <T>      The type of the content.
+     * @param  window   The window.
+     * @param  pageable The pageable use to get the window.
+     * @return          The slice with the cursor of the next slice.
+     */
+    public static <T> KeysetSlice<T> of(
+        final Window<T> window, final Pageable pageable) {
+
+        @Nullable
+        String nextCursor = null;
+
+        if (window.hasNext()
+            && !window.isEmpty()
+            && window.positionAt(window.size() - 1)
+                instanceof final KeysetScrollPosition position) {
+
+            nextCursor = KeysetToken.encode(position);
+        }
+        return new KeysetSlice<>(window.getContent(), pageable, nextCursor);
+    }
+
+    /**
+     * Apply the sort and the size of the pageable to the query and scroll
+     * from the given position.
+     *
+     * @param  <T>      The type of the result.
+     * @param  query    The query to scroll.
+     * @param  pageable The pageable containing the sort and the size, the
+     *                  page number is ignored.
+     * @param  position The position to start after.
+     * @return          The window of the result.
+     */
+    public static <T> Window<T> scroll(
+        final FetchableFluentQuery<T> query, final Pageable pageable,
+        final ScrollPosition position) {
+
+        FetchableFluentQuery<T> sortedQuery = query.sortBy(pageable.getSort());
+
+        if (pageable.isPaged()) {
+
+            sortedQuery = sortedQuery.limit(pageable.getPageSize());
+        }
+        return sortedQuery.scroll(position);
+    }
+
+    /**
+     * Getter for the cursor of the next slice.
+     *
+     * @return The cursor of the next slice, {@code null} if this slice is the
+     *         last one.
+     */
+    @Nullable
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    @Override
+    public <U> KeysetSlice<U> map(
+        final Function<? super T, ? extends U> converter) {
+
+        return new KeysetSlice<>(getConvertedContent(converter), getPageable(),
+            nextCursor);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+
+        if (this == obj) {
+
+            return true;
+        }
+
+        if (!(obj instanceof final KeysetSlice<?> that)) {
+
+            return false;
+        }
+        return Objects.equals(nextCursor, that.nextCursor) && super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(super.hashCode(), nextCursor);
+    }
+}
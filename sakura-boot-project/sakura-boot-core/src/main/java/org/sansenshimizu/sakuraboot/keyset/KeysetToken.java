@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.keyset;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+
+/**
+ * Utility class to convert a {@link KeysetScrollPosition} to an opaque cursor
+ * and back.
+ * The cursor contains the values of the sort properties and of the ID of the
+ * last element of a slice, so the next slice can start right after it
+ * without any offset. The values are written as text and converted back with
+ * the type of the property in the entity class, so a cursor can't be used to
+ * create arbitrary objects. A cursor is only valid for the sort that created
+ * it, and the sort properties mustn't be null.
+ *
+ * @author Malcolm Rozé
+ * @see    KeysetSlice
+ * @since  0.2.0
+ */
+@UtilityClass
+public class KeysetToken {
+
+    /**
+     * The separator between the properties in a cursor.
+     */
+    private final String PROPERTY_SEPARATOR = "&";
+
+    /**
+     * The separator between a property and its value in a cursor.
+     */
+    private final char VALUE_SEPARATOR = '=';
+
+    /**
+     * The error message for an invalid cursor.
+     */
+    private final String INVALID_CURSOR = "Invalid keyset cursor: ";
+
+    /**
+     * The name of the ID property, added at the end of a keyset sort.
+     */
+    private final String ID_PROPERTY = "id";
+
+    /**
+     * The conversion service use to write and read the values, with the ISO
+     * format for the dates.
+     */
+    private final ConversionService CONVERSION_SERVICE
+        = createConversionService();
+
+    /**
+     * Get the sort of a keyset pagination: the given sort followed by the ID
+     * when it isn't already sorted by ID, so each element has a unique
+     * position.
+     *
+     * @param  sort The sort of the request.
+     * @return      The sort with the ID.
+     */
+    public Sort getKeysetSort(final Sort sort) {
+
+        if (sort.getOrderFor(ID_PROPERTY) != null) {
+
+            return sort;
+        }
+        return sort.and(Sort.by(ID_PROPERTY));
+    }
+
+    /**
+     * Encode a keyset position into an opaque cursor.
+     *
+     * @param  position The position to encode.
+     * @return          The cursor.
+     */
+    public String encode(final KeysetScrollPosition position) {
+
+        final StringJoiner joiner = new StringJoiner(PROPERTY_SEPARATOR);
+
+        for (final Map.Entry<String, Object> entry: position.getKeys()
+            .entrySet()) {
+
+            final String property = urlEncode(entry.getKey());
+            final Object value = entry.getValue();
+
+            if (value == null) {
+
+                joiner.add(property);
+            } else {
+
+                joiner.add(property + VALUE_SEPARATOR + urlEncode(
+                    CONVERSION_SERVICE.convert(value, String.class)));
+            }
+        }
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(
+                joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor into a keyset position for the given entity class and
+     * sort.
+     *
+     * @param  cursor              The cursor, {@code null} or blank for the
+     *                             first slice.
+     * @param  entityClass         The entity class use to get the type of each
+     *                             property.
+     * @param  sort                The sort of the request, the properties of
+     *                             the cursor must be the ones of its
+     *                             {@link #getKeysetSort(Sort) keyset sort}.
+     * @return                     The keyset position.
+     * @throws BadRequestException If the cursor isn't valid for the entity
+     *                             class and the sort, or if it contains a
+     *                             null value.
+     */
+    public KeysetScrollPosition decode(
+        @Nullable final String cursor, final Class<?> entityClass,
+        final Sort sort) {
+
+        if (cursor == null || cursor.isBlank()) {
+
+            return ScrollPosition.keyset();
+        }
+        final Map<String, Object> keys = decodeKeys(cursor, entityClass);
+        final List<String> properties = getKeysetSort(sort).stream()
+            .map(Sort.Order::getProperty)
+            .toList();
+
+        if (!properties.equals(new ArrayList<>(keys.keySet()))
+            || keys.containsValue(null)) {
+
+            throw new BadRequestException(INVALID_CURSOR + cursor);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private Map<String, Object> decodeKeys(
+        final String cursor, final Class<?> entityClass) {
+
+        try {
+
+            final String decoded = new String(
+                Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final Map<String, Object> keys = new LinkedHashMap<>();
+
+            for (final String pair: decoded.split(PROPERTY_SEPARATOR)) {
+
+                final int separator = pair.indexOf(VALUE_SEPARATOR);
+                final String property;
+                @Nullable
+                final String value;
+
+                if (separator < 0) {
+
+                    property = urlDecode(pair);
+                    value = null;
+                } else {
+
+                    property = urlDecode(pair.substring(0, separator));
+                    value = urlDecode(pair.substring(separator + 1));
+                }
+                final Class<?> type = PropertyPath.from(property, entityClass)
+                    .getLeafProperty()
+                    .getType();
+                keys.put(property, CONVERSION_SERVICE.convert(value, type));
+            }
+            return keys;
+        } catch (final IllegalArgumentException | PropertyReferenceException
+            | ConversionException e) {
+
+            throw new BadRequestException(INVALID_CURSOR + cursor, e);
+        }
+    }
+
+    private String urlEncode(@Nullable final String value) {
+
+        return URLEncoder.encode(String.valueOf(value),
+            StandardCharsets.UTF_8);
+    }
+
+    private String urlDecode(final String value) {
+
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private ConversionService createConversionService() {
+
+        final DefaultFormattingConversionService conversionService
+            = new DefaultFormattingConversionService(false);
+        final DateTimeFormatterRegistrar registrar
+            = new DateTimeFormatterRegistrar();
+        registrar.setUseIsoFormat(true);
+        registrar.registerFormatters(conversionService);
+        return conversionService;
+    }
+}
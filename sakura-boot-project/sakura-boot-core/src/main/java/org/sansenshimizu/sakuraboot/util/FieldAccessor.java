@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Cached accessor to read and write a field with a {@link MethodHandle}.
+ * The accessibility check and the handle creation are done once per field,
+ * then the accessor is reused for every object.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+public final class FieldAccessor {
+
+    /**
+     * The accessors by field.
+     */
+    private static final Map<Field, FieldAccessor> ACCESSORS
+        = new ConcurrentHashMap<>();
+
+    /**
+     * The accessors by class and by declared field name. An empty value means
+     * that the field is not declared in the class.
+     */
+    private static final Map<Class<?>,
+        Map<String, Optional<FieldAccessor>>> DECLARED_ACCESSORS
+            = new ConcurrentHashMap<>();
+
+    /**
+     * The type of the getter handle: {@code (Object) Object}.
+     */
+    private static final MethodType GETTER_TYPE
+        = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * The type of the setter handle: {@code (Object, Object) void}.
+     */
+    private static final MethodType SETTER_TYPE
+        = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * The field.
+     */
+    private final Field field;
+
+    /**
+     * The handle to read the field.
+     */
+    private final MethodHandle getter;
+
+    /**
+     * The handle to write the field, {@code null} if the field can't be
+     * written.
+     */
+    @Nullable
+    private final MethodHandle setter;
+
+    private FieldAccessor(final Field field) {
+
+        this.field = field;
+        field.setAccessible(true);
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+
+            this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (final IllegalAccessException e) {
+
+            throw new IllegalStateException(
+                "Not allowed to access field '" + field.getName() + "'", e);
+        }
+
+        MethodHandle fieldSetter;
+
+        try {
+
+            fieldSetter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (final IllegalAccessException e) {
+
+            fieldSetter = null;
+        }
+        this.setter = fieldSetter;
+    }
+
+    /**
+     * Get the accessor of a field.
+     *
+     * @param  field The field.
+     * @return       The accessor of the field.
+     */
+    public static FieldAccessor of(final Field field) {
+
+        return ACCESSORS.computeIfAbsent(field, FieldAccessor::new);
+    }
+
+    /**
+     * Get the accessor of a field declared in a class. The field is not
+     * searched in the superclass.
+     *
+     * @param  clazz     The class that declare the field.
+     * @param  fieldName The name of the field.
+     * @return           The accessor of the field or {@code null} if the field
+     *                   is not declared in the class.
+     */
+    @Nullable
+    public static FieldAccessor ofDeclaredField(
+        final Class<?> clazz, final String fieldName) {
+
+        return DECLARED_ACCESSORS
+            .computeIfAbsent(clazz, c -> new ConcurrentHashMap<>())
+            .computeIfAbsent(fieldName, (final String name) -> {
+
+                try {
+
+                    return Optional.of(of(clazz.getDeclaredField(name)));
+                } catch (final NoSuchFieldException e) {
+
+                    return Optional.empty();
+                }
+            })
+            .orElse(null);
+    }
+
+    /**
+     * Get the field.
+     *
+     * @return The field.
+     */
+    public Field getField() {
+
+        return field;
+    }
+
+    /**
+     * Read the value of the field.
+     *
+     * @param  target The object to read the field from.
+     * @return        The value of the field.
+     */
+    @Nullable
+    public Object get(final Object target) {
+
+        try {
+
+            return (Object) getter.invokeExact(target);
+        } catch (final RuntimeException | Error e) {
+
+            throw e;
+        } catch (final Throwable e) {
+
+            throw new IllegalStateException(
+                "Can't read field '" + field.getName() + "'", e);
+        }
+    }
+
+    /**
+     * Write the value of the field.
+     *
+     * @param  target                The object to write the field to.
+     * @param  value                 The new value of the field.
+     * @throws IllegalStateException If the field can't be written.
+     */
+    public void set(final Object target, @Nullable final Object value) {
+
+        if (setter == null) {
+
+            throw new IllegalStateException(
+                "Not allowed to write field '" + field.getName() + "'");
+        }
+
+        try {
+
+            setter.invokeExact(target, value);
+        } catch (final RuntimeException | Error e) {
+
+            throw e;
+        } catch (final Throwable e) {
+
+            throw new IllegalStateException(
+                "Can't write field '" + field.getName() + "'", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Util class to bind a list of IDs in {@code IN} clauses. The IDs are split in
+ * chunks of a maximum size and each chunk is padded to the next power of two
+ * by repeating its last ID, so only a few different {@code IN} clause sizes
+ * reach the database and the statement cache.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+@UtilityClass
+public class InClauseUtils {
+
+    /**
+     * The default maximum number of IDs bound in one {@code IN} clause.
+     */
+    public final int DEFAULT_IN_CLAUSE_SIZE = 512;
+
+    /**
+     * Split the distinct IDs in padded chunks.
+     *
+     * @param  <T>     The type of the IDs.
+     * @param  ids     The IDs to bind.
+     * @param  maxSize The maximum number of IDs of a chunk, at least one.
+     * @return         The padded chunks, each one bound in its own query.
+     */
+    public <T> List<List<T>> toPaddedChunks(
+        final Collection<? extends T> ids, final int maxSize) {
+
+        final List<T> distinctIds = List.copyOf(new LinkedHashSet<T>(ids));
+        final int chunkSize = Math.max(1, maxSize);
+        final List<List<T>> result = new ArrayList<>();
+
+        for (int i = 0; i < distinctIds.size(); i += chunkSize) {
+
+            result.add(padIds(distinctIds.subList(i,
+                Math.min(i + chunkSize, distinctIds.size())), chunkSize));
+        }
+        return result;
+    }
+
+    private <T> List<T> padIds(final List<T> ids, final int maxSize) {
+
+        final int paddedSize = Math.min(maxSize,
+            Integer.highestOneBit(ids.size() - 1) << 1);
+
+        if (paddedSize <= ids.size()) {
+
+            return ids;
+        }
+        final List<T> paddedIds = new ArrayList<>(paddedSize);
+        paddedIds.addAll(ids);
+
+        while (paddedIds.size() < paddedSize) {
+
+            paddedIds.add(ids.get(ids.size() - 1));
+        }
+        return paddedIds;
+    }
+}
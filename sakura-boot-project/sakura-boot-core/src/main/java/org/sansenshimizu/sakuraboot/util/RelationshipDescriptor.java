@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.util;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Static description of the relationships of an entity.
+ * The implementations are generated at compile time by the
+ * {@code RelationshipDescriptorProcessor} of the sakura-boot-mapper module,
+ * in the same package as the entity and named
+ * {@code EntityName + "RelationshipDescriptor"}.
+ * The DTO of an entity use the descriptor of the entity.
+ *
+ * @author Malcolm Rozé
+ * @see    RelationshipDescriptors
+ * @since  0.2.0
+ */
+public interface RelationshipDescriptor {
+
+    /**
+     * The suffix of the generated descriptor class name.
+     */
+    String CLASS_NAME_SUFFIX = "RelationshipDescriptor";
+
+    /**
+     * Get the described entity class.
+     *
+     * @return The entity class.
+     */
+    Class<?> getEntityClass();
+
+    /**
+     * Get the name of the field annotated with {@code @Id}.
+     *
+     * @return The name of the ID field, empty if there is none.
+     */
+    String getIdFieldName();
+
+    /**
+     * Get all the relationships of the entity, including the ones of the
+     * superclasses. The relationships are in the order of the declared fields.
+     *
+     * @return The relationships.
+     */
+    List<Relationship> getRelationships();
+
+    /**
+     * Get a relationship from the name of the field.
+     *
+     * @param  fieldName The name of the field.
+     * @return           The relationship or {@code null} if the field is not a
+     *                   relationship.
+     */
+    @Nullable
+    default Relationship getRelationship(final String fieldName) {
+
+        for (final Relationship relationship: getRelationships()) {
+
+            if (relationship.fieldName().equals(fieldName)) {
+
+                return relationship;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The cardinality of a relationship.
+     */
+    enum Cardinality {
+
+        /**
+         * A {@code @OneToOne} relationship.
+         */
+        ONE_TO_ONE,
+
+        /**
+         * A {@code @ManyToOne} relationship.
+         */
+        MANY_TO_ONE,
+
+        /**
+         * A {@code @OneToMany} relationship.
+         */
+        ONE_TO_MANY,
+
+        /**
+         * A {@code @ManyToMany} relationship.
+         */
+        MANY_TO_MANY;
+
+        /**
+         * Check if the cardinality is an any to one relationship.
+         *
+         * @return True if the cardinality is an any to one relationship, false
+         *         otherwise.
+         */
+        public boolean isAnyToOne() {
+
+            return this == ONE_TO_ONE || this == MANY_TO_ONE;
+        }
+
+        /**
+         * Check if the cardinality is an any to many relationship.
+         *
+         * @return True if the cardinality is an any to many relationship,
+         *         false otherwise.
+         */
+        public boolean isAnyToMany() {
+
+            return !isAnyToOne();
+        }
+    }
+
+    /**
+     * A relationship field of an entity.
+     *
+     * @param fieldName   The name of the field.
+     * @param cardinality The cardinality of the relationship.
+     * @param mappedBy    The mappedBy attribute of the mapping annotation,
+     *                    empty if there is none.
+     * @param targetType  The type of the related entity, the type of the
+     *                    elements for a collection.
+     */
+    record Relationship(
+        String fieldName, Cardinality cardinality, String mappedBy,
+        Class<?> targetType) {
+
+        /**
+         * Check if the relationship has a mappedBy attribute.
+         *
+         * @return True if the relationship has a mappedBy attribute, false
+         *         otherwise.
+         */
+        public boolean isMappedBy() {
+
+            return !mappedBy.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.util;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Utility class to find the generated {@link RelationshipDescriptor} of an
+ * entity.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+@UtilityClass
+public class RelationshipDescriptors {
+
+    /**
+     * The descriptors by entity class. An empty value means that no
+     * descriptor was generated for the entity.
+     */
+    private final Map<Class<?>, Optional<RelationshipDescriptor>> DESCRIPTORS
+        = new ConcurrentHashMap<>();
+
+    /**
+     * Find the generated descriptor of an entity.
+     *
+     * @param  entityClass The entity class.
+     * @return             The descriptor or {@code null} if no descriptor was
+     *                     generated for the entity.
+     */
+    @Nullable
+    public RelationshipDescriptor find(final Class<?> entityClass) {
+
+        return DESCRIPTORS
+            .computeIfAbsent(entityClass, RelationshipDescriptors::load)
+            .orElse(null);
+    }
+
+    private Optional<RelationshipDescriptor> load(final Class<?> entityClass) {
+
+        final String descriptorName
+            = entityClass.getName() + RelationshipDescriptor.CLASS_NAME_SUFFIX;
+
+        try {
+
+            final Object descriptor = ClassUtils
+                .forName(descriptorName, entityClass.getClassLoader())
+                .getDeclaredConstructor()
+                .newInstance();
+
+            if (descriptor instanceof final RelationshipDescriptor result
+                && result.getEntityClass() == entityClass) {
+
+                return Optional.of(result);
+            }
+        } catch (final ReflectiveOperationException | LinkageError e) {
+
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+}
@@ -24,9 +24,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.Supplier;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.Entity;
@@ -42,6 +44,8 @@ import org.springframework.util.ReflectionUtils;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.configuration.GlobalSpecification;
+import org.sansenshimizu.sakuraboot.util.RelationshipDescriptor.Cardinality;
+import org.sansenshimizu.sakuraboot.util.RelationshipDescriptor.Relationship;
 
 /**
  * Utility class for relationship in entity or DTO.
@@ -58,6 +62,12 @@ public class RelationshipUtils {
     private final String GLOBAL_SPECIFICATION_NULL_MESSAGE
         = "GlobalSpecification can't be null when working with DTO";
 
+    /**
+     * The relationship fields with their accessors, resolved once per class.
+     */
+    private final Map<RelationFieldsKey, List<RelationField>> RELATION_FIELDS
+        = new ConcurrentHashMap<>();
+
     /**
      * Util method to check if a field is a relationship in an entity.
      *
@@ -109,11 +119,27 @@ public class RelationshipUtils {
         final Member field, final Class<?> dtoClass, final String entityPackage,
         final String dtoPackage) {
 
-        final Class<?> entityClass;
+        final Class<?> entityClass
+            = getEntityClassFromDto(dtoClass, entityPackage, dtoPackage);
+        final AnnotatedElement entityField;
+
+        try {
+
+            entityField = entityClass.getDeclaredField(field.getName());
+        } catch (final NoSuchFieldException e) {
+
+            return null;
+        }
+        return entityField;
+    }
+
+    private Class<?> getEntityClassFromDto(
+        final Class<?> dtoClass, final String entityPackage,
+        final String dtoPackage) {
 
         try {
 
-            entityClass = Class.forName(dtoClass.getName()
+            return Class.forName(dtoClass.getName()
                 .replace(dtoPackage, entityPackage)
                 .replace("Dto", ""));
         } catch (final ClassNotFoundException e) {
@@ -123,17 +149,6 @@ public class RelationshipUtils {
                     + " (EntityName+Dto)",
                 e);
         }
-
-        final AnnotatedElement entityField;
-
-        try {
-
-            entityField = entityClass.getDeclaredField(field.getName());
-        } catch (final NoSuchFieldException e) {
-
-            return null;
-        }
-        return entityField;
     }
 
     /**
@@ -216,6 +231,47 @@ public class RelationshipUtils {
     private List<Class<?>> getRelationClass(
         final Class<?> clazz, final List<Class<?>> relationClass) {
 
+        final RelationshipDescriptor descriptor
+            = RelationshipDescriptors.find(clazz);
+        final List<Class<?>> newRelationClass;
+
+        if (descriptor != null) {
+
+            newRelationClass = getRelationClassFromDescriptor(descriptor,
+                relationship -> !relationship.isMappedBy());
+        } else {
+
+            newRelationClass = getRelationClassFromFields(clazz);
+        }
+
+        for (final Class<?> newClass: newRelationClass) {
+
+            relationClass.add(newClass);
+            getRelationClass(newClass, relationClass);
+        }
+        return relationClass;
+    }
+
+    private List<Class<?>> getRelationClassFromDescriptor(
+        final RelationshipDescriptor descriptor,
+        final Predicate<Relationship> filter) {
+
+        final List<Class<?>> relationClass = new ArrayList<>();
+
+        for (final Cardinality cardinality: Cardinality.values()) {
+
+            descriptor.getRelationships()
+                .stream()
+                .filter(relationship -> cardinality == relationship
+                    .cardinality() && filter.test(relationship))
+                .map(Relationship::targetType)
+                .forEach(relationClass::add);
+        }
+        return relationClass;
+    }
+
+    private List<Class<?>> getRelationClassFromFields(final Class<?> clazz) {
+
         final List<Field> fieldsAnyToOne
             = FieldUtils.getFieldsListWithAnnotation(clazz, OneToOne.class)
                 .stream()
@@ -246,13 +302,7 @@ public class RelationshipUtils {
                 field -> (Class<?>) ((ParameterizedType) field.getGenericType())
                     .getActualTypeArguments()[0])
             .toList());
-
-        for (final Class<?> newClass: newRelationClass) {
-
-            relationClass.add(newClass);
-            getRelationClass(newClass, relationClass);
-        }
-        return relationClass;
+        return newRelationClass;
     }
 
     /**
@@ -270,6 +320,30 @@ public class RelationshipUtils {
     private List<Class<?>> getMappedByRelationClass(
         final Class<?> clazz, final List<Class<?>> relationClass) {
 
+        final RelationshipDescriptor descriptor
+            = RelationshipDescriptors.find(clazz);
+        final List<Class<?>> newRelationClass;
+
+        if (descriptor != null) {
+
+            newRelationClass = getRelationClassFromDescriptor(descriptor,
+                Relationship::isMappedBy);
+        } else {
+
+            newRelationClass = getMappedByRelationClassFromFields(clazz);
+        }
+
+        for (final Class<?> newClass: newRelationClass) {
+
+            relationClass.add(newClass);
+            getMappedByRelationClass(newClass, relationClass);
+        }
+        return relationClass;
+    }
+
+    private List<Class<?>> getMappedByRelationClassFromFields(
+        final Class<?> clazz) {
+
         final List<Field> fieldsAnyToOne
             = FieldUtils.getFieldsListWithAnnotation(clazz, OneToOne.class)
                 .stream()
@@ -298,13 +372,7 @@ public class RelationshipUtils {
                 field -> (Class<?>) ((ParameterizedType) field.getGenericType())
                     .getActualTypeArguments()[0])
             .toList());
-
-        for (final Class<?> newClass: newRelationClass) {
-
-            relationClass.add(newClass);
-            getMappedByRelationClass(newClass, relationClass);
-        }
-        return relationClass;
+        return newRelationClass;
     }
 
     /**
@@ -382,26 +450,32 @@ public class RelationshipUtils {
     }
 
     /**
-     * Util method to perform an action to all the relationship fields in an
-     * entity or a DTO object.
-     * Include all the objects inside a collection.
+     * Util method to get all the relationship fields of an entity or a DTO
+     * class. The fields are resolved once per class and then reused.
      *
-     * @param data                The entity or DTO object.
-     * @param consumer            The action to perform.
-     * @param globalSpecification The {@link GlobalSpecification} help to get
-     *                            the entity and dto package.
+     * @param  clazz               The entity or DTO class.
+     * @param  globalSpecification The {@link GlobalSpecification} help to get
+     *                             the entity and dto package.
+     * @return                     The relationship fields.
      */
-    public void doWithRelationFields(
-        final Object data, final BiConsumer<Field, Object> consumer,
+    public List<Field> getRelationFields(
+        final Class<?> clazz,
         @Nullable final GlobalSpecification globalSpecification) {
 
-        if (data.getClass().isAnnotationPresent(Entity.class)) {
+        return getRelationFieldAccessors(clazz, globalSpecification).stream()
+            .map(relationField -> relationField.accessor().getField())
+            .toList();
+    }
 
-            doWithAnyToOneFields(data, consumer,
-                RelationshipUtils::isAnyToOneRelationship);
-            doWithAnyToManyFields(data, consumer,
-                RelationshipUtils::isAnyToManyRelationship);
-            return;
+    private List<RelationField> getRelationFieldAccessors(
+        final Class<?> clazz,
+        @Nullable final GlobalSpecification globalSpecification) {
+
+        if (clazz.isAnnotationPresent(Entity.class)) {
+
+            return RELATION_FIELDS.computeIfAbsent(
+                new RelationFieldsKey(clazz, "", ""),
+                key -> findEntityRelationFields(clazz));
         }
 
         if (globalSpecification == null) {
@@ -409,146 +483,142 @@ public class RelationshipUtils {
             throw new IllegalArgumentException(
                 GLOBAL_SPECIFICATION_NULL_MESSAGE);
         }
+
         final String entityPackage = globalSpecification.entityPackage();
         final String dtoPackage = globalSpecification.dtoPackage();
 
-        doWithAnyToOneFields(data, consumer,
-            field -> isAnyToOneRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
-        doWithAnyToManyFields(data, consumer,
-            field -> isAnyToManyRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
+        return RELATION_FIELDS.computeIfAbsent(
+            new RelationFieldsKey(clazz, entityPackage, dtoPackage),
+            key -> findDtoRelationFields(clazz, entityPackage, dtoPackage));
     }
 
-    /**
-     * Util method to perform an action to all the relationship fields in an
-     * entity or a DTO object.
-     * Don't include all the objects inside a collection but perform an
-     * action on the collection.
-     *
-     * @param data                The entity or DTO object.
-     * @param consumer            The action to perform.
-     * @param consumerCollection  The action to perform to a collection.
-     * @param globalSpecification The {@link GlobalSpecification} help to get
-     *                            the entity and dto package.
-     */
-    public void doWithRelationFields(
-        final Object data, final BiConsumer<Field, Object> consumer,
-        final BiConsumer<Field, Collection<?>> consumerCollection,
-        @Nullable final GlobalSpecification globalSpecification) {
+    private List<RelationField> findEntityRelationFields(
+        final Class<?> clazz) {
 
-        if (data.getClass().isAnnotationPresent(Entity.class)) {
+        final RelationshipDescriptor descriptor
+            = RelationshipDescriptors.find(clazz);
 
-            doWithAnyToOneFields(data, consumer,
-                RelationshipUtils::isAnyToOneRelationship);
-            doWithAnyToManyFieldsCollection(data, consumerCollection,
-                RelationshipUtils::isAnyToManyRelationship);
-            return;
+        if (descriptor != null) {
+
+            return findRelationFields(clazz,
+                getDescriptorFilter(descriptor, Cardinality::isAnyToOne),
+                getDescriptorFilter(descriptor, Cardinality::isAnyToMany));
         }
+        return findRelationFields(clazz,
+            RelationshipUtils::isAnyToOneRelationship,
+            RelationshipUtils::isAnyToManyRelationship);
+    }
 
-        if (globalSpecification == null) {
+    private List<RelationField> findDtoRelationFields(
+        final Class<?> clazz, final String entityPackage,
+        final String dtoPackage) {
 
-            throw new IllegalArgumentException(
-                GLOBAL_SPECIFICATION_NULL_MESSAGE);
-        }
+        final RelationshipDescriptor descriptor = RelationshipDescriptors
+            .find(getEntityClassFromDto(clazz, entityPackage, dtoPackage));
 
-        final String entityPackage = globalSpecification.entityPackage();
-        final String dtoPackage = globalSpecification.dtoPackage();
+        if (descriptor != null) {
 
-        doWithAnyToOneFields(data, consumer,
-            field -> isAnyToOneRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
-        doWithAnyToManyFieldsCollection(data, consumerCollection,
-            field -> isAnyToManyRelationshipFromDto(field, data.getClass(),
+            return findRelationFields(clazz,
+                getDescriptorFilter(descriptor, Cardinality::isAnyToOne),
+                getDescriptorFilter(descriptor, Cardinality::isAnyToMany));
+        }
+        return findRelationFields(clazz,
+            field -> isAnyToOneRelationshipFromDto(field, clazz, entityPackage,
+                dtoPackage),
+            field -> isAnyToManyRelationshipFromDto(field, clazz,
                 entityPackage, dtoPackage));
     }
 
-    private void doWithAnyToOneFields(
-        final Object data, final BiConsumer<Field, Object> consumer,
-        final ReflectionUtils.FieldFilter fieldFilter) {
+    private ReflectionUtils.FieldFilter getDescriptorFilter(
+        final RelationshipDescriptor descriptor,
+        final Predicate<Cardinality> cardinalityFilter) {
 
-        ReflectionUtils.doWithFields(data.getClass(), (final Field field) -> {
+        return (final Field field) -> {
 
-            field.setAccessible(true);
-            consumer.accept(field, field.get(data));
-        }, fieldFilter);
+            final Relationship relationship
+                = descriptor.getRelationship(field.getName());
+            return relationship != null
+                && cardinalityFilter.test(relationship.cardinality());
+        };
     }
 
-    private void doWithAnyToManyFields(
-        final Object data, final BiConsumer<Field, Object> consumer,
-        final ReflectionUtils.FieldFilter fieldFilter) {
+    private List<RelationField> findRelationFields(
+        final Class<?> clazz,
+        final ReflectionUtils.FieldFilter anyToOneFilter,
+        final ReflectionUtils.FieldFilter anyToManyFilter) {
 
-        ReflectionUtils.doWithFields(data.getClass(), (final Field field) -> {
+        final List<RelationField> relationFields = new ArrayList<>();
 
-            field.setAccessible(true);
+        ReflectionUtils.doWithFields(clazz,
+            field -> relationFields.add(new RelationField(
+                FieldAccessor.of(field), getIdAccessor(clazz, field), false)),
+            anyToOneFilter);
+        ReflectionUtils.doWithFields(clazz,
+            field -> relationFields.add(new RelationField(
+                FieldAccessor.of(field), getIdAccessor(clazz, field), true)),
+            anyToManyFilter);
+        return List.copyOf(relationFields);
+    }
 
-            if (field.get(data) instanceof final Collection<?> collection) {
+    private FieldAccessor getIdAccessor(
+        final Class<?> clazz, final Field field) {
 
-                collection.forEach(element -> consumer.accept(field, element));
-            }
-        }, fieldFilter);
-    }
+        final FieldAccessor idAccessor
+            = FieldAccessor.ofDeclaredField(clazz, field.getName() + "Id");
 
-    private void doWithAnyToManyFieldsCollection(
-        final Object data,
-        final BiConsumer<Field, Collection<?>> consumerCollection,
-        final ReflectionUtils.FieldFilter fieldFilter) {
+        if (idAccessor == null) {
 
-        ReflectionUtils.doWithFields(data.getClass(), (final Field field) -> {
+            return FieldAccessor.of(field);
+        }
+        return idAccessor;
+    }
 
-            field.setAccessible(true);
+    @Nullable
+    private Object getRelationshipId(@Nullable final Object relationship) {
 
-            if (field.get(data) instanceof final Collection<?> collection
-                && !collection.isEmpty()) {
+        if (relationship instanceof final DataPresentation<
+            ?> dataPresentation) {
 
-                consumerCollection.accept(field, collection);
-            }
-        }, fieldFilter);
+            return dataPresentation.getId();
+        }
+        return relationship;
     }
 
     /**
-     * Util method to perform an action to all the ID of the relationship fields
-     * in an entity or a DTO object. Include all the IDs inside a collection.
+     * Util method to perform an action to all the relationship fields in an
+     * entity or a DTO object.
+     * Include all the objects inside a collection.
      *
      * @param data                The entity or DTO object.
      * @param consumer            The action to perform.
      * @param globalSpecification The {@link GlobalSpecification} help to get
      *                            the entity and dto package.
      */
-    public void doWithIdRelationFields(
+    public void doWithRelationFields(
         final Object data, final BiConsumer<Field, Object> consumer,
         @Nullable final GlobalSpecification globalSpecification) {
 
-        if (data.getClass().isAnnotationPresent(Entity.class)) {
+        for (final RelationField relationField: getRelationFieldAccessors(
+            data.getClass(), globalSpecification)) {
 
-            doWithIdAnyToOneFields(data, consumer,
-                RelationshipUtils::isAnyToOneRelationship);
-            doWithIdAnyToManyFields(data, consumer,
-                RelationshipUtils::isAnyToManyRelationship);
-            return;
-        }
+            final Field field = relationField.accessor().getField();
+            final Object fieldObject = relationField.accessor().get(data);
 
-        if (globalSpecification == null) {
+            if (!relationField.anyToMany()) {
 
-            throw new IllegalArgumentException(
-                GLOBAL_SPECIFICATION_NULL_MESSAGE);
-        }
-
-        final String entityPackage = globalSpecification.entityPackage();
-        final String dtoPackage = globalSpecification.dtoPackage();
+                consumer.accept(field, fieldObject);
+            } else if (fieldObject instanceof final Collection<?> collection) {
 
-        doWithIdAnyToOneFields(data, consumer,
-            field -> isAnyToOneRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
-        doWithIdAnyToManyFields(data, consumer,
-            field -> isAnyToManyRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
+                collection.forEach(element -> consumer.accept(field, element));
+            }
+        }
     }
 
     /**
-     * Util method to perform an action to all the ID of the relationship fields
-     * in an entity or a DTO object. Don't include all the IDs inside a
-     * collection but perform an action on the collection.
+     * Util method to perform an action to all the relationship fields in an
+     * entity or a DTO object.
+     * Don't include all the objects inside a collection but perform an
+     * action on the collection.
      *
      * @param data                The entity or DTO object.
      * @param consumer            The action to perform.
@@ -556,138 +626,95 @@ public class RelationshipUtils {
      * @param globalSpecification The {@link GlobalSpecification} help to get
      *                            the entity and dto package.
      */
-    public void doWithIdRelationFields(
+    public void doWithRelationFields(
         final Object data, final BiConsumer<Field, Object> consumer,
         final BiConsumer<Field, Collection<?>> consumerCollection,
         @Nullable final GlobalSpecification globalSpecification) {
 
-        if (data.getClass().isAnnotationPresent(Entity.class)) {
-
-            doWithIdAnyToOneFields(data, consumer,
-                RelationshipUtils::isAnyToOneRelationship);
-            doWithIdAnyToManyFieldsCollection(data, consumerCollection,
-                RelationshipUtils::isAnyToManyRelationship);
-            return;
-        }
-
-        if (globalSpecification == null) {
-
-            throw new IllegalArgumentException(
-                GLOBAL_SPECIFICATION_NULL_MESSAGE);
-        }
-
-        final String entityPackage = globalSpecification.entityPackage();
-        final String dtoPackage = globalSpecification.dtoPackage();
-
-        doWithIdAnyToOneFields(data, consumer,
-            field -> isAnyToOneRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
-        doWithIdAnyToManyFieldsCollection(data, consumerCollection,
-            field -> isAnyToManyRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
-    }
-
-    private void doWithIdAnyToOneFields(
-        final Object data, final BiConsumer<Field, Object> consumer,
-        final ReflectionUtils.FieldFilter fieldFilter) {
-
-        ReflectionUtils.doWithFields(data.getClass(), (final Field field) -> {
-
-            Field idField;
-
-            try {
-
-                idField
-                    = data.getClass().getDeclaredField(field.getName() + "Id");
-            } catch (final NoSuchFieldException e) {
+        for (final RelationField relationField: getRelationFieldAccessors(
+            data.getClass(), globalSpecification)) {
 
-                idField = field;
-            }
-            idField.setAccessible(true);
+            final Field field = relationField.accessor().getField();
+            final Object fieldObject = relationField.accessor().get(data);
 
-            final Object idFieldObject = idField.get(data);
+            if (!relationField.anyToMany()) {
 
-            if (idFieldObject instanceof final DataPresentation<
-                ?> relationship) {
-
-                consumer.accept(idField, relationship.getId());
-            } else {
+                consumer.accept(field, fieldObject);
+            } else if (fieldObject instanceof final Collection<?> collection
+                && !collection.isEmpty()) {
 
-                consumer.accept(idField, idFieldObject);
+                consumerCollection.accept(field, collection);
             }
-        }, fieldFilter);
+        }
     }
 
-    private void doWithIdAnyToManyFields(
+    /**
+     * Util method to perform an action to all the ID of the relationship fields
+     * in an entity or a DTO object. Include all the IDs inside a collection.
+     *
+     * @param data                The entity or DTO object.
+     * @param consumer            The action to perform.
+     * @param globalSpecification The {@link GlobalSpecification} help to get
+     *                            the entity and dto package.
+     */
+    public void doWithIdRelationFields(
         final Object data, final BiConsumer<Field, Object> consumer,
-        final ReflectionUtils.FieldFilter fieldFilter) {
-
-        ReflectionUtils.doWithFields(data.getClass(), (final Field field) -> {
-
-            Field idField;
+        @Nullable final GlobalSpecification globalSpecification) {
 
-            try {
+        for (final RelationField relationField: getRelationFieldAccessors(
+            data.getClass(), globalSpecification)) {
 
-                idField
-                    = data.getClass().getDeclaredField(field.getName() + "Id");
-            } catch (final NoSuchFieldException e) {
+            final Field idField = relationField.idAccessor().getField();
+            final Object idFieldObject = relationField.idAccessor().get(data);
 
-                idField = field;
-            }
-            idField.setAccessible(true);
+            if (!relationField.anyToMany()) {
 
-            if (idField.get(data) instanceof final Collection<?> collection
+                consumer.accept(idField, getRelationshipId(idFieldObject));
+            } else if (idFieldObject instanceof final Collection<?> collection
                 && !collection.isEmpty()) {
 
-                collection.stream().map((final Object relationship) -> {
-
-                    if (relationship instanceof final DataPresentation<
-                        ?> dataPresentation) {
-
-                        return dataPresentation.getId();
-                    }
-                    return relationship;
-                })
-                    .forEach(
-                        idFieldObject -> consumer.accept(field, idFieldObject));
+                final Field field = relationField.accessor().getField();
+                collection.stream()
+                    .map(RelationshipUtils::getRelationshipId)
+                    .forEach(id -> consumer.accept(field, id));
             }
-        }, fieldFilter);
+        }
     }
 
-    private void doWithIdAnyToManyFieldsCollection(
-        final Object data,
+    /**
+     * Util method to perform an action to all the ID of the relationship fields
+     * in an entity or a DTO object. Don't include all the IDs inside a
+     * collection but perform an action on the collection.
+     *
+     * @param data                The entity or DTO object.
+     * @param consumer            The action to perform.
+     * @param consumerCollection  The action to perform to a collection.
+     * @param globalSpecification The {@link GlobalSpecification} help to get
+     *                            the entity and dto package.
+     */
+    public void doWithIdRelationFields(
+        final Object data, final BiConsumer<Field, Object> consumer,
         final BiConsumer<Field, Collection<?>> consumerCollection,
-        final ReflectionUtils.FieldFilter fieldFilter) {
-
-        ReflectionUtils.doWithFields(data.getClass(), (final Field field) -> {
-
-            Field idField;
+        @Nullable final GlobalSpecification globalSpecification) {
 
-            try {
+        for (final RelationField relationField: getRelationFieldAccessors(
+            data.getClass(), globalSpecification)) {
 
-                idField
-                    = data.getClass().getDeclaredField(field.getName() + "Id");
-            } catch (final NoSuchFieldException e) {
+            final Field idField = relationField.idAccessor().getField();
+            final Object idFieldObject = relationField.idAccessor().get(data);
 
-                idField = field;
-            }
-            idField.setAccessible(true);
+            if (!relationField.anyToMany()) {
 
-            if (idField.get(data) instanceof final Collection<?> collection
+                consumer.accept(idField, getRelationshipId(idFieldObject));
+            } else if (idFieldObject instanceof final Collection<?> collection
                 && !collection.isEmpty()) {
 
-                consumerCollection.accept(field,
-                    collection.stream().map((final Object relationship) -> {
-
-                        if (relationship instanceof final DataPresentation<
-                            ?> dataPresentation) {
-
-                            return dataPresentation.getId();
-                        }
-                        return relationship;
-                    }).toList());
+                consumerCollection.accept(relationField.accessor().getField(),
+                    collection.stream()
+                        .map(RelationshipUtils::getRelationshipId)
+                        .toList());
             }
-        }, fieldFilter);
+        }
     }
 
     /**
@@ -704,30 +731,23 @@ public class RelationshipUtils {
         final Object data, final BiFunction<Field, Object, Object> function,
         @Nullable final GlobalSpecification globalSpecification) {
 
-        if (data.getClass().isAnnotationPresent(Entity.class)) {
+        for (final RelationField relationField: getRelationFieldAccessors(
+            data.getClass(), globalSpecification)) {
 
-            updateAnyToOneFields(data, function,
-                RelationshipUtils::isAnyToOneRelationship);
-            updateAnyToManyFields(data, function, HashSet::new,
-                RelationshipUtils::isAnyToManyRelationship);
-            return;
-        }
+            final FieldAccessor accessor = relationField.accessor();
+            final Field field = accessor.getField();
+            final Object fieldObject = accessor.get(data);
 
-        if (globalSpecification == null) {
+            if (!relationField.anyToMany()) {
 
-            throw new IllegalArgumentException(
-                GLOBAL_SPECIFICATION_NULL_MESSAGE);
-        }
+                accessor.set(data, function.apply(field, fieldObject));
+            } else if (fieldObject instanceof final Collection<?> collection) {
 
-        final String entityPackage = globalSpecification.entityPackage();
-        final String dtoPackage = globalSpecification.dtoPackage();
-
-        updateAnyToOneFields(data, function,
-            field -> isAnyToOneRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
-        updateAnyToManyFields(data, function, HashSet::new,
-            field -> isAnyToManyRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
+                accessor.set(data, collection.stream()
+                    .map(element -> function.apply(field, element))
+                    .collect(Collectors.toCollection(HashSet::new)));
+            }
+        }
     }
 
     /**
@@ -748,76 +768,43 @@ public class RelationshipUtils {
             Collection<?>> functionCollection,
         @Nullable final GlobalSpecification globalSpecification) {
 
-        if (data.getClass().isAnnotationPresent(Entity.class)) {
-
-            updateAnyToOneFields(data, function,
-                RelationshipUtils::isAnyToOneRelationship);
-            updateAnyToManyFieldsCollection(data, functionCollection,
-                RelationshipUtils::isAnyToManyRelationship);
-            return;
-        }
-
-        if (globalSpecification == null) {
-
-            throw new IllegalArgumentException(
-                GLOBAL_SPECIFICATION_NULL_MESSAGE);
-        }
-
-        final String entityPackage = globalSpecification.entityPackage();
-        final String dtoPackage = globalSpecification.dtoPackage();
-
-        updateAnyToOneFields(data, function,
-            field -> isAnyToOneRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
-        updateAnyToManyFieldsCollection(data, functionCollection,
-            field -> isAnyToManyRelationshipFromDto(field, data.getClass(),
-                entityPackage, dtoPackage));
-    }
+        for (final RelationField relationField: getRelationFieldAccessors(
+            data.getClass(), globalSpecification)) {
 
-    private void updateAnyToOneFields(
-        final Object data, final BiFunction<Field, Object, Object> function,
-        final ReflectionUtils.FieldFilter fieldFilter) {
+            final FieldAccessor accessor = relationField.accessor();
+            final Field field = accessor.getField();
+            final Object fieldObject = accessor.get(data);
 
-        ReflectionUtils.doWithFields(data.getClass(), (final Field field) -> {
-
-            field.setAccessible(true);
-            field.set(data, function.apply(field, field.get(data)));
-        }, fieldFilter);
-    }
-
-    private void updateAnyToManyFields(
-        final Object data, final BiFunction<Field, Object, Object> function,
-        final Supplier<Collection<Object>> collectionSupplier,
-        final ReflectionUtils.FieldFilter fieldFilter) {
+            if (!relationField.anyToMany()) {
 
-        ReflectionUtils.doWithFields(data.getClass(), (final Field field) -> {
-
-            field.setAccessible(true);
-
-            if (field.get(data) instanceof final Collection<?> collection) {
+                accessor.set(data, function.apply(field, fieldObject));
+            } else if (fieldObject instanceof final Collection<?> collection
+                && !collection.isEmpty()) {
 
-                final Collection<?> newCollection = collection.stream()
-                    .map(element -> function.apply(field, element))
-                    .collect(Collectors.toCollection(collectionSupplier));
-                field.set(data, newCollection);
+                accessor.set(data, functionCollection.apply(field, collection));
             }
-        }, fieldFilter);
+        }
     }
 
-    private void updateAnyToManyFieldsCollection(
-        final Object data,
-        final BiFunction<Field, Collection<?>, Collection<?>> function,
-        final ReflectionUtils.FieldFilter fieldFilter) {
-
-        ReflectionUtils.doWithFields(data.getClass(), (final Field field) -> {
-
-            field.setAccessible(true);
-
-            if (field.get(data) instanceof final Collection<?> collection
-                && !collection.isEmpty()) {
+    /**
+     * The key of the cached relationship fields of a class.
+     *
+     * @param clazz         The entity or DTO class.
+     * @param entityPackage The entity package, empty for an entity.
+     * @param dtoPackage    The DTO package, empty for an entity.
+     */
+    private record RelationFieldsKey(
+        Class<?> clazz, String entityPackage, String dtoPackage) {}
 
-                field.set(data, function.apply(field, collection));
-            }
-        }, fieldFilter);
-    }
+    /**
+     * A relationship field with its accessors.
+     *
+     * @param accessor   The accessor of the relationship field.
+     * @param idAccessor The accessor of the ID field ({@code fieldName + "Id"})
+     *                   or the accessor of the relationship field if there is
+     *                   no ID field.
+     * @param anyToMany  True if the field is an any to many relationship.
+     */
+    private record RelationField(
+        FieldAccessor accessor, FieldAccessor idAccessor, boolean anyToMany) {}
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.SuperRepository;
+import org.sansenshimizu.sakuraboot.SuperService;
+import org.sansenshimizu.sakuraboot.exceptions.NotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The test class for the {@link SakuraBootMetadataRegistry}.
+ *
+ * @author Malcolm Rozé
+ * @see    SakuraBootMetadataRegistry
+ * @since  0.2.0
+ */
+class SakuraBootMetadataRegistryTest {
+
+    @Test
+    @DisplayName("GIVEN a class implementing SuperService,"
+        + " WHEN calling getGenericType,"
+        + " THEN the result should be the entity and ID types")
+    final void testGetGenericType() {
+
+        // WHEN
+        final Class<?> entityClass = SakuraBootMetadataRegistry
+            .getGenericType(ServiceForTest.class, SuperService.class, 0);
+        final Class<?> idClass = SakuraBootMetadataRegistry
+            .getGenericType(ServiceForTest.class, SuperService.class, 1);
+
+        // THEN
+        assertThat(entityClass).isEqualTo(DataForTest.class);
+        assertThat(idClass).isEqualTo(Long.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN a registered class implementing SuperService,"
+        + " WHEN calling getEntityClass,"
+        + " THEN the result should be the entity type")
+    final void testGetEntityClassWhenRegistered() {
+
+        // GIVEN
+        SakuraBootMetadataRegistry.register(ServiceForTest.class);
+
+        // WHEN
+        final Class<DataForTest> entityClass
+            = new ServiceForTest().getEntityClass();
+
+        // THEN
+        assertThat(entityClass).isEqualTo(DataForTest.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN a class not implementing SuperService,"
+        + " WHEN calling getGenericType,"
+        + " THEN a NotFoundException should be thrown")
+    final void testGetGenericTypeWhenNotImplemented() {
+
+        // WHEN
+        assertThatThrownBy(() -> SakuraBootMetadataRegistry
+            .getGenericType(String.class, SuperService.class, 0))
+
+            // THEN
+            .isExactlyInstanceOf(NotFoundException.class);
+    }
+
+    private record DataForTest(Long id) implements DataPresentation<Long> {
+
+        @Override
+        public Long getId() {
+
+            return id;
+        }
+    }
+
+    private static final class ServiceForTest
+        implements SuperService<DataForTest, Long> {
+
+        @Override
+        public SuperRepository<DataForTest, Long> getRepository() {
+
+            throw new UnsupportedOperationException();
+        }
+    }
+}
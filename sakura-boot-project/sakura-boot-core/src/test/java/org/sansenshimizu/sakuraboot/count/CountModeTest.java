@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.count;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The test class for the enum {@link CountMode} and the class
+ * {@link CountCache}.
+ *
+ * @author Malcolm Rozé
+ * @see    CountMode
+ * @see    CountCache
+ * @since  0.2.0
+ */
+class CountModeTest {
+
+    /**
+     * The slice use in test, the second one of size 2 with a next slice.
+     */
+    private static final Slice<String> SLICE
+        = new SliceImpl<>(List.of("c", "d"), PageRequest.of(1, 2), true);
+
+    /**
+     * The default maximum number of cached counts.
+     */
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+
+    /**
+     * The {@link CountCache} use in test.
+     */
+    private final CountCache countCache
+        = new CountCache(Duration.ofMinutes(1), DEFAULT_MAX_SIZE);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"none", "NONE", " None "})
+    @DisplayName("GIVEN a count mode name in any case,"
+        + " WHEN calling of,"
+        + " THEN the count mode should be returned")
+    final void testOf(final String value) {
+
+        // WHEN
+        final CountMode result = CountMode.of(value);
+
+        // THEN
+        assertThat(result).isEqualTo(CountMode.NONE);
+    }
+
+    @Test
+    @DisplayName("GIVEN a null, blank or invalid count mode,"
+        + " WHEN calling of,"
+        + " THEN exact should be returned or an exception thrown")
+    final void testOfDefaultAndInvalid() {
+
+        // THEN
+        assertThat(CountMode.of(null)).isEqualTo(CountMode.EXACT);
+        assertThat(CountMode.of("")).isEqualTo(CountMode.EXACT);
+        assertThatThrownBy(() -> CountMode.of("estimated"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("estimated");
+    }
+
+    @Test
+    @DisplayName("GIVEN a slice,"
+        + " WHEN calling withCount with none,"
+        + " THEN the slice should be returned without count")
+    final void testWithCountNone() {
+
+        // GIVEN
+        final AtomicLong calls = new AtomicLong();
+
+        // WHEN
+        final Slice<String> result = CountMode.NONE.withCount(SLICE,
+            countCache, String.class, null, calls::incrementAndGet);
+
+        // THEN
+        assertThat(result).isSameAs(SLICE);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("GIVEN a slice,"
+        + " WHEN calling withCount with exact,"
+        + " THEN a page with the count should be returned")
+    final void testWithCountExact() {
+
+        // WHEN
+        final Slice<String> result = CountMode.EXACT.withCount(SLICE,
+            countCache, String.class, null, () -> 10L);
+
+        // THEN
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<String>) result).getTotalElements()).isEqualTo(10L);
+        assertThat(result.getContent()).containsExactly("c", "d");
+    }
+
+    @Test
+    @DisplayName("GIVEN a slice,"
+        + " WHEN calling withCount with cached twice with the same filter,"
+        + " THEN the count should be computed once")
+    final void testWithCountCached() {
+
+        // GIVEN
+        final AtomicLong calls = new AtomicLong();
+
+        // WHEN
+        final Slice<String> first = CountMode.CACHED.withCount(SLICE,
+            countCache, String.class, "filter",
+            () -> 10L + calls.incrementAndGet());
+        final Slice<String> second = CountMode.CACHED.withCount(SLICE,
+            countCache, String.class, "filter",
+            () -> 10L + calls.incrementAndGet());
+        final Slice<String> otherFilter = CountMode.CACHED.withCount(SLICE,
+            countCache, String.class, "other",
+            () -> 20L + calls.incrementAndGet());
+
+        // THEN
+        assertThat(((Page<String>) first).getTotalElements()).isEqualTo(11L);
+        assertThat(((Page<String>) second).getTotalElements()).isEqualTo(11L);
+        assertThat(((Page<String>) otherFilter).getTotalElements())
+            .isEqualTo(22L);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN a cached count smaller than the slice,"
+        + " WHEN calling withCount with cached,"
+        + " THEN the total should include the slice and the next element")
+    final void testWithCountCachedOutdated() {
+
+        // WHEN
+        final Slice<String> result = CountMode.CACHED.withCount(SLICE,
+            countCache, String.class, null, () -> 1L);
+
+        // THEN
+        assertThat(((Page<String>) result).getTotalElements()).isEqualTo(5L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("GIVEN a count cache with a maximum size of 2,"
+        + " WHEN calling withCount with cached for 3 filters,"
+        + " THEN only the oldest count should be evicted")
+    final void testWithCountCachedMaxSize() {
+
+        // GIVEN
+        final CountCache smallCache = new CountCache(Duration.ofMinutes(1), 2);
+        final AtomicLong calls = new AtomicLong();
+
+        // WHEN
+        for (final String filter: List.of("a", "b", "c", "b", "c", "a")) {
+
+            CountMode.CACHED.withCount(SLICE, smallCache, String.class, filter,
+                calls::incrementAndGet);
+        }
+
+        // THEN
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("GIVEN a count cache with a short time to live,"
+        + " WHEN calling withCount with cached after the expiration,"
+        + " THEN the count should be computed again")
+    final void testWithCountCachedExpired() throws InterruptedException {
+
+        // GIVEN
+        final CountCache shortCache
+            = new CountCache(Duration.ofMillis(1), DEFAULT_MAX_SIZE);
+        final AtomicLong calls = new AtomicLong();
+        CountMode.CACHED.withCount(SLICE, shortCache, String.class, null,
+            calls::incrementAndGet);
+        Thread.sleep(2);
+
+        // WHEN
+        CountMode.CACHED.withCount(SLICE, shortCache, String.class, null,
+            calls::incrementAndGet);
+
+        // THEN
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN cached counts of two entities,"
+        + " WHEN evicting the counts of one entity,"
+        + " THEN only its count should be computed again")
+    final void testWithCountCachedEvicted() {
+
+        // GIVEN
+        final AtomicLong calls = new AtomicLong();
+        CountMode.CACHED.withCount(SLICE, countCache, String.class, null,
+            calls::incrementAndGet);
+        CountMode.CACHED.withCount(SLICE, countCache, Integer.class, null,
+            calls::incrementAndGet);
+
+        // WHEN
+        countCache.evict(String.class);
+        CountMode.CACHED.withCount(SLICE, countCache, String.class, null,
+            calls::incrementAndGet);
+        CountMode.CACHED.withCount(SLICE, countCache, Integer.class, null,
+            calls::incrementAndGet);
+
+        // THEN
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("GIVEN a count computed while the counts are evicted,"
+        + " WHEN calling withCount with cached again,"
+        + " THEN the count should be computed again")
+    final void testWithCountCachedEvictedDuringCount() {
+
+        // GIVEN
+        final AtomicLong calls = new AtomicLong();
+        CountMode.CACHED.withCount(SLICE, countCache, String.class, null,
+            () -> {
+
+                countCache.evict(String.class);
+                return calls.incrementAndGet();
+            });
+
+        // WHEN
+        CountMode.CACHED.withCount(SLICE, countCache, String.class, null,
+            calls::incrementAndGet);
+
+        // THEN
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN no count cache,"
+        + " WHEN calling withCount with cached twice,"
+        + " THEN the count should be computed each time")
+    final void testWithCountCachedWithoutCache() {
+
+        // GIVEN
+        final AtomicLong calls = new AtomicLong();
+
+        // WHEN
+        CountMode.CACHED.withCount(SLICE, null, String.class, null,
+            calls::incrementAndGet);
+        CountMode.CACHED.withCount(SLICE, null, String.class, null,
+            calls::incrementAndGet);
+
+        // THEN
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN a zero time to live or size,"
+        + " WHEN creating the count cache,"
+        + " THEN an exception should be thrown")
+    final void testCreateInvalid() {
+
+        // THEN
+        assertThatThrownBy(() -> new CountCache(Duration.ZERO, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountCache(Duration.ofMinutes(1), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
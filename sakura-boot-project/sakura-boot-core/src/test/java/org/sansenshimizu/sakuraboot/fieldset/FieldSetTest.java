@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.fieldset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The test class for the class {@link FieldSet}.
+ *
+ * @author Malcolm Rozé
+ * @see    FieldSet
+ * @since  0.2.0
+ */
+class FieldSetTest {
+
+    @Test
+    @DisplayName("GIVEN a list of fields,"
+        + " WHEN calling of,"
+        + " THEN the ID should be first followed by the fields in order")
+    final void testOf() {
+
+        // WHEN
+        final FieldSet result = FieldSet.of(" name , ,id,age");
+
+        // THEN
+        assertThat(result.getNames()).containsExactly("id", "name", "age");
+        assertThat(result).hasToString("id,name,age");
+    }
+
+    @Test
+    @DisplayName("GIVEN a blank value,"
+        + " WHEN calling of,"
+        + " THEN only the ID should be selected")
+    final void testOfBlank() {
+
+        // WHEN
+        final FieldSet result = FieldSet.of(" ");
+
+        // THEN
+        assertThat(result.getNames()).containsExactly(FieldSet.ID_FIELD);
+    }
+
+    @Test
+    @DisplayName("GIVEN an invalid field,"
+        + " WHEN calling of,"
+        + " THEN a bad request exception should be thrown")
+    final void testOfInvalid() {
+
+        // THEN
+        assertThatThrownBy(() -> FieldSet.of("name,other.name"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("other.name");
+    }
+
+    @Test
+    @DisplayName("GIVEN a fields parameter present or absent,"
+        + " WHEN calling rejectWith,"
+        + " THEN a bad request exception should be thrown only if present")
+    final void testRejectWith() {
+
+        // THEN
+        assertThatCode(() -> FieldSet.rejectWith(null, "cursor"))
+            .doesNotThrowAnyException();
+        assertThatThrownBy(() -> FieldSet.rejectWith("name", "cursor"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("cursor");
+    }
+}
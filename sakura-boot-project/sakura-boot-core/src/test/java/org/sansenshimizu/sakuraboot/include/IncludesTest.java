@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.include;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The test class for the class {@link Includes} and the util class
+ * {@link IncludeContext}.
+ *
+ * @author Malcolm Rozé
+ * @see    Includes
+ * @see    IncludeContext
+ * @since  0.2.0
+ */
+class IncludesTest {
+
+    @Test
+    @DisplayName("GIVEN a null include,"
+        + " WHEN calling of,"
+        + " THEN all the relationships should be included")
+    final void testOfNull() {
+
+        // WHEN
+        final Includes result = Includes.of(null);
+
+        // THEN
+        assertThat(result).isSameAs(Includes.ALL);
+        assertThat(result.isAll()).isTrue();
+        assertThat(result.includes("any")).isTrue();
+    }
+
+    @Test
+    @DisplayName("GIVEN a nested include,"
+        + " WHEN calling includes,"
+        + " THEN the path and its parents should be included")
+    final void testIncludes() {
+
+        // GIVEN
+        final Includes includes = Includes.of(" department.company , ,other");
+
+        // WHEN
+        final boolean parent = includes.includes("department");
+        final boolean child = includes.includes("department.company");
+        final boolean missing = includes.includes("manager");
+
+        // THEN
+        assertThat(includes.isAll()).isFalse();
+        assertThat(includes).hasToString("department.company,other");
+        assertThat(includes.getPaths())
+            .containsExactly("department.company", "other");
+        assertThat(parent).isTrue();
+        assertThat(child).isTrue();
+        assertThat(missing).isFalse();
+    }
+
+    @Test
+    @DisplayName("GIVEN a nested include,"
+        + " WHEN calling relativeTo,"
+        + " THEN only the paths under the prefix should be kept")
+    final void testRelativeTo() {
+
+        // GIVEN
+        final Includes includes = Includes.of("department.company,other");
+
+        // WHEN
+        final Includes result = includes.relativeTo("department");
+
+        // THEN
+        assertThat(result).isEqualTo(Includes.of("company"));
+        assertThat(Includes.ALL.relativeTo("department"))
+            .isSameAs(Includes.ALL);
+    }
+
+    @Test
+    @DisplayName("GIVEN an invalid include,"
+        + " WHEN calling of,"
+        + " THEN a bad request exception should be thrown")
+    final void testOfInvalid() {
+
+        // THEN
+        assertThatThrownBy(() -> Includes.of("department..company"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("department..company");
+    }
+
+    @Test
+    @DisplayName("GIVEN an include parameter present or absent,"
+        + " WHEN calling rejectWith,"
+        + " THEN a bad request exception should be thrown only if present")
+    final void testRejectWith() {
+
+        // THEN
+        assertThatCode(() -> Includes.rejectWith(null, "count"))
+            .doesNotThrowAnyException();
+        assertThatThrownBy(() -> Includes.rejectWith("department", "count"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("count");
+    }
+
+    @Test
+    @DisplayName("GIVEN a supplier,"
+        + " WHEN calling mapLoadedOnly,"
+        + " THEN the loaded only flag should be set only during the call")
+    final void testMapLoadedOnly() {
+
+        // WHEN
+        final boolean during = IncludeContext.mapLoadedOnly(
+            IncludeContext::isLoadedOnly);
+
+        // THEN
+        assertThat(during).isTrue();
+        assertThat(IncludeContext.isLoadedOnly()).isFalse();
+    }
+}
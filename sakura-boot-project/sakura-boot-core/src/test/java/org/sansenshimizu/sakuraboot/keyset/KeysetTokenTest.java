@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.sansenshimizu.sakuraboot.keyset;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import org.sansenshimizu.sakuraboot.exceptions.BadRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The test class for the util class {@link KeysetToken} and the class
+ * {@link KeysetSlice}.
+ *
+ * @author Malcolm Rozé
+ * @see    KeysetToken
+ * @see    KeysetSlice
+ * @since  0.2.0
+ */
+class KeysetTokenTest {
+
+    @Test
+    @DisplayName("GIVEN a keyset position,"
+        + " WHEN encoding and decoding it,"
+        + " THEN the decoded position should be the same")
+    final void testEncodeAndDecode() {
+
+        // GIVEN
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", "a&b=c d");
+        keys.put("birthDate", LocalDate.of(2024, 1, 31));
+        keys.put("id", 42L);
+        final KeysetScrollPosition position = ScrollPosition.forward(keys);
+
+        // WHEN
+        final String cursor = KeysetToken.encode(position);
+        final KeysetScrollPosition result = KeysetToken.decode(cursor,
+            EntityForTest.class, Sort.by("name", "birthDate"));
+
+        // THEN
+        assertThat(cursor).doesNotContain("&", "=", "+", "/");
+        assertThat(result.getKeys()).containsExactlyEntriesOf(keys);
+        assertThat(result.scrollsForward()).isTrue();
+    }
+
+    @Test
+    @DisplayName("GIVEN a keyset position with a null value,"
+        + " WHEN encoding and decoding it,"
+        + " THEN a BadRequestException should be thrown")
+    final void testDecodeWithNullValue() {
+
+        // GIVEN
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", null);
+        keys.put("id", 1L);
+        final String cursor
+            = KeysetToken.encode(ScrollPosition.forward(keys));
+
+        // THEN
+        assertThatThrownBy(() -> KeysetToken.decode(cursor,
+            EntityForTest.class, Sort.by("name")))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN a cursor created for another sort,"
+        + " WHEN decoding it,"
+        + " THEN a BadRequestException should be thrown")
+    final void testDecodeWithOtherSort() {
+
+        // GIVEN
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", "name");
+        keys.put("id", 1L);
+        final String cursor
+            = KeysetToken.encode(ScrollPosition.forward(keys));
+
+        // THEN
+        assertThat(KeysetToken
+            .decode(cursor, EntityForTest.class, Sort.by("name"))
+            .getKeys()).containsExactlyEntriesOf(keys);
+        assertThatThrownBy(() -> KeysetToken.decode(cursor,
+            EntityForTest.class, Sort.by("birthDate")))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetToken.decode(cursor,
+            EntityForTest.class, Sort.unsorted()))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN a sort with or without the ID,"
+        + " WHEN calling getKeysetSort,"
+        + " THEN the ID should be added only if missing")
+    final void testGetKeysetSort() {
+
+        // THEN
+        assertThat(KeysetToken.getKeysetSort(Sort.by("name")))
+            .isEqualTo(Sort.by("name", "id"));
+        assertThat(KeysetToken.getKeysetSort(Sort.by("id", "name")))
+            .isEqualTo(Sort.by("id", "name"));
+    }
+
+    @Test
+    @DisplayName("GIVEN a blank cursor,"
+        + " WHEN decoding it,"
+        + " THEN the initial position should be returned")
+    final void testDecodeBlankCursor() {
+
+        // WHEN
+        final KeysetScrollPosition result
+            = KeysetToken.decode(" ", EntityForTest.class, Sort.unsorted());
+
+        // THEN
+        assertThat(result.isInitial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("GIVEN a cursor that isn't valid,"
+        + " WHEN decoding it,"
+        + " THEN a BadRequestException should be thrown")
+    final void testDecodeInvalidCursor() {
+
+        // WHEN
+        final String notBase64 = "not a cursor!";
+        final String unknownProperty = KeysetToken.encode(
+            ScrollPosition.forward(Map.of("unknown", 1L)));
+        final String badValue
+            = KeysetToken.encode(ScrollPosition.forward(Map.of("id", "abc")));
+
+        // THEN
+        assertThatThrownBy(
+            () -> KeysetToken.decode(notBase64, EntityForTest.class,
+                Sort.unsorted()))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(
+            () -> KeysetToken.decode(unknownProperty, EntityForTest.class,
+                Sort.unsorted()))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(
+            () -> KeysetToken.decode(badValue, EntityForTest.class,
+                Sort.unsorted()))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN a keyset slice,"
+        + " WHEN mapping its content,"
+        + " THEN the cursor of the next slice should be kept")
+    final void testMapKeepCursor() {
+
+        // GIVEN
+        final KeysetSlice<Long> slice
+            = new KeysetSlice<>(List.of(1L, 2L), PageRequest.ofSize(2), "next");
+
+        // WHEN
+        final KeysetSlice<String> result = slice.map(String::valueOf);
+
+        // THEN
+        assertThat(result.getContent()).containsExactly("1", "2");
+        assertThat(result.getNextCursor()).isEqualTo("next");
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @SuppressWarnings("unused")
+    private static final class EntityForTest {
+
+        /**
+         * The ID.
+         */
+        private Long id;
+
+        /**
+         * The name.
+         */
+        private String name;
+
+        /**
+         * The birth date.
+         */
+        private LocalDate birthDate;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.util;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test class for the util class {@link FieldAccessor}.
+ *
+ * @author Malcolm Rozé
+ * @see    FieldAccessor
+ * @since  0.2.0
+ */
+class FieldAccessorTest {
+
+    /**
+     * A field value.
+     */
+    private static final String FIELD_VALUE = "fieldValue";
+
+    /**
+     * A new field value.
+     */
+    private static final String NEW_FIELD_VALUE = "newFieldValue";
+
+    @Test
+    @DisplayName("GIVEN a private field,"
+        + " WHEN calling get and set,"
+        + " THEN the value should be read and written")
+    final void testGetAndSet() {
+
+        // GIVEN
+        final DataForTest data = new DataForTest(FIELD_VALUE);
+        final FieldAccessor accessor = Objects.requireNonNull(
+            FieldAccessor.ofDeclaredField(DataForTest.class, "value"));
+
+        // WHEN
+        final Object value = accessor.get(data);
+        accessor.set(data, NEW_FIELD_VALUE);
+
+        // THEN
+        assertThat(value).isEqualTo(FIELD_VALUE);
+        assertThat(data.getValue()).isEqualTo(NEW_FIELD_VALUE);
+    }
+
+    @Test
+    @DisplayName("GIVEN a private final field,"
+        + " WHEN calling set,"
+        + " THEN the value should be written")
+    final void testSetFinalField() {
+
+        // GIVEN
+        final DataForTest data = new DataForTest(FIELD_VALUE);
+        final FieldAccessor accessor = Objects.requireNonNull(
+            FieldAccessor.ofDeclaredField(DataForTest.class, "finalValue"));
+
+        // WHEN
+        accessor.set(data, NEW_FIELD_VALUE);
+
+        // THEN
+        assertThat(accessor.get(data)).isEqualTo(NEW_FIELD_VALUE);
+    }
+
+    @Test
+    @DisplayName("GIVEN a field name that doesn't exist,"
+        + " WHEN calling ofDeclaredField,"
+        + " THEN the result should be null")
+    final void testOfDeclaredFieldWhenNotExists() {
+
+        // WHEN
+        final FieldAccessor accessor
+            = FieldAccessor.ofDeclaredField(DataForTest.class, "notExists");
+
+        // THEN
+        assertThat(accessor).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN a field,"
+        + " WHEN calling of twice,"
+        + " THEN the same accessor should be returned")
+    final void testOfIsCached() throws NoSuchFieldException {
+
+        // GIVEN
+        final Field field
+            = DataForTest.class.getDeclaredField("value");
+
+        // WHEN
+        final FieldAccessor accessor = FieldAccessor.of(field);
+
+        // THEN
+        assertThat(FieldAccessor.of(field)).isSameAs(accessor);
+        assertThat(accessor.getField()).isEqualTo(field);
+    }
+
+    private static final class DataForTest {
+
+        /**
+         * A non-final value.
+         */
+        private String value;
+
+        /**
+         * A final value.
+         */
+        private final String finalValue;
+
+        private DataForTest(final String value) {
+
+            this.value = value;
+            this.finalValue = value;
+        }
+
+        private String getValue() {
+
+            return value;
+        }
+    }
+}
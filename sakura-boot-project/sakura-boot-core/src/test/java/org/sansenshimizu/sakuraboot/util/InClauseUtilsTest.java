@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.util;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test class for the util class {@link InClauseUtils}.
+ *
+ * @author Malcolm Rozé
+ * @see    InClauseUtils
+ * @since  0.2.0
+ */
+class InClauseUtilsTest {
+
+    @Test
+    @DisplayName("GIVEN a list of IDs with duplicates,"
+        + " WHEN calling toPaddedChunks,"
+        + " THEN each chunk should be padded to the next power of two")
+    final void testToPaddedChunks() {
+
+        // WHEN
+        final List<List<Integer>> result = InClauseUtils
+            .toPaddedChunks(List.of(1, 2, 2, 3, 4, 5, 6, 7), 4);
+
+        // THEN
+        assertThat(result).containsExactly(List.of(1, 2, 3, 4),
+            List.of(5, 6, 7, 7));
+    }
+
+    @Test
+    @DisplayName("GIVEN a list of IDs smaller than the maximum size,"
+        + " WHEN calling toPaddedChunks,"
+        + " THEN one chunk should be returned without exceeding the maximum")
+    final void testToPaddedChunksSingleChunk() {
+
+        // WHEN
+        final List<List<Integer>> result
+            = InClauseUtils.toPaddedChunks(List.of(1, 2, 3, 4, 5), 6);
+
+        // THEN
+        assertThat(result).containsExactly(List.of(1, 2, 3, 4, 5, 5));
+    }
+
+    @Test
+    @DisplayName("GIVEN an empty list of IDs,"
+        + " WHEN calling toPaddedChunks,"
+        + " THEN no chunk should be returned")
+    final void testToPaddedChunksEmpty() {
+
+        // WHEN
+        final List<List<Integer>> result
+            = InClauseUtils.toPaddedChunks(List.<Integer>of(), 4);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.util;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.sansenshimizu.sakuraboot.util.RelationshipDescriptor.Cardinality;
+import org.sansenshimizu.sakuraboot.util.RelationshipDescriptor.Relationship;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test class for the util class {@link RelationshipDescriptors}.
+ *
+ * @author Malcolm Rozé
+ * @see    RelationshipDescriptors
+ * @since  0.2.0
+ */
+class RelationshipDescriptorsTest {
+
+    /**
+     * The name of the relationship field.
+     */
+    private static final String RELATIONSHIP_NAME = "other";
+
+    @Test
+    @DisplayName("GIVEN an entity with a generated descriptor,"
+        + " WHEN calling find,"
+        + " THEN the descriptor should be returned")
+    final void testFindWithDescriptor() {
+
+        // WHEN
+        final RelationshipDescriptor descriptor
+            = RelationshipDescriptors.find(DescribedEntity.class);
+
+        // THEN
+        assertThat(descriptor)
+            .isInstanceOf(DescribedEntityRelationshipDescriptor.class);
+        assertThat(descriptor.getRelationship(RELATIONSHIP_NAME))
+            .isNotNull()
+            .extracting(Relationship::cardinality)
+            .isEqualTo(Cardinality.MANY_TO_ONE);
+    }
+
+    @Test
+    @DisplayName("GIVEN an entity without a generated descriptor,"
+        + " WHEN calling find,"
+        + " THEN the result should be null")
+    final void testFindWithoutDescriptor() {
+
+        // WHEN
+        final RelationshipDescriptor descriptor
+            = RelationshipDescriptors.find(OtherEntity.class);
+
+        // THEN
+        assertThat(descriptor).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN an entity with a generated descriptor,"
+        + " WHEN calling getRelationClass,"
+        + " THEN the relation classes should come from the descriptor")
+    final void testGetRelationClassWithDescriptor() {
+
+        // WHEN
+        final List<Class<?>> relationClass
+            = RelationshipUtils.getRelationClass(DescribedEntity.class);
+
+        // THEN
+        assertThat(relationClass).containsExactly(OtherEntity.class);
+    }
+
+    static final class DescribedEntity {}
+
+    static final class OtherEntity {}
+
+    static final class DescribedEntityRelationshipDescriptor
+        implements RelationshipDescriptor {
+
+        @Override
+        public Class<?> getEntityClass() {
+
+            return DescribedEntity.class;
+        }
+
+        @Override
+        public String getIdFieldName() {
+
+            return "id";
+        }
+
+        @Override
+        public List<Relationship> getRelationships() {
+
+            return List.of(new Relationship(RELATIONSHIP_NAME,
+                Cardinality.MANY_TO_ONE, "", OtherEntity.class));
+        }
+    }
+}
@@ -26,6 +26,7 @@ dependencies {
     implementation(libs.slf4j.api)
     implementation(libs.spring.data.commons)
     implementation(libs.spring.web)
+    implementation(libs.spring.webmvc)
     compileOnly(libs.jackson.databind)
 
     testImplementation(projects.sakuraBootCoreTest)
@@ -24,11 +24,18 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.core.annotation.Order;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.aop.AspectUtil;
@@ -36,6 +43,7 @@ import org.sansenshimizu.sakuraboot.hypermedia.api.Hypermedia;
 import org.sansenshimizu.sakuraboot.hypermedia.api.annotations.ApplyHypermedia;
 import org.sansenshimizu.sakuraboot.hypermedia.api.annotations.ApplyHypermediaOnCollection;
 import org.sansenshimizu.sakuraboot.hypermedia.api.annotations.ApplyHypermediaOnPage;
+import org.sansenshimizu.sakuraboot.keyset.KeysetSlice;
 
 /**
  * The aspect class to apply hypermedia links inside {@link Hypermedia} class
@@ -59,6 +67,11 @@ public final class HypermediaAspect<D extends DataPresentation<?>>
     private static final String ERROR_MESSAGE_BAD_TYPE
         = "The method return type must be a ResponseEntity that contains a ";
 
+    /**
+     * The name of the request parameter containing the page number.
+     */
+    private static final String PAGE_PARAMETER = "page";
+
     /**
      * Aspect method that call
      * {@link RepresentationModelAssemblerSupport#toModel(Object)}.
@@ -135,8 +148,9 @@ public final class HypermediaAspect<D extends DataPresentation<?>>
             && !collection.isEmpty()
             && target.getDataClass().isInstance(collection.iterator().next())) {
 
+            final Class<D> dataClass = target.getDataClass();
             final Collection<D> datas
-                = collection.stream().map(target.getDataClass()::cast).toList();
+                = collection.stream().map(dataClass::cast).toList();
             final RepresentationModelAssemblerSupport<D, ?> modelAssembler
                 = target.getModelAssembler();
 
@@ -158,6 +172,10 @@ public final class HypermediaAspect<D extends DataPresentation<?>>
      * Aspect method that call
      * {@link PagedResourcesAssembler#toModel(Page,
      * RepresentationModelAssembler)}.
+     * For a {@link Slice} that isn't a page, call
+     * {@link RepresentationModelAssemblerSupport#toCollectionModel(Iterable)}
+     * and add the next and previous links, with the cursor of the next slice
+     * for a {@link KeysetSlice}.
      * This aspect
      * method is call for method annotated with {@link ApplyHypermediaOnPage}.
      *
@@ -199,6 +217,23 @@ public final class HypermediaAspect<D extends DataPresentation<?>>
                     page.map(target.getDataClass()::cast), modelAssembler));
 
             log.atInfo().log("new result for page : " + result);
+        } else if (result instanceof final ResponseEntity<?> responseEntity
+            && responseEntity.getBody() instanceof final Slice<?> slice
+            && slice.getContent()
+                .stream()
+                .allMatch(target.getDataClass()::isInstance)) {
+
+            final RepresentationModelAssemblerSupport<D, ?> modelAssembler
+                = target.getModelAssembler();
+            final CollectionModel<?> collectionModel = modelAssembler
+                .toCollectionModel(slice.map(target.getDataClass()::cast));
+            addSliceLinks(collectionModel, slice);
+
+            result = ResponseEntity.status(responseEntity.getStatusCode())
+                .headers(responseEntity.getHeaders())
+                .body(collectionModel);
+
+            log.atInfo().log("new result for slice : " + result);
         } else {
 
             log.atError()
@@ -208,4 +243,45 @@ public final class HypermediaAspect<D extends DataPresentation<?>>
         methodEndLog(log, joinPoint, target, annotation);
         return result;
     }
+
+    private static void addSliceLinks(
+        final CollectionModel<?> collectionModel, final Slice<?> slice) {
+
+        if (slice instanceof final KeysetSlice<?> keysetSlice) {
+
+            @Nullable
+            final String nextCursor = keysetSlice.getNextCursor();
+
+            if (nextCursor != null) {
+
+                collectionModel.add(
+                    createLink(KeysetSlice.CURSOR_PARAMETER, nextCursor,
+                        IanaLinkRelations.NEXT));
+            }
+        } else if (slice.getPageable().isPaged()) {
+
+            if (slice.hasPrevious()) {
+
+                collectionModel.add(createLink(PAGE_PARAMETER,
+                    slice.previousPageable().getPageNumber(),
+                    IanaLinkRelations.PREV));
+            }
+
+            if (slice.hasNext()) {
+
+                collectionModel.add(createLink(PAGE_PARAMETER,
+                    slice.nextPageable().getPageNumber(),
+                    IanaLinkRelations.NEXT));
+            }
+        }
+    }
+
+    private static Link createLink(
+        final String parameter, final Object value,
+        final LinkRelation relation) {
+
+        return Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+            .replaceQueryParam(parameter, value)
+            .toUriString(), relation);
+    }
 }
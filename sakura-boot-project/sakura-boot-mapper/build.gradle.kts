@@ -19,6 +19,7 @@ dependencies {
     api(libs.spring.context)
     api(libs.spring.core)
     implementation(libs.commons.lang3)
+    implementation(libs.hibernate.core)
     implementation(libs.jakarta.persistence.api)
     implementation(libs.slf4j.api)
     implementation(libs.spring.data.commons)
@@ -28,6 +29,7 @@ dependencies {
 
     testImplementation(projects.sakuraBootCoreTest)
     testImplementation(libs.assertj.core)
+    testImplementation(libs.compile.testing)
     testImplementation(libs.junit.jupiter.api)
     testImplementation(libs.mockito.core)
     testCompileOnly(libs.junit.jupiter.params)
@@ -16,22 +16,47 @@
 
 package org.sansenshimizu.sakuraboot.mapper.aop;
 
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.persistence.Entity;
 
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.Hibernate;
+import org.hibernate.LazyInitializationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.aop.AspectUtil;
+import org.sansenshimizu.sakuraboot.include.IncludeContext;
+import org.sansenshimizu.sakuraboot.include.Includes;
+import org.sansenshimizu.sakuraboot.mapper.api.AbstractBasicMapperForRelationship;
 import org.sansenshimizu.sakuraboot.mapper.api.BasicMapper;
 import org.sansenshimizu.sakuraboot.mapper.api.Mappable;
+import org.sansenshimizu.sakuraboot.mapper.api.MappingContext;
 import org.sansenshimizu.sakuraboot.mapper.api.annotations.Mapping;
+import org.sansenshimizu.sakuraboot.util.FieldAccessor;
+import org.sansenshimizu.sakuraboot.util.RelationshipUtils;
 
 /**
  * The aspect class for mapping method inside {@link Mappable} class using
@@ -49,6 +74,35 @@ import org.sansenshimizu.sakuraboot.mapper.api.annotations.Mapping;
 public final class MappingAspect<E extends DataPresentation<?>,
     D extends DataPresentation<?>> implements AspectUtil {
 
+    /**
+     * The minimum number of entities of a page or a collection mapped in
+     * parallel to DTOs. The entities are split in one chunk per processor,
+     * each chunk mapped on its own virtual thread. A value of 0 or less
+     * disables the parallel mapping, which is the default.
+     * The virtual threads run outside the persistence context, where loading
+     * a lazy relationship throws a {@link LazyInitializationException}. So
+     * only the entities with a fully fetched graph of relationships are mapped
+     * in parallel, and only with their loaded relationships, the other ones
+     * are mapped on the calling thread.
+     */
+    private final int parallelThreshold;
+
+    /**
+     * Create the aspect.
+     *
+     * @param parallelThreshold The minimum number of entities mapped in
+     *                          parallel, 0 or less to disable it. The
+     *                          parallel mapping is restricted to fully
+     *                          fetched entities, see
+     *                          {@link #parallelThreshold}.
+     */
+    public MappingAspect(
+        @Value("${sakuraboot.mapping.parallel-threshold: 0}")
+        final int parallelThreshold) {
+
+        this.parallelThreshold = parallelThreshold;
+    }
+
     @Nullable
     private Object toEntity(final Object object, final Mappable<E, D> target) {
 
@@ -58,17 +112,17 @@ public final class MappingAspect<E extends DataPresentation<?>,
         if (dtoClass.isInstance(object)) {
 
             result = target.getMapper().toEntity(dtoClass.cast(object));
-        } else if (object instanceof final Page<?> page
-            && page.getContent().stream().allMatch(dtoClass::isInstance)) {
+        } else if (object instanceof final Slice<?> slice
+            && castAll(slice.getContent(), dtoClass) instanceof final List<
+                D> dtos) {
 
-            result = page.map(dtoClass::cast).map(target.getMapper()::toEntity);
+            final Iterator<E> entities
+                = toEntityList(dtos, target.getMapper()).iterator();
+            result = slice.map(dto -> entities.next());
         } else if (object instanceof final Collection<?> collection
-            && collection.stream().allMatch(dtoClass::isInstance)) {
+            && castAll(collection, dtoClass) instanceof final List<D> dtos) {
 
-            result = collection.stream()
-                .map(dtoClass::cast)
-                .map(target.getMapper()::toEntity)
-                .toList();
+            result = toEntityList(dtos, target.getMapper());
         } else {
 
             result = object;
@@ -76,6 +130,17 @@ public final class MappingAspect<E extends DataPresentation<?>,
         return result;
     }
 
+    private List<E> toEntityList(
+        final List<D> dtos, final BasicMapper<E, D> mapper) {
+
+        if (mapper instanceof final AbstractBasicMapperForRelationship<E,
+            D> relationshipMapper) {
+
+            return relationshipMapper.toEntityList(dtos);
+        }
+        return dtos.stream().map(mapper::toEntity).toList();
+    }
+
     @Nullable
     private Object toDto(final Object object, final Mappable<E, D> target) {
 
@@ -85,17 +150,18 @@ public final class MappingAspect<E extends DataPresentation<?>,
         if (entityClass.isInstance(object)) {
 
             result = target.getMapper().toDto(entityClass.cast(object));
-        } else if (object instanceof final Page<?> page
-            && page.getContent().stream().allMatch(entityClass::isInstance)) {
+        } else if (object instanceof final Slice<?> slice
+            && castAll(slice.getContent(), entityClass) instanceof final List<
+                E> entities) {
 
-            result = page.map(entityClass::cast).map(target.getMapper()::toDto);
+            final Iterator<D> dtos
+                = toDtoList(entities, target.getMapper()).iterator();
+            result = slice.map(entity -> dtos.next());
         } else if (object instanceof final Collection<?> collection
-            && collection.stream().allMatch(entityClass::isInstance)) {
+            && castAll(collection, entityClass) instanceof final List<
+                E> entities) {
 
-            result = collection.stream()
-                .map(entityClass::cast)
-                .map(target.getMapper()::toDto)
-                .toList();
+            result = toDtoList(entities, target.getMapper());
         } else {
 
             result = object;
@@ -103,9 +169,165 @@ public final class MappingAspect<E extends DataPresentation<?>,
         return result;
     }
 
+    private List<D> toDtoList(
+        final List<E> entities, final BasicMapper<E, D> mapper) {
+
+        if (parallelThreshold <= 0 || entities.size() < parallelThreshold
+            || !isFullyLoaded(entities)) {
+
+            return mapChunk(entities, mapper);
+        }
+        final int chunkSize = Math.ceilDiv(entities.size(),
+            Runtime.getRuntime().availableProcessors());
+        final List<Future<List<D>>> chunks = new ArrayList<>();
+
+        try (ExecutorService executor
+            = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            for (int i = 0; i < entities.size(); i += chunkSize) {
+
+                final List<E> chunk = entities.subList(i,
+                    Math.min(i + chunkSize, entities.size()));
+                chunks.add(executor.submit(() -> IncludeContext
+                    .mapLoadedOnly(() -> MappingContext
+                        .map(() -> mapChunk(chunk, mapper)))));
+            }
+        }
+        final List<D> result = new ArrayList<>(entities.size());
+
+        for (final Future<List<D>> chunk: chunks) {
+
+            result.addAll(getChunk(chunk));
+        }
+        return result;
+    }
+
+    private List<D> mapChunk(
+        final List<E> entities, final BasicMapper<E, D> mapper) {
+
+        if (mapper instanceof final AbstractBasicMapperForRelationship<E,
+            D> relationshipMapper) {
+
+            return relationshipMapper.toDtoList(entities);
+        }
+        return entities.stream().map(mapper::toDto).toList();
+    }
+
+    /**
+     * Check if the graph of relationships of the entities is fully fetched,
+     * so the entities can be mapped without the persistence context.
+     *
+     * @param  entities The entities to check.
+     * @return          True if no entity of the graph is an uninitialized
+     *                  proxy or has an uninitialized relationship, false
+     *                  otherwise.
+     */
+    private static boolean isFullyLoaded(final List<?> entities) {
+
+        final Set<Object> visited
+            = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> toVisit = new ArrayDeque<>(entities);
+
+        while (!toVisit.isEmpty()) {
+
+            final Object entity = toVisit.pop();
+
+            if (!Hibernate.isInitialized(entity)) {
+
+                return false;
+            }
+            final Object unProxyEntity = Hibernate.unproxy(entity);
+
+            if (!visited.add(unProxyEntity) || !unProxyEntity.getClass()
+                .isAnnotationPresent(Entity.class)) {
+
+                continue;
+            }
+
+            for (final Field field: RelationshipUtils
+                .getRelationFields(unProxyEntity.getClass(), null)) {
+
+                final Object relationship
+                    = FieldAccessor.of(field).get(unProxyEntity);
+
+                if (!Hibernate.isInitialized(relationship)) {
+
+                    return false;
+                }
+
+                switch (relationship) {
+
+                    case final Collection<?> collection -> collection
+                        .stream()
+                        .filter(Objects::nonNull)
+                        .forEach(toVisit::push);
+                    case null -> {
+
+                        // Nothing to visit
+                    }
+                    case final Object object -> toVisit.push(object);
+                }
+            }
+        }
+        return true;
+    }
+
+    private static <T> List<T> getChunk(final Future<List<T>> chunk) {
+
+        try {
+
+            return chunk.resultNow();
+        } catch (final IllegalStateException e) {
+
+            if (chunk.exceptionNow() instanceof final RuntimeException cause) {
+
+                throw cause;
+            }
+            throw new IllegalStateException("Parallel mapping failed",
+                chunk.exceptionNow());
+        }
+    }
+
+    /**
+     * Cast all the objects to the type in one pass.
+     *
+     * @param  <T>     The type to cast to.
+     * @param  objects The objects to cast.
+     * @param  type    The class of the type.
+     * @return         The cast objects in the same order, or {@code null} if
+     *                 an object is not an instance of the type.
+     */
+    @Nullable
+    private static <T> List<T> castAll(
+        final Collection<?> objects, final Class<T> type) {
+
+        final List<T> result = new ArrayList<>(objects.size());
+
+        for (final Object object: objects) {
+
+            if (!type.isInstance(object)) {
+
+                return null;
+            }
+            result.add(type.cast(object));
+        }
+        return result;
+    }
+
+    private static boolean hasRestrictedIncludes(final Object[] args) {
+
+        return Arrays.stream(args)
+            .anyMatch(arg -> arg instanceof final Includes includes
+                && !includes.isAll());
+    }
+
     /**
      * Aspect method that maps the first argument if present and the return
      * value if any using {@link BasicMapper}.
+     * When the relationships are restricted with an {@link Includes}
+     * argument, only the loaded relationships are mapped.
+     * The related entities are mapped once per call with a
+     * {@link MappingContext}.
      * This aspect method is call for method annotated with {@link Mapping}.
      *
      * @param  joinPoint  The method that will be logged.
@@ -134,7 +356,16 @@ public final class MappingAspect<E extends DataPresentation<?>,
 
         if (annotation.mapResult()) {
 
-            result = toDto(result, target);
+            final Object entityResult = result;
+
+            if (hasRestrictedIncludes(args)) {
+
+                result = IncludeContext.mapLoadedOnly(() -> MappingContext
+                    .map(() -> toDto(entityResult, target)));
+            } else {
+
+                result = MappingContext.map(() -> toDto(entityResult, target));
+            }
             log.atInfo().log("new return : " + result);
         }
         methodEndLog(log, joinPoint, target, annotation);
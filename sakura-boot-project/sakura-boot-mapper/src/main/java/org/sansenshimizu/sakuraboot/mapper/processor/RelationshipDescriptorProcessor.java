@@ -0,0 +1,309 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.mapper.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.util.RelationshipDescriptor;
+import org.sansenshimizu.sakuraboot.util.RelationshipDescriptor.Cardinality;
+
+/**
+ * Annotation processor that generates a {@link RelationshipDescriptor} for
+ * each class annotated with {@code @Entity}.
+ * The descriptor is generated in the package of the entity and named
+ * {@code EntityName + "RelationshipDescriptor"}. It is used by the core
+ * utilities instead of scanning the fields and annotations at runtime.
+ * <p>
+ * To use it, add sakura-boot-mapper to the annotation processor path:
+ * </p>
+ * <blockquote>
+ *
+ * <pre>
+ * annotationProcessor("org.sansenshimizu.sakuraboot:sakura-boot-mapper")
+ * </pre>
+ *
+ * </blockquote>
+ * <p>
+ * The related entity of a collection is its type argument, and of a
+ * {@code Map} the type of its values.
+ * </p>
+ * <p>
+ * The processor is isolating for the incremental compilation of Gradle: each
+ * descriptor only depends on its entity and the superclasses of the entity.
+ * </p>
+ *
+ * @author Malcolm Rozé
+ * @see    RelationshipDescriptor
+ * @since  0.2.0
+ */
+@SupportedAnnotationTypes(RelationshipDescriptorProcessor.ENTITY_ANNOTATION)
+public class RelationshipDescriptorProcessor extends AbstractProcessor {
+
+    /**
+     * The qualified name of the entity annotation.
+     */
+    static final String ENTITY_ANNOTATION = "jakarta.persistence.Entity";
+
+    /**
+     * The qualified name of the ID annotation.
+     */
+    private static final String ID_ANNOTATION = "jakarta.persistence.Id";
+
+    /**
+     * The package of the relationship annotations.
+     */
+    private static final String PERSISTENCE_PACKAGE = "jakarta.persistence.";
+
+    /**
+     * The relationship annotations by cardinality.
+     */
+    private static final Map<String, Cardinality> RELATIONSHIP_ANNOTATIONS
+        = Map.of(PERSISTENCE_PACKAGE + "OneToOne", Cardinality.ONE_TO_ONE,
+            PERSISTENCE_PACKAGE + "ManyToOne", Cardinality.MANY_TO_ONE,
+            PERSISTENCE_PACKAGE + "OneToMany", Cardinality.ONE_TO_MANY,
+            PERSISTENCE_PACKAGE + "ManyToMany", Cardinality.MANY_TO_MANY);
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+        final Set<? extends TypeElement> annotations,
+        final RoundEnvironment roundEnv) {
+
+        for (final TypeElement annotation: annotations) {
+
+            for (final Element element: roundEnv
+                .getElementsAnnotatedWith(annotation)) {
+
+                if (element instanceof final TypeElement typeElement
+                    && typeElement.getKind() == ElementKind.CLASS
+                    && typeElement.getNestingKind() == NestingKind.TOP_LEVEL) {
+
+                    generateDescriptor(typeElement);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generateDescriptor(final TypeElement entity) {
+
+        final List<String> relationships = new ArrayList<>();
+        String idFieldName = "";
+        @Nullable
+        TypeElement currentType = entity;
+
+        while (currentType != null) {
+
+            for (final Element field: currentType.getEnclosedElements()) {
+
+                if (field.getKind() != ElementKind.FIELD) {
+
+                    continue;
+                }
+
+                if (idFieldName.isEmpty()
+                    && getAnnotation(field, ID_ANNOTATION) != null) {
+
+                    idFieldName = field.getSimpleName().toString();
+                }
+                final String relationship = getRelationship(field);
+
+                if (relationship != null) {
+
+                    relationships.add(relationship);
+                }
+            }
+            currentType = getSuperclass(currentType);
+        }
+        writeDescriptor(entity, idFieldName, relationships);
+    }
+
+    @Nullable
+    private String getRelationship(final Element field) {
+
+        for (final Map.Entry<String,
+            Cardinality> entry: RELATIONSHIP_ANNOTATIONS.entrySet()) {
+
+            final AnnotationMirror annotation
+                = getAnnotation(field, entry.getKey());
+
+            if (annotation != null) {
+
+                return "new Relationship(\""
+                    + field.getSimpleName()
+                    + "\", Cardinality."
+                    + entry.getValue().name()
+                    + ", \""
+                    + getMappedBy(annotation)
+                    + "\", "
+                    + getTargetType(field.asType())
+                    + ".class)";
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private AnnotationMirror getAnnotation(
+        final Element element, final String annotationName) {
+
+        for (final AnnotationMirror annotation: element
+            .getAnnotationMirrors()) {
+
+            if (((TypeElement) annotation.getAnnotationType().asElement())
+                .getQualifiedName()
+                .contentEquals(annotationName)) {
+
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private String getMappedBy(final AnnotationMirror annotation) {
+
+        for (final Map.Entry<? extends ExecutableElement,
+            ? extends AnnotationValue> entry: annotation.getElementValues()
+                .entrySet()) {
+
+            if (entry.getKey().getSimpleName().contentEquals("mappedBy")) {
+
+                return entry.getValue().getValue().toString();
+            }
+        }
+        return "";
+    }
+
+    private String getTargetType(final TypeMirror fieldType) {
+
+        if (fieldType instanceof final DeclaredType declaredType
+            && !declaredType.getTypeArguments().isEmpty()) {
+
+            final List<? extends TypeMirror> typeArguments
+                = declaredType.getTypeArguments();
+            return processingEnv.getTypeUtils()
+                .erasure(typeArguments.get(typeArguments.size() - 1))
+                .toString();
+        }
+        return processingEnv.getTypeUtils().erasure(fieldType).toString();
+    }
+
+    @Nullable
+    private TypeElement getSuperclass(final TypeElement type) {
+
+        final TypeMirror superclass = type.getSuperclass();
+
+        if (superclass.getKind() != TypeKind.DECLARED) {
+
+            return null;
+        }
+        final TypeElement superElement
+            = (TypeElement) ((DeclaredType) superclass).asElement();
+
+        if (superElement.getQualifiedName().contentEquals("java.lang.Object")) {
+
+            return null;
+        }
+        return superElement;
+    }
+
+    private void writeDescriptor(
+        final TypeElement entity, final String idFieldName,
+        final List<String> relationships) {
+
+        final String packageName
+            = ((PackageElement) entity.getEnclosingElement()).getQualifiedName()
+                .toString();
+        final String descriptorName = entity.getSimpleName()
+            + RelationshipDescriptor.CLASS_NAME_SUFFIX;
+        final String entityName = entity.getQualifiedName().toString();
+
+        try (PrintWriter writer = new PrintWriter(processingEnv.getFiler()
+            .createSourceFile(entityName
+                + RelationshipDescriptor.CLASS_NAME_SUFFIX, entity)
+            .openWriter())) {
+
+            if (!packageName.isEmpty()) {
+
+                writer.println("package " + packageName + ";");
+                writer.println();
+            }
+            writer.println("@javax.annotation.processing.Generated(\""
+                + getClass().getName() + "\")");
+            writer.println("public final class " + descriptorName);
+            writer.println("    implements "
+                + RelationshipDescriptor.class.getCanonicalName() + " {");
+            writer.println();
+            writer.println("    private static final java.util.List<"
+                + "Relationship> RELATIONSHIPS = java.util.List.of(");
+            writer.println("        "
+                + String.join(",\n        ", relationships) + ");");
+            writer.println();
+            writer.println("    @Override");
+            writer.println("    public Class<?> getEntityClass() {");
+            writer.println("        return " + entityName + ".class;");
+            writer.println("    }");
+            writer.println();
+            writer.println("    @Override");
+            writer.println("    public String getIdFieldName() {");
+            writer.println("        return \"" + idFieldName + "\";");
+            writer.println("    }");
+            writer.println();
+            writer.println("    @Override");
+            writer.println("    public java.util.List<Relationship> "
+                + "getRelationships() {");
+            writer.println("        return RELATIONSHIPS;");
+            writer.println("    }");
+            writer.println("}");
+        } catch (final IOException e) {
+
+            processingEnv.getMessager()
+                .printMessage(Diagnostic.Kind.ERROR,
+                    "Can't generate " + descriptorName + ": " + e.getMessage(),
+                    entity);
+        }
+    }
+}
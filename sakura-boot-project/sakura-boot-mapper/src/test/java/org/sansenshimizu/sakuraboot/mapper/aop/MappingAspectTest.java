@@ -17,26 +17,34 @@
 package org.sansenshimizu.sakuraboot.mapper.aop;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import lombok.Getter;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.mapper.api.AbstractBasicMapperForRelationship;
 import org.sansenshimizu.sakuraboot.mapper.api.BasicMapper;
 import org.sansenshimizu.sakuraboot.mapper.api.Mappable;
 import org.sansenshimizu.sakuraboot.mapper.api.annotations.Mapping;
 import org.sansenshimizu.sakuraboot.test.aop.AspectUtilTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Answers.CALLS_REAL_METHODS;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
 
 /**
  * The aspect test class for mapping method inside Mappable class using
@@ -133,7 +141,7 @@ class MappingAspectTest implements AspectUtilTest {
      */
     @Getter
     private final MappingAspect<DataPresentation<Long>,
-        DataPresentation<Long>> aspect = new MappingAspect<>();
+        DataPresentation<Long>> aspect = new MappingAspect<>(0);
 
     @BeforeAll
     static void setUp() {
@@ -320,4 +328,143 @@ class MappingAspectTest implements AspectUtilTest {
             assertThat(result).isEqualTo(pageDto);
         });
     }
+
+    @Test
+    @DisplayName("GIVEN the mapping aspect method call with a relationship"
+        + " mapper,"
+        + " WHEN mapping the return value with page,"
+        + " THEN the whole page should be mapped at once")
+    final void testMappingReturnForPageWithRelationshipMapper()
+        throws Throwable {
+
+        // GIVEN
+        final AbstractBasicMapperForRelationship<DataPresentation<Long>,
+            DataPresentation<Long>> relationshipMapper = mock();
+        given(joinPoint.getArgs()).willReturn(getArgs());
+        given(mappingAnnotation.mapFirstArgument()).willReturn(false);
+        mockJoinPointWithArgs(pageEntity);
+        given(mappingAnnotation.mapResult()).willReturn(true);
+        given(target.getEntityClassToMap()).willReturn(entityClass);
+        given(target.getMapper()).willReturn(relationshipMapper);
+        given(relationshipMapper.toDtoList(List.of(entity)))
+            .willReturn(List.of(dto));
+        mockForLog(() -> {
+
+            // WHEN
+            final Object result
+                = aspect.mapping(joinPoint, target, mappingAnnotation);
+
+            // THEN
+            assertThat(result).isEqualTo(pageDto);
+        });
+    }
+
+    @Test
+    @DisplayName("GIVEN the mapping aspect method call with a relationship"
+        + " mapper,"
+        + " WHEN mapping the first arg as a collection,"
+        + " THEN the whole collection should be mapped at once")
+    final void testMappingFirstArgForCollectionWithRelationshipMapper()
+        throws Throwable {
+
+        // GIVEN
+        final AbstractBasicMapperForRelationship<DataPresentation<Long>,
+            DataPresentation<Long>> relationshipMapper = mock();
+        given(joinPoint.getArgs()).willReturn(mapArgsWithCollection);
+        given(mappingAnnotation.mapFirstArgument()).willReturn(true);
+        given(target.getDtoClass()).willReturn(dtoClass);
+        given(target.getMapper()).willReturn(relationshipMapper);
+        given(relationshipMapper.toEntityList(List.of(dto)))
+            .willReturn(List.of(entity));
+        mockJoinPointWithArgs(EXPECTED_VALUE);
+        given(mappingAnnotation.mapResult()).willReturn(false);
+        mockForLog(() -> {
+
+            // WHEN
+            final Object result
+                = aspect.mapping(joinPoint, target, mappingAnnotation);
+
+            // THEN
+            assertThat(result).isEqualTo(EXPECTED_VALUE);
+        });
+    }
+
+    @Test
+    @DisplayName("GIVEN the mapping aspect with a parallel threshold,"
+        + " WHEN mapping a return collection above the threshold,"
+        + " THEN all the entities should be mapped in order")
+    final void testMappingReturnForCollectionInParallel() throws Throwable {
+
+        // GIVEN
+        final MappingAspect<DataPresentation<Long>,
+            DataPresentation<Long>> parallelAspect = new MappingAspect<>(2);
+        final DataPresentation<Long> otherDto = mock();
+        final List<DataPresentation<Long>> entities
+            = List.of(entity, entity, entity);
+        given(joinPoint.getArgs()).willReturn(getArgs());
+        given(mappingAnnotation.mapFirstArgument()).willReturn(false);
+        mockJoinPointWithArgs(entities);
+        given(mappingAnnotation.mapResult()).willReturn(true);
+        given(target.getEntityClassToMap()).willReturn(entityClass);
+        given(target.getMapper()).willReturn(mapper);
+        given(mapper.toDto(any())).willReturn(dto, otherDto);
+        mockForLog(() -> {
+
+            // WHEN
+            final Object result = parallelAspect.mapping(joinPoint, target,
+                mappingAnnotation);
+
+            // THEN
+            assertThat(result).asInstanceOf(InstanceOfAssertFactories.LIST)
+                .hasSize(entities.size())
+                .containsOnly(dto, otherDto);
+        });
+    }
+
+    @Test
+    @DisplayName("GIVEN the mapping aspect with a parallel threshold,"
+        + " WHEN mapping a return collection of uninitialized proxies,"
+        + " THEN the entities should be mapped on the calling thread")
+    final void testMappingReturnForCollectionNotLoaded() throws Throwable {
+
+        // GIVEN
+        final MappingAspect<DataPresentation<Long>,
+            DataPresentation<Long>> parallelAspect = new MappingAspect<>(2);
+        @SuppressWarnings("unchecked")
+        final DataPresentation<Long> proxy = mock(DataPresentation.class,
+            withSettings().extraInterfaces(HibernateProxy.class)
+                .defaultAnswer(CALLS_REAL_METHODS));
+        final LazyInitializer lazyInitializer = mock();
+        final List<DataPresentation<Long>> entities
+            = List.of(proxy, proxy, proxy);
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        @SuppressWarnings("unchecked")
+        final Class<DataPresentation<Long>> proxyClass
+            = (Class<DataPresentation<Long>>) (Class<?>) DataPresentation.class;
+        given(joinPoint.getArgs()).willReturn(getArgs());
+        given(mappingAnnotation.mapFirstArgument()).willReturn(false);
+        mockJoinPointWithArgs(entities);
+        given(mappingAnnotation.mapResult()).willReturn(true);
+        given(target.getEntityClassToMap()).willReturn(proxyClass);
+        given(target.getMapper()).willReturn(mapper);
+        given(((HibernateProxy) proxy).getHibernateLazyInitializer())
+            .willReturn(lazyInitializer);
+        given(lazyInitializer.isUninitialized()).willReturn(true);
+        given(mapper.toDto(any())).willAnswer((final InvocationOnMock i) -> {
+
+            threads.add(Thread.currentThread());
+            return dto;
+        });
+        mockForLog(() -> {
+
+            // WHEN
+            final Object result = parallelAspect.mapping(joinPoint, target,
+                mappingAnnotation);
+
+            // THEN
+            assertThat(result).asInstanceOf(InstanceOfAssertFactories.LIST)
+                .containsExactly(dto, dto, dto);
+            assertThat(threads).containsOnly(Thread.currentThread());
+        });
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.mapper.processor;
+
+import java.io.IOException;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test class for {@link RelationshipDescriptorProcessor}.
+ *
+ * @author Malcolm Rozé
+ * @see    RelationshipDescriptorProcessor
+ * @since  0.2.0
+ */
+class RelationshipDescriptorProcessorTest {
+
+    /**
+     * The source of the entity with relationships.
+     */
+    private static final String AUTHOR_SOURCE = """
+        package test;
+
+        @jakarta.persistence.Entity
+        public class Author {
+
+            @jakarta.persistence.Id
+            private Long id;
+
+            @jakarta.persistence.ManyToOne
+            private Book favoriteBook;
+
+            @jakarta.persistence.OneToMany(mappedBy = "author")
+            private java.util.Set<Book> books;
+
+            @jakarta.persistence.ManyToMany
+            private java.util.Map<String, Book> booksByTitle;
+        }
+        """;
+
+    /**
+     * The source of the related entity.
+     */
+    private static final String BOOK_SOURCE = """
+        package test;
+
+        @jakarta.persistence.Entity
+        public class Book {
+
+            @jakarta.persistence.Id
+            private Long id;
+        }
+        """;
+
+    @Test
+    @DisplayName("GIVEN an entity with relationships,"
+        + " WHEN compiling with the processor,"
+        + " THEN the descriptor should list the relationships")
+    final void testGenerateDescriptor() throws IOException {
+
+        // WHEN
+        final Compilation compilation = Compiler.javac()
+            .withProcessors(new RelationshipDescriptorProcessor())
+            .compile(JavaFileObjects.forSourceString("test.Author",
+                AUTHOR_SOURCE),
+                JavaFileObjects.forSourceString("test.Book", BOOK_SOURCE));
+
+        // THEN
+        assertThat(compilation.status())
+            .isEqualTo(Compilation.Status.SUCCESS);
+        assertThat(compilation
+            .generatedSourceFile("test.AuthorRelationshipDescriptor")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString()).contains("return \"id\";",
+                "new Relationship(\"favoriteBook\", Cardinality.MANY_TO_ONE,"
+                    + " \"\", test.Book.class)",
+                "new Relationship(\"books\", Cardinality.ONE_TO_MANY,"
+                    + " \"author\", test.Book.class)",
+                "new Relationship(\"booksByTitle\", Cardinality.MANY_TO_MANY,"
+                    + " \"\", test.Book.class)");
+    }
+}
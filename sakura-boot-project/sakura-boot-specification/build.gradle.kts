@@ -34,6 +34,27 @@ dependencies {
     testImplementation(libs.mockito.core)
     testImplementation(libs.mockito.junit.jupiter)
     testRuntimeOnly(libs.logback.classic)
+
+    integrationTestImplementation(testFixtures(projects.sakuraBootBasic))
+    integrationTestImplementation(libs.assertj.core)
+    integrationTestImplementation(libs.hibernate.core)
+    integrationTestImplementation(libs.jakarta.persistence.api)
+    integrationTestImplementation(libs.junit.jupiter.api)
+    integrationTestImplementation(libs.spring.beans)
+    integrationTestImplementation(libs.spring.boot)
+    integrationTestImplementation(libs.spring.boot.autoconfigure)
+    integrationTestImplementation(libs.spring.boot.test.autoconfigure)
+    integrationTestCompileOnly(libs.lombok)
+    integrationTestAnnotationProcessor(libs.lombok)
+    integrationTestRuntimeOnly(libs.spring.boot.starter.data.jpa)
+    integrationTestRuntimeOnly(libs.h2)
+
+    performanceTestImplementation(libs.assertj.core)
+    performanceTestImplementation(libs.jakarta.persistence.api)
+    performanceTestImplementation(libs.jmh.core)
+    performanceTestImplementation(libs.junit.jupiter.api)
+    performanceTestImplementation(libs.mockito.core)
+    performanceTestAnnotationProcessor(libs.jmh.generator.annprocess)
 }
 
 dependencyAnalysis {
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.specification.business;
+
+import java.io.Serial;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.basic.persistence.AbstractBasicEntity;
+
+/**
+ * A company entity use for the integration tests.
+ *
+ * @author Malcolm Rozé
+ * @since  0.2.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CompanyForIT extends AbstractBasicEntity<Long> {
+
+    @Serial
+    private static final long serialVersionUID = 4416781268049457405L;
+
+    /**
+     * The ID of the company.
+     */
+    @Id
+    @GeneratedValue
+    @Nullable
+    private Long id;
+
+    /**
+     * The name of the company.
+     */
+    @Nullable
+    private String name;
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.specification.business;
+
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.specification.api.presentation.FilterPresentation;
+import org.sansenshimizu.sakuraboot.specification.presentation.filters.NumberFilterImpl;
+import org.sansenshimizu.sakuraboot.specification.presentation.filters.TextFilterImpl;
+
+/**
+ * The filter of {@link EmployeeForIT} use for the integration tests.
+ *
+ * @param joinCollections The join collections option.
+ * @param id              The filter on the ID.
+ * @param name            The filter on the name.
+ * @param department      The filter on the department.
+ * @param hobbies         The filter on the hobbies.
+ * @author                Malcolm Rozé
+ * @since                 0.2.0
+ */
+public record EmployeeFilterForIT(
+    @Nullable Boolean joinCollections, @Nullable NumberFilterImpl<Long> id,
+    @Nullable TextFilterImpl name, @Nullable DepartmentFilter department,
+    @Nullable HobbyFilter hobbies)
+    implements FilterPresentation<NumberFilterImpl<Long>> {
+
+    @Override
+    @Nullable
+    public Boolean getDistinct() {
+
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Boolean getInclusive() {
+
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Boolean getJoinCollections() {
+
+        return joinCollections;
+    }
+
+    @Override
+    @Nullable
+    public NumberFilterImpl<Long> getId() {
+
+        return id;
+    }
+
+    /**
+     * The filter of {@link DepartmentForIT}.
+     *
+     * @param name    The filter on the name.
+     * @param company The filter on the company.
+     */
+    public record DepartmentFilter(
+        @Nullable TextFilterImpl name, @Nullable CompanyFilter company) {}
+
+    /**
+     * The filter of {@link CompanyForIT}.
+     *
+     * @param id The filter on the ID.
+     */
+    public record CompanyFilter(@Nullable NumberFilterImpl<Long> id) {}
+
+    /**
+     * The filter of {@link HobbyForIT}.
+     *
+     * @param id   The filter on the ID.
+     * @param name The filter on the name.
+     */
+    public record HobbyFilter(
+        @Nullable NumberFilterImpl<Long> id, @Nullable TextFilterImpl name) {}
+}
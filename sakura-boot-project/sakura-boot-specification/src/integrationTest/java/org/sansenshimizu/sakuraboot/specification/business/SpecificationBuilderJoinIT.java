@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.specification.business;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.basic.test.SqlRecorder;
+import org.sansenshimizu.sakuraboot.specification.business.EmployeeFilterForIT.CompanyFilter;
+import org.sansenshimizu.sakuraboot.specification.business.EmployeeFilterForIT.DepartmentFilter;
+import org.sansenshimizu.sakuraboot.specification.business.EmployeeFilterForIT.HobbyFilter;
+import org.sansenshimizu.sakuraboot.specification.presentation.filters.NumberFilterImpl;
+import org.sansenshimizu.sakuraboot.specification.presentation.filters.TextFilterImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The integration test class for the joins created by the
+ * {@link SpecificationBuilderImpl}. The generated queries are explained by H2
+ * to check the joins and subqueries of the executed plan.
+ *
+ * @author Malcolm Rozé
+ * @see    SpecificationBuilderImpl
+ * @see    SpecificationBuildContext
+ * @since  0.2.0
+ */
+@DataJpaTest
+class SpecificationBuilderJoinIT {
+
+    /**
+     * The pattern of a join in the plan explained by H2.
+     */
+    private static final Pattern JOIN = Pattern.compile("\\bJOIN\\b");
+
+    /**
+     * The name of the department use for testing.
+     */
+    private static final String SALES = "Sales";
+
+    /**
+     * The {@link EntityManager} use for testing.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * The {@link SqlRecorder} use to get the generated queries.
+     */
+    private final SqlRecorder sqlRecorder;
+
+    /**
+     * The {@link SpecificationBuilderImpl} to test.
+     */
+    private final SpecificationBuilderImpl<EmployeeForIT> specificationBuilder;
+
+    /**
+     * The company with two departments.
+     */
+    private CompanyForIT companyA;
+
+    /**
+     * The employee in the sales department of the company A.
+     */
+    private EmployeeForIT alice;
+
+    /**
+     * The employee in the other department of the company A.
+     */
+    private EmployeeForIT carol;
+
+    /**
+     * The chess hobby.
+     */
+    private HobbyForIT chess;
+
+    /**
+     * The checkers hobby.
+     */
+    private HobbyForIT checkers;
+
+    @Autowired
+    SpecificationBuilderJoinIT(
+        final EntityManager entityManager, final SqlRecorder sqlRecorder,
+        final SpecificationBuilderHelper helper) {
+
+        this.entityManager = entityManager;
+        this.sqlRecorder = sqlRecorder;
+        specificationBuilder = new SpecificationBuilderImpl<>(helper);
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        companyA = persist(new CompanyForIT(null, "A"));
+        final CompanyForIT companyB = persist(new CompanyForIT(null, "B"));
+        final DepartmentForIT salesA
+            = persist(new DepartmentForIT(null, SALES, companyA));
+        final DepartmentForIT salesB
+            = persist(new DepartmentForIT(null, SALES, companyB));
+        final DepartmentForIT devA
+            = persist(new DepartmentForIT(null, "Dev", companyA));
+        chess = persist(new HobbyForIT(null, "Chess"));
+        checkers = persist(new HobbyForIT(null, "Checkers"));
+        final HobbyForIT football = persist(new HobbyForIT(null, "Football"));
+        alice = persist(
+            new EmployeeForIT(null, "Alice", salesA, Set.of(chess, checkers)));
+        persist(new EmployeeForIT(null, "Bob", salesB, Set.of(football)));
+        carol = persist(new EmployeeForIT(null, "Carol", devA, Set.of(chess)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("GIVEN two filters on the same to-one path,"
+        + " WHEN executing the specification,"
+        + " THEN each relationship of the path should be joined once")
+    final void testSameToOnePathJoinedOnce() {
+
+        // GIVEN
+        final EmployeeFilterForIT filter = new EmployeeFilterForIT(null, null,
+            null, new DepartmentFilter(textEqual(SALES),
+                new CompanyFilter(numberEqual(companyA.getId()))),
+            null);
+
+        // WHEN
+        final List<EmployeeForIT> result = execute(filter);
+
+        // THEN
+        assertThat(result).extracting(EmployeeForIT::getId)
+            .containsExactly(alice.getId());
+        // department and department.company.
+        assertThat(countJoinsOfLastQuery()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN two filters on the same collection path"
+        + " AND the join collections option,"
+        + " WHEN executing the specification,"
+        + " THEN the collection should be joined once"
+        + " AND the result shouldn't be multiplied by each filter")
+    final void testSameCollectionPathJoinedOnce() {
+
+        // GIVEN
+        final EmployeeFilterForIT filter = createHobbiesFilter(true);
+
+        // WHEN
+        final List<EmployeeForIT> result = execute(filter);
+
+        // THEN
+        // One row per matching hobby: two for Alice and one for Carol.
+        assertThat(result).extracting(EmployeeForIT::getId)
+            .containsExactlyInAnyOrder(alice.getId(), alice.getId(),
+                carol.getId());
+        // The join table and the hobby table.
+        assertThat(countJoinsOfLastQuery()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN two filters on the same collection path,"
+        + " WHEN executing the specification,"
+        + " THEN the collection should be filtered with an EXISTS subquery"
+        + " AND each employee should be returned once")
+    final void testCollectionPathWithExistsSubquery() {
+
+        // GIVEN
+        final EmployeeFilterForIT filter = createHobbiesFilter(null);
+
+        // WHEN
+        final List<EmployeeForIT> result = execute(filter);
+
+        // THEN
+        assertThat(result).extracting(EmployeeForIT::getId)
+            .containsExactlyInAnyOrder(alice.getId(), carol.getId());
+        assertThat(explainLastQuery()).contains("EXISTS");
+        assertThat(count(filter)).isEqualTo(2L);
+    }
+
+    private EmployeeFilterForIT createHobbiesFilter(
+        @Nullable final Boolean joinCollections) {
+
+        return new EmployeeFilterForIT(joinCollections, null, null, null,
+            new HobbyFilter(
+                new NumberFilterImpl<>(null,
+                    List.of(chess.getId(), checkers.getId()), null, null, null,
+                    null, null, null, null),
+                new TextFilterImpl(null, null, null, null, null, "ch", null,
+                    null, null, null)));
+    }
+
+    private <T> T persist(final T entity) {
+
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private List<EmployeeForIT> execute(final EmployeeFilterForIT filter) {
+
+        final Specification<EmployeeForIT> specification
+            = specificationBuilder.apply(filter, EmployeeForIT.class);
+        final CriteriaBuilder criteriaBuilder
+            = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<EmployeeForIT> query
+            = criteriaBuilder.createQuery(EmployeeForIT.class);
+        final Root<EmployeeForIT> root = query.from(EmployeeForIT.class);
+        query.where(specification.toPredicate(root, query, criteriaBuilder));
+        sqlRecorder.clear();
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private long count(final EmployeeFilterForIT filter) {
+
+        final Specification<EmployeeForIT> specification
+            = specificationBuilder.apply(filter, EmployeeForIT.class);
+        final CriteriaBuilder criteriaBuilder
+            = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query
+            = criteriaBuilder.createQuery(Long.class);
+        final Root<EmployeeForIT> root = query.from(EmployeeForIT.class);
+        query.select(criteriaBuilder.count(root));
+        query.where(specification.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private String explainLastQuery() {
+
+        final List<String> selects = sqlRecorder.getSelects();
+        assertThat(selects).isNotEmpty();
+        final Object plan = entityManager
+            .createNativeQuery("EXPLAIN " + selects.get(selects.size() - 1))
+            .getSingleResult();
+        return String.valueOf(plan).toUpperCase(Locale.ROOT);
+    }
+
+    private int countJoinsOfLastQuery() {
+
+        final Matcher matcher = JOIN.matcher(explainLastQuery());
+        int joins = 0;
+
+        while (matcher.find()) {
+
+            joins++;
+        }
+        return joins;
+    }
+
+    private static TextFilterImpl textEqual(final String value) {
+
+        return new TextFilterImpl(value, null, null, null, null, null, null,
+            null, null, null);
+    }
+
+    private static NumberFilterImpl<Long> numberEqual(final Long value) {
+
+        return new NumberFilterImpl<>(value, null, null, null, null, null, null,
+            null, null);
+    }
+}
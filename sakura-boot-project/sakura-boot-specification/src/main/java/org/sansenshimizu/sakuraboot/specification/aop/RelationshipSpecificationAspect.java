@@ -24,15 +24,19 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.core.annotation.Order;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
 import org.sansenshimizu.sakuraboot.aop.AspectUtil;
 import org.sansenshimizu.sakuraboot.basic.aop.RelationshipAspect;
+import org.sansenshimizu.sakuraboot.count.CountCache;
+import org.sansenshimizu.sakuraboot.count.CountMode;
+import org.sansenshimizu.sakuraboot.include.Includes;
+import org.sansenshimizu.sakuraboot.keyset.KeysetToken;
 import org.sansenshimizu.sakuraboot.log.aop.LogAspect;
 import org.sansenshimizu.sakuraboot.log.api.annotations.AfterLogging;
 import org.sansenshimizu.sakuraboot.log.api.annotations.BeforeLogging;
@@ -61,9 +65,29 @@ public final class RelationshipSpecificationAspect<
     I extends Comparable<? super I> & Serializable,
     F extends FilterPresentation<?>> implements AspectUtil {
 
+    /**
+     * The cache of the counts for {@link CountMode#CACHED}.
+     */
+    private final CountCache countCache;
+
+    /**
+     * Create the aspect.
+     *
+     * @param countCache The cache of the counts for {@link CountMode#CACHED}.
+     */
+    public RelationshipSpecificationAspect(final CountCache countCache) {
+
+        this.countCache = countCache;
+    }
+
     /**
      * Aspect method that handles the relationships in a findAllByCriteria call.
      * Perform a join fetch if needed.
+     * For a keyset pagination, the slice is retrieved first and then the
+     * relationships of the entities of the slice are fetched.
+     * The IDs are counted depending on the {@link CountMode} argument if
+     * any, and the relationships are restricted to the {@link Includes}
+     * argument if any.
      * This aspect method is call for method annotated with
      * {@link FindAllByCriteriaWithRelationship}.
      *
@@ -113,20 +137,49 @@ public final class RelationshipSpecificationAspect<
             final Specification<D> specification
                 = target.getSpecification(firstArg);
 
-            final Page<I> ids = fetchRepository.findAllIds(secondArg,
-                specification, target.getEntityClass());
-            // TODO : Use findBy with projection but currently all the field are
-            // selected.
-            // target.getRepository().findBy(specification, q ->
-            // q.project("id").page(secondArg)).map(DataPresentation::getId);
-            // When a PR is found change to that and remove the findAllIds
-            // method in the fetchRepository if not needed anymore.
-
-            final List<D> listResult = fetchRepository.findAllEagerRelationship(
-                ids.getContent(), target.getEntityClass());
-
-            result
-                = new PageImpl<>(listResult, secondArg, ids.getTotalElements());
+            if (RelationshipAspect.isKeyset(joinPoint)) {
+
+                final KeysetScrollPosition position = KeysetToken.decode(
+                    RelationshipAspect.getCursor(joinPoint),
+                    target.getEntityClass(), secondArg.getSort());
+                result = RelationshipAspect.toEagerKeysetSlice(
+                    fetchRepository.findKeysetIds(specification, secondArg,
+                        position, target.getEntityClass()),
+                    fetchRepository, target.getEntityClass());
+            } else {
+
+                final CountMode countMode
+                    = RelationshipAspect.getCountMode(joinPoint);
+                final Slice<I> ids;
+
+                if (countMode == CountMode.EXACT || secondArg.isUnpaged()) {
+
+                    ids = fetchRepository.findAllIds(secondArg, specification,
+                        target.getEntityClass());
+                    // TODO : Use findBy with projection but currently all the
+                    // field are selected.
+                    // target.getRepository().findBy(specification, q ->
+                    // q.project("id").page(secondArg))
+                    // .map(DataPresentation::getId);
+                    // When a PR is found change to that and remove the
+                    // findAllIds method in the fetchRepository if not needed
+                    // anymore.
+                } else {
+
+                    ids = countMode.withCount(
+                        fetchRepository.findAllIdsWithoutCount(secondArg,
+                            specification, target.getEntityClass()),
+                        countCache, target.getEntityClass(), firstArg,
+                        () -> target.getRepository().count(specification));
+                }
+
+                final List<D> listResult
+                    = RelationshipAspect.findAllEagerRelationship(
+                        fetchRepository, ids.getContent(),
+                        target.getEntityClass(),
+                        RelationshipAspect.getIncludes(joinPoint));
+                result = RelationshipAspect.withContent(ids, listResult);
+            }
             log.atInfo()
                 .log("find all by criteria using eager fetching for "
                     + "relationship.");
@@ -29,6 +29,8 @@ import jakarta.persistence.criteria.Root;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.query.QueryUtils;
 
@@ -56,6 +58,37 @@ public class FetchRelationshipSpecificationRepositoryImpl<
         final Pageable pageable, final Specification<E> specification,
         final Class<E> entityType) {
 
+        final List<I> resultList = findIds(pageable, specification, entityType,
+            pageable.getPageSize());
+        return new PageImpl<>(resultList, pageable,
+            getTotalCount(entityManager.getCriteriaBuilder(), specification,
+                entityType));
+    }
+
+    @Override
+    public Slice<I> findAllIdsWithoutCount(
+        final Pageable pageable, final Specification<E> specification,
+        final Class<E> entityType) {
+
+        final List<I> resultList = findIds(pageable, specification, entityType,
+            pageable.getPageSize() + 1);
+        final boolean hasNext = resultList.size() > pageable.getPageSize();
+        final List<I> content;
+
+        if (hasNext) {
+
+            content = resultList.subList(0, pageable.getPageSize());
+        } else {
+
+            content = resultList;
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private List<I> findIds(
+        final Pageable pageable, final Specification<E> specification,
+        final Class<E> entityType, final int maxResults) {
+
         final CriteriaBuilder criteriaBuilder
             = entityManager.getCriteriaBuilder();
         final CriteriaQuery<Tuple> criteriaQuery
@@ -75,15 +108,14 @@ public class FetchRelationshipSpecificationRepositoryImpl<
         final TypedQuery<Tuple> typedQuery = entityManager.createQuery(
             criteriaQuery.select(criteriaBuilder.tuple(root.get("id"))));
         typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
-        typedQuery.setMaxResults(pageable.getPageSize());
+        typedQuery.setMaxResults(maxResults);
 
         @SuppressWarnings("unchecked")
         final List<I> resultList = typedQuery.getResultList()
             .stream()
             .map(tuple -> (I) tuple.get(0))
             .toList();
-        return new PageImpl<>(resultList, pageable,
-            getTotalCount(criteriaBuilder, specification, entityType));
+        return resultList;
     }
 
     private Long getTotalCount(
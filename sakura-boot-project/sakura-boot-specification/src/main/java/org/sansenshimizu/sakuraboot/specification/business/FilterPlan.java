@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.specification.business;
+
+import java.util.List;
+
+import jakarta.persistence.metamodel.Attribute;
+
+import org.sansenshimizu.sakuraboot.util.FieldAccessor;
+
+/**
+ * The immutable plan of a filter class for an entity class, compiled once by
+ * the {@link FilterPlanCompiler}. Each step of the plan holds the accessor of
+ * a field of the filter, the resolved attribute of the entity and whether the
+ * field is embedded, so using the plan only require to read the values of the
+ * fields.
+ *
+ * @author Malcolm Rozé
+ * @see    FilterPlanCompiler
+ * @since  0.2.0
+ */
+public final class FilterPlan {
+
+    /**
+     * A plan without any step.
+     */
+    static final FilterPlan EMPTY = new FilterPlan(List.of());
+
+    /**
+     * The steps of the plan in the order of the fields of the filter.
+     */
+    private final List<Step> steps;
+
+    /**
+     * Create a new plan.
+     *
+     * @param steps The steps of the plan.
+     */
+    FilterPlan(final List<Step> steps) {
+
+        this.steps = List.copyOf(steps);
+    }
+
+    /**
+     * Get the steps of the plan.
+     *
+     * @return The steps of the plan in the order of the fields of the filter.
+     */
+    public List<Step> getSteps() {
+
+        return steps;
+    }
+
+    /**
+     * A step of the plan.
+     *
+     * @param accessor  The accessor of the field of the filter.
+     * @param attribute The attribute of the entity related to the field.
+     * @param embedded  True if the field is a group of filters inside an
+     *                  embeddable, all the fields of its value use the
+     *                  attribute of the step, false otherwise.
+     */
+    public record Step(
+        FieldAccessor accessor, Attribute<?, ?> attribute, boolean embedded) {}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.specification.business;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import org.sansenshimizu.sakuraboot.specification.api.presentation.FilterPresentation;
+import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.Filter;
+import org.sansenshimizu.sakuraboot.util.FieldAccessor;
+
+/**
+ * Compiles a filter class into an immutable {@link FilterPlan} for an entity
+ * class. The reflection on the fields of the filter and the resolution of the
+ * attributes through the {@link Metamodel} are done only on the first use of
+ * a filter class with an entity class, the plan is then cached. A field of the
+ * filter without a related attribute is rejected, except the options of
+ * {@link FilterPresentation}.
+ *
+ * @author Malcolm Rozé
+ * @see    FilterPlan
+ * @see    SpecificationBuilderHelper
+ * @since  0.2.0
+ */
+public final class FilterPlanCompiler {
+
+    /**
+     * The names of the option fields of {@link FilterPresentation}, which have
+     * no related attribute.
+     */
+    private static final Set<String> OPTION_FIELDS
+        = Set.of("distinct", "inclusive", "joinCollections");
+
+    /**
+     * The compiled plans by entity class and filter class.
+     */
+    private final Map<PlanKey, FilterPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * The accessors of the fields of the values of the embedded steps, by
+     * class.
+     */
+    private final Map<Class<?>, List<FieldAccessor>> embeddedAccessors
+        = new ConcurrentHashMap<>();
+
+    /**
+     * Get the plan of a filter class for an entity class, compiling it on the
+     * first call. An {@link IllegalArgumentException} is thrown if a field of
+     * the filter, other than an option, has no related attribute.
+     *
+     * @param  metamodel   The {@link Metamodel} used to resolve the attributes.
+     * @param  entityClass The entity or embeddable class.
+     * @param  filterClass The filter class.
+     * @return             The plan, empty if the class is neither an entity nor
+     *                     an embeddable.
+     */
+    public FilterPlan compile(
+        final Metamodel metamodel, final Class<?> entityClass,
+        final Class<?> filterClass) {
+
+        return plans.computeIfAbsent(new PlanKey(entityClass, filterClass),
+            key -> compilePlan(metamodel, key));
+    }
+
+    /**
+     * Get the accessors of all the fields of the value of an embedded
+     * {@link FilterPlan.Step}.
+     *
+     * @param  valueClass The class of the value.
+     * @return            The accessors of the fields of the value.
+     */
+    public List<FieldAccessor> getEmbeddedAccessors(final Class<?> valueClass) {
+
+        return embeddedAccessors.computeIfAbsent(valueClass,
+            (final Class<?> clazz) -> {
+
+                final List<FieldAccessor> accessors = new ArrayList<>();
+                ReflectionUtils.doWithFields(clazz,
+                    field -> accessors.add(FieldAccessor.of(field)),
+                    FilterPlanCompiler::isFilterField);
+                return List.copyOf(accessors);
+            });
+    }
+
+    private static FilterPlan compilePlan(
+        final Metamodel metamodel, final PlanKey key) {
+
+        final Class<?> entityClass = key.entityClass();
+        final ManagedType<?> managedType;
+        final boolean embeddable;
+
+        if (entityClass.isAnnotationPresent(Entity.class)) {
+
+            managedType = metamodel.entity(entityClass);
+            embeddable = false;
+        } else if (entityClass.isAnnotationPresent(Embeddable.class)) {
+
+            managedType = metamodel.embeddable(entityClass);
+            embeddable = true;
+        } else {
+
+            return FilterPlan.EMPTY;
+        }
+
+        final List<FilterPlan.Step> steps = new ArrayList<>();
+        ReflectionUtils.doWithFields(key.filterClass(), (final Field field) -> {
+
+            final Attribute<?, ?> attribute
+                = findAttribute(managedType, field.getName());
+
+            if (attribute != null) {
+
+                steps.add(new FilterPlan.Step(FieldAccessor.of(field),
+                    attribute, embeddable
+                        && !Filter.class.isAssignableFrom(field.getType())));
+            } else if (!OPTION_FIELDS.contains(field.getName())) {
+
+                throw new IllegalArgumentException("The field "
+                    + field.getName() + " of " + key.filterClass().getName()
+                    + " has no related attribute in " + entityClass.getName());
+            }
+        }, FilterPlanCompiler::isFilterField);
+        return new FilterPlan(steps);
+    }
+
+    private static boolean isFilterField(final Field field) {
+
+        return !Modifier.isStatic(field.getModifiers())
+            && field.trySetAccessible();
+    }
+
+    @Nullable
+    private static Attribute<?, ?> findAttribute(
+        final ManagedType<?> managedType, final String name) {
+
+        for (final Attribute<?, ?> attribute: managedType.getAttributes()) {
+
+            if (attribute.getName().equals(name)) {
+
+                return attribute;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The key of a compiled plan.
+     *
+     * @param entityClass The entity or embeddable class.
+     * @param filterClass The filter class.
+     */
+    private record PlanKey(Class<?> entityClass, Class<?> filterClass) {}
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.specification.business;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.specification.api.presentation.FilterPresentation;
+
+/**
+ * The state of a single call to {@link SpecificationBuilderImpl#apply}.
+ * A new context is created for each call so the builder itself doesn't have
+ * any mutable state and can be shared between concurrent requests.
+ * <p>
+ * The context also keeps the joins created by its specifications for each
+ * query root, so a path of attributes used by multiple filters is only joined
+ * once per query.
+ * </p>
+ * <p>
+ * The filters on a collection relationship are built in a subquery context,
+ * assembled into a single EXISTS subquery correlated to the query root.
+ * </p>
+ *
+ * @param  <D> The entity type extending {@link DataPresentation}.
+ * @author     Malcolm Rozé
+ * @see        SpecificationBuilderImpl
+ * @since      0.2.0
+ */
+public final class SpecificationBuildContext<D extends DataPresentation<?>> {
+
+    /**
+     * The list of the different specification that will be used to construct
+     * the final specification.
+     */
+    private final List<Specification<D>> specifications = new ArrayList<>();
+
+    /**
+     * The joins already created for each query root, by path of attributes.
+     * A specification can be used by more than one query (for example the
+     * query and its count query), each one with its own root.
+     */
+    private final Map<Root<?>, Map<AttributePath, From<?, Object>>> joins
+        = new IdentityHashMap<>();
+
+    /**
+     * The inclusive option of the filter, use to assemble the specifications
+     * of a subquery.
+     */
+    @Nullable
+    private final Boolean inclusive;
+
+    /**
+     * True if the collection relationships must be joined instead of being
+     * filtered with an EXISTS subquery.
+     */
+    private final boolean joinCollections;
+
+    /**
+     * True if the specifications of this context are applied inside a
+     * subquery.
+     */
+    private final boolean subquery;
+
+    /**
+     * Create a context with the default options.
+     */
+    public SpecificationBuildContext() {
+
+        this(null, false, false);
+    }
+
+    private SpecificationBuildContext(
+        @Nullable final Boolean inclusive, final boolean joinCollections,
+        final boolean subquery) {
+
+        this.inclusive = inclusive;
+        this.joinCollections = joinCollections;
+        this.subquery = subquery;
+    }
+
+    /**
+     * Create a context with the options of the given filter.
+     *
+     * @param  <D>    The entity type extending {@link DataPresentation}.
+     * @param  filter The {@link FilterPresentation} of the call.
+     * @return        A new context.
+     */
+    public static <D extends DataPresentation<?>> SpecificationBuildContext<D>
+        of(final FilterPresentation<?> filter) {
+
+        return new SpecificationBuildContext<>(filter.getInclusive(),
+            Boolean.TRUE.equals(filter.getJoinCollections()), false);
+    }
+
+    /**
+     * Create the context of an EXISTS subquery, with the same options as this
+     * context.
+     *
+     * @return A new context for a subquery.
+     */
+    SpecificationBuildContext<D> createSubqueryContext() {
+
+        return new SpecificationBuildContext<>(inclusive, joinCollections,
+            true);
+    }
+
+    /**
+     * Getter for the inclusive option.
+     *
+     * @return The inclusive option.
+     */
+    @Nullable
+    public Boolean getInclusive() {
+
+        return inclusive;
+    }
+
+    /**
+     * Check if the collection relationships must be joined instead of being
+     * filtered with an EXISTS subquery.
+     *
+     * @return True if the collection relationships must be joined.
+     */
+    public boolean isJoinCollections() {
+
+        return joinCollections;
+    }
+
+    /**
+     * Check if the specifications of this context are applied inside a
+     * subquery.
+     *
+     * @return True if the context is the one of a subquery.
+     */
+    public boolean isSubquery() {
+
+        return subquery;
+    }
+
+    /**
+     * Add a specification to the context.
+     *
+     * @param specification The specification to add.
+     */
+    public void add(final Specification<D> specification) {
+
+        specifications.add(specification);
+    }
+
+    /**
+     * Check if the context doesn't contain any specification.
+     *
+     * @return True if there is no specification, false otherwise.
+     */
+    public boolean isEmpty() {
+
+        return specifications.isEmpty();
+    }
+
+    /**
+     * Get an iterator over the specifications in the order they were added.
+     *
+     * @return The iterator over the specifications.
+     */
+    public Iterator<Specification<D>> iterator() {
+
+        return specifications.iterator();
+    }
+
+    /**
+     * Get the join of a path of attributes for a query root, creating it with
+     * the given supplier the first time the path is used on this root.
+     *
+     * @param  root The root of the query.
+     * @param  path The path of attributes to join.
+     * @param  join The supplier creating the join.
+     * @return      The join of the path for the root.
+     */
+    synchronized From<?, Object> getOrCreateJoin(
+        final Root<?> root, final AttributePath path,
+        final Supplier<From<?, Object>> join) {
+
+        final Map<AttributePath, From<?, Object>> rootJoins
+            = joins.computeIfAbsent(root, key -> new HashMap<>());
+        From<?, Object> result = rootJoins.get(path);
+
+        if (result == null) {
+
+            result = join.get();
+            rootJoins.put(path, result);
+        }
+        return result;
+    }
+
+    /**
+     * The path of attributes from the root of the query to a filtered
+     * attribute. It's an immutable linked list so each filter can share the
+     * path of its parent relationship without copying it.
+     *
+     * @param parent    The path of the parent relationship, {@code null} if
+     *                  the attribute is directly on the root.
+     * @param attribute The attribute.
+     */
+    record AttributePath(
+        @Nullable AttributePath parent, Attribute<?, ?> attribute) {}
+}
@@ -16,35 +16,36 @@
 
 package org.sansenshimizu.sakuraboot.specification.business;
 
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.BiConsumer;
 
-import jakarta.persistence.Embeddable;
-import jakarta.persistence.Entity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.metamodel.Attribute;
 
-import org.apache.commons.lang3.tuple.Pair;
-import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ReflectionUtils;
 
-import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.Filter;
+import org.sansenshimizu.sakuraboot.util.FieldAccessor;
 
 /**
- * Helper class that use reflection and {@link EntityManager} to get the field
- * and their related attribute.
+ * Helper class that use the {@link FilterPlan} compiled from the
+ * {@link EntityManager} metamodel to get the field and their related
+ * attribute.
  *
  * @author Malcolm Rozé
  * @see    SpecificationBuilderImpl
+ * @see    FilterPlanCompiler
  * @since  0.1.0
  */
 @Component
 @SuppressWarnings("java:S1258")
 public class SpecificationBuilderHelper {
 
+    /**
+     * The compiler of the {@link FilterPlan}, caching the plan of each filter
+     * class.
+     */
+    private final FilterPlanCompiler compiler = new FilterPlanCompiler();
+
     /**
      * The {@link EntityManager} used to get the metamodel of the entity to
      * create the specification.
@@ -53,78 +54,55 @@ public class SpecificationBuilderHelper {
     private EntityManager entityManager;
 
     /**
-     * Return the fields of the filter using reflection.
+     * Call the given callback for each field of the filter that is not null,
+     * with the value of the field and the related attribute of the entity.
+     * The fields and their attributes come from the {@link FilterPlan} of the
+     * filter class, so only the values are read on each call.
      *
-     * @param  filter      The filter.
-     * @param  entityClass The entity class.
-     * @return             The fields of the filter.
+     * @param entityClass The entity class.
+     * @param filter      The filter.
+     * @param callback    The callback to call with the value of the field and
+     *                    the related attribute.
      */
-    @SuppressWarnings("java:S1452")
-    protected List<Pair<Object, Attribute<?, ?>>> getFilterWithAttribute(
-        final Class<?> entityClass, final Object filter) {
+    protected void doWithFilterAttributes(
+        final Class<?> entityClass, final Object filter,
+        final BiConsumer<Object, Attribute<?, ?>> callback) {
 
-        return getFilterWithAttribute(entityClass, filter, null);
-    }
+        final FilterPlan plan = compiler.compile(entityManager.getMetamodel(),
+            entityClass, filter.getClass());
 
-    private List<Pair<Object, Attribute<?, ?>>> getFilterWithAttribute(
-        final Class<?> entityClass, final Object filter,
-        @Nullable final Attribute<?, ?> attribute) {
+        for (final FilterPlan.Step step: plan.getSteps()) {
 
-        final List<Pair<Object, Attribute<?, ?>>> result = new ArrayList<>();
-        ReflectionUtils.doWithFields(filter.getClass(), field -> result.addAll(
-            mapFieldWithAttribute(entityClass, filter, field, attribute)));
-        return result.stream().filter(pair -> pair.getValue() != null).toList();
-    }
+            final Object value = step.accessor().get(filter);
 
-    private List<Pair<Object, Attribute<?, ?>>> mapFieldWithAttribute(
-        final Class<?> entityClass, final Object filter, final Field field,
-        @Nullable final Attribute<?, ?> attribute) {
+            if (value == null) {
 
-        if (field.trySetAccessible()
-            && !"serialVersionUID".equals(field.getName())) {
+                continue;
+            }
 
-            final Object filterField = ReflectionUtils.getField(field, filter);
+            if (step.embedded()) {
 
-            if (filterField != null) {
+                doWithEmbeddedAttribute(value, step.attribute(), callback);
+            } else {
 
-                return mapFieldWithAttributeAux(entityClass, field, attribute,
-                    filterField);
+                callback.accept(value, step.attribute());
             }
         }
-        return List.of();
     }
 
-    private List<Pair<Object, Attribute<?, ?>>> mapFieldWithAttributeAux(
-        final Class<?> entityClass, final Field field,
-        @Nullable final Attribute<?, ?> attribute, final Object filterField) {
-
-        Attribute<?, ?> actualAttribute = attribute;
-
-        if (attribute == null) {
-
-            if (entityClass.isAnnotationPresent(Entity.class)) {
+    private void doWithEmbeddedAttribute(
+        final Object filter, final Attribute<?, ?> attribute,
+        final BiConsumer<Object, Attribute<?, ?>> callback) {
 
-                actualAttribute = entityManager.getMetamodel()
-                    .entity(entityClass)
-                    .getAttribute(field.getName());
-            } else if (entityClass.isAnnotationPresent(Embeddable.class)) {
+        for (final FieldAccessor accessor: compiler
+            .getEmbeddedAccessors(filter.getClass())) {
 
-                actualAttribute = entityManager.getMetamodel()
-                    .embeddable(entityClass)
-                    .getAttribute(field.getName());
+            final Object value = accessor.get(filter);
 
-                if (!(filterField instanceof Filter)
-                    && actualAttribute != null) {
+            if (value != null) {
 
-                    return getFilterWithAttribute(entityClass, filterField,
-                        actualAttribute);
-                }
-            } else {
-
-                return List.of();
+                callback.accept(value, attribute);
             }
         }
-
-        return List.of(Pair.of(filterField, actualAttribute));
     }
 }
@@ -18,22 +18,22 @@ package org.sansenshimizu.sakuraboot.specification.business;
 
 import java.io.Serializable;
 import java.time.temporal.Temporal;
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 
 import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import jakarta.persistence.metamodel.Attribute;
 import jakarta.persistence.metamodel.ListAttribute;
 import jakarta.persistence.metamodel.PluralAttribute;
 import jakarta.persistence.metamodel.SetAttribute;
 import jakarta.persistence.metamodel.SingularAttribute;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
@@ -48,6 +48,7 @@ import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.Commo
 import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.DateFilter;
 import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.NumberFilter;
 import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.TextFilter;
+import org.sansenshimizu.sakuraboot.specification.business.SpecificationBuildContext.AttributePath;
 
 /**
  * The {@link SpecificationBuilderImpl} base class provides methods for building
@@ -76,6 +77,15 @@ import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.TextF
  * to create great specifications. Some methods are protected so you can make
  * your custom specification if needed.
  * </p>
+ * <p>
+ * The filters on the same path of relationships share a single join per
+ * query, so filtering two fields of a relationship doesn't join it twice.
+ * The filters on a collection relationship are grouped in a single EXISTS
+ * subquery, so the entities aren't duplicated and the count query doesn't
+ * need a distinct. With {@link FilterPresentation#getJoinCollections()}, the
+ * collection is joined instead. In both cases, all the filters of a
+ * collection apply to the same element of the collection.
+ * </p>
  *
  * @param  <D> The entity type extending {@link DataPresentation}.
  * @author     Malcolm Rozé
@@ -92,12 +102,6 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
     private static final String UNSUPPORTED_ATTRIBUTE_TYPE
         = "Unsupported attribute type: ";
 
-    /**
-     * The list of the different specification that will be used to construct
-     * the final specification.
-     */
-    private final List<Specification<D>> specifications;
-
     /**
      * Helper class to get the attribute expression from the
      * {@link DataPresentation}.
@@ -105,13 +109,12 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
     private final SpecificationBuilderHelper helper;
 
     /**
-     * Constructor to initialize the specification list and the helper.
+     * Constructor to initialize the helper.
      *
      * @param helper The {@link SpecificationBuilderHelper}.
      */
     public SpecificationBuilderImpl(final SpecificationBuilderHelper helper) {
 
-        specifications = new ArrayList<>();
         this.helper = helper;
     }
 
@@ -125,7 +128,9 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
 
         if (filter != null) {
 
-            prepareSpecification(filter, entityClass);
+            final SpecificationBuildContext<D> context
+                = SpecificationBuildContext.of(filter);
+            prepareSpecification(context, filter, entityClass);
 
             final Boolean distinct = filter.getDistinct();
 
@@ -134,30 +139,31 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
                 specification = specification.and(applyDistinct(distinct));
             }
             specification = specification
-                .and(assembleSpecification(filter.getInclusive()));
+                .and(assembleSpecification(context, filter.getInclusive()));
         }
-        specifications.clear();
         return specification;
     }
 
     /**
      * Creates an inclusive or exclusive specification.
      *
+     * @param  context     The {@link SpecificationBuildContext} of the current
+     *                     call.
      * @param  isInclusive A boolean flag indicating whether the specification
      *                     should be inclusive or exclusive.
-     * @return             A specification build from the list of the
-     *                     {@link SpecificationBuilderImpl#specifications}
-     *                     and the given isInclusive.
+     * @return             A specification build from the specifications of the
+     *                     given context and the given isInclusive.
      */
     protected Specification<D> assembleSpecification(
+        final SpecificationBuildContext<D> context,
         @Nullable final Boolean isInclusive) {
 
-        if (specifications.isEmpty()) {
+        if (context.isEmpty()) {
 
             return Specification.where(null);
         }
 
-        final Iterator<Specification<D>> it = specifications.iterator();
+        final Iterator<Specification<D>> it = context.iterator();
         Specification<D> specification = it.next();
 
         while (it.hasNext()) {
@@ -177,55 +183,59 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
      * Create for each field that has a filter associated a specification using
      * the given {@link FilterPresentation}.
      *
+     * @param context     The {@link SpecificationBuildContext} of the current
+     *                    call.
      * @param filter      The {@link FilterPresentation} use to get the
      *                    different filter for each field.
      * @param entityClass The class of the entity.
      */
     protected void prepareSpecification(
+        final SpecificationBuildContext<D> context,
         final FilterPresentation<?> filter, final Class<?> entityClass) {
 
-        final List<Attribute<?, ?>> attributes = new ArrayList<>();
-        helper.getFilterWithAttribute(entityClass, filter)
-            .forEach((final Pair<Object, Attribute<?, ?>> pair) -> {
-
-                attributes.add(pair.getValue());
-                createSpecificationForFields(pair.getKey(), attributes);
-            });
+        helper.doWithFilterAttributes(entityClass, filter,
+            (final Object fieldFilter, final Attribute<?, ?> attribute)
+                -> createSpecificationForFields(context, fieldFilter,
+                    new AttributePath(null, attribute)));
     }
 
     private void createSpecificationForFields(
-        final Object filter, final List<Attribute<?, ?>> attributes) {
+        final SpecificationBuildContext<D> context, final Object filter,
+        final AttributePath path) {
 
         switch (filter) {
 
-            case final NumberFilter<?> numberFilter -> applyFilter(numberFilter,
-                createAttributeFunction(attributes));
+            case final NumberFilter<?> numberFilter -> applyFilter(context,
+                numberFilter, createAttributeFunction(context, path));
 
-            case final TextFilter textFilter
-                -> applyFilter(textFilter, createAttributeFunction(attributes));
+            case final TextFilter textFilter -> applyFilter(context,
+                textFilter, createAttributeFunction(context, path));
 
-            case final DateFilter<?> dateFilter
-                -> applyFilter(dateFilter, createAttributeFunction(attributes));
+            case final DateFilter<?> dateFilter -> applyFilter(context,
+                dateFilter, createAttributeFunction(context, path));
 
-            case final BooleanFilter booleanFilter -> applyFilter(booleanFilter,
-                createAttributeFunction(attributes));
+            case final BooleanFilter booleanFilter -> applyFilter(context,
+                booleanFilter, createAttributeFunction(context, path));
 
-            case final CommonFilter<?> commonFilter -> applyFilter(commonFilter,
-                createAttributeFunction(attributes));
+            case final CommonFilter<?> commonFilter -> applyFilter(context,
+                commonFilter, createAttributeFunction(context, path));
 
             case final CollectionFilter<?> collectionFilter -> applyFilter(
-                collectionFilter, createListAttributeFunction(attributes));
+                context, collectionFilter,
+                createListAttributeFunction(context, path));
 
-            default -> createSpecificationForRelationship(filter, attributes);
+            default
+                -> createSpecificationForRelationship(context, filter, path);
         }
     }
 
     private void createSpecificationForRelationship(
-        final Object filter, final List<Attribute<?, ?>> attributes) {
+        final SpecificationBuildContext<D> context, final Object filter,
+        final AttributePath path) {
 
         final Class<?> relationshipClass;
 
-        final Attribute<?, ?> attribute = attributes.get(attributes.size() - 1);
+        final Attribute<?, ?> attribute = path.attribute();
 
         if (attribute.isCollection()) {
 
@@ -236,144 +246,146 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
 
             relationshipClass = attribute.getJavaType();
         }
-        helper.getFilterWithAttribute(relationshipClass, filter)
-            .forEach((final Pair<Object, Attribute<?, ?>> pair) -> {
 
-                attributes.add(pair.getValue());
-                createSpecificationForFields(pair.getKey(), attributes);
-            });
-    }
+        if (useExistsSubquery(context, attribute)) {
 
-    private <T, Y> Function<Root<D>, Expression<T>> createAttributeFunction(
-        final List<Attribute<?, ?>> attributes) {
+            final SpecificationBuildContext<D> subqueryContext
+                = context.createSubqueryContext();
+            createSpecificationForRelationshipFields(subqueryContext,
+                relationshipClass, filter, path);
 
-        if (attributes.size() == 1) {
+            if (!subqueryContext.isEmpty()) {
 
-            @SuppressWarnings("unchecked")
-            final SingularAttribute<? super D, T> attribute
-                = (SingularAttribute<? super D, T>) attributes.remove(0);
-            return root -> root.get(attribute);
-        }
+                context.add(createExistsSpecification(assembleSpecification(
+                    subqueryContext, context.getInclusive())));
+            }
+        } else {
 
-        final Iterator<Attribute<?, ?>> it = attributes.iterator();
-        final Function<Root<D>, Join<D, Y>> join
-            = createAttributeFunctionForRelationship(it.next());
-        final Function<Root<D>, Expression<T>> result
-            = createAttributeFunctionRecursive(join, it);
-        attributes.clear();
-        return result;
+            createSpecificationForRelationshipFields(context,
+                relationshipClass, filter, path);
+        }
     }
 
-    private <
-        X, Y, Z, T> Function<Root<D>, Expression<T>>
-        createAttributeFunctionRecursive(
-            final Function<Root<D>, Join<X, Y>> parentJoin,
-            final Iterator<Attribute<?, ?>> it) {
-
-        final Attribute<?, ?> attribute = it.next();
+    private void createSpecificationForRelationshipFields(
+        final SpecificationBuildContext<D> context,
+        final Class<?> relationshipClass, final Object filter,
+        final AttributePath path) {
 
-        if (!it.hasNext()) {
+        helper.doWithFilterAttributes(relationshipClass, filter,
+            (final Object fieldFilter, final Attribute<?, ?> fieldAttribute)
+                -> createSpecificationForFields(context, fieldFilter,
+                    new AttributePath(path, fieldAttribute)));
+    }
 
-            @SuppressWarnings("unchecked")
-            final SingularAttribute<? super Y, T> castAttribute
-                = (SingularAttribute<? super Y, T>) attribute;
-            return root -> parentJoin.apply(root).get(castAttribute);
-        } else {
+    /**
+     * Check if the filters on the given relationship attribute must be
+     * applied with an EXISTS subquery instead of a join. By default, it's the
+     * case for the collection relationships, unless the join collections
+     * option is set or the context is already inside a subquery (the nested
+     * collections are then joined inside the subquery).
+     *
+     * @param  context   The {@link SpecificationBuildContext} of the current
+     *                   call.
+     * @param  attribute The relationship attribute.
+     * @return           True if an EXISTS subquery must be used, false
+     *                   otherwise.
+     */
+    protected boolean useExistsSubquery(
+        final SpecificationBuildContext<D> context,
+        final Attribute<?, ?> attribute) {
 
-            final Function<Root<D>, Join<Y, Z>> currentJoin
-                = createAttributeFunctionForNestedRelationship(parentJoin,
-                    attribute);
-            return createAttributeFunctionRecursive(currentJoin, it);
-        }
+        return attribute.isCollection()
+            && !context.isJoinCollections()
+            && !context.isSubquery();
     }
 
-    private <
-        T, Y> Function<Root<D>, Expression<List<T>>>
-        createListAttributeFunction(final List<Attribute<?, ?>> attributes) {
+    private Specification<D> createExistsSpecification(
+        final Specification<D> specification) {
 
-        if (attributes.size() == 1) {
+        return (root, query, criteriaBuilder) -> {
 
-            @SuppressWarnings("unchecked")
-            final ListAttribute<D, T> attribute
-                = (ListAttribute<D, T>) attributes.remove(0);
-            return root -> root.get(attribute);
-        }
-
-        final Iterator<Attribute<?, ?>> it = attributes.iterator();
-        final Function<Root<D>, Join<D, Y>> join
-            = createAttributeFunctionForRelationship(it.next());
-        final Function<Root<D>, Expression<List<T>>> result
-            = createListAttributeFunctionRecursive(join, it);
-        attributes.clear();
-        return result;
-    }
+            final Subquery<Integer> subquery = query.subquery(Integer.class);
+            final Root<D> correlatedRoot = subquery.correlate(root);
+            final Predicate predicate = specification
+                .toPredicate(correlatedRoot, query, criteriaBuilder);
+            subquery.select(criteriaBuilder.literal(1));
 
-    private <
-        X, Y, Z, T> Function<Root<D>, Expression<List<T>>>
-        createListAttributeFunctionRecursive(
-            final Function<Root<D>, Join<X, Y>> parentJoin,
-            final Iterator<Attribute<?, ?>> it) {
+            if (predicate != null) {
 
-        final Attribute<?, ?> attribute = it.next();
+                subquery.where(predicate);
+            }
+            return criteriaBuilder.exists(subquery);
+        };
+    }
 
-        if (!it.hasNext()) {
+    private <T> Function<Root<D>, Expression<T>> createAttributeFunction(
+        final SpecificationBuildContext<D> context, final AttributePath path) {
 
-            @SuppressWarnings("unchecked")
-            final ListAttribute<Y, T> castAttribute
-                = (ListAttribute<Y, T>) attribute;
-            return root -> parentJoin.apply(root).get(castAttribute);
-        } else {
+        final Function<Root<D>, From<?, Object>> from
+            = createFromFunction(context, path.parent());
+        @SuppressWarnings("unchecked")
+        final SingularAttribute<Object, T> attribute
+            = (SingularAttribute<Object, T>) path.attribute();
+        return root -> from.apply(root).get(attribute);
+    }
 
-            final Function<Root<D>, Join<Y, Z>> currentJoin
-                = createAttributeFunctionForNestedRelationship(parentJoin,
-                    attribute);
-            return createListAttributeFunctionRecursive(currentJoin, it);
-        }
+    private <T> Function<Root<D>, Expression<List<T>>>
+        createListAttributeFunction(
+            final SpecificationBuildContext<D> context,
+            final AttributePath path) {
+
+        final Function<Root<D>, From<?, Object>> from
+            = createFromFunction(context, path.parent());
+        @SuppressWarnings("unchecked")
+        final ListAttribute<Object, T> attribute
+            = (ListAttribute<Object, T>) path.attribute();
+        return root -> from.apply(root).get(attribute);
     }
 
-    private <
-        Y> Function<Root<D>, Join<D, Y>> createAttributeFunctionForRelationship(
-            final Attribute<?, ?> attribute) {
+    private Function<Root<D>, From<?, Object>> createFromFunction(
+        final SpecificationBuildContext<D> context,
+        @Nullable final AttributePath path) {
 
-        if (!attribute.isCollection()) {
+        if (path == null) {
 
-            @SuppressWarnings("unchecked")
-            final SingularAttribute<D, Y> singularAttribute
-                = (SingularAttribute<D, Y>) attribute;
-            return root -> root.join(singularAttribute, JoinType.LEFT);
+            return (final Root<D> root) -> {
+
+                @SuppressWarnings("unchecked")
+                final From<?, Object> from
+                    = (From<?, Object>) (From<?, ?>) root;
+                return from;
+            };
         }
 
-        if (attribute instanceof SetAttribute<?, ?>) {
+        final Function<Root<D>, From<?, Object>> parentFrom
+            = createFromFunction(context, path.parent());
+        final Function<From<?, Object>, From<?, Object>> join
+            = createJoinFunction(path.attribute());
+        return (final Root<D> root) -> {
 
-            @SuppressWarnings("unchecked")
-            final SetAttribute<D, Y> setAttribute
-                = (SetAttribute<D, Y>) attribute;
-            return root -> root.join(setAttribute, JoinType.LEFT);
-        }
-        throw new RuntimeException(UNSUPPORTED_ATTRIBUTE_TYPE + attribute);
+            final From<?, Object> parent = parentFrom.apply(root);
+            return context.getOrCreateJoin(root, path,
+                () -> join.apply(parent));
+        };
     }
 
-    private <
-        X, Y, Z> Function<Root<D>, Join<Y, Z>>
-        createAttributeFunctionForNestedRelationship(
-            final Function<Root<D>, Join<X, Y>> join,
-            final Attribute<?, ?> attribute) {
+    private static Function<From<?, Object>, From<?, Object>>
+        createJoinFunction(final Attribute<?, ?> attribute) {
 
         if (!attribute.isCollection()) {
 
             @SuppressWarnings("unchecked")
-            final SingularAttribute<Y, Z> singularAttribute
-                = (SingularAttribute<Y, Z>) attribute;
-            return root -> join.apply(root)
-                .join(singularAttribute, JoinType.LEFT);
+            final SingularAttribute<Object, Object> singularAttribute
+                = (SingularAttribute<Object, Object>) attribute;
+            return parent -> parent.join(singularAttribute, JoinType.LEFT);
         }
 
         if (attribute instanceof SetAttribute<?, ?>) {
 
             @SuppressWarnings("unchecked")
-            final SetAttribute<Y, Z> setAttribute
-                = (SetAttribute<Y, Z>) attribute;
-            return root -> join.apply(root).join(setAttribute, JoinType.LEFT);
+            final SetAttribute<Object, Object> setAttribute
+                = (SetAttribute<Object, Object>) attribute;
+            return parent -> parent.join(setAttribute, JoinType.LEFT);
         }
         throw new RuntimeException(UNSUPPORTED_ATTRIBUTE_TYPE + attribute);
     }
@@ -383,6 +395,7 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
      * {@link CommonFilter}.
      *
      * @param  <T>           The value type.
+     * @param  context       The context of the current call.
      * @param  filter        The CommonFilter containing the filter conditions.
      * @param  attributeFunc The function to get the attribute expression from
      *                       the {@link DataPresentation} root.
@@ -390,6 +403,7 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
      *                       criteria, {@code false} otherwise.
      */
     protected <T extends Serializable> boolean applyFilter(
+        final SpecificationBuildContext<D> context,
         final CommonFilter<T> filter,
         final Function<Root<D>, Expression<T>> attributeFunc) {
 
@@ -397,11 +411,11 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
 
         if (eq != null) {
 
-            specifications.add(eq(attributeFunc, eq));
+            context.add(eq(attributeFunc, eq));
             return true;
         } else if (!filter.getIn().isEmpty()) {
 
-            specifications.add(in(attributeFunc, filter.getIn()));
+            context.add(in(attributeFunc, filter.getIn()));
             return true;
         } else {
 
@@ -409,22 +423,22 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
 
             if (neq != null) {
 
-                specifications.add(neq(attributeFunc, neq));
+                context.add(neq(attributeFunc, neq));
             }
 
             if (!filter.getNotIn().isEmpty()) {
 
-                specifications.add(nin(attributeFunc, filter.getNotIn()));
+                context.add(nin(attributeFunc, filter.getNotIn()));
             }
 
             if (Boolean.TRUE.equals(filter.getIsNull())) {
 
-                specifications.add(isNull(attributeFunc));
+                context.add(isNull(attributeFunc));
             }
 
             if (Boolean.FALSE.equals(filter.getIsNull())) {
 
-                specifications.add(isNotNull(attributeFunc));
+                context.add(isNotNull(attributeFunc));
             }
             return false;
         }
@@ -433,24 +447,27 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
     /**
      * Add a list of filtering conditions based on the given BooleanFilter.
      *
+     * @param context       The context of the current call.
      * @param filter        The BooleanFilter containing the filter conditions.
      * @param attributeFunc The function to get the attribute expression from
      *                      the {@link DataPresentation} root.
      */
     protected void applyFilter(
+        final SpecificationBuildContext<D> context,
         final BooleanFilter filter,
         final Function<Root<D>, Expression<Boolean>> attributeFunc) {
 
-        if (!applyFilter((CommonFilter<Boolean>) filter, attributeFunc)) {
+        if (!applyFilter(context, (CommonFilter<Boolean>) filter,
+            attributeFunc)) {
 
             if (Boolean.TRUE.equals(filter.getIsTrue())) {
 
-                specifications.add(isTrue(attributeFunc));
+                context.add(isTrue(attributeFunc));
             }
 
             if (Boolean.FALSE.equals(filter.getIsTrue())) {
 
-                specifications.add(isFalse(attributeFunc));
+                context.add(isFalse(attributeFunc));
             }
         }
     }
@@ -460,39 +477,41 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
      * the given NumberFilter.
      *
      * @param <N>           The value type.
+     * @param context       The context of the current call.
      * @param filter        The NumberFilter containing the filter conditions.
      * @param attributeFunc The function to get the attribute expression from
      *                      the {@link DataPresentation} root.
      */
     protected <N extends Number> void applyFilter(
+        final SpecificationBuildContext<D> context,
         final NumberFilter<N> filter,
         final Function<Root<D>, Expression<N>> attributeFunc) {
 
-        if (!applyFilter((CommonFilter<N>) filter, attributeFunc)) {
+        if (!applyFilter(context, (CommonFilter<N>) filter, attributeFunc)) {
 
             final N gt = filter.getGreaterThan();
 
             if (gt != null) {
 
-                specifications.add(gt(attributeFunc, gt));
+                context.add(gt(attributeFunc, gt));
             }
             final N gte = filter.getGreaterThanOrEqual();
 
             if (gte != null) {
 
-                specifications.add(gte(attributeFunc, gte));
+                context.add(gte(attributeFunc, gte));
             }
             final N lt = filter.getLessThan();
 
             if (lt != null) {
 
-                specifications.add(lt(attributeFunc, lt));
+                context.add(lt(attributeFunc, lt));
             }
             final N lte = filter.getLessThanOrEqual();
 
             if (lte != null) {
 
-                specifications.add(lte(attributeFunc, lte));
+                context.add(lte(attributeFunc, lte));
             }
         }
     }
@@ -501,22 +520,25 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
      * Add a list of filtering conditions to the provided Specification based on
      * the given TextFilter.
      *
+     * @param context       The context of the current call.
      * @param filter        The TextFilter containing the filter conditions.
      * @param attributeFunc The function to get the attribute expression from
      *                      the {@link DataPresentation} root.
      */
     protected void applyFilter(
+        final SpecificationBuildContext<D> context,
         final TextFilter filter,
         final Function<Root<D>, Expression<String>> attributeFunc) {
 
-        if (!applyFilter((CommonFilter<String>) filter, attributeFunc)) {
+        if (!applyFilter(context, (CommonFilter<String>) filter,
+            attributeFunc)) {
 
             if (Boolean.TRUE.equals(filter.getCaseSensitive())) {
 
-                applyTextFilterSensitive(filter, attributeFunc);
+                applyTextFilterSensitive(context, filter, attributeFunc);
             } else {
 
-                applyTextFilterNotSensitive(filter, attributeFunc);
+                applyTextFilterNotSensitive(context, filter, attributeFunc);
             }
         }
     }
@@ -526,6 +548,7 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
      * the given DateFilter.
      *
      * @param <T>           The value type.
+     * @param context       The context of the current call.
      * @param filter        The DateFilter containing the filter conditions.
      * @param attributeFunc The function to get the attribute expression from
      *                      the {@link DataPresentation} root.
@@ -533,22 +556,23 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
     protected <
         T extends Temporal & Comparable<? super T> & Serializable> void
         applyFilter(
+            final SpecificationBuildContext<D> context,
             final DateFilter<T> filter,
             final Function<Root<D>, Expression<T>> attributeFunc) {
 
-        if (!applyFilter((CommonFilter<T>) filter, attributeFunc)) {
+        if (!applyFilter(context, (CommonFilter<T>) filter, attributeFunc)) {
 
             final T from = filter.getFrom();
 
             if (from != null) {
 
-                specifications.add(from(attributeFunc, from));
+                context.add(from(attributeFunc, from));
             }
             final T to = filter.getTo();
 
             if (to != null) {
 
-                specifications.add(to(attributeFunc, to));
+                context.add(to(attributeFunc, to));
             }
         }
     }
@@ -558,45 +582,47 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
      * the given CollectionFilter.
      *
      * @param <T>           The value type.
+     * @param context       The context of the current call.
      * @param filter        The CollectionFilter containing the filter
      *                      conditions.
      * @param attributeFunc The function to get the attribute expression from
      *                      the {@link DataPresentation} root.
      */
     protected <T extends Serializable> void applyFilter(
+        final SpecificationBuildContext<D> context,
         final CollectionFilter<T> filter,
         final Function<Root<D>, Expression<List<T>>> attributeFunc) {
 
         if (!filter.getEqual().isEmpty()) {
 
-            specifications.add(eq(attributeFunc, filter.getEqual()));
+            context.add(eq(attributeFunc, filter.getEqual()));
         } else {
 
             if (!filter.getNotEqual().isEmpty()) {
 
-                specifications.add(neq(attributeFunc, filter.getNotEqual()));
+                context.add(neq(attributeFunc, filter.getNotEqual()));
             }
 
             if (Boolean.TRUE.equals(filter.getIsEmpty())) {
 
-                specifications.add(isEmpty(attributeFunc));
+                context.add(isEmpty(attributeFunc));
             }
 
             if (Boolean.FALSE.equals(filter.getIsEmpty())) {
 
-                specifications.add(isNotEmpty(attributeFunc));
+                context.add(isNotEmpty(attributeFunc));
             }
             final T isMember = filter.getIsMember();
 
             if (isMember != null) {
 
-                specifications.add(isMember(attributeFunc, isMember));
+                context.add(isMember(attributeFunc, isMember));
             }
             final T isNotMember = filter.getIsNotMember();
 
             if (isNotMember != null) {
 
-                specifications.add(isNotMember(attributeFunc, isNotMember));
+                context.add(isNotMember(attributeFunc, isNotMember));
             }
         }
     }
@@ -605,13 +631,15 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
      * Add a list of filtering conditions based on the given TextFilter with
      * case-sensitive.
      *
+     * @param context       The context of the current call.
      * @param filter        The NumberFilter containing the filter conditions.
      * @param attributeFunc The function to get the attribute expression from
      *                      the {@link DataPresentation} root.
-     * @see                 SpecificationBuilderImpl#applyFilter(TextFilter,
-     *                      Function)
+     * @see                 SpecificationBuilderImpl#applyFilter(
+     *                      SpecificationBuildContext, TextFilter, Function)
      */
     protected void applyTextFilterSensitive(
+        final SpecificationBuildContext<D> context,
         final TextFilter filter,
         final Function<Root<D>, Expression<String>> attributeFunc) {
 
@@ -619,28 +647,28 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
 
         if (containsSensitive != null) {
 
-            specifications
+            context
                 .add(containsSensitive(attributeFunc, containsSensitive));
         }
         final String notContainsSensitive = filter.getNotContains();
 
         if (notContainsSensitive != null) {
 
-            specifications
+            context
                 .add(notContainsSensitive(attributeFunc, notContainsSensitive));
         }
         final String startWithSensitive = filter.getStartWith();
 
         if (startWithSensitive != null) {
 
-            specifications
+            context
                 .add(startWithSensitive(attributeFunc, startWithSensitive));
         }
         final String endWithSensitive = filter.getEndWith();
 
         if (endWithSensitive != null) {
 
-            specifications
+            context
                 .add(endWithSensitive(attributeFunc, endWithSensitive));
         }
     }
@@ -649,13 +677,15 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
      * Add a list of filtering conditions to the provided Specification based on
      * the given TextFilter with case NOT sensitive.
      *
+     * @param context       The context of the current call.
      * @param filter        The NumberFilter containing the filter conditions.
      * @param attributeFunc The function to get the attribute expression from
      *                      the {@link DataPresentation} root.
-     * @see                 SpecificationBuilderImpl#applyFilter(TextFilter,
-     *                      Function)
+     * @see                 SpecificationBuilderImpl#applyFilter(
+     *                      SpecificationBuildContext, TextFilter, Function)
      */
     protected void applyTextFilterNotSensitive(
+        final SpecificationBuildContext<D> context,
         final TextFilter filter,
         final Function<Root<D>, Expression<String>> attributeFunc) {
 
@@ -663,25 +693,25 @@ public class SpecificationBuilderImpl<D extends DataPresentation<?>>
 
         if (contains != null) {
 
-            specifications.add(contains(attributeFunc, contains));
+            context.add(contains(attributeFunc, contains));
         }
         final String notContains = filter.getNotContains();
 
         if (notContains != null) {
 
-            specifications.add(notContains(attributeFunc, notContains));
+            context.add(notContains(attributeFunc, notContains));
         }
         final String startWith = filter.getStartWith();
 
         if (startWith != null) {
 
-            specifications.add(startWith(attributeFunc, startWith));
+            context.add(startWith(attributeFunc, startWith));
         }
         final String endWith = filter.getEndWith();
 
         if (endWith != null) {
 
-            specifications.add(endWith(attributeFunc, endWith));
+            context.add(endWith(attributeFunc, endWith));
         }
     }
 
@@ -102,14 +102,16 @@ public abstract class AbstractBasicFilter<F extends Filter>
         final FilterPresentation<?> castObject = (FilterPresentation<?>) obj;
         return Objects.equals(getDistinct(), castObject.getDistinct())
             && Objects.equals(getInclusive(), castObject.getInclusive())
+            && Objects.equals(getJoinCollections(),
+                castObject.getJoinCollections())
             && Objects.equals(getId(), castObject.getId());
     }
 
     @Override
     public int hashCode() {
 
-        return Objects.hash(getDistinct(), getInclusive(), getId(),
-            getClass().hashCode());
+        return Objects.hash(getDistinct(), getInclusive(),
+            getJoinCollections(), getId(), getClass().hashCode());
     }
 
     /**
@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.specification.business;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.specification.api.presentation.FilterPresentation;
+import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.CommonFilter;
+import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.TextFilter;
+import org.sansenshimizu.sakuraboot.specification.presentation.filters.CommonFilterImpl;
+import org.sansenshimizu.sakuraboot.specification.presentation.filters.TextFilterImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The JMH benchmark for {@link SpecificationBuilderImpl#apply}. It measures
+ * the building of a specification with a filter on the root entity, a text
+ * filter and a filter on a relationship, from a single thread and from
+ * multiple threads sharing the same builder.
+ * <p>
+ * The benchmark is run by the {@code performanceTest} task.
+ * </p>
+ *
+ * @author Malcolm Rozé
+ * @see    SpecificationBuilderImpl
+ * @since  0.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpecificationBuilderBenchmark {
+
+    /**
+     * The number of threads use for the concurrent benchmark.
+     */
+    private static final int THREAD_COUNT = 4;
+
+    /**
+     * The number of warmup and measurement iterations.
+     */
+    private static final int ITERATIONS = 3;
+
+    /**
+     * The builder to benchmark.
+     */
+    private SpecificationBuilderImpl<DataPresentation<?>> builder;
+
+    /**
+     * The entity class use for benchmarking.
+     */
+    private Class<DataPresentation<?>> entityClass;
+
+    /**
+     * The filter use for benchmarking.
+     */
+    private FilterForBenchmark filter;
+
+    /**
+     * Initialize the builder and the filter.
+     */
+    @Setup
+    public void setUp() {
+
+        builder = new SpecificationBuilderImpl<>(new HelperForBenchmark(
+            mock(SingularAttribute.class), mock(SingularAttribute.class),
+            mock(SingularAttribute.class)));
+        @SuppressWarnings("unchecked")
+        final Class<DataPresentation<?>> castClass
+            = (Class<DataPresentation<?>>) (Class<?>) DataPresentation.class;
+        entityClass = castClass;
+        filter = new FilterForBenchmark(
+            new CommonFilterImpl<>(1L, null, null, null, null),
+            new TextFilterImpl(null, null, null, null, null, "name", null,
+                null, null, null),
+            new RelationshipForBenchmark(
+                new CommonFilterImpl<>(2L, null, null, null, null)));
+    }
+
+    /**
+     * Build a specification from a single thread.
+     *
+     * @return The specification.
+     */
+    @Benchmark
+    public Specification<DataPresentation<?>> apply() {
+
+        return builder.apply(filter, entityClass);
+    }
+
+    /**
+     * Build a specification from multiple threads sharing the same builder.
+     *
+     * @return The specification.
+     */
+    @Benchmark
+    @Threads(THREAD_COUNT)
+    public Specification<DataPresentation<?>> applyConcurrently() {
+
+        return builder.apply(filter, entityClass);
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @throws RunnerException If the benchmark can't be run.
+     */
+    @Test
+    @DisplayName("GIVEN a specification builder,"
+        + " WHEN running the benchmark,"
+        + " THEN each benchmark should produce a result")
+    final void testBenchmark() throws RunnerException {
+
+        // GIVEN
+        final Options options = new OptionsBuilder()
+            .include(SpecificationBuilderBenchmark.class.getName())
+            .forks(1)
+            .warmupIterations(ITERATIONS)
+            .measurementIterations(ITERATIONS)
+            .build();
+
+        // WHEN
+        final int resultCount = new Runner(options).run().size();
+
+        // THEN
+        assertThat(resultCount).isEqualTo(2);
+    }
+
+    /**
+     * A {@link SpecificationBuilderHelper} that associate the filters of a
+     * {@link FilterForBenchmark} to fixed attributes, without the need of an
+     * {@link jakarta.persistence.EntityManager}.
+     */
+    private static final class HelperForBenchmark
+        extends SpecificationBuilderHelper {
+
+        /**
+         * The attribute associated with the ID filters.
+         */
+        private final Attribute<?, ?> idAttribute;
+
+        /**
+         * The attribute associated with the name filter.
+         */
+        private final Attribute<?, ?> nameAttribute;
+
+        /**
+         * The attribute associated with the relationship filter.
+         */
+        private final Attribute<?, ?> relationshipAttribute;
+
+        private HelperForBenchmark(
+            final Attribute<?, ?> idAttribute,
+            final Attribute<?, ?> nameAttribute,
+            final Attribute<?, ?> relationshipAttribute) {
+
+            this.idAttribute = idAttribute;
+            this.nameAttribute = nameAttribute;
+            this.relationshipAttribute = relationshipAttribute;
+        }
+
+        @Override
+        protected void doWithFilterAttributes(
+            final Class<?> entityClass, final Object filter,
+            final BiConsumer<Object, Attribute<?, ?>> callback) {
+
+            if (filter instanceof final FilterForBenchmark filterForBenchmark) {
+
+                callback.accept(filterForBenchmark.getId(), idAttribute);
+                callback.accept(filterForBenchmark.name(), nameAttribute);
+                callback.accept(filterForBenchmark.relationship(),
+                    relationshipAttribute);
+            }
+
+            if (filter instanceof final RelationshipForBenchmark relationship) {
+
+                callback.accept(relationship.id(), idAttribute);
+            }
+        }
+    }
+
+    /**
+     * A {@link FilterPresentation} with an ID filter, a text filter and a
+     * relationship.
+     *
+     * @param id           The ID filter.
+     * @param name         The name filter.
+     * @param relationship The relationship filter.
+     */
+    private record FilterForBenchmark(
+        CommonFilter<Long> id, TextFilter name,
+        RelationshipForBenchmark relationship)
+        implements FilterPresentation<CommonFilter<Long>> {
+
+        @Nullable
+        @Override
+        public Boolean getDistinct() {
+
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public Boolean getInclusive() {
+
+            return null;
+        }
+
+        @Override
+        public CommonFilter<Long> getId() {
+
+            return id;
+        }
+    }
+
+    /**
+     * The filter of a relationship with only an ID filter.
+     *
+     * @param id The ID filter.
+     */
+    private record RelationshipForBenchmark(CommonFilter<Long> id) {}
+}
@@ -16,6 +16,7 @@
 
 package org.sansenshimizu.sakuraboot.specification.aop;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -32,6 +33,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.FluentQuery;
 
 import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.count.CountCache;
 import org.sansenshimizu.sakuraboot.log.api.Loggable;
 import org.sansenshimizu.sakuraboot.specification.api.business.services.FindAllByCriteriaService;
 import org.sansenshimizu.sakuraboot.specification.api.persistence.CriteriaRepository;
@@ -62,6 +64,11 @@ class RelationshipSpecificationAspectTest implements AspectUtilTest {
      */
     private static final long ID = 1L;
 
+    /**
+     * The maximum number of cached counts.
+     */
+    private static final int COUNT_CACHE_SIZE = 100;
+
     /**
      * The mock {@link ProceedingJoinPoint}.
      */
@@ -81,7 +88,8 @@ class RelationshipSpecificationAspectTest implements AspectUtilTest {
     @Getter
     private final RelationshipSpecificationAspect<DataPresentation<Long>, Long,
         FilterPresentation<NumberFilter<Long>>> aspect
-            = new RelationshipSpecificationAspect<>();
+            = new RelationshipSpecificationAspect<>(
+                new CountCache(Duration.ofMinutes(1), COUNT_CACHE_SIZE));
 
     @ParameterizedTest
     @MethodSource("getFindAllByCriteriaTarget")
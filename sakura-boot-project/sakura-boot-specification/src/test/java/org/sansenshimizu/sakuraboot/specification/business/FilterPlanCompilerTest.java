@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.specification.business;
+
+import java.util.Set;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.metamodel.EmbeddableType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.specification.presentation.filters.NumberFilterImpl;
+import org.sansenshimizu.sakuraboot.specification.presentation.filters.TextFilterImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * The test class for {@link FilterPlanCompiler}.
+ *
+ * @author Malcolm Rozé
+ * @see    FilterPlanCompiler
+ * @since  0.2.0
+ */
+@ExtendWith(MockitoExtension.class)
+class FilterPlanCompilerTest {
+
+    /**
+     * The name of the text field.
+     */
+    private static final String NAME = "name";
+
+    /**
+     * The name of the number field.
+     */
+    private static final String AGE = "age";
+
+    /**
+     * The name of the relationship field.
+     */
+    private static final String ADDRESS = "address";
+
+    /**
+     * The {@link FilterPlanCompiler} to test.
+     */
+    private final FilterPlanCompiler compiler = new FilterPlanCompiler();
+
+    /**
+     * The {@link Metamodel} use for testing.
+     */
+    @Mock
+    private Metamodel metamodel;
+
+    /**
+     * The {@link EntityType} use for testing.
+     */
+    @Mock
+    private EntityType<EntityForTest> entityType;
+
+    /**
+     * The {@link EmbeddableType} use for testing.
+     */
+    @Mock
+    private EmbeddableType<EmbeddableForTest> embeddableType;
+
+    /**
+     * The attribute for the text field.
+     */
+    @Mock
+    private SingularAttribute<Object, String> nameAttribute;
+
+    /**
+     * The attribute for the number field.
+     */
+    @Mock
+    private SingularAttribute<Object, Integer> ageAttribute;
+
+    /**
+     * The attribute for the relationship field.
+     */
+    @Mock
+    private SingularAttribute<Object, Object> addressAttribute;
+
+    @Test
+    @DisplayName("GIVEN a filter on an entity,"
+        + " WHEN compiling the plan,"
+        + " THEN each field with an attribute should have a step")
+    final void testCompileEntity() {
+
+        // GIVEN
+        given(metamodel.entity(EntityForTest.class)).willReturn(entityType);
+        given(entityType.getAttributes())
+            .willReturn(Set.of(nameAttribute, ageAttribute, addressAttribute));
+        given(nameAttribute.getName()).willReturn(NAME);
+        given(ageAttribute.getName()).willReturn(AGE);
+        given(addressAttribute.getName()).willReturn(ADDRESS);
+
+        // WHEN
+        final FilterPlan plan = compiler.compile(metamodel,
+            EntityForTest.class, EntityFilterForTest.class);
+
+        // THEN
+        assertThat(plan.getSteps()).hasSize(3)
+            .satisfiesExactly(step -> {
+
+                assertThat(step.attribute()).isSameAs(nameAttribute);
+                assertThat(step.embedded()).isFalse();
+            }, step -> {
+
+                assertThat(step.attribute()).isSameAs(ageAttribute);
+                assertThat(step.embedded()).isFalse();
+            }, step -> {
+
+                assertThat(step.attribute()).isSameAs(addressAttribute);
+                assertThat(step.embedded()).isFalse();
+            });
+    }
+
+    @Test
+    @DisplayName("GIVEN a filter with a field without attribute,"
+        + " WHEN compiling the plan,"
+        + " THEN an exception should be thrown")
+    final void testCompileMissingAttribute() {
+
+        // GIVEN
+        given(metamodel.entity(EntityForTest.class)).willReturn(entityType);
+        given(entityType.getAttributes())
+            .willReturn(Set.of(nameAttribute, ageAttribute));
+        given(nameAttribute.getName()).willReturn(NAME);
+        given(ageAttribute.getName()).willReturn(AGE);
+
+        // THEN
+        assertThatThrownBy(() -> compiler.compile(metamodel,
+            EntityForTest.class, EntityFilterForTest.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(ADDRESS);
+    }
+
+    @Test
+    @DisplayName("GIVEN a filter on an entity,"
+        + " WHEN compiling the plan twice,"
+        + " THEN the same plan should be returned")
+    final void testCompileIsCached() {
+
+        // GIVEN
+        given(metamodel.entity(EntityForTest.class)).willReturn(entityType);
+        given(entityType.getAttributes())
+            .willReturn(Set.of(nameAttribute, ageAttribute, addressAttribute));
+        given(nameAttribute.getName()).willReturn(NAME);
+        given(ageAttribute.getName()).willReturn(AGE);
+        given(addressAttribute.getName()).willReturn(ADDRESS);
+        final FilterPlan plan = compiler.compile(metamodel,
+            EntityForTest.class, EntityFilterForTest.class);
+
+        // WHEN
+        final FilterPlan secondPlan = compiler.compile(metamodel,
+            EntityForTest.class, EntityFilterForTest.class);
+
+        // THEN
+        assertThat(secondPlan).isSameAs(plan);
+    }
+
+    @Test
+    @DisplayName("GIVEN a filter on an embeddable,"
+        + " WHEN compiling the plan,"
+        + " THEN only the fields that aren't filter should be embedded")
+    final void testCompileEmbeddable() {
+
+        // GIVEN
+        given(metamodel.embeddable(EmbeddableForTest.class))
+            .willReturn(embeddableType);
+        given(embeddableType.getAttributes())
+            .willReturn(Set.of(nameAttribute, addressAttribute));
+        given(nameAttribute.getName()).willReturn(NAME);
+        given(addressAttribute.getName()).willReturn(ADDRESS);
+
+        // WHEN
+        final FilterPlan plan = compiler.compile(metamodel,
+            EmbeddableForTest.class, EmbeddableFilterForTest.class);
+
+        // THEN
+        assertThat(plan.getSteps()).extracting(FilterPlan.Step::embedded)
+            .containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("GIVEN a class that is neither an entity nor an embeddable,"
+        + " WHEN compiling the plan,"
+        + " THEN the plan should be empty")
+    final void testCompileNotManaged() {
+
+        // WHEN
+        final FilterPlan plan = compiler.compile(metamodel,
+            EntityFilterForTest.class, EntityFilterForTest.class);
+
+        // THEN
+        assertThat(plan.getSteps()).isEmpty();
+    }
+
+    @Entity
+    static final class EntityForTest {}
+
+    @Embeddable
+    static final class EmbeddableForTest {}
+
+    static final class EntityFilterForTest {
+
+        /**
+         * The text filter.
+         */
+        @Nullable
+        private TextFilterImpl name;
+
+        /**
+         * The number filter.
+         */
+        @Nullable
+        private NumberFilterImpl<Integer> age;
+
+        /**
+         * The relationship filter.
+         */
+        @Nullable
+        private Object address;
+
+        /**
+         * An option without attribute.
+         */
+        @Nullable
+        private Boolean distinct;
+    }
+
+    static final class EmbeddableFilterForTest {
+
+        /**
+         * The text filter.
+         */
+        @Nullable
+        private TextFilterImpl name;
+
+        /**
+         * The embedded filters.
+         */
+        @Nullable
+        private Object address;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2023-2024 Malcolm Rozé.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sansenshimizu.sakuraboot.specification.business;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import org.sansenshimizu.sakuraboot.DataPresentation;
+import org.sansenshimizu.sakuraboot.specification.api.presentation.FilterPresentation;
+import org.sansenshimizu.sakuraboot.specification.api.presentation.filters.CommonFilter;
+import org.sansenshimizu.sakuraboot.specification.presentation.filters.CommonFilterImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The stress test class for the concurrent use of a single
+ * {@link SpecificationBuilderImpl}.
+ *
+ * @author Malcolm Rozé
+ * @see    SpecificationBuilderImpl
+ * @since  0.2.0
+ */
+@ExtendWith(MockitoExtension.class)
+class SpecificationBuilderConcurrencyTest {
+
+    /**
+     * The number of specifications built concurrently.
+     */
+    private static final int TASK_COUNT = 2_000;
+
+    /**
+     * The {@link Root} use for testing.
+     */
+    @Mock
+    private Root<DataPresentation<?>> root;
+
+    /**
+     * The {@link CriteriaQuery} use for testing.
+     */
+    @Mock
+    private CriteriaQuery<?> criteriaQuery;
+
+    /**
+     * The {@link CriteriaBuilder} use for testing.
+     */
+    @Mock
+    private CriteriaBuilder criteriaBuilder;
+
+    /**
+     * The {@link SingularAttribute} use for testing.
+     */
+    @Mock
+    private SingularAttribute<DataPresentation<?>, Long> attribute;
+
+    /**
+     * The path for the attribute use for testing.
+     */
+    @Mock
+    private Path<Long> path;
+
+    @Test
+    @DisplayName("GIVEN a single specification builder,"
+        + " WHEN building many specifications concurrently,"
+        + " THEN each specification should only contain its own criteria")
+    final void testApplyConcurrently() throws Exception {
+
+        // GIVEN
+        final SpecificationBuilderImpl<DataPresentation<?>> builder
+            = new SpecificationBuilderImpl<>(new HelperForTest(attribute));
+        @SuppressWarnings("unchecked")
+        final Class<DataPresentation<?>> entityClass
+            = (Class<DataPresentation<?>>) (Class<?>) DataPresentation.class;
+        final List<Predicate> predicates = new ArrayList<>();
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+
+            predicates.add(mock(Predicate.class));
+        }
+        given(root.get(ArgumentMatchers.<SingularAttribute<Object, Long>>any()))
+            .willReturn(path);
+        given(criteriaBuilder.equal(any(), ArgumentMatchers.<Long>any()))
+            .willAnswer(invocation -> predicates
+                .get(invocation.<Long>getArgument(1).intValue()));
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Specification<DataPresentation<?>>>> futures
+            = new ArrayList<>();
+
+        // WHEN
+        try (ExecutorService executor
+            = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            for (int i = 0; i < TASK_COUNT; i++) {
+
+                final FilterForTest filter
+                    = new FilterForTest(new CommonFilterImpl<>((long) i, null,
+                        null, null, null));
+                futures.add(executor.submit(() -> {
+
+                    start.await();
+                    return builder.apply(filter, entityClass);
+                }));
+            }
+            start.countDown();
+        }
+
+        // THEN
+        for (int i = 0; i < TASK_COUNT; i++) {
+
+            assertThat(futures.get(i)
+                .get()
+                .toPredicate(root, criteriaQuery, criteriaBuilder))
+                .isSameAs(predicates.get(i));
+        }
+    }
+
+    /**
+     * A {@link SpecificationBuilderHelper} that associate the ID filter of a
+     * {@link FilterForTest} to the attribute use for testing, without the
+     * need of an {@link jakarta.persistence.EntityManager}.
+     */
+    private static final class HelperForTest
+        extends SpecificationBuilderHelper {
+
+        /**
+         * The attribute associated with the ID filter.
+         */
+        private final Attribute<?, ?> attribute;
+
+        private HelperForTest(final Attribute<?, ?> attribute) {
+
+            this.attribute = attribute;
+        }
+
+        @Override
+        protected void doWithFilterAttributes(
+            final Class<?> entityClass, final Object filter,
+            final BiConsumer<Object, Attribute<?, ?>> callback) {
+
+            if (filter instanceof final FilterForTest filterForTest) {
+
+                callback.accept(filterForTest.getId(), attribute);
+            }
+        }
+    }
+
+    /**
+     * A {@link FilterPresentation} with only an ID filter.
+     *
+     * @param id The ID filter.
+     */
+    private record FilterForTest(CommonFilter<Long> id)
+        implements FilterPresentation<CommonFilter<Long>> {
+
+        @Nullable
+        @Override
+        public Boolean getDistinct() {
+
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public Boolean getInclusive() {
+
+            return null;
+        }
+
+        @Override
+        public CommonFilter<Long> getId() {
+
+            return id;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.sansenshimizu.sakuraboot.specification.business;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -27,11 +28,11 @@ import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
 import jakarta.persistence.metamodel.ListAttribute;
 import jakarta.persistence.metamodel.SingularAttribute;
 
 import lombok.Getter;
-import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -61,6 +62,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -351,6 +353,18 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
         given(getFilterPresentation().getInclusive()).willReturn(isInclusive);
     }
 
+    private void givenFilterWithAttribute(
+        final Object filter, final Object fieldFilter,
+        final Attribute<?, ?> attribute) {
+
+        willAnswer(invocation -> {
+
+            invocation.<BiConsumer<Object, Attribute<?, ?>>>getArgument(2)
+                .accept(fieldFilter, attribute);
+            return null;
+        }).given(getHelper()).doWithFilterAttributes(any(), eq(filter), any());
+    }
+
     private void givenGeneralTest(
         @Nullable final Filter filter,
         final RelationshipPossibility relationshipPossibility) {
@@ -364,9 +378,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getRoot().get(
                     ArgumentMatchers.<SingularAttribute<D, Character>>any()))
                     .willReturn(getCommonPath());
-                given(getHelper().getFilterWithAttribute(any(), any()))
-                    .willReturn(List
-                        .of(Pair.of(getCommonFilter(), getCommonAttribute())));
+                givenFilterWithAttribute(getFilterPresentation(),
+                    getCommonFilter(), getCommonAttribute());
             }
 
             if (filter == getBooleanFilter()) {
@@ -374,9 +387,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getRoot()
                     .get(ArgumentMatchers.<SingularAttribute<D, Boolean>>any()))
                     .willReturn(getBooleanPath());
-                given(getHelper().getFilterWithAttribute(any(), any()))
-                    .willReturn(List.of(
-                        Pair.of(getBooleanFilter(), getBooleanAttribute())));
+                givenFilterWithAttribute(getFilterPresentation(),
+                    getBooleanFilter(), getBooleanAttribute());
             }
 
             if (filter == getNumberFilter()) {
@@ -384,9 +396,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getRoot()
                     .get(ArgumentMatchers.<SingularAttribute<D, Double>>any()))
                     .willReturn(getNumberPath());
-                given(getHelper().getFilterWithAttribute(any(), any()))
-                    .willReturn(List
-                        .of(Pair.of(getNumberFilter(), getNumberAttribute())));
+                givenFilterWithAttribute(getFilterPresentation(),
+                    getNumberFilter(), getNumberAttribute());
             }
 
             if (filter == getTextFilter()) {
@@ -394,9 +405,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getRoot()
                     .get(ArgumentMatchers.<SingularAttribute<D, String>>any()))
                     .willReturn(getTextPath());
-                given(getHelper().getFilterWithAttribute(any(), any()))
-                    .willReturn(
-                        List.of(Pair.of(getTextFilter(), getTextAttribute())));
+                givenFilterWithAttribute(getFilterPresentation(),
+                    getTextFilter(), getTextAttribute());
             }
 
             if (filter == getDateFilter()) {
@@ -404,9 +414,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getRoot().get(
                     ArgumentMatchers.<SingularAttribute<D, LocalDate>>any()))
                     .willReturn(getDatePath());
-                given(getHelper().getFilterWithAttribute(any(), any()))
-                    .willReturn(
-                        List.of(Pair.of(getDateFilter(), getDateAttribute())));
+                givenFilterWithAttribute(getFilterPresentation(),
+                    getDateFilter(), getDateAttribute());
             }
 
             if (filter == getCollectionFilter()) {
@@ -414,9 +423,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getRoot()
                     .get(ArgumentMatchers.<ListAttribute<D, Integer>>any()))
                     .willReturn(getCollectionPath());
-                given(getHelper().getFilterWithAttribute(any(), any()))
-                    .willReturn(List.of(Pair.of(getCollectionFilter(),
-                        getCollectionAttribute())));
+                givenFilterWithAttribute(getFilterPresentation(),
+                    getCollectionFilter(), getCollectionAttribute());
             }
         }
 
@@ -430,10 +438,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                             SingularAttribute<D, DataPresentation<?>>>any(),
                         any()))
                     .willReturn(getJoin());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getFilterPresentation())))
-                    .willReturn(List.of(
-                        Pair.of(getRelationship(), getRelationAttribute())));
+                givenFilterWithAttribute(getFilterPresentation(),
+                    getRelationship(), getRelationAttribute());
             }
 
             if (filter == getCommonFilter()) {
@@ -441,10 +447,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, Character>>any()))
                     .willReturn(getCommonPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getRelationship())))
-                    .willReturn(List
-                        .of(Pair.of(getCommonFilter(), getCommonAttribute())));
+                givenFilterWithAttribute(getRelationship(), getCommonFilter(),
+                    getCommonAttribute());
             }
 
             if (filter == getBooleanFilter()) {
@@ -452,10 +456,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, Boolean>>any()))
                     .willReturn(getBooleanPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getRelationship())))
-                    .willReturn(List.of(
-                        Pair.of(getBooleanFilter(), getBooleanAttribute())));
+                givenFilterWithAttribute(getRelationship(), getBooleanFilter(),
+                    getBooleanAttribute());
             }
 
             if (filter == getNumberFilter()) {
@@ -463,10 +465,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, Double>>any()))
                     .willReturn(getNumberPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getRelationship())))
-                    .willReturn(List
-                        .of(Pair.of(getNumberFilter(), getNumberAttribute())));
+                givenFilterWithAttribute(getRelationship(), getNumberFilter(),
+                    getNumberAttribute());
             }
 
             if (filter == getTextFilter()) {
@@ -474,9 +474,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, String>>any()))
                     .willReturn(getTextPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getRelationship()))).willReturn(
-                        List.of(Pair.of(getTextFilter(), getTextAttribute())));
+                givenFilterWithAttribute(getRelationship(), getTextFilter(),
+                    getTextAttribute());
             }
 
             if (filter == getDateFilter()) {
@@ -484,9 +483,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, LocalDate>>any()))
                     .willReturn(getDatePath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getRelationship()))).willReturn(
-                        List.of(Pair.of(getDateFilter(), getDateAttribute())));
+                givenFilterWithAttribute(getRelationship(), getDateFilter(),
+                    getDateAttribute());
             }
 
             if (filter == getCollectionFilter()) {
@@ -494,10 +492,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getJoin().get(ArgumentMatchers.<
                     ListAttribute<DataPresentation<?>, Integer>>any()))
                     .willReturn(getCollectionPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getRelationship())))
-                    .willReturn(List.of(Pair.of(getCollectionFilter(),
-                        getCollectionAttribute())));
+                givenFilterWithAttribute(getRelationship(),
+                    getCollectionFilter(), getCollectionAttribute());
             }
         }
 
@@ -518,14 +514,10 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                                 DataPresentation<?>, DataPresentation<?>>>any(),
                             any()))
                     .willReturn(getSecondJoin());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getFilterPresentation())))
-                    .willReturn(List.of(
-                        Pair.of(getRelationship(), getRelationAttribute())));
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getRelationship())))
-                    .willReturn(List.of(Pair.of(getSecondRelationship(),
-                        getSecondRelationAttribute())));
+                givenFilterWithAttribute(getFilterPresentation(),
+                    getRelationship(), getRelationAttribute());
+                givenFilterWithAttribute(getRelationship(),
+                    getSecondRelationship(), getSecondRelationAttribute());
             }
 
             if (filter == getCommonFilter()) {
@@ -533,10 +525,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getSecondJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, Character>>any()))
                     .willReturn(getCommonPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getSecondRelationship())))
-                    .willReturn(List
-                        .of(Pair.of(getCommonFilter(), getCommonAttribute())));
+                givenFilterWithAttribute(getSecondRelationship(),
+                    getCommonFilter(), getCommonAttribute());
             }
 
             if (filter == getBooleanFilter()) {
@@ -544,10 +534,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getSecondJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, Boolean>>any()))
                     .willReturn(getBooleanPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getSecondRelationship())))
-                    .willReturn(List.of(
-                        Pair.of(getBooleanFilter(), getBooleanAttribute())));
+                givenFilterWithAttribute(getSecondRelationship(),
+                    getBooleanFilter(), getBooleanAttribute());
             }
 
             if (filter == getNumberFilter()) {
@@ -555,10 +543,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getSecondJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, Double>>any()))
                     .willReturn(getNumberPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getSecondRelationship())))
-                    .willReturn(List
-                        .of(Pair.of(getNumberFilter(), getNumberAttribute())));
+                givenFilterWithAttribute(getSecondRelationship(),
+                    getNumberFilter(), getNumberAttribute());
             }
 
             if (filter == getTextFilter()) {
@@ -566,9 +552,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getSecondJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, String>>any()))
                     .willReturn(getTextPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getSecondRelationship()))).willReturn(
-                        List.of(Pair.of(getTextFilter(), getTextAttribute())));
+                givenFilterWithAttribute(getSecondRelationship(),
+                    getTextFilter(), getTextAttribute());
             }
 
             if (filter == getDateFilter()) {
@@ -576,9 +561,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getSecondJoin().get(ArgumentMatchers.<
                     SingularAttribute<DataPresentation<?>, LocalDate>>any()))
                     .willReturn(getDatePath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getSecondRelationship()))).willReturn(
-                        List.of(Pair.of(getDateFilter(), getDateAttribute())));
+                givenFilterWithAttribute(getSecondRelationship(),
+                    getDateFilter(), getDateAttribute());
             }
 
             if (filter == getCollectionFilter()) {
@@ -586,10 +570,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
                 given(getSecondJoin().get(ArgumentMatchers.<
                     ListAttribute<DataPresentation<?>, Integer>>any()))
                     .willReturn(getCollectionPath());
-                given(getHelper().getFilterWithAttribute(any(),
-                    eq(getSecondRelationship())))
-                    .willReturn(List.of(Pair.of(getCollectionFilter(),
-                        getCollectionAttribute())));
+                givenFilterWithAttribute(getSecondRelationship(),
+                    getCollectionFilter(), getCollectionAttribute());
             }
         }
     }
@@ -648,8 +630,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
         given(getCriteriaBuilder().gt(ArgumentMatchers.<Path<Double>>any(),
             ArgumentMatchers.<Double>any())).willReturn(predicate);
         given(filter.getLessThan()).willReturn(getNumberFilterValue());
-        given(getHelper().getFilterWithAttribute(any(), any())).willReturn(
-            List.of(Pair.of(getNumberFilter(), getNumberAttribute())));
+        givenFilterWithAttribute(getFilterPresentation(), getNumberFilter(),
+            getNumberAttribute());
 
         // WHEN
         final Specification<D> specification = getSpecificationBuilder()
@@ -677,8 +659,8 @@ non-sealed class SpecificationBuilderTest<D extends DataPresentation<?>>
         given(filter.getEqual()).willReturn(getNumberFilterValue());
         given(getCriteriaBuilder().equal(any(), ArgumentMatchers.<Double>any()))
             .willReturn(predicate);
-        given(getHelper().getFilterWithAttribute(any(), any())).willReturn(
-            List.of(Pair.of(getNumberFilter(), getNumberAttribute())));
+        givenFilterWithAttribute(getFilterPresentation(), getNumberFilter(),
+            getNumberAttribute());
 
         // WHEN
         final Specification<D> specification = getSpecificationBuilder()
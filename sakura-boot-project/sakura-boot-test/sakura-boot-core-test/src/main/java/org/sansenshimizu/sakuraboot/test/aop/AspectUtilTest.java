@@ -22,6 +22,8 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.List;
+import java.util.UUID;
 import java.util.regex.Pattern;
 
 import ch.qos.logback.classic.Level;
@@ -121,6 +123,11 @@ public interface AspectUtilTest {
      */
     String SPEL_EXPRESSION = "#param1";
 
+    /**
+     * The number of evaluations after which a SpEL expression is compiled.
+     */
+    int SPEL_COMPILATION_EVALUATIONS = 200;
+
     /**
      * The pattern use to replace the parameter style in a log message.
      */
@@ -263,6 +270,65 @@ public interface AspectUtilTest {
             .isExactlyInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    @DisplayName("GIVEN a SPeL expression for a collection,"
+        + " WHEN parsing the expression for each index,"
+        + " THEN the result should be the element at the index")
+    default void testParseSpelExpressionForCollection() {
+
+        // GIVEN
+        final String[] parameterNames = {
+            "list"
+        };
+        final Object[] args = {
+            List.of(EXPECTED_VALUE, EXPECTED_VALUE + 1)
+        };
+
+        // WHEN
+        final Object first = getAspect().parseSpelExpressionForCollection(
+            parameterNames, args, "#list[i]", 0);
+        final Object second = getAspect().parseSpelExpressionForCollection(
+            parameterNames, args, "#list[i]", 1);
+
+        // THEN
+        assertEquals(EXPECTED_VALUE, first);
+        assertEquals(EXPECTED_VALUE + 1, second);
+    }
+
+    @Test
+    @DisplayName("GIVEN a SPeL expression compiled with a type,"
+        + " WHEN parsing the expression with another type,"
+        + " THEN the result should be the value of the other type")
+    default void testParseSpelExpressionWithOtherType() {
+
+        // GIVEN
+        final String[] parameterNames = {
+            "id"
+        };
+        final UUID uuid = UUID.randomUUID();
+
+        for (int i = 0; i < SPEL_COMPILATION_EVALUATIONS; i++) {
+
+            getAspect().parseSpelExpression(parameterNames, new Object[] {
+                (long) EXPECTED_VALUE
+            }, "#id.toString()");
+        }
+
+        // WHEN
+        final Object result = getAspect().parseSpelExpression(parameterNames,
+            new Object[] {
+                uuid
+            }, "#id.toString()");
+        final Object stringResult = getAspect().parseSpelExpression(
+            parameterNames, new Object[] {
+                uuid.toString()
+            }, "#id");
+
+        // THEN
+        assertEquals(uuid.toString(), result);
+        assertEquals(uuid.toString(), stringResult);
+    }
+
     /**
      * Method use in test if the tested method call the
      * {@link AspectUtil#log(String, org.slf4j.Logger, JoinPoint,